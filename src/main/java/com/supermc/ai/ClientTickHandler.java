@@ -0,0 +1,85 @@
+package com.supermc.ai;
+
+import com.supermc.ai.common.MainThreadQueue;
+import com.supermc.ai.grpc.util.StreamScheduler;
+import com.supermc.ai.player.behavior.BehaviorManager;
+import com.supermc.ai.player.behavior.ConditionContext;
+import com.supermc.ai.player.behavior.TriggerManager;
+import com.supermc.ai.player.controller.ActionPipeline;
+import com.supermc.ai.player.controller.InputController;
+import com.supermc.ai.player.inventory.InventoryTracker;
+import com.supermc.ai.player.observation.ObservationChannelManager;
+import com.supermc.ai.player.pathfinding.NavigationGrid;
+import com.supermc.ai.player.pathfinding.PathFollower;
+import com.supermc.ai.player.state.PlayerStateStreamHub;
+import com.supermc.ai.player.task.TaskManager;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraftforge.event.TickEvent;
+
+/**
+ * Runs per-tick client subsystems that drive the local player.
+ *
+ * Input is driven before the player's own update, so input set here is
+ * applied in the same tick. Observers run after it, so they see the state the
+ * tick produced.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ClientTickHandler {
+
+    private ClientTickHandler() {
+    }
+
+    /**
+     * Registers the client tick listeners.
+     */
+    public static void register() {
+        TickEvent.ClientTickEvent.Pre.BUS.addListener(event -> onClientTick());
+        TickEvent.ClientTickEvent.Post.BUS.addListener(event -> onClientTickEnd());
+    }
+
+    private static void onClientTick() {
+        // Requests first, so commands received since the last tick apply in this one
+        MainThreadQueue.CLIENT.drain();
+
+        LocalPlayer player = Minecraft.getInstance().player;
+        if (player == null) {
+            PathFollower.getInstance().stop();
+            InputController.getInstance().reset();
+            ActionPipeline.getInstance().cancelAll();
+            BehaviorManager.getInstance().stopAll();
+            TaskManager.getInstance().stopAll();
+            return;
+        }
+        NavigationGrid.getInstance().tick(player.level(), player.blockPosition());
+        ActionPipeline.getInstance().tick(player);
+        BehaviorManager.getInstance().tick(player, new ConditionContext(player));
+        // Before the follower, so a path requested for an out-of-reach block starts this tick
+        TaskManager.getInstance().tick(player);
+        PathFollower.getInstance().tick(player);
+        // After the follower, which releases movement input whenever it is idle
+        InputController.getInstance().tick(player);
+    }
+
+    private static void onClientTickEnd() {
+        MainThreadQueue.CLIENT.endTick();
+
+        LocalPlayer player = Minecraft.getInstance().player;
+        if (player == null) {
+            InventoryTracker.getInstance().reset();
+            PlayerStateStreamHub.getInstance().closeAll();
+            ObservationChannelManager.getInstance().closeAll();
+            StreamScheduler.getInstance().closeAll();
+            TriggerManager.getInstance().closeAll();
+            return;
+        }
+        InventoryTracker.getInstance().tick(player);
+        PlayerStateStreamHub.getInstance().tick(player);
+        ObservationChannelManager.getInstance().tick(player);
+        StreamScheduler.getInstance().tick(player.level().getGameTime());
+        TriggerManager.getInstance().tick(new ConditionContext(player));
+    }
+}
@@ -1,11 +1,16 @@
 package com.supermc.ai;
 
+import com.supermc.ai.arena.ArenaManager;
+import com.supermc.ai.common.MainThreadQueue;
 import com.supermc.ai.common.SuperAIConstants;
 import com.supermc.ai.common.SuperAIExceptions;
 import com.supermc.ai.config.SuperAIConfig;
 import com.supermc.ai.grpc.GrpcServerManager;
+import com.supermc.ai.player.pathfinding.HierarchicalPathfinder;
+import com.supermc.ai.player.pathfinding.NavigationGrid;
 import com.mojang.logging.LogUtils;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.eventbus.api.listener.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLDedicatedServerSetupEvent;
@@ -71,6 +76,12 @@ public final class SuperAIMod {
 
         LOGGER.info("Configuration system initialized and validated");
 
+        // Training arenas tick with whichever server is running (dedicated or integrated)
+        ArenaManager.getInstance().register();
+
+        // SuperAI work for the server thread runs from its own queue at the start of each server tick
+        MainThreadQueue.register();
+
         // Note: gRPC server will be started in client setup event
         // Other systems are initialized on-demand through gRPC services
     }
@@ -94,8 +105,13 @@ public final class SuperAIMod {
          *
          * @param event The client setup event
          */
+        @SubscribeEvent
         public static void onClientSetup(net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent event) {
             event.enqueueWork(() -> {
+                NavigationGrid.getInstance().register();
+                HierarchicalPathfinder.getInstance().register();
+                ClientTickHandler.register();
+
                 try {
                     // Start gRPC server on client side
                     GrpcServerManager.getInstance().start();
@@ -117,8 +133,17 @@ public final class SuperAIMod {
          *
          * @param event The dedicated server setup event
          */
+        @SubscribeEvent
         public static void onServerSetup(FMLDedicatedServerSetupEvent event) {
-            LOGGER.info("SuperAI dedicated server setup completed");
+            event.enqueueWork(() -> {
+                try {
+                    // Dedicated servers expose agent management and training arenas
+                    GrpcServerManager.getInstance().start();
+                    LOGGER.info("SuperAI dedicated server setup completed - gRPC server started");
+                } catch (SuperAIExceptions.GrpcServiceException e) {
+                    LOGGER.error("Failed to start gRPC server", e);
+                }
+            });
         }
     }
 }
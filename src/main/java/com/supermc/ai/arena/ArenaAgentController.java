@@ -0,0 +1,189 @@
+package com.supermc.ai.arena;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.grpc.proto.PlayerAction;
+import com.mojang.logging.LogUtils;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.MoverType;
+import net.minecraft.world.entity.projectile.ProjectileUtil;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.EntityHitResult;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drives an arena agent fake player from {@link PlayerAction} inputs.
+ *
+ * Fake players are not ticked by the level, so movement impulses set by a step
+ * are integrated here once per server tick using vanilla-like player physics.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class ArenaAgentController {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** Horizontal acceleration while airborne */
+    private static final float AIR_ACCELERATION = 0.02f;
+
+    /** Ground slipperiness of regular blocks */
+    private static final double GROUND_FRICTION = 0.6 * 0.91;
+
+    /** Horizontal drag while airborne */
+    private static final double AIR_FRICTION = 0.91;
+
+    /** Vertical drag applied after gravity */
+    private static final double VERTICAL_DRAG = 0.98;
+
+    private float forwardImpulse;
+    private float strafeImpulse;
+    private boolean jumping;
+
+    /**
+     * Applies the actions of one step, replacing the held impulses of the previous step.
+     *
+     * @param agent the arena agent
+     * @param actions the actions to apply
+     * @param parameters optional action parameters
+     */
+    void apply(ServerPlayer agent, List<PlayerAction> actions, Map<String, String> parameters) {
+        clear();
+        for (PlayerAction action : actions) {
+            try {
+                applyAction(agent, action, parameters);
+            } catch (Exception e) {
+                LOGGER.error("Error applying arena action: " + action, e);
+            }
+        }
+    }
+
+    /**
+     * Releases all held impulses.
+     */
+    void clear() {
+        forwardImpulse = 0.0f;
+        strafeImpulse = 0.0f;
+        jumping = false;
+    }
+
+    /**
+     * Integrates one tick of agent movement.
+     *
+     * @param agent the arena agent
+     */
+    void tick(ServerPlayer agent) {
+        boolean onGround = agent.onGround();
+        if (jumping && onGround) {
+            Vec3 motion = agent.getDeltaMovement();
+            agent.setDeltaMovement(motion.x, SuperAIConstants.JUMP_VELOCITY, motion.z);
+        }
+
+        float speed = onGround ? (float) SuperAIConstants.DEFAULT_PLAYER_SPEED : AIR_ACCELERATION;
+        if (agent.isSprinting()) {
+            speed *= (float) SuperAIConstants.SPRINT_SPEED_MULTIPLIER;
+        } else if (agent.isShiftKeyDown()) {
+            speed *= (float) SuperAIConstants.SNEAK_SPEED_MULTIPLIER;
+        }
+        agent.moveRelative(speed, new Vec3(strafeImpulse, 0.0, forwardImpulse));
+        agent.move(MoverType.SELF, agent.getDeltaMovement());
+
+        Vec3 motion = agent.getDeltaMovement();
+        double friction = agent.onGround() ? GROUND_FRICTION : AIR_FRICTION;
+        double verticalSpeed = Math.max(-SuperAIConstants.TERMINAL_VELOCITY,
+                (motion.y - SuperAIConstants.GRAVITY) * VERTICAL_DRAG);
+        agent.setDeltaMovement(motion.x * friction, agent.onGround() ? 0.0 : verticalSpeed, motion.z * friction);
+    }
+
+    private void applyAction(ServerPlayer agent, PlayerAction action, Map<String, String> parameters) {
+        switch (action) {
+            case MOVE_FORWARD -> forwardImpulse = 1.0f;
+            case MOVE_BACKWARD -> forwardImpulse = -1.0f;
+            case MOVE_LEFT -> strafeImpulse = 1.0f;
+            case MOVE_RIGHT -> strafeImpulse = -1.0f;
+            case JUMP -> jumping = true;
+            case SNEAK -> agent.setShiftKeyDown(enabled(parameters));
+            case SPRINT -> agent.setSprinting(enabled(parameters));
+            case LOOK_UP, LOOK_DOWN, LOOK_LEFT, LOOK_RIGHT -> {
+                float amount = 10.0f;
+                if (parameters != null && parameters.containsKey("amount")) {
+                    amount = Float.parseFloat(parameters.get("amount"));
+                }
+                switch (action) {
+                    case LOOK_UP -> agent.setXRot(Math.max(SuperAIConstants.MIN_PITCH, agent.getXRot() - amount));
+                    case LOOK_DOWN -> agent.setXRot(Math.min(SuperAIConstants.MAX_PITCH, agent.getXRot() + amount));
+                    case LOOK_LEFT -> agent.setYRot(agent.getYRot() - amount);
+                    default -> agent.setYRot(agent.getYRot() + amount);
+                }
+                agent.setYHeadRot(agent.getYRot());
+            }
+            case ATTACK -> attack(agent);
+            case USE_ITEM -> useItem(agent);
+            case DROP_ITEM -> agent.drop(false);
+            case SELECT_SLOT -> {
+                if (parameters != null && parameters.containsKey("slot")) {
+                    int slot = Integer.parseInt(parameters.get("slot"));
+                    if (slot >= 0 && slot < 9) {
+                        agent.getInventory().setSelectedSlot(slot);
+                    }
+                }
+            }
+            default -> {
+                // Inventory screens have no meaning for a fake player
+            }
+        }
+    }
+
+    /**
+     * Reads the {@code enabled} parameter of a state action, which starts the
+     * state unless it is {@code false}, as for the local player.
+     */
+    private static boolean enabled(Map<String, String> parameters) {
+        return parameters == null || !"false".equalsIgnoreCase(parameters.get("enabled"));
+    }
+
+    private void attack(ServerPlayer agent) {
+        HitResult hit = pick(agent);
+        if (hit instanceof EntityHitResult entityHit) {
+            agent.attack(entityHit.getEntity());
+            agent.swing(InteractionHand.MAIN_HAND);
+        } else if (hit instanceof BlockHitResult blockHit && hit.getType() == HitResult.Type.BLOCK) {
+            agent.gameMode.destroyBlock(blockHit.getBlockPos());
+            agent.swing(InteractionHand.MAIN_HAND);
+        }
+    }
+
+    private void useItem(ServerPlayer agent) {
+        HitResult hit = pick(agent);
+        InteractionHand hand = InteractionHand.MAIN_HAND;
+        if (hit instanceof BlockHitResult blockHit && hit.getType() == HitResult.Type.BLOCK) {
+            agent.gameMode.useItemOn(agent, agent.level(), agent.getItemInHand(hand), hand, blockHit);
+        } else {
+            agent.gameMode.useItem(agent, agent.level(), agent.getItemInHand(hand), hand);
+        }
+    }
+
+    /**
+     * Finds what the agent is looking at within reach, preferring entities over blocks.
+     */
+    private HitResult pick(ServerPlayer agent) {
+        double reach = SuperAIConstants.MAX_REACH_DISTANCE;
+        HitResult blockHit = agent.pick(reach, 1.0f, false);
+
+        Vec3 eye = agent.getEyePosition();
+        Vec3 end = eye.add(agent.getViewVector(1.0f).scale(reach));
+        AABB searchBox = agent.getBoundingBox().expandTowards(end.subtract(eye)).inflate(1.0);
+        double maxDistance = blockHit.getType() == HitResult.Type.MISS
+                ? reach * reach : blockHit.getLocation().distanceToSqr(eye);
+        EntityHitResult entityHit = ProjectileUtil.getEntityHitResult(agent, eye, end, searchBox,
+                (Entity entity) -> !entity.isSpectator() && entity.isPickable(), maxDistance);
+        return entityHit != null ? entityHit : blockHit;
+    }
+}
@@ -0,0 +1,437 @@
+package com.supermc.ai.arena;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.SuperAIExceptions;
+import com.supermc.ai.config.SuperAIConfig;
+import com.supermc.ai.grpc.proto.PlayerAction;
+import com.mojang.authlib.GameProfile;
+import com.mojang.logging.LogUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.Vec3i;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.common.util.FakePlayerFactory;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.server.ServerLifecycleHooks;
+import org.slf4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Owns all training arenas of the running server and steps them together.
+ *
+ * Arenas are laid out along the X axis starting at the configured origin, one
+ * per slot. A {@code StepBatch} applies every arena's actions at once and
+ * completes after the requested number of server ticks, so N environments cost
+ * one server tick per step instead of one JVM each. In lockstep mode the world
+ * is frozen through the tick rate manager and only advances inside steps.
+ *
+ * Every step is answered: steps covering destroyed arenas, steps still queued
+ * when the server stops, and steps that cannot advance because an operator
+ * froze the server outside lockstep fail with {@code ERROR_OPERATION_ABORTED}.
+ *
+ * All state is confined to the server thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ArenaManager {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final ArenaManager INSTANCE = new ArenaManager();
+
+    private final Map<Integer, TrainingArena> arenas = new LinkedHashMap<>();
+    private final BitSet usedSlots = new BitSet();
+    private final Deque<PendingStep> pendingSteps = new ArrayDeque<>();
+    private PendingStep activeStep;
+    private int nextArenaId = 1;
+    private boolean lockstep;
+    private long lastGameTime = Long.MIN_VALUE;
+
+    private ArenaManager() {
+    }
+
+    /**
+     * Gets the singleton instance of ArenaManager.
+     *
+     * @return the singleton instance
+     */
+    public static ArenaManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the server tick and shutdown listeners.
+     */
+    public void register() {
+        TickEvent.ServerTickEvent.Post.BUS.addListener(event -> onServerTick());
+        ServerStoppingEvent.BUS.addListener(event -> clear());
+    }
+
+    /**
+     * Creates arenas from a template region.
+     *
+     * @param server the running server
+     * @param dimension dimension name of the template (overworld, nether, end)
+     * @param templateOrigin minimum corner of the template region
+     * @param size template size in blocks
+     * @param spawnOffset agent spawn point relative to the arena origin
+     * @param count number of arenas to create
+     * @param ticksPerStep server ticks advanced per step
+     * @param lockstepMode whether to freeze the world between steps
+     * @return the created arenas, already reset
+     * @throws SuperAIExceptions.ArenaException if the template is invalid or the arena limit is reached
+     */
+    public List<TrainingArena> createArenas(MinecraftServer server, String dimension, BlockPos templateOrigin,
+                                            Vec3i size, Vec3 spawnOffset, int count, int ticksPerStep,
+                                            boolean lockstepMode) throws SuperAIExceptions.ArenaException {
+        ResourceKey<Level> dimensionKey = toDimensionKey(dimension);
+        ServerLevel level = dimensionKey != null ? server.getLevel(dimensionKey) : null;
+        if (level == null) {
+            throw new SuperAIExceptions.ArenaException("Unknown dimension: " + dimension,
+                    SuperAIConstants.ERROR_INVALID_PARAMETER);
+        }
+
+        int spacing = SuperAIConfig.ARENA_SPACING_BLOCKS.get();
+        if (size.getX() <= 0 || size.getY() <= 0 || size.getZ() <= 0
+                || size.getX() >= spacing || size.getZ() >= spacing || size.getY() > level.getHeight()) {
+            throw new SuperAIExceptions.ArenaException(String.format(
+                    "Invalid template size %s (arena spacing is %d)", size.toShortString(), spacing),
+                    SuperAIConstants.ERROR_INVALID_PARAMETER);
+        }
+
+        int maxArenas = SuperAIConfig.ARENA_MAX_ARENAS.get();
+        if (arenas.size() + count > maxArenas) {
+            throw new SuperAIExceptions.ArenaException("Maximum number of arenas reached: " + maxArenas,
+                    SuperAIConstants.ERROR_OPERATION_NOT_ALLOWED);
+        }
+
+        ArenaTemplate template = ArenaTemplate.capture(level, templateOrigin, size, spawnOffset);
+        List<TrainingArena> created = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int slot = usedSlots.nextClearBit(0);
+            BlockPos origin = new BlockPos(SuperAIConfig.ARENA_ORIGIN_X.get() + slot * spacing,
+                    templateOrigin.getY(), templateOrigin.getZ());
+            setChunksForced(level, template, origin, true);
+
+            int id = nextArenaId++;
+            FakePlayer agent = FakePlayerFactory.get(level, createAgentProfile(id));
+            TrainingArena arena = new TrainingArena(id, slot, level, origin, template, agent, ticksPerStep);
+            arena.reset();
+
+            usedSlots.set(slot);
+            arenas.put(id, arena);
+            created.add(arena);
+        }
+
+        if (lockstepMode && !lockstep) {
+            lockstep = true;
+            server.tickRateManager().setFrozen(true);
+        }
+
+        LOGGER.info("Created {} training arena(s) in {} ({} total)", count, dimension, arenas.size());
+        return created;
+    }
+
+    /**
+     * Resets the given arenas, or every arena when no IDs are given.
+     *
+     * @param arenaIds the arenas to reset
+     * @return the reset arenas
+     * @throws SuperAIExceptions.ArenaException if an arena does not exist
+     */
+    public List<TrainingArena> resetArenas(Collection<Integer> arenaIds) throws SuperAIExceptions.ArenaException {
+        List<TrainingArena> selected = select(arenaIds);
+        for (TrainingArena arena : selected) {
+            arena.reset();
+        }
+        return selected;
+    }
+
+    /**
+     * Destroys the given arenas, or every arena when no IDs are given. Steps
+     * with actions for a destroyed arena fail, as do all steps once no arena
+     * is left.
+     *
+     * @param arenaIds the arenas to destroy
+     * @throws SuperAIExceptions.ArenaException if an arena does not exist
+     */
+    public void destroyArenas(Collection<Integer> arenaIds) throws SuperAIExceptions.ArenaException {
+        Set<Integer> destroyed = new HashSet<>();
+        for (TrainingArena arena : select(arenaIds)) {
+            setChunksForced(arena.getLevel(), arena.getTemplate(), arena.getOrigin(), false);
+            usedSlots.clear(arena.getSlot());
+            arenas.remove(arena.getId());
+            destroyed.add(arena.getId());
+        }
+
+        boolean none = arenas.isEmpty();
+        abortSteps(step -> none || step.targetsAny(destroyed), "Arena destroyed during step");
+        if (activeStep == null && !none) {
+            startNextStep();
+        }
+
+        if (none && lockstep) {
+            lockstep = false;
+            MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+            if (server != null) {
+                server.tickRateManager().setFrozen(false);
+            }
+        }
+    }
+
+    /**
+     * Queues a vectorized step. Steps run one after another; each applies its
+     * actions, advances the world and then reports the arenas it covered.
+     *
+     * @param inputs per-arena actions; arenas without an entry idle for the step
+     * @param ticks ticks to advance, or 0 to use the arenas' ticks per step
+     * @param onComplete invoked on the server thread with all arenas when the step finishes
+     * @param onAbort invoked on the server thread instead if the step cannot finish
+     * @throws SuperAIExceptions.ArenaException if no arenas exist, an input targets an unknown arena or the
+     *         server is frozen outside lockstep
+     */
+    public void enqueueStep(List<StepInput> inputs, int ticks, Consumer<List<TrainingArena>> onComplete,
+                            Consumer<SuperAIExceptions.ArenaException> onAbort)
+            throws SuperAIExceptions.ArenaException {
+        if (arenas.isEmpty()) {
+            throw new SuperAIExceptions.ArenaException("No arenas have been created",
+                    SuperAIConstants.ERROR_RESOURCE_NOT_FOUND);
+        }
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (!lockstep && server != null && server.tickRateManager().isFrozen()) {
+            throw new SuperAIExceptions.ArenaException("Server tick is frozen",
+                    SuperAIConstants.ERROR_OPERATION_ABORTED);
+        }
+        for (StepInput input : inputs) {
+            if (!arenas.containsKey(input.arenaId())) {
+                throw new SuperAIExceptions.ArenaException("Unknown arena: " + input.arenaId(),
+                        SuperAIConstants.ERROR_RESOURCE_NOT_FOUND);
+            }
+        }
+
+        int stepTicks = ticks;
+        if (stepTicks <= 0) {
+            stepTicks = arenas.values().stream().mapToInt(TrainingArena::getTicksPerStep).max().orElse(1);
+        }
+        pendingSteps.add(new PendingStep(inputs, stepTicks, onComplete, onAbort));
+        if (activeStep == null) {
+            startNextStep();
+        }
+    }
+
+    /**
+     * Gets a snapshot of all arenas.
+     *
+     * @return all arenas in creation order
+     */
+    public List<TrainingArena> getArenas() {
+        return new ArrayList<>(arenas.values());
+    }
+
+    private void startNextStep() {
+        activeStep = pendingSteps.poll();
+        if (activeStep == null) {
+            return;
+        }
+
+        Map<Integer, StepInput> byArena = new LinkedHashMap<>();
+        for (StepInput input : activeStep.inputs) {
+            byArena.put(input.arenaId(), input);
+        }
+        for (TrainingArena arena : arenas.values()) {
+            StepInput input = byArena.get(arena.getId());
+            if (input != null) {
+                arena.beginStep(input.actions(), input.parameters());
+            } else {
+                arena.beginStep(List.of(), Map.of());
+            }
+        }
+
+        if (lockstep) {
+            MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+            if (server != null) {
+                server.tickRateManager().stepGameIfPaused(activeStep.remainingTicks);
+            }
+        }
+    }
+
+    private void onServerTick() {
+        if (arenas.isEmpty()) {
+            return;
+        }
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            return;
+        }
+
+        // Game time advances on exactly the ticks the world ran, normal or stepped while frozen
+        long gameTime = server.overworld().getGameTime();
+        boolean ran = gameTime != lastGameTime;
+        lastGameTime = gameTime;
+        if (!ran) {
+            if (!lockstep && activeStep != null) {
+                // Frozen by an operator, so no tick is coming to finish the step
+                abortSteps(step -> true, "Server tick is frozen");
+            }
+            return;
+        }
+
+        for (TrainingArena arena : arenas.values()) {
+            arena.tick();
+        }
+
+        if (activeStep != null && --activeStep.remainingTicks <= 0) {
+            PendingStep finished = activeStep;
+            activeStep = null;
+            try {
+                finished.onComplete.accept(getArenas());
+            } catch (Exception e) {
+                LOGGER.error("Error completing arena step", e);
+            }
+            startNextStep();
+        }
+    }
+
+    private void clear() {
+        abortSteps(step -> true, "Server stopping");
+        arenas.clear();
+        usedSlots.clear();
+        lockstep = false;
+    }
+
+    /**
+     * Fails the active and queued steps that match, leaving no step active
+     * if the active one failed.
+     *
+     * @param affected the steps to fail
+     * @param reason the error message
+     */
+    private void abortSteps(Predicate<PendingStep> affected, String reason) {
+        List<PendingStep> aborted = new ArrayList<>();
+        if (activeStep != null && affected.test(activeStep)) {
+            aborted.add(activeStep);
+            activeStep = null;
+        }
+        for (Iterator<PendingStep> it = pendingSteps.iterator(); it.hasNext(); ) {
+            PendingStep step = it.next();
+            if (affected.test(step)) {
+                it.remove();
+                aborted.add(step);
+            }
+        }
+
+        SuperAIExceptions.ArenaException error = new SuperAIExceptions.ArenaException(reason,
+                SuperAIConstants.ERROR_OPERATION_ABORTED);
+        for (PendingStep step : aborted) {
+            try {
+                step.onAbort.accept(error);
+            } catch (Exception e) {
+                LOGGER.error("Error aborting arena step", e);
+            }
+        }
+    }
+
+    private List<TrainingArena> select(Collection<Integer> arenaIds) throws SuperAIExceptions.ArenaException {
+        if (arenaIds.isEmpty()) {
+            return getArenas();
+        }
+        List<TrainingArena> selected = new ArrayList<>(arenaIds.size());
+        for (int arenaId : arenaIds) {
+            TrainingArena arena = arenas.get(arenaId);
+            if (arena == null) {
+                throw new SuperAIExceptions.ArenaException("Unknown arena: " + arenaId,
+                        SuperAIConstants.ERROR_RESOURCE_NOT_FOUND);
+            }
+            selected.add(arena);
+        }
+        return selected;
+    }
+
+    private static void setChunksForced(ServerLevel level, ArenaTemplate template, BlockPos origin, boolean forced) {
+        int minChunkX = SectionPos.blockToSectionCoord(origin.getX());
+        int minChunkZ = SectionPos.blockToSectionCoord(origin.getZ());
+        int maxChunkX = SectionPos.blockToSectionCoord(origin.getX() + template.getSize().getX() - 1);
+        int maxChunkZ = SectionPos.blockToSectionCoord(origin.getZ() + template.getSize().getZ() - 1);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                level.setChunkForced(chunkX, chunkZ, forced);
+            }
+        }
+    }
+
+    private static GameProfile createAgentProfile(int arenaId) {
+        String name = "superai_arena" + arenaId;
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        return new GameProfile(uuid, name);
+    }
+
+    private static ResourceKey<Level> toDimensionKey(String dimension) {
+        if (dimension == null || dimension.isEmpty()) {
+            return Level.OVERWORLD;
+        }
+        return switch (dimension) {
+            case "overworld" -> Level.OVERWORLD;
+            case "nether" -> Level.NETHER;
+            case "end" -> Level.END;
+            default -> null;
+        };
+    }
+
+    /**
+     * Actions for one arena in a vectorized step.
+     *
+     * @param arenaId the target arena
+     * @param actions the actions to apply
+     * @param parameters optional action parameters
+     */
+    public record StepInput(int arenaId, List<PlayerAction> actions, Map<String, String> parameters) {
+    }
+
+    /**
+     * A queued step waiting for its ticks to elapse.
+     */
+    private static final class PendingStep {
+        private final List<StepInput> inputs;
+        private final Consumer<List<TrainingArena>> onComplete;
+        private final Consumer<SuperAIExceptions.ArenaException> onAbort;
+        private int remainingTicks;
+
+        private PendingStep(List<StepInput> inputs, int remainingTicks, Consumer<List<TrainingArena>> onComplete,
+                            Consumer<SuperAIExceptions.ArenaException> onAbort) {
+            this.inputs = inputs;
+            this.remainingTicks = remainingTicks;
+            this.onComplete = onComplete;
+            this.onAbort = onAbort;
+        }
+
+        private boolean targetsAny(Set<Integer> arenaIds) {
+            for (StepInput input : inputs) {
+                if (arenaIds.contains(input.arenaId())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.supermc.ai.arena;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Vec3i;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlaceSettings;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.List;
+
+/**
+ * Block snapshot of a world region used to build and reset training arenas.
+ *
+ * The template is captured once with air included, so placing it over an
+ * existing arena restores every block of the region to its original state.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ArenaTemplate {
+    private final StructureTemplate structure;
+    private final Vec3i size;
+    private final Vec3 spawnOffset;
+
+    private ArenaTemplate(StructureTemplate structure, Vec3i size, Vec3 spawnOffset) {
+        this.structure = structure;
+        this.size = size;
+        this.spawnOffset = spawnOffset;
+    }
+
+    /**
+     * Captures a template from the given region. Must be called on the server thread.
+     *
+     * @param level the level to copy blocks from
+     * @param origin the minimum corner of the region
+     * @param size the region size in blocks
+     * @param spawnOffset agent spawn point relative to the region origin
+     * @return the captured template
+     */
+    public static ArenaTemplate capture(ServerLevel level, BlockPos origin, Vec3i size, Vec3 spawnOffset) {
+        StructureTemplate structure = new StructureTemplate();
+        structure.fillFromWorld(level, origin, size, false, List.<Block>of());
+        return new ArenaTemplate(structure, size, spawnOffset);
+    }
+
+    /**
+     * Places the template with its minimum corner at the given origin.
+     * Must be called on the server thread.
+     *
+     * @param level the target level
+     * @param origin the arena origin
+     */
+    public void placeAt(ServerLevel level, BlockPos origin) {
+        structure.placeInWorld(level, origin, origin, new StructurePlaceSettings(), level.getRandom(),
+                Block.UPDATE_CLIENTS);
+    }
+
+    /**
+     * Gets the world-space bounds of an arena placed at the given origin.
+     *
+     * @param origin the arena origin
+     * @return the arena bounding box
+     */
+    public AABB boundsAt(BlockPos origin) {
+        return new AABB(origin.getX(), origin.getY(), origin.getZ(),
+                origin.getX() + size.getX(), origin.getY() + size.getY(), origin.getZ() + size.getZ());
+    }
+
+    public Vec3i getSize() {
+        return size;
+    }
+
+    public Vec3 getSpawnOffset() {
+        return spawnOffset;
+    }
+}
@@ -0,0 +1,131 @@
+package com.supermc.ai.arena;
+
+import com.supermc.ai.grpc.proto.PlayerAction;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.common.util.FakePlayer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An isolated training arena: a template copy in its own world region with a
+ * dedicated fake player agent.
+ *
+ * All methods must be called on the server thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TrainingArena {
+    private final int id;
+    private final int slot;
+    private final ServerLevel level;
+    private final BlockPos origin;
+    private final ArenaTemplate template;
+    private final FakePlayer agent;
+    private final ArenaAgentController controller = new ArenaAgentController();
+    private final int ticksPerStep;
+    private long step;
+
+    TrainingArena(int id, int slot, ServerLevel level, BlockPos origin, ArenaTemplate template,
+                  FakePlayer agent, int ticksPerStep) {
+        this.id = id;
+        this.slot = slot;
+        this.level = level;
+        this.origin = origin;
+        this.template = template;
+        this.agent = agent;
+        this.ticksPerStep = ticksPerStep;
+    }
+
+    /**
+     * Restores the arena blocks from its template, removes spawned entities and
+     * respawns the agent with a fresh state.
+     */
+    public void reset() {
+        template.placeAt(level, origin);
+
+        AABB bounds = template.boundsAt(origin);
+        for (Entity entity : level.getEntities((Entity) null, bounds, entity -> !(entity instanceof Player))) {
+            entity.discard();
+        }
+
+        Vec3 spawn = Vec3.atLowerCornerOf(origin).add(template.getSpawnOffset());
+        agent.snapTo(spawn.x, spawn.y, spawn.z, 0.0f, 0.0f);
+        agent.setDeltaMovement(Vec3.ZERO);
+        agent.setHealth(agent.getMaxHealth());
+        agent.getFoodData().setFoodLevel(20);
+        agent.getInventory().clearContent();
+        agent.setShiftKeyDown(false);
+        agent.setSprinting(false);
+        controller.clear();
+        step = 0;
+    }
+
+    /**
+     * Applies the actions for the next step. An empty action list leaves the agent idle.
+     *
+     * @param actions the actions to apply
+     * @param parameters optional action parameters
+     */
+    void beginStep(List<PlayerAction> actions, Map<String, String> parameters) {
+        controller.apply(agent, actions, parameters);
+        step++;
+    }
+
+    /**
+     * Advances the agent by one server tick.
+     */
+    void tick() {
+        if (agent.isAlive()) {
+            controller.tick(agent);
+        }
+    }
+
+    /**
+     * Gets the agent position relative to the arena origin.
+     *
+     * @return the local position
+     */
+    public Vec3 getLocalPosition() {
+        return agent.position().subtract(Vec3.atLowerCornerOf(origin));
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    public ServerLevel getLevel() {
+        return level;
+    }
+
+    public BlockPos getOrigin() {
+        return origin;
+    }
+
+    public ArenaTemplate getTemplate() {
+        return template;
+    }
+
+    public FakePlayer getAgent() {
+        return agent;
+    }
+
+    public int getTicksPerStep() {
+        return ticksPerStep;
+    }
+
+    public long getStep() {
+        return step;
+    }
+}
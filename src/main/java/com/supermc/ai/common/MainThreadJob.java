@@ -0,0 +1,23 @@
+package com.supermc.ai.common;
+
+/**
+ * Main-thread work that can be split into slices and resumed on a later
+ * drain, so long jobs never hold up more urgent work.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface MainThreadJob {
+
+    /**
+     * Runs the job until it finishes or the deadline passes. Implementations
+     * check the deadline between work units and keep their position for the
+     * next call.
+     *
+     * @param deadlineNanos {@link System#nanoTime()} by which to return
+     * @return true once the job is finished
+     */
+    boolean run(long deadlineNanos);
+}
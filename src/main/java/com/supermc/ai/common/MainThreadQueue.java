@@ -0,0 +1,349 @@
+package com.supermc.ai.common;
+
+import com.supermc.ai.config.SuperAIConfig;
+import com.mojang.logging.LogUtils;
+import io.grpc.Context;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import org.slf4j.Logger;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Queue of SuperAI work for a game thread, kept apart from the game's own
+ * task queue.
+ *
+ * Any thread may submit; the owning thread drains the queue at one fixed
+ * point of its tick. The client queue is drained at the start of the client
+ * tick, before the player is driven; the server queue at the start of the
+ * server tick. Queue depth, the time tasks waited and the length of the
+ * owning thread's ticks are kept for {@link #stats()} and admission control.
+ *
+ * Every task carries a {@link TaskPriority}. A drain runs weighted rounds
+ * over the priority classes, at most {@code performance.mainThreadBatchSize}
+ * tasks in total. Once {@code performance.mainThreadBudgetMs} has been spent
+ * only {@link TaskPriority#CONTROL} work still runs; the rest waits for the
+ * next tick. Long jobs are submitted as {@link MainThreadJob}s and run in
+ * slices of at most {@link #JOB_SLICE_NANOS}, going back to the end of
+ * their class after each slice, so a large scan never delays an action by
+ * more than one slice.
+ *
+ * A task submitted while handling a gRPC call runs in that call's
+ * {@link Context}. If the call is cancelled or its deadline passes before
+ * the task runs, the task is dropped: the client has already been answered
+ * with the cancellation and nobody would read the result. Jobs see the
+ * context through {@link Context#current()} and can stop between work units.
+ * gRPC also cancels a call's context once the call has been answered, so
+ * work that must outlive the call, e.g. following a path after
+ * MoveToPosition has replied, is submitted with
+ * {@link #executeDetached(TaskPriority, Runnable)}.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class MainThreadQueue implements Executor {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** Weight of the newest task in the average wait time */
+    private static final double WAIT_AVERAGE_WEIGHT = 0.05;
+
+    /** Weight of the newest tick in the average tick time */
+    private static final double TICK_AVERAGE_WEIGHT = 0.1;
+
+    /** Longest a job runs before yielding to other work (2 ms) */
+    private static final long JOB_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    /** Work for the client thread */
+    public static final MainThreadQueue CLIENT = new MainThreadQueue("client");
+
+    /** Work for the server thread (integrated or dedicated) */
+    public static final MainThreadQueue SERVER = new MainThreadQueue("server");
+
+    /**
+     * Queue statistics.
+     *
+     * @param name queue name
+     * @param depth tasks and unfinished jobs waiting to run
+     * @param depthByPriority the depth of each priority class
+     * @param executed tasks and job slices run since startup
+     * @param dropped tasks dropped since startup because their call was cancelled or expired
+     * @param averageWaitNanos moving average of the time tasks waited before they first ran
+     * @param maxWaitNanos longest wait among the tasks of the last drain
+     * @param lastDrained tasks and job slices run by the last drain
+     * @param lastDrainNanos time the last drain took
+     * @param averageTickNanos moving average of the owning thread's tick time
+     */
+    public record Stats(String name, int depth, Map<TaskPriority, Integer> depthByPriority, long executed,
+                        long dropped, double averageWaitNanos, long maxWaitNanos, int lastDrained,
+                        long lastDrainNanos, double averageTickNanos) {
+    }
+
+    private static final class Task {
+        final MainThreadJob job;
+        final Context context;
+        final long enqueuedNanos;
+        boolean started;
+
+        Task(MainThreadJob job, Context context, long enqueuedNanos) {
+            this.job = job;
+            this.context = context;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    private final String name;
+    private final ConcurrentLinkedQueue<Task>[] queues;
+    private final AtomicInteger[] depths;
+
+    // Written by the draining thread only
+    private volatile long executed;
+    private volatile long dropped;
+    private volatile double averageWaitNanos;
+    private volatile long maxWaitNanos;
+    private volatile int lastDrained;
+    private volatile long lastDrainNanos;
+    private volatile double averageTickNanos;
+    private long tickStartNanos;
+
+    @SuppressWarnings("unchecked")
+    MainThreadQueue(String name) {
+        this.name = name;
+        this.queues = new ConcurrentLinkedQueue[PRIORITIES.length];
+        this.depths = new AtomicInteger[PRIORITIES.length];
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            queues[i] = new ConcurrentLinkedQueue<>();
+            depths[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * Registers the server tick listener that drains {@link #SERVER}.
+     */
+    public static void register() {
+        TickEvent.ServerTickEvent.Pre.BUS.addListener(event -> SERVER.drain());
+        TickEvent.ServerTickEvent.Post.BUS.addListener(event -> SERVER.endTick());
+        // Run what is left so no call waits on a server that is going away
+        ServerStoppingEvent.BUS.addListener(event -> SERVER.drain(Integer.MAX_VALUE, Long.MAX_VALUE));
+    }
+
+    /**
+     * Submits a control task.
+     *
+     * @param action the task
+     */
+    @Override
+    public void execute(Runnable action) {
+        execute(TaskPriority.CONTROL, action);
+    }
+
+    /**
+     * Submits a task. It runs on the owning thread during one of the next
+     * drains, unless the current gRPC call ends first.
+     *
+     * @param priority the priority class
+     * @param action the task
+     */
+    public void execute(TaskPriority priority, Runnable action) {
+        submit(priority, deadline -> {
+            action.run();
+            return true;
+        });
+    }
+
+    /**
+     * Submits a task that runs even if the current gRPC call ends first,
+     * for work that continues after the call has been answered.
+     *
+     * @param priority the priority class
+     * @param action the task
+     */
+    public void executeDetached(TaskPriority priority, Runnable action) {
+        enqueue(priority, deadline -> {
+            action.run();
+            return true;
+        }, Context.ROOT);
+    }
+
+    /**
+     * Submits a job that may take several slices to finish. Slices stop
+     * being run once the current gRPC call ends.
+     *
+     * @param priority the priority class
+     * @param job the job
+     */
+    public void submit(TaskPriority priority, MainThreadJob job) {
+        enqueue(priority, job, Context.current());
+    }
+
+    private void enqueue(TaskPriority priority, MainThreadJob job, Context context) {
+        queues[priority.ordinal()].add(new Task(job, context, System.nanoTime()));
+        depths[priority.ordinal()].incrementAndGet();
+    }
+
+    /**
+     * Runs queued work within the configured batch size and time budget and
+     * marks the start of a tick. Must be called on the owning thread at the
+     * start of each tick.
+     *
+     * @return the number of tasks and job slices run
+     */
+    public int drain() {
+        tickStartNanos = System.nanoTime();
+        return drain(SuperAIConfig.PERF_MAIN_THREAD_BATCH_SIZE.get(),
+                TimeUnit.MILLISECONDS.toNanos(SuperAIConfig.PERF_MAIN_THREAD_BUDGET_MS.get()));
+    }
+
+    /**
+     * Runs queued work in weighted rounds over the priority classes. Must be
+     * called on the owning thread.
+     *
+     * @param maxTasks the most tasks and job slices to run
+     * @param budgetNanos time after which only control work still runs
+     * @return the number of tasks and job slices run
+     */
+    public int drain(int maxTasks, long budgetNanos) {
+        if (depth() == 0) {
+            lastDrained = 0;
+            lastDrainNanos = 0;
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        long budgetEnd = budgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : start + budgetNanos;
+        double[] average = {averageWaitNanos};
+        long[] maxWait = {0};
+        int count = 0;
+        boolean progress = true;
+        while (progress && count < maxTasks) {
+            progress = false;
+            for (TaskPriority priority : PRIORITIES) {
+                boolean budgeted = priority != TaskPriority.CONTROL && budgetEnd != Long.MAX_VALUE;
+                ConcurrentLinkedQueue<Task> queue = queues[priority.ordinal()];
+                for (int i = 0; i < priority.weight() && count < maxTasks; i++) {
+                    if (budgeted && System.nanoTime() - budgetEnd >= 0) {
+                        break;
+                    }
+                    Task task = queue.poll();
+                    if (task == null) {
+                        break;
+                    }
+                    if (run(task, priority, budgeted, budgetEnd, average, maxWait)) {
+                        count++;
+                    }
+                    progress = true;
+                }
+            }
+        }
+
+        executed += count;
+        averageWaitNanos = average[0];
+        maxWaitNanos = maxWait[0];
+        lastDrained = count;
+        lastDrainNanos = System.nanoTime() - start;
+        return count;
+    }
+
+    /**
+     * Runs one task or job slice in its call context.
+     *
+     * @return false if the task was dropped instead
+     */
+    private boolean run(Task task, TaskPriority priority, boolean budgeted, long budgetEnd, double[] average,
+                        long[] maxWait) {
+        if (task.context.isCancelled()) {
+            depths[priority.ordinal()].decrementAndGet();
+            dropped++;
+            LOGGER.debug("Dropped {} thread task of a finished call: {}", name,
+                    Context.statusFromCancelled(task.context));
+            return false;
+        }
+
+        long now = System.nanoTime();
+        if (!task.started) {
+            task.started = true;
+            long wait = now - task.enqueuedNanos;
+            maxWait[0] = Math.max(maxWait[0], wait);
+            average[0] += (wait - average[0]) * WAIT_AVERAGE_WEIGHT;
+        }
+
+        long deadline = now + JOB_SLICE_NANOS;
+        if (budgeted && budgetEnd - deadline < 0) {
+            deadline = budgetEnd;
+        }
+        boolean finished;
+        Context previous = task.context.attach();
+        try {
+            finished = task.job.run(deadline);
+        } catch (RuntimeException e) {
+            LOGGER.error("Error running {} thread task", name, e);
+            finished = true;
+        } finally {
+            task.context.detach(previous);
+        }
+        if (finished) {
+            depths[priority.ordinal()].decrementAndGet();
+        } else {
+            queues[priority.ordinal()].add(task);
+        }
+        return true;
+    }
+
+    /**
+     * Marks the end of a tick started by {@link #drain()}. Must be called on
+     * the owning thread at the end of each tick.
+     */
+    public void endTick() {
+        if (tickStartNanos == 0) {
+            return;
+        }
+        long tick = System.nanoTime() - tickStartNanos;
+        tickStartNanos = 0;
+        double average = averageTickNanos;
+        averageTickNanos = average == 0 ? tick : average + (tick - average) * TICK_AVERAGE_WEIGHT;
+    }
+
+    /**
+     * Gets the moving average of the owning thread's tick time. May be called
+     * from any thread.
+     *
+     * @return the average tick time in nanoseconds, 0 before the first tick
+     */
+    public double averageTickNanos() {
+        return averageTickNanos;
+    }
+
+    /**
+     * Gets the number of tasks and unfinished jobs waiting to run.
+     *
+     * @return the queue depth
+     */
+    public int depth() {
+        int depth = 0;
+        for (AtomicInteger classDepth : depths) {
+            depth += classDepth.get();
+        }
+        return depth;
+    }
+
+    /**
+     * Gets the current queue statistics. May be called from any thread.
+     *
+     * @return the statistics
+     */
+    public Stats stats() {
+        Map<TaskPriority, Integer> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : PRIORITIES) {
+            byPriority.put(priority, depths[priority.ordinal()].get());
+        }
+        return new Stats(name, depth(), byPriority, executed, dropped, averageWaitNanos, maxWaitNanos, lastDrained,
+                lastDrainNanos, averageTickNanos);
+    }
+}
@@ -112,6 +112,69 @@ public final class SuperAIConstants {
     /** Minimum look angle (pitch) */
     public static final float MIN_PITCH = -90.0f;
 
+    /** Node expansions allowed per block of straight-line path distance */
+    public static final int PATHFINDING_NODES_PER_BLOCK = 200;
+
+    /** Extra blocks around start and goal the path search may explore */
+    public static final int PATHFINDING_SEARCH_MARGIN = 16;
+
+    /** Default ticks between full states in delta-encoded state streams */
+    public static final int DEFAULT_STATE_KEYFRAME_INTERVAL_TICKS = 100;
+
+    /** Maximum number of planned routes kept for reuse */
+    public static final int ROUTE_CACHE_MAX_ENTRIES = 512;
+
+    /** Default ticks a single-step movement action holds its input */
+    public static final int DEFAULT_MOVE_ACTION_TICKS = 10;
+
+    /** Maximum ticks a held input may last (one minute) */
+    public static final int MAX_HELD_INPUT_TICKS = 1200;
+
+    /** Maximum number of asynchronous actions waiting for their tick */
+    public static final int MAX_PENDING_ACTIONS = 1024;
+
+    /** Maximum ticks ahead an asynchronous action may be scheduled (one minute) */
+    public static final int MAX_ACTION_SCHEDULE_AHEAD_TICKS = 1200;
+
+    /** Maximum number of candidates in one simulation request */
+    public static final int MAX_SIMULATION_CANDIDATES = 1024;
+
+    /** Maximum ticks simulated per candidate */
+    public static final int MAX_SIMULATION_TICKS = 200;
+
+    /** Maximum horizontal radius of the collision snapshot used by simulations */
+    public static final int MAX_SIMULATION_RADIUS = 32;
+
+    /** Maximum radius of the block grid in an observation frame */
+    public static final int MAX_OBSERVATION_GRID_RADIUS = 16;
+
+    /** Default number of frames kept in an observation ring */
+    public static final int DEFAULT_OBSERVATION_SLOTS = 8;
+
+    /** Maximum number of frames kept in an observation ring */
+    public static final int MAX_OBSERVATION_SLOTS = 256;
+
+    /** Maximum number of blocks in one mining or building task */
+    public static final int MAX_TASK_BLOCKS = 4096;
+
+    /** Maximum size of an uploaded structure file in bytes */
+    public static final int MAX_STRUCTURE_NBT_BYTES = 1024 * 1024;
+
+    /** Maximum number of behavior programs running at once */
+    public static final int MAX_RUNNING_BEHAVIORS = 16;
+
+    /** Maximum number of states in a behavior program */
+    public static final int MAX_BEHAVIOR_STATES = 64;
+
+    /** Maximum number of nodes in a single condition tree */
+    public static final int MAX_CONDITION_NODES = 256;
+
+    /** Maximum number of pending waits and registered triggers */
+    public static final int MAX_CONDITION_WATCHERS = 1024;
+
+    /** Maximum radius of entity conditions in blocks */
+    public static final double MAX_CONDITION_ENTITY_RADIUS = 32.0;
+
     // ============================================================================
     // AI Agent Management Constants
     // ============================================================================
@@ -154,8 +217,8 @@ public final class SuperAIConstants {
     // Security Constants
     // ============================================================================
 
-    /** Default rate limit: requests per minute */
-    public static final int DEFAULT_RATE_LIMIT_REQUESTS_PER_MINUTE = 1000;
+    /** Default rate limit: cost units per minute per agent, enough for input every tick */
+    public static final int DEFAULT_RATE_LIMIT_REQUESTS_PER_MINUTE = 6000;
 
     /** Maximum request size in bytes (1MB) */
     public static final int MAX_REQUEST_SIZE_BYTES = 1048576;
@@ -200,6 +263,9 @@ public final class SuperAIConstants {
     /** Error code for invalid agent state */
     public static final int ERROR_INVALID_AGENT_STATE = 1009;
 
+    /** Error code for an operation ended before it could finish */
+    public static final int ERROR_OPERATION_ABORTED = 1010;
+
     // ============================================================================
     // Logging Constants
     // ============================================================================
@@ -248,6 +314,9 @@ public final class SuperAIConstants {
     /** Milliseconds in a second */
     public static final int MS_PER_SECOND = 1000;
 
+    /** Milliseconds in a game tick at the normal tick rate */
+    public static final int MS_PER_TICK = 50;
+
     /** Milliseconds in a minute */
     public static final int MS_PER_MINUTE = 60000;
 
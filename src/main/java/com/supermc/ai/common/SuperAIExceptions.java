@@ -285,6 +285,61 @@ public final class SuperAIExceptions {
         }
     }
 
+    // ============================================================================
+    // Training Arena Exceptions
+    // ============================================================================
+
+    /**
+     * Exception thrown when training arena operations fail.
+     */
+    public static class ArenaException extends SuperAIException {
+        public ArenaException(String message) {
+            super(message, SuperAIConstants.ERROR_INTERNAL_ERROR);
+        }
+
+        public ArenaException(String message, Throwable cause) {
+            super(message, cause, SuperAIConstants.ERROR_INTERNAL_ERROR);
+        }
+
+        public ArenaException(String message, int errorCode) {
+            super(message, errorCode);
+        }
+    }
+
+    // ============================================================================
+    // Behavior Exceptions
+    // ============================================================================
+
+    /**
+     * Exception thrown when a behavior program or condition is invalid or cannot run.
+     */
+    public static class BehaviorException extends SuperAIException {
+        public BehaviorException(String message) {
+            super(message, SuperAIConstants.ERROR_INVALID_PARAMETER);
+        }
+
+        public BehaviorException(String message, int errorCode) {
+            super(message, errorCode);
+        }
+    }
+
+    // ============================================================================
+    // Task Exceptions
+    // ============================================================================
+
+    /**
+     * Exception thrown when a block task is invalid or cannot start.
+     */
+    public static class TaskException extends SuperAIException {
+        public TaskException(String message) {
+            super(message, SuperAIConstants.ERROR_INVALID_PARAMETER);
+        }
+
+        public TaskException(String message, int errorCode) {
+            super(message, errorCode);
+        }
+    }
+
     // ============================================================================
     // Utility Methods
     // ============================================================================
@@ -307,6 +362,7 @@ public final class SuperAIExceptions {
             case SuperAIConstants.ERROR_RATE_LIMIT_EXCEEDED -> "Rate limit exceeded";
             case SuperAIConstants.ERROR_AGENT_NOT_REGISTERED -> "Agent not registered";
             case SuperAIConstants.ERROR_INVALID_AGENT_STATE -> "Invalid agent state";
+            case SuperAIConstants.ERROR_OPERATION_ABORTED -> "Operation aborted";
             default -> "Unknown error";
         };
     }
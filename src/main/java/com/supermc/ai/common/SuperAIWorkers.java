@@ -0,0 +1,88 @@
+package com.supermc.ai.common;
+
+import com.supermc.ai.config.SuperAIConfig;
+import com.mojang.logging.LogUtils;
+import org.slf4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Shared worker pool for background computation that must stay off the
+ * client and server threads (navigation grids, path planning).
+ *
+ * Workers are daemon threads below normal priority so they never hold up
+ * shutdown or compete with rendering. The pool is sized by the
+ * {@code performance.threadPoolSize} setting and created on first use.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SuperAIWorkers {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static volatile ExecutorService executor;
+
+    private SuperAIWorkers() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Gets the shared worker executor, creating it on first use.
+     *
+     * @return the worker executor
+     */
+    public static ExecutorService executor() {
+        ExecutorService current = executor;
+        if (current == null) {
+            synchronized (SuperAIWorkers.class) {
+                current = executor;
+                if (current == null) {
+                    int threads = SuperAIConfig.PERF_THREAD_POOL_SIZE.get();
+                    current = Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+                    executor = current;
+                    LOGGER.info("Started {} background worker threads", threads);
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Runs a task on a worker thread.
+     *
+     * @param task the task to run
+     */
+    public static void execute(Runnable task) {
+        executor().execute(task);
+    }
+
+    /**
+     * Computes a value on a worker thread.
+     *
+     * @param supplier the computation
+     * @param <T> the result type
+     * @return a future completed with the result
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor());
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "SuperAI-Worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            thread.setUncaughtExceptionHandler((t, e) -> LOGGER.error("Uncaught exception in {}", t.getName(), e));
+            return thread;
+        }
+    }
+}
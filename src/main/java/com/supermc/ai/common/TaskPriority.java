@@ -0,0 +1,39 @@
+package com.supermc.ai.common;
+
+/**
+ * Priority class of work submitted to a {@link MainThreadQueue}.
+ *
+ * Classes are drained in weighted rounds: each round runs up to
+ * {@link #weight()} tasks of every class in declaration order, so control
+ * work always goes first while lower classes still make progress under
+ * load.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum TaskPriority {
+    /** Commands that drive the player or agents; never held back by the time budget */
+    CONTROL(16),
+    /** Reads of player, inventory and block state */
+    STATE(8),
+    /** Scans and other large world reads */
+    PERCEPTION(2),
+    /** Setup and management calls */
+    ADMIN(1);
+
+    private final int weight;
+
+    TaskPriority(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Gets the number of tasks of this class run per drain round.
+     *
+     * @return the round weight
+     */
+    public int weight() {
+        return weight;
+    }
+}
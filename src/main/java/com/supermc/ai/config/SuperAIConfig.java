@@ -1,5 +1,7 @@
 package com.supermc.ai.config;
 
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.grpc.GrpcExecutorMode;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.mojang.logging.LogUtils;
@@ -42,6 +44,11 @@ public final class SuperAIConfig {
     public static final ForgeConfigSpec.ConfigValue<Integer> GRPC_PORT;
     public static final ForgeConfigSpec.ConfigValue<Integer> GRPC_MAX_CONNECTIONS;
     public static final ForgeConfigSpec.ConfigValue<Integer> GRPC_THREAD_POOL_SIZE;
+    public static final ForgeConfigSpec.EnumValue<GrpcExecutorMode> GRPC_EXECUTOR;
+    public static final ForgeConfigSpec.ConfigValue<Integer> GRPC_BOSS_THREADS;
+    public static final ForgeConfigSpec.ConfigValue<Integer> GRPC_WORKER_THREADS;
+    public static final ForgeConfigSpec.ConfigValue<Boolean> GRPC_USE_EPOLL;
+    public static final ForgeConfigSpec.ConfigValue<String> GRPC_DOMAIN_SOCKET_PATH;
     public static final ForgeConfigSpec.ConfigValue<Boolean> GRPC_ENABLE_TLS;
     public static final ForgeConfigSpec.ConfigValue<String> GRPC_CERT_PATH;
     public static final ForgeConfigSpec.ConfigValue<String> GRPC_KEY_PATH;
@@ -70,16 +77,33 @@ public final class SuperAIConfig {
     public static final ForgeConfigSpec.ConfigValue<Integer> AGENT_SESSION_TIMEOUT_MINUTES;
     public static final ForgeConfigSpec.ConfigValue<Boolean> AGENT_ENABLE_AUTHENTICATION;
     public static final ForgeConfigSpec.ConfigValue<String> AGENT_ALLOWED_TYPES;
+    public static final ForgeConfigSpec.ConfigValue<Boolean> AGENT_REQUIRE_SESSION_TOKEN;
+
+    // Training Arena Configuration
+    public static final ForgeConfigSpec.ConfigValue<Integer> ARENA_MAX_ARENAS;
+    public static final ForgeConfigSpec.ConfigValue<Integer> ARENA_SPACING_BLOCKS;
+    public static final ForgeConfigSpec.ConfigValue<Integer> ARENA_ORIGIN_X;
+    public static final ForgeConfigSpec.ConfigValue<Integer> ARENA_TICKS_PER_STEP_DEFAULT;
 
     // Performance Configuration
     public static final ForgeConfigSpec.ConfigValue<Integer> PERF_CACHE_SIZE_MAX;
     public static final ForgeConfigSpec.ConfigValue<Integer> PERF_CACHE_TTL_SECONDS;
     public static final ForgeConfigSpec.ConfigValue<Integer> PERF_THREAD_POOL_SIZE;
     public static final ForgeConfigSpec.ConfigValue<Boolean> PERF_ENABLE_METRICS;
+    public static final ForgeConfigSpec.ConfigValue<Integer> PERF_MAIN_THREAD_BATCH_SIZE;
+    public static final ForgeConfigSpec.ConfigValue<Integer> PERF_MAIN_THREAD_BUDGET_MS;
+    public static final ForgeConfigSpec.ConfigValue<Boolean> PERF_ADMISSION_CONTROL;
+    public static final ForgeConfigSpec.ConfigValue<Integer> PERF_ADMISSION_MAX_MSPT;
+    public static final ForgeConfigSpec.ConfigValue<Integer> PERF_ADMISSION_MAX_QUEUE_DEPTH;
+    public static final ForgeConfigSpec.ConfigValue<Boolean> PERF_DEGRADE_SCANS_UNDER_LOAD;
+    public static final ForgeConfigSpec.ConfigValue<Integer> PERF_DEGRADED_SCAN_RADIUS;
+    public static final ForgeConfigSpec.ConfigValue<Integer> PERF_STREAM_QUEUE_CAPACITY;
 
     // Safety and Security Configuration
     public static final ForgeConfigSpec.ConfigValue<Boolean> SECURITY_ENABLE_RATE_LIMITING;
     public static final ForgeConfigSpec.ConfigValue<Integer> SECURITY_RATE_LIMIT_REQUESTS_PER_MINUTE;
+    public static final ForgeConfigSpec.ConfigValue<Integer> SECURITY_RATE_LIMIT_METHOD_REQUESTS_PER_MINUTE;
+    public static final ForgeConfigSpec.ConfigValue<Integer> SECURITY_RATE_LIMIT_BURST;
     public static final ForgeConfigSpec.ConfigValue<Integer> SECURITY_MAX_REQUEST_SIZE_BYTES;
     public static final ForgeConfigSpec.ConfigValue<Boolean> SECURITY_VALIDATE_ALL_INPUTS;
 
@@ -95,7 +119,7 @@ public final class SuperAIConfig {
         // gRPC Server Configuration
         BUILDER.comment("gRPC Server Settings").push("grpc");
         GRPC_HOST = BUILDER
-                .comment("Host address for gRPC server")
+                .comment("Address the gRPC server binds; use 0.0.0.0 to accept remote agents")
                 .define("host", "localhost");
         GRPC_PORT = BUILDER
                 .comment("Port for gRPC server")
@@ -104,8 +128,25 @@ public final class SuperAIConfig {
                 .comment("Maximum concurrent connections")
                 .defineInRange("maxConnections", 100, 1, 1000);
         GRPC_THREAD_POOL_SIZE = BUILDER
-                .comment("Thread pool size for gRPC server")
+                .comment("Thread pool size for gRPC server (FIXED executor)")
                 .defineInRange("threadPoolSize", 16, 1, 256);
+        GRPC_EXECUTOR = BUILDER
+                .comment("How call handlers run: FIXED pool of threadPoolSize threads, DIRECT on the network threads, "
+                        + "VIRTUAL thread per call, or DEFAULT unbounded cached pool")
+                .defineEnum("executor", GrpcExecutorMode.FIXED);
+        GRPC_BOSS_THREADS = BUILDER
+                .comment("Netty threads accepting connections")
+                .defineInRange("bossThreads", 1, 1, 4);
+        GRPC_WORKER_THREADS = BUILDER
+                .comment("Netty threads doing network I/O (0 = twice the number of processors)")
+                .defineInRange("workerThreads", 0, 0, 64);
+        GRPC_USE_EPOLL = BUILDER
+                .comment("Use the native epoll transport when available (Linux)")
+                .define("useEpoll", true);
+        GRPC_DOMAIN_SOCKET_PATH = BUILDER
+                .comment("Also listen on this Unix domain socket for agents on the same host "
+                        + "(empty = off, Linux only)")
+                .define("domainSocketPath", "");
         GRPC_ENABLE_TLS = BUILDER
                 .comment("Enable TLS encryption for gRPC connections")
                 .define("enableTLS", false);
@@ -184,6 +225,25 @@ public final class SuperAIConfig {
         AGENT_ALLOWED_TYPES = BUILDER
                 .comment("Comma-separated list of allowed agent types")
                 .define("allowedTypes", "reinforcement_learning,behavior_tree,scripted,neural_network");
+        AGENT_REQUIRE_SESSION_TOKEN = BUILDER
+                .comment("Reject calls that carry no session token in the x-session-token header")
+                .define("requireSessionToken", false);
+        BUILDER.pop();
+
+        // Training Arena Configuration
+        BUILDER.comment("Training Arena Settings").push("arena");
+        ARENA_MAX_ARENAS = BUILDER
+                .comment("Maximum number of training arenas per server")
+                .defineInRange("maxArenas", 16, 1, 256);
+        ARENA_SPACING_BLOCKS = BUILDER
+                .comment("Distance between arena origins along the X axis (blocks)")
+                .defineInRange("spacingBlocks", 256, 32, 4096);
+        ARENA_ORIGIN_X = BUILDER
+                .comment("X coordinate of the first arena origin")
+                .defineInRange("originX", 100000, -29000000, 29000000);
+        ARENA_TICKS_PER_STEP_DEFAULT = BUILDER
+                .comment("Default number of server ticks advanced per arena step")
+                .defineInRange("defaultTicksPerStep", 1, 1, 100);
         BUILDER.pop();
 
         // Performance Configuration
@@ -200,6 +260,31 @@ public final class SuperAIConfig {
         PERF_ENABLE_METRICS = BUILDER
                 .comment("Enable performance metrics collection")
                 .define("enableMetrics", true);
+        PERF_MAIN_THREAD_BATCH_SIZE = BUILDER
+                .comment("Maximum SuperAI tasks run on the client or server thread per tick")
+                .defineInRange("mainThreadBatchSize", 256, 1, 100000);
+        PERF_MAIN_THREAD_BUDGET_MS = BUILDER
+                .comment("Milliseconds per tick for non-control SuperAI work on the client or server thread")
+                .defineInRange("mainThreadBudgetMs", 10, 1, 50);
+        PERF_ADMISSION_CONTROL = BUILDER
+                .comment("Reject low-priority calls with RESOURCE_EXHAUSTED while ticks are slow or the queue is long")
+                .define("admissionControl", true);
+        PERF_ADMISSION_MAX_MSPT = BUILDER
+                .comment("Average tick time (milliseconds) above which scans, simulations and arena setup are shed")
+                .defineInRange("admissionMaxMspt", 50, 10, 1000);
+        PERF_ADMISSION_MAX_QUEUE_DEPTH = BUILDER
+                .comment("Main-thread queue depth above which scans, simulations and arena setup are shed; "
+                        + "state reads are shed at twice this depth")
+                .defineInRange("admissionMaxQueueDepth", 512, 16, 100000);
+        PERF_DEGRADE_SCANS_UNDER_LOAD = BUILDER
+                .comment("Answer scans with a smaller surface-only scan instead of rejecting them under load")
+                .define("degradeScansUnderLoad", true);
+        PERF_DEGRADED_SCAN_RADIUS = BUILDER
+                .comment("Largest radius of a scan degraded under load")
+                .defineInRange("degradedScanRadius", 8, 1, 64);
+        PERF_STREAM_QUEUE_CAPACITY = BUILDER
+                .comment("Messages a server stream queues while its consumer is behind")
+                .defineInRange("streamQueueCapacity", 32, 1, 4096);
         BUILDER.pop();
 
         // Safety and Security Configuration
@@ -208,8 +293,15 @@ public final class SuperAIConfig {
                 .comment("Enable rate limiting for API calls")
                 .define("enableRateLimiting", true);
         SECURITY_RATE_LIMIT_REQUESTS_PER_MINUTE = BUILDER
-                .comment("Rate limit: requests per minute")
-                .defineInRange("rateLimitRequestsPerMinute", 1000, 10, 10000);
+                .comment("Rate limit per agent: cost units per minute (most calls cost 1, scans 20)")
+                .defineInRange("rateLimitRequestsPerMinute", SuperAIConstants.DEFAULT_RATE_LIMIT_REQUESTS_PER_MINUTE,
+                        10, 1000000);
+        SECURITY_RATE_LIMIT_METHOD_REQUESTS_PER_MINUTE = BUILDER
+                .comment("Rate limit per method over all agents: cost units per minute")
+                .defineInRange("rateLimitMethodRequestsPerMinute", 30000, 10, 10000000);
+        SECURITY_RATE_LIMIT_BURST = BUILDER
+                .comment("Cost units an agent or method may spend at once after being idle")
+                .defineInRange("rateLimitBurst", 100, 1, 100000);
         SECURITY_MAX_REQUEST_SIZE_BYTES = BUILDER
                 .comment("Maximum request size in bytes")
                 .defineInRange("maxRequestSizeBytes", 1048576, 1024, 10485760); // 1MB default, 10MB max
@@ -314,6 +406,7 @@ public final class SuperAIConfig {
         public final EnvironmentConfig environment = new EnvironmentConfig();
         public final PlayerConfig player = new PlayerConfig();
         public final AgentConfig agent = new AgentConfig();
+        public final ArenaConfig arena = new ArenaConfig();
         public final PerformanceConfig performance = new PerformanceConfig();
         public final SecurityConfig security = new SecurityConfig();
         public final LoggingConfig logging = new LoggingConfig();
@@ -323,6 +416,11 @@ public final class SuperAIConfig {
             public final int port = GRPC_PORT.get();
             public final int maxConnections = GRPC_MAX_CONNECTIONS.get();
             public final int threadPoolSize = GRPC_THREAD_POOL_SIZE.get();
+            public final GrpcExecutorMode executor = GRPC_EXECUTOR.get();
+            public final int bossThreads = GRPC_BOSS_THREADS.get();
+            public final int workerThreads = GRPC_WORKER_THREADS.get();
+            public final boolean useEpoll = GRPC_USE_EPOLL.get();
+            public final String domainSocketPath = GRPC_DOMAIN_SOCKET_PATH.get();
             public final boolean enableTLS = GRPC_ENABLE_TLS.get();
         }
 
@@ -352,6 +450,14 @@ public final class SuperAIConfig {
             public final int sessionTimeoutMinutes = AGENT_SESSION_TIMEOUT_MINUTES.get();
             public final boolean enableAuthentication = AGENT_ENABLE_AUTHENTICATION.get();
             public final String allowedTypes = AGENT_ALLOWED_TYPES.get();
+            public final boolean requireSessionToken = AGENT_REQUIRE_SESSION_TOKEN.get();
+        }
+
+        private static class ArenaConfig {
+            public final int maxArenas = ARENA_MAX_ARENAS.get();
+            public final int spacingBlocks = ARENA_SPACING_BLOCKS.get();
+            public final int originX = ARENA_ORIGIN_X.get();
+            public final int defaultTicksPerStep = ARENA_TICKS_PER_STEP_DEFAULT.get();
         }
 
         private static class PerformanceConfig {
@@ -359,11 +465,21 @@ public final class SuperAIConfig {
             public final int cacheTtlSeconds = PERF_CACHE_TTL_SECONDS.get();
             public final int threadPoolSize = PERF_THREAD_POOL_SIZE.get();
             public final boolean enableMetrics = PERF_ENABLE_METRICS.get();
+            public final int mainThreadBatchSize = PERF_MAIN_THREAD_BATCH_SIZE.get();
+            public final int mainThreadBudgetMs = PERF_MAIN_THREAD_BUDGET_MS.get();
+            public final boolean admissionControl = PERF_ADMISSION_CONTROL.get();
+            public final int admissionMaxMspt = PERF_ADMISSION_MAX_MSPT.get();
+            public final int admissionMaxQueueDepth = PERF_ADMISSION_MAX_QUEUE_DEPTH.get();
+            public final boolean degradeScansUnderLoad = PERF_DEGRADE_SCANS_UNDER_LOAD.get();
+            public final int degradedScanRadius = PERF_DEGRADED_SCAN_RADIUS.get();
+            public final int streamQueueCapacity = PERF_STREAM_QUEUE_CAPACITY.get();
         }
 
         private static class SecurityConfig {
             public final boolean enableRateLimiting = SECURITY_ENABLE_RATE_LIMITING.get();
             public final int rateLimitRequestsPerMinute = SECURITY_RATE_LIMIT_REQUESTS_PER_MINUTE.get();
+            public final int rateLimitMethodRequestsPerMinute = SECURITY_RATE_LIMIT_METHOD_REQUESTS_PER_MINUTE.get();
+            public final int rateLimitBurst = SECURITY_RATE_LIMIT_BURST.get();
             public final int maxRequestSizeBytes = SECURITY_MAX_REQUEST_SIZE_BYTES.get();
             public final boolean validateAllInputs = SECURITY_VALIDATE_ALL_INPUTS.get();
         }
@@ -0,0 +1,35 @@
+package com.supermc.ai.grpc;
+
+import io.grpc.Context;
+
+import javax.annotation.Nullable;
+
+/**
+ * Identity of the agent making the current call.
+ *
+ * Attached to the gRPC context by {@link SessionAuthInterceptor} when the call
+ * carries a valid session token, so services and later interceptors can read
+ * it without looking the session up again.
+ *
+ * @param agentId the agent ID
+ * @param agentName the agent name
+ * @param agentType the agent type
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record AgentContext(String agentId, String agentName, String agentType) {
+
+    /** Context key of the calling agent */
+    public static final Context.Key<AgentContext> KEY = Context.key("superai-agent");
+
+    /**
+     * Gets the agent making the current call.
+     *
+     * @return the agent, or null if the call carries no session token
+     */
+    @Nullable
+    public static AgentContext current() {
+        return KEY.get();
+    }
+}
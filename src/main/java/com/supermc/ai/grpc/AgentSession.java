@@ -0,0 +1,86 @@
+package com.supermc.ai.grpc;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Represents an active AI agent session.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class AgentSession {
+    private final AgentContext context;
+    private final String token;
+    private final String description;
+    private final Map<String, String> capabilities;
+    private final int heartbeatIntervalMs;
+    private final Instant registeredAt;
+    private volatile Instant lastHeartbeat;
+
+    /**
+     * Creates a session.
+     *
+     * @param context the agent's identity
+     * @param token the session token
+     * @param description the agent description
+     * @param capabilities the agent capabilities
+     * @param heartbeatIntervalMs the agent's heartbeat interval
+     * @param registeredAt when the agent registered
+     */
+    public AgentSession(AgentContext context, String token, String description, Map<String, String> capabilities,
+                        int heartbeatIntervalMs, Instant registeredAt) {
+        this.context = context;
+        this.token = token;
+        this.description = description;
+        this.capabilities = Map.copyOf(capabilities);
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.registeredAt = registeredAt;
+        this.lastHeartbeat = registeredAt;
+    }
+
+    public AgentContext getContext() {
+        return context;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public String getAgentId() {
+        return context.agentId();
+    }
+
+    public String getAgentName() {
+        return context.agentName();
+    }
+
+    public String getAgentType() {
+        return context.agentType();
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Map<String, String> getCapabilities() {
+        return capabilities;
+    }
+
+    public int getHeartbeatIntervalMs() {
+        return heartbeatIntervalMs;
+    }
+
+    public Instant getRegisteredAt() {
+        return registeredAt;
+    }
+
+    public Instant getLastHeartbeat() {
+        return lastHeartbeat;
+    }
+
+    public void updateHeartbeat() {
+        this.lastHeartbeat = Instant.now();
+    }
+}
@@ -0,0 +1,206 @@
+package com.supermc.ai.grpc;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.config.SuperAIConfig;
+import com.mojang.logging.LogUtils;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registry of the sessions of registered agents.
+ *
+ * Sessions are indexed both by agent ID and by session token, so that
+ * resolving the token of a call is a single hash lookup. A token whose
+ * session has expired is rejected, and the session removed, as soon as it is
+ * presented; other expired sessions are removed at most once a minute while
+ * tokens are being resolved, and whenever the agent list is read.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class AgentSessionRegistry {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final AgentSessionRegistry INSTANCE = new AgentSessionRegistry();
+
+    /** Expired sessions are looked for this often while resolving tokens */
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, AgentSession> byAgentId = new ConcurrentHashMap<>();
+    private final Map<String, AgentSession> byToken = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong(System.nanoTime() + SWEEP_INTERVAL_NANOS);
+
+    private AgentSessionRegistry() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     *
+     * @return the registry instance
+     */
+    public static AgentSessionRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Generates a random session token.
+     *
+     * @return session token string
+     */
+    public String generateToken() {
+        // Base64 encodes 3 bytes as 4 characters
+        byte[] bytes = new byte[SuperAIConstants.SESSION_TOKEN_LENGTH * 3 / 4];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Adds a session.
+     *
+     * @param session the session
+     * @return false if the agent is already registered
+     */
+    public boolean register(AgentSession session) {
+        if (byAgentId.putIfAbsent(session.getAgentId(), session) != null) {
+            return false;
+        }
+        byToken.put(session.getToken(), session);
+        return true;
+    }
+
+    /**
+     * Removes the session of an agent.
+     *
+     * @param agentId the agent ID
+     */
+    public void unregister(String agentId) {
+        AgentSession session = byAgentId.remove(agentId);
+        if (session != null) {
+            byToken.remove(session.getToken(), session);
+        }
+    }
+
+    /**
+     * Looks up the session a token belongs to.
+     *
+     * @param token the session token
+     * @return the session, or null if the token is unknown or its session has expired
+     */
+    @Nullable
+    public AgentSession resolve(String token) {
+        sweep(System.nanoTime());
+        return unexpired(byToken.get(token));
+    }
+
+    /**
+     * Looks up the session of an agent, checking that the token belongs to it.
+     *
+     * @param agentId the agent ID
+     * @param token the session token
+     * @return the session, or null if the token is not the agent's or its session has expired
+     */
+    @Nullable
+    public AgentSession validate(String agentId, String token) {
+        AgentSession session = unexpired(byToken.get(token));
+        return session != null && session.getAgentId().equals(agentId) ? session : null;
+    }
+
+    /**
+     * Checks whether an agent is registered.
+     *
+     * @param agentId the agent ID
+     * @return true if the agent has a session
+     */
+    public boolean contains(String agentId) {
+        return byAgentId.containsKey(agentId);
+    }
+
+    /**
+     * Gets the number of registered agents.
+     *
+     * @return the session count
+     */
+    public int size() {
+        return byAgentId.size();
+    }
+
+    /**
+     * Gets the registered sessions.
+     *
+     * @return a live view of the sessions
+     */
+    public Collection<AgentSession> sessions() {
+        return byAgentId.values();
+    }
+
+    /**
+     * Checks if a session is still active.
+     *
+     * @param session the agent session
+     * @return true if the agent sent a heartbeat within the timeout
+     */
+    public boolean isActive(AgentSession session) {
+        long timeoutMs = SuperAIConfig.AGENT_HEARTBEAT_TIMEOUT_MS.get();
+        long timeSinceHeartbeat = Instant.now().toEpochMilli() - session.getLastHeartbeat().toEpochMilli();
+        return timeSinceHeartbeat < timeoutMs;
+    }
+
+    /**
+     * Cleans up expired agent sessions.
+     */
+    public void cleanupExpiredSessions() {
+        long now = Instant.now().toEpochMilli();
+        for (AgentSession session : byAgentId.values()) {
+            if (isExpired(session, now)) {
+                removeExpired(session);
+            }
+        }
+    }
+
+    /**
+     * Passes a session through unless it has expired, in which case it is
+     * removed right away rather than at the next sweep.
+     */
+    @Nullable
+    private AgentSession unexpired(@Nullable AgentSession session) {
+        if (session == null || !isExpired(session, Instant.now().toEpochMilli())) {
+            return session;
+        }
+        removeExpired(session);
+        return null;
+    }
+
+    private static boolean isExpired(AgentSession session, long nowMs) {
+        long timeoutMs = SuperAIConfig.AGENT_HEARTBEAT_TIMEOUT_MS.get();
+        long sessionTimeoutMs = SuperAIConfig.AGENT_SESSION_TIMEOUT_MINUTES.get() * 60L * 1000L;
+        long timeSinceHeartbeat = nowMs - session.getLastHeartbeat().toEpochMilli();
+        long timeSinceRegistration = nowMs - session.getRegisteredAt().toEpochMilli();
+        return timeSinceHeartbeat > timeoutMs || timeSinceRegistration > sessionTimeoutMs;
+    }
+
+    private void removeExpired(AgentSession session) {
+        if (byAgentId.remove(session.getAgentId(), session)) {
+            byToken.remove(session.getToken(), session);
+            LOGGER.info("Removed expired agent session: {}", session.getAgentId());
+        }
+    }
+
+    private void sweep(long now) {
+        long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        cleanupExpiredSessions();
+    }
+}
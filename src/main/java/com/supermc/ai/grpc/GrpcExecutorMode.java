@@ -0,0 +1,23 @@
+package com.supermc.ai.grpc;
+
+/**
+ * How the gRPC server runs call handlers.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum GrpcExecutorMode {
+    /** A fixed pool of {@code grpc.threadPoolSize} platform threads */
+    FIXED,
+    /**
+     * On the Netty event loop that read the message. Handlers must never block,
+     * so they hand game work to the main-thread queues and disk or parsing work
+     * to the SuperAI worker threads
+     */
+    DIRECT,
+    /** A new virtual thread per task, for handlers that block */
+    VIRTUAL,
+    /** An unbounded cached pool, as gRPC uses by default */
+    DEFAULT
+}
@@ -4,16 +4,38 @@ import com.supermc.ai.common.SuperAIConstants;
 import com.supermc.ai.common.SuperAIExceptions;
 import com.supermc.ai.config.SuperAIConfig;
 import com.supermc.ai.grpc.service.AIAgentServiceImpl;
+import com.supermc.ai.grpc.service.ArenaServiceImpl;
+import com.supermc.ai.grpc.service.BehaviorServiceImpl;
 import com.supermc.ai.grpc.service.EnvironmentServiceImpl;
 import com.supermc.ai.grpc.service.InventoryServiceImpl;
 import com.supermc.ai.grpc.service.PlayerControlServiceImpl;
+import com.supermc.ai.grpc.service.TaskServiceImpl;
+import com.supermc.ai.grpc.util.SerializedMessage;
 import com.mojang.logging.LogUtils;
+import io.grpc.BindableService;
 import io.grpc.Server;
-import io.grpc.ServerBuilder;
+import io.grpc.ServerServiceDefinition;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.unix.DomainSocketAddress;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import net.minecraftforge.fml.loading.FMLEnvironment;
 import org.slf4j.Logger;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -22,6 +44,12 @@ import java.util.concurrent.TimeUnit;
  * This class handles starting, stopping, and managing the gRPC server
  * that exposes the SuperAI API to external AI agents.
  *
+ * Call handlers run on the executor chosen by {@code grpc.executor}. The
+ * Netty boss and worker event loops are created here with the configured
+ * sizes and shut down with the server. Co-located agents can connect over a
+ * Unix domain socket instead of TCP loopback. Calls on either listener pass
+ * the same {@link RateLimitingInterceptor} when rate limiting is enabled.
+ *
  * @author SuperAI Team
  * @version 1.0.0
  * @since 1.0.0
@@ -31,7 +59,34 @@ public final class GrpcServerManager {
     
     private static GrpcServerManager instance;
     private Server grpcServer;
+    @Nullable
+    private Server domainSocketServer;
+    @Nullable
+    private Path domainSocketPath;
+    private boolean epoll;
     private boolean isRunning = false;
+    private GrpcExecutorMode executorMode;
+    @Nullable
+    private InstrumentedExecutor handlerExecutor;
+    @Nullable
+    private RateLimitingInterceptor rateLimiter;
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private int bossThreads;
+    private int workerThreads;
+    
+    /**
+     * Executor statistics of the running server.
+     *
+     * @param mode how call handlers are run
+     * @param transport network transport, epoll or nio
+     * @param bossThreads threads accepting connections
+     * @param workerThreads threads doing network I/O
+     * @param handlers handler executor statistics, null in direct mode
+     */
+    public record ExecutorStats(GrpcExecutorMode mode, String transport, int bossThreads, int workerThreads,
+                                @Nullable InstrumentedExecutor.Stats handlers) {
+    }
     
     /**
      * Private constructor for singleton pattern.
@@ -54,6 +109,19 @@ public final class GrpcServerManager {
     /**
      * Starts the gRPC server with all registered services.
      *
+     * Player, environment and inventory services drive the local client player
+     * and are only registered on the client distribution; a dedicated server
+     * exposes agent management and training arenas.
+     *
+     * The TCP listener binds {@code grpc.host}, which defaults to the loopback
+     * interface; set it to a wildcard address to accept remote agents.
+     *
+     * Besides the TCP port, the server can listen on a Unix domain socket at
+     * {@code grpc.domainSocketPath} for agents on the same host. Both
+     * listeners share the service instances, executor and event loops. The
+     * native epoll transport is used when available, which domain sockets
+     * require.
+     *
      * @throws SuperAIExceptions.GrpcServiceException if server fails to start
      */
     public void start() throws SuperAIExceptions.GrpcServiceException {
@@ -65,25 +133,48 @@ public final class GrpcServerManager {
         try {
             String host = SuperAIConfig.GRPC_HOST.get();
             int port = SuperAIConfig.GRPC_PORT.get();
+            String socketPath = SuperAIConfig.GRPC_DOMAIN_SOCKET_PATH.get().trim();
             
             LOGGER.info("Starting gRPC server on {}:{}", host, port);
             
-            // Build server with all services
-            ServerBuilder<?> serverBuilder = NettyServerBuilder.forPort(port)
-                    .addService(new EnvironmentServiceImpl())
-                    .addService(new PlayerControlServiceImpl())
-                    .addService(new InventoryServiceImpl())
-                    .addService(new AIAgentServiceImpl())
-                    .maxInboundMessageSize(SuperAIConfig.SECURITY_MAX_REQUEST_SIZE_BYTES.get())
-                    .permitKeepAliveWithoutCalls(true)
-                    .permitKeepAliveTime(30, TimeUnit.SECONDS);
+            // A domain socket needs the native transport, so asking for one selects it as well
+            boolean wantEpoll = SuperAIConfig.GRPC_USE_EPOLL.get() || !socketPath.isEmpty();
+            epoll = wantEpoll && Epoll.isAvailable();
+            if (wantEpoll && !epoll) {
+                LOGGER.info("Native epoll transport not available, using NIO: {}",
+                        Epoll.unavailabilityCause().getMessage());
+            }
+            bossThreads = SuperAIConfig.GRPC_BOSS_THREADS.get();
+            workerThreads = SuperAIConfig.GRPC_WORKER_THREADS.get() > 0 ? SuperAIConfig.GRPC_WORKER_THREADS.get()
+                    : Runtime.getRuntime().availableProcessors() * 2;
+            bossGroup = newEventLoopGroup(bossThreads, "SuperAI-gRPC-boss");
+            workerGroup = newEventLoopGroup(workerThreads, "SuperAI-gRPC-worker");
             
-            // Add interceptors if needed (authentication, rate limiting)
-            // serverBuilder.intercept(new AuthenticationInterceptor());
-            // serverBuilder.intercept(new RateLimitingInterceptor());
+            executorMode = SuperAIConfig.GRPC_EXECUTOR.get();
+            if (executorMode != GrpcExecutorMode.DIRECT) {
+                handlerExecutor = InstrumentedExecutor.create(executorMode, SuperAIConfig.GRPC_THREAD_POOL_SIZE.get());
+            }
+            LOGGER.info("gRPC handlers run on {} executor, {} boss and {} worker {} threads", executorMode,
+                    bossThreads, workerThreads, epoll ? "epoll" : "NIO");
             
-            grpcServer = serverBuilder.build();
-            grpcServer.start();
+            // One limiter for both listeners, so an agent cannot double its rate by using both
+            rateLimiter = SuperAIConfig.SECURITY_ENABLE_RATE_LIMITING.get() ? new RateLimitingInterceptor() : null;
+            
+            // Build server with all services
+            List<ServerServiceDefinition> services = createServices();
+            // Bound to the configured address only; the default keeps the API off the network
+            grpcServer = configure(NettyServerBuilder.forAddress(new InetSocketAddress(host, port))
+                    .channelType(epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class), services)
+                    .build()
+                    .start();
+            
+            if (!socketPath.isEmpty()) {
+                if (epoll) {
+                    startDomainSocket(Path.of(socketPath), services);
+                } else {
+                    LOGGER.warn("Not listening on domain socket {}: native transport not available", socketPath);
+                }
+            }
             
             isRunning = true;
             LOGGER.info("gRPC server started successfully on {}:{}", host, port);
@@ -91,12 +182,100 @@ public final class GrpcServerManager {
             // Add shutdown hook
             Runtime.getRuntime().addShutdownHook(new Thread(this::stop));
             
-        } catch (IOException e) {
+        } catch (IOException | RuntimeException e) {
             LOGGER.error("Failed to start gRPC server", e);
+            if (grpcServer != null) {
+                grpcServer.shutdownNow();
+                grpcServer = null;
+            }
+            deleteDomainSocket();
+            releaseThreads();
             throw new SuperAIExceptions.GrpcServiceException("Failed to start gRPC server", e);
         }
     }
     
+    /**
+     * Creates the services to expose. Called once per start so both
+     * listeners share the same instances. Server streams may send
+     * {@link SerializedMessage}s shared between subscribers.
+     *
+     * @return the services for this distribution
+     */
+    private static List<ServerServiceDefinition> createServices() {
+        List<BindableService> services = new ArrayList<>();
+        services.add(new AIAgentServiceImpl());
+        services.add(new ArenaServiceImpl());
+        if (FMLEnvironment.dist.isClient()) {
+            services.add(new EnvironmentServiceImpl());
+            services.add(new PlayerControlServiceImpl());
+            services.add(new InventoryServiceImpl());
+            services.add(new BehaviorServiceImpl());
+            services.add(new TaskServiceImpl());
+        }
+        return services.stream()
+                .map(service -> SerializedMessage.enable(service.bindService()))
+                .toList();
+    }
+    
+    /**
+     * Applies the settings shared by both listeners.
+     *
+     * @param builder the builder for one listener
+     * @param services the services to expose
+     * @return the builder
+     */
+    private NettyServerBuilder configure(NettyServerBuilder builder, List<ServerServiceDefinition> services) {
+        builder.bossEventLoopGroup(bossGroup)
+                .workerEventLoopGroup(workerGroup)
+                .maxInboundMessageSize(SuperAIConfig.SECURITY_MAX_REQUEST_SIZE_BYTES.get())
+                .permitKeepAliveWithoutCalls(true)
+                .permitKeepAliveTime(30, TimeUnit.SECONDS);
+        services.forEach(builder::addService);
+        
+        if (handlerExecutor == null) {
+            builder.directExecutor();
+        } else {
+            builder.executor(handlerExecutor);
+        }
+        
+        // The last interceptor added runs first, so the agent is known before its rate is checked
+        if (rateLimiter != null) {
+            builder.intercept(rateLimiter);
+        }
+        builder.intercept(new SessionAuthInterceptor());
+        return builder;
+    }
+    
+    /**
+     * Starts listening on a Unix domain socket.
+     *
+     * @param path the socket file
+     * @param services the services to expose
+     * @throws IOException if the socket cannot be bound
+     */
+    private void startDomainSocket(Path path, List<ServerServiceDefinition> services) throws IOException {
+        // A socket file left behind by a crash would make the bind fail
+        Files.deleteIfExists(path);
+        domainSocketServer = configure(NettyServerBuilder.forAddress(new DomainSocketAddress(path.toFile()))
+                .channelType(EpollServerDomainSocketChannel.class), services)
+                .build()
+                .start();
+        domainSocketPath = path;
+        
+        try {
+            // The socket bypasses the network, so only the user running the game may connect
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Failed to restrict access to domain socket {}", path, e);
+        }
+        LOGGER.info("gRPC server also listening on domain socket {}", path);
+    }
+    
+    private EventLoopGroup newEventLoopGroup(int threads, String name) {
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory(name, true);
+        return epoll ? new EpollEventLoopGroup(threads, threadFactory) : new NioEventLoopGroup(threads, threadFactory);
+    }
+    
     /**
      * Stops the gRPC server gracefully.
      */
@@ -109,24 +288,84 @@ public final class GrpcServerManager {
         isRunning = false;
         
         try {
-            if (grpcServer != null) {
-                grpcServer.shutdown();
-                if (!grpcServer.awaitTermination(5, TimeUnit.SECONDS)) {
-                    LOGGER.warn("gRPC server did not terminate gracefully, forcing shutdown");
-                    grpcServer.shutdownNow();
-                    if (!grpcServer.awaitTermination(5, TimeUnit.SECONDS)) {
-                        LOGGER.error("gRPC server did not terminate");
-                    }
-                }
+            // Stop accepting calls on both listeners before waiting for either
+            grpcServer.shutdown();
+            if (domainSocketServer != null) {
+                domainSocketServer.shutdown();
+            }
+            awaitTermination(grpcServer);
+            if (domainSocketServer != null) {
+                awaitTermination(domainSocketServer);
             }
             LOGGER.info("gRPC server stopped");
         } catch (InterruptedException e) {
             LOGGER.error("Interrupted while stopping gRPC server", e);
             Thread.currentThread().interrupt();
-            if (grpcServer != null) {
-                grpcServer.shutdownNow();
+            grpcServer.shutdownNow();
+            if (domainSocketServer != null) {
+                domainSocketServer.shutdownNow();
             }
+        } finally {
+            domainSocketServer = null;
+            deleteDomainSocket();
+            releaseThreads();
+        }
+    }
+    
+    private static void awaitTermination(Server server) throws InterruptedException {
+        if (!server.awaitTermination(5, TimeUnit.SECONDS)) {
+            LOGGER.warn("gRPC server did not terminate gracefully, forcing shutdown");
+            server.shutdownNow();
+            if (!server.awaitTermination(5, TimeUnit.SECONDS)) {
+                LOGGER.error("gRPC server did not terminate");
+            }
+        }
+    }
+    
+    private void deleteDomainSocket() {
+        if (domainSocketPath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(domainSocketPath);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete domain socket {}", domainSocketPath, e);
+        }
+        domainSocketPath = null;
+    }
+    
+    /**
+     * Shuts down the handler executor and event loops the server was built
+     * with; the server does not own them.
+     */
+    private void releaseThreads() {
+        if (handlerExecutor != null) {
+            handlerExecutor.shutdown();
+            handlerExecutor = null;
+        }
+        if (bossGroup != null) {
+            bossGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS);
+            bossGroup = null;
+        }
+        if (workerGroup != null) {
+            workerGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS);
+            workerGroup = null;
+        }
+    }
+    
+    /**
+     * Gets the executor statistics of the running server.
+     *
+     * @return the statistics, or null if the server is not running
+     */
+    @Nullable
+    public ExecutorStats getExecutorStats() {
+        if (!isRunning) {
+            return null;
         }
+        InstrumentedExecutor executor = handlerExecutor;
+        return new ExecutorStats(executorMode, epoll ? "epoll" : "nio", bossThreads, workerThreads,
+                executor == null ? null : executor.stats());
     }
     
     /**
@@ -0,0 +1,149 @@
+package com.supermc.ai.grpc;
+
+import com.mojang.logging.LogUtils;
+import org.slf4j.Logger;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor for gRPC call handlers that records how it is used.
+ *
+ * Wraps the executor chosen by {@link GrpcExecutorMode} and counts the
+ * tasks it runs, how many run at once, how long they waited to start and how
+ * long they ran, so the modes can be compared under the same load.
+ * {@link GrpcExecutorMode#DIRECT} has no executor: gRPC only skips its
+ * serializing hop when given its own direct executor, so it is not wrapped.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class InstrumentedExecutor implements Executor {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /**
+     * Executor statistics.
+     *
+     * @param mode the executor mode
+     * @param threads platform threads of a fixed pool, 0 for the other modes
+     * @param active tasks running now
+     * @param peakActive most tasks that ran at once
+     * @param queued tasks submitted but not started
+     * @param completed tasks finished since startup
+     * @param averageWaitNanos average time from submission to start
+     * @param averageRunNanos average time a task ran
+     */
+    public record Stats(GrpcExecutorMode mode, int threads, int active, int peakActive, long queued, long completed,
+                        double averageWaitNanos, double averageRunNanos) {
+    }
+
+    private final GrpcExecutorMode mode;
+    private final int threads;
+    private final ExecutorService service;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peakActive = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder runNanos = new LongAdder();
+
+    private InstrumentedExecutor(GrpcExecutorMode mode, int threads, ExecutorService service) {
+        this.mode = mode;
+        this.threads = threads;
+        this.service = service;
+    }
+
+    /**
+     * Creates the executor for a mode.
+     *
+     * @param mode the executor mode, not {@link GrpcExecutorMode#DIRECT}
+     * @param poolSize threads of a fixed pool
+     * @return the executor
+     */
+    public static InstrumentedExecutor create(GrpcExecutorMode mode, int poolSize) {
+        return switch (mode) {
+            case FIXED -> {
+                ExecutorService pool = Executors.newFixedThreadPool(poolSize, new HandlerThreadFactory());
+                yield new InstrumentedExecutor(mode, poolSize, pool);
+            }
+            case DIRECT -> throw new IllegalArgumentException("Direct execution has no executor");
+            case VIRTUAL -> {
+                ExecutorService pool = Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("SuperAI-gRPC-virtual-", 1).factory());
+                yield new InstrumentedExecutor(mode, 0, pool);
+            }
+            case DEFAULT -> {
+                ExecutorService pool = Executors.newCachedThreadPool(new HandlerThreadFactory());
+                yield new InstrumentedExecutor(mode, 0, pool);
+            }
+        };
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        long submittedNanos = System.nanoTime();
+        submitted.increment();
+        service.execute(() -> {
+            long start = System.nanoTime();
+            started.increment();
+            waitNanos.add(start - submittedNanos);
+            peakActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+                runNanos.add(System.nanoTime() - start);
+                completed.increment();
+            }
+        });
+    }
+
+    /**
+     * Gets the current statistics. May be called from any thread.
+     *
+     * @return the statistics
+     */
+    public Stats stats() {
+        long done = completed.sum();
+        long begun = started.sum();
+        return new Stats(mode, threads, active.get(), peakActive.get(), Math.max(0, submitted.sum() - begun), done,
+                begun == 0 ? 0 : (double) waitNanos.sum() / begun,
+                done == 0 ? 0 : (double) runNanos.sum() / done);
+    }
+
+    /**
+     * Stops the threads of the executor once the server has terminated.
+     */
+    public void shutdown() {
+        service.shutdown();
+        try {
+            if (!service.awaitTermination(5, TimeUnit.SECONDS)) {
+                LOGGER.warn("gRPC handler threads did not stop, interrupting them");
+                service.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            service.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class HandlerThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "SuperAI-gRPC-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((t, e) -> LOGGER.error("Uncaught exception in {}", t.getName(), e));
+            return thread;
+        }
+    }
+}
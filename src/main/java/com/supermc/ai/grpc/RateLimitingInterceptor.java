@@ -0,0 +1,190 @@
+package com.supermc.ai.grpc;
+
+import com.supermc.ai.config.SuperAIConfig;
+import com.supermc.ai.grpc.proto.AIAgentServiceGrpc;
+import com.supermc.ai.grpc.proto.ArenaServiceGrpc;
+import com.supermc.ai.grpc.proto.BehaviorServiceGrpc;
+import com.supermc.ai.grpc.proto.EnvironmentServiceGrpc;
+import com.supermc.ai.grpc.proto.InventoryServiceGrpc;
+import com.supermc.ai.grpc.proto.PlayerControlServiceGrpc;
+import com.supermc.ai.grpc.proto.TaskServiceGrpc;
+import com.supermc.ai.grpc.util.GrpcErrors;
+import com.mojang.logging.LogUtils;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.StatusRuntimeException;
+import org.slf4j.Logger;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the rate of calls per agent and per method.
+ *
+ * Each call costs a number of units by method: a scan, which holds the
+ * client thread for milliseconds, costs more than a heartbeat. Every agent
+ * may spend {@code security.rateLimitRequestsPerMinute} units a minute, and
+ * every method {@code security.rateLimitMethodRequestsPerMinute} units a
+ * minute over all agents, each with a burst of
+ * {@code security.rateLimitBurst} units. Calls over either limit are closed
+ * with RESOURCE_EXHAUSTED and a hint of when the call would be admitted.
+ *
+ * Agents are told apart by their session when the call carries a valid
+ * session token, and otherwise by their address. Keys carry their source,
+ * so a session ID can never share a bucket with a host. A header the
+ * client sets freely is not an identity: any caller could spread its calls
+ * over fresh buckets. The buckets use the generic cell rate algorithm: each
+ * is a single theoretical arrival time updated with compare-and-set, so
+ * admitting a call takes no lock.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class RateLimitingInterceptor implements ServerInterceptor {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** Idle agent buckets are dropped this often */
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /** Units charged per call by full method name; other methods cost 1 */
+    private static final Map<String, Integer> COSTS = Map.ofEntries(
+            cost(EnvironmentServiceGrpc.getScanEnvironmentMethod(), 20),
+            cost(EnvironmentServiceGrpc.getStreamEnvironmentUpdatesMethod(), 20),
+            cost(PlayerControlServiceGrpc.getSimulateMethod(), 10),
+            cost(PlayerControlServiceGrpc.getMoveToPositionMethod(), 5),
+            cost(PlayerControlServiceGrpc.getExecuteActionSequenceMethod(), 2),
+            cost(PlayerControlServiceGrpc.getOpenObservationChannelMethod(), 10),
+            cost(InventoryServiceGrpc.getCraftItemMethod(), 2),
+            cost(BehaviorServiceGrpc.getUploadBehaviorMethod(), 5),
+            cost(TaskServiceGrpc.getMineRegionMethod(), 10),
+            cost(TaskServiceGrpc.getPlaceStructureMethod(), 10),
+            cost(ArenaServiceGrpc.getCreateArenaMethod(), 50),
+            cost(ArenaServiceGrpc.getResetArenaMethod(), 20),
+            cost(AIAgentServiceGrpc.getRegisterAgentMethod(), 5));
+
+    private static final AtomicLong LIMITED = new AtomicLong();
+
+    private final long agentNanosPerUnit;
+    private final long methodNanosPerUnit;
+    private final int burst;
+    private final Map<String, AtomicLong> agentBuckets = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> methodBuckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong(System.nanoTime() + SWEEP_INTERVAL_NANOS);
+
+    /**
+     * Creates the interceptor with the configured limits.
+     */
+    public RateLimitingInterceptor() {
+        this.agentNanosPerUnit = TimeUnit.MINUTES.toNanos(1)
+                / SuperAIConfig.SECURITY_RATE_LIMIT_REQUESTS_PER_MINUTE.get();
+        this.methodNanosPerUnit = TimeUnit.MINUTES.toNanos(1)
+                / SuperAIConfig.SECURITY_RATE_LIMIT_METHOD_REQUESTS_PER_MINUTE.get();
+        this.burst = SuperAIConfig.SECURITY_RATE_LIMIT_BURST.get();
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String method = call.getMethodDescriptor().getFullMethodName();
+        int cost = COSTS.getOrDefault(method, 1);
+        long now = System.nanoTime();
+        sweep(now);
+
+        String agent = agentKey(call);
+        AtomicLong agentBucket = agentBuckets.computeIfAbsent(agent, key -> new AtomicLong(Long.MIN_VALUE));
+        long wait = acquire(agentBucket, now, cost * agentNanosPerUnit, Math.max(burst, cost) * agentNanosPerUnit);
+        if (wait > 0) {
+            return reject(call, "agent " + agent, wait);
+        }
+
+        AtomicLong methodBucket = methodBuckets.computeIfAbsent(method, key -> new AtomicLong(Long.MIN_VALUE));
+        wait = acquire(methodBucket, now, cost * methodNanosPerUnit, Math.max(burst, cost) * methodNanosPerUnit);
+        if (wait > 0) {
+            // The call is not made, so the agent keeps its units
+            agentBucket.addAndGet(-cost * agentNanosPerUnit);
+            return reject(call, "method " + call.getMethodDescriptor().getBareMethodName(), wait);
+        }
+        return next.startCall(call, headers);
+    }
+
+    /**
+     * Gets the number of calls rejected by all rate limiters since startup.
+     *
+     * @return the rate-limited call count
+     */
+    public static long limitedCalls() {
+        return LIMITED.get();
+    }
+
+    /**
+     * Takes units from a bucket.
+     *
+     * @param bucket the bucket's theoretical arrival time
+     * @param now the current time
+     * @param increment the units to take, as time
+     * @param tolerance the burst the bucket allows, as time
+     * @return 0 if the units were taken, otherwise nanoseconds until they could be
+     */
+    static long acquire(AtomicLong bucket, long now, long increment, long tolerance) {
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + increment;
+            long wait = next - tolerance - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private static <ReqT, RespT> ServerCall.Listener<ReqT> reject(ServerCall<ReqT, RespT> call, String limit,
+                                                                  long waitNanos) {
+        LIMITED.incrementAndGet();
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos + 999_999));
+        LOGGER.debug("Rate limited {} on {}", call.getMethodDescriptor().getFullMethodName(), limit);
+        StatusRuntimeException error = GrpcErrors.resourceExhausted(
+                "Rate limit exceeded for " + limit + ", retry in " + retryAfter + " ms", retryAfter);
+        call.close(error.getStatus(), error.getTrailers());
+        return new ServerCall.Listener<>() {
+        };
+    }
+
+    private static String agentKey(ServerCall<?, ?> call) {
+        AgentContext agent = AgentContext.current();
+        if (agent != null) {
+            return "session:" + agent.agentId();
+        }
+        SocketAddress address = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+        if (address instanceof InetSocketAddress inet) {
+            return "peer:" + inet.getHostString();
+        }
+        return "peer:" + address;
+    }
+
+    /**
+     * Drops the buckets of agents that have been idle long enough to be
+     * full again, so agents that come and go do not pile up.
+     */
+    private void sweep(long now) {
+        long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        agentBuckets.values().removeIf(bucket -> bucket.get() - now < 0);
+    }
+
+    private static Map.Entry<String, Integer> cost(MethodDescriptor<?, ?> method, int units) {
+        return Map.entry(method.getFullMethodName(), units);
+    }
+}
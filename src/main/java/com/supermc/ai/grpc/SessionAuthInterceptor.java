@@ -0,0 +1,87 @@
+package com.supermc.ai.grpc;
+
+import com.supermc.ai.config.SuperAIConfig;
+import com.supermc.ai.grpc.proto.AIAgentServiceGrpc;
+import com.supermc.ai.grpc.proto.ArenaServiceGrpc;
+import com.mojang.logging.LogUtils;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.slf4j.Logger;
+
+import java.util.Set;
+
+/**
+ * Identifies the agent making each call by its session token.
+ *
+ * The token is read from the {@code x-session-token} header and resolved
+ * once per call with a single lookup in the {@link AgentSessionRegistry}.
+ * The agent's {@link AgentContext} is attached to the gRPC context, where
+ * services and the interceptors that run after this one find it with
+ * {@link AgentContext#current()}.
+ *
+ * Calls with an unknown token are closed with UNAUTHENTICATED. Calls
+ * without a token are let through anonymously unless
+ * {@code agent.requireSessionToken} is set, except to the arena service:
+ * arenas spawn players and freeze the server tick, so they always need a
+ * session. Registering, heartbeats and unregistering carry their token in
+ * the request and are never refused here, nor is reading the server
+ * statistics.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SessionAuthInterceptor implements ServerInterceptor {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** Header carrying the session token returned by RegisterAgent */
+    public static final Metadata.Key<String> SESSION_TOKEN =
+            Metadata.Key.of("x-session-token", Metadata.ASCII_STRING_MARSHALLER);
+
+    /** Methods that may be called without a valid session token */
+    private static final Set<String> EXEMPT = Set.of(
+            AIAgentServiceGrpc.getRegisterAgentMethod().getFullMethodName(),
+            AIAgentServiceGrpc.getHeartbeatMethod().getFullMethodName(),
+            AIAgentServiceGrpc.getUnregisterAgentMethod().getFullMethodName(),
+            AIAgentServiceGrpc.getGetServerStatsMethod().getFullMethodName());
+
+    private final AgentSessionRegistry registry = AgentSessionRegistry.getInstance();
+    private final boolean required;
+
+    /**
+     * Creates the interceptor with the configured policy.
+     */
+    public SessionAuthInterceptor() {
+        this.required = SuperAIConfig.AGENT_REQUIRE_SESSION_TOKEN.get();
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String token = headers.get(SESSION_TOKEN);
+        boolean present = token != null && !token.isEmpty();
+        AgentSession session = present ? registry.resolve(token) : null;
+        if (session != null) {
+            Context context = Context.current().withValue(AgentContext.KEY, session.getContext());
+            return Contexts.interceptCall(context, call, headers, next);
+        }
+
+        MethodDescriptor<ReqT, RespT> method = call.getMethodDescriptor();
+        // Arenas spawn players and freeze the server tick, so they are never anonymous
+        boolean needsSession = required || ArenaServiceGrpc.SERVICE_NAME.equals(method.getServiceName());
+        if (EXEMPT.contains(method.getFullMethodName()) || (!present && !needsSession)) {
+            return next.startCall(call, headers);
+        }
+        String description = present ? "Invalid or expired session token" : "Session token required";
+        LOGGER.debug("{} for {}", description, method.getFullMethodName());
+        call.close(Status.UNAUTHENTICATED.withDescription(description), new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+}
@@ -2,23 +2,33 @@ package com.supermc.ai.grpc.service;
 
 import com.google.protobuf.Empty;
 import com.google.protobuf.Timestamp;
+import com.supermc.ai.common.MainThreadQueue;
 import com.supermc.ai.common.SuperAIConstants;
 import com.supermc.ai.common.SuperAIExceptions;
 import com.supermc.ai.config.SuperAIConfig;
+import com.supermc.ai.grpc.AgentContext;
+import com.supermc.ai.grpc.AgentSession;
+import com.supermc.ai.grpc.AgentSessionRegistry;
+import com.supermc.ai.grpc.GrpcServerManager;
+import com.supermc.ai.grpc.InstrumentedExecutor;
+import com.supermc.ai.grpc.RateLimitingInterceptor;
 import com.supermc.ai.grpc.proto.*;
+import com.supermc.ai.grpc.util.AdmissionController;
+import com.supermc.ai.grpc.util.FlowControlledStream;
 import com.mojang.logging.LogUtils;
 import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 
 import java.time.Instant;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Locale;
 
 /**
  * Implementation of the AI Agent Service gRPC interface.
  *
- * Manages AI agent registration, heartbeat, and session management.
+ * Manages AI agent registration, heartbeat, and session management. Sessions
+ * live in the {@link AgentSessionRegistry}, where the session interceptor
+ * resolves the tokens of calls to the other services.
  *
  * @author SuperAI Team
  * @version 1.0.0
@@ -28,8 +38,7 @@ public class AIAgentServiceImpl extends AIAgentServiceGrpc.AIAgentServiceImplBas
     private static final Logger LOGGER = LogUtils.getLogger();
     
     // Agent registry
-    private final Map<String, AgentSession> activeAgents = new ConcurrentHashMap<>();
-    private final Map<String, String> sessionTokens = new ConcurrentHashMap<>(); // token -> agentId
+    private final AgentSessionRegistry sessions = AgentSessionRegistry.getInstance();
     
     @Override
     public void registerAgent(RegisterAgentRequest request,
@@ -44,7 +53,7 @@ public class AIAgentServiceImpl extends AIAgentServiceGrpc.AIAgentServiceImplBas
         try {
             // Check max agents limit
             int maxAgents = SuperAIConfig.AGENT_MAX_ACTIVE_AGENTS.get();
-            if (activeAgents.size() >= maxAgents) {
+            if (sessions.size() >= maxAgents) {
                 responseObserver.onError(Status.RESOURCE_EXHAUSTED
                         .withDescription("Maximum number of active agents reached: " + maxAgents)
                         .asRuntimeException());
@@ -53,7 +62,7 @@ public class AIAgentServiceImpl extends AIAgentServiceGrpc.AIAgentServiceImplBas
             
             // Check if agent already registered
             String agentId = request.getAgentId();
-            if (activeAgents.containsKey(agentId)) {
+            if (sessions.contains(agentId)) {
                 responseObserver.onError(Status.ALREADY_EXISTS
                         .withDescription("Agent already registered: " + agentId)
                         .asRuntimeException());
@@ -73,13 +82,12 @@ public class AIAgentServiceImpl extends AIAgentServiceGrpc.AIAgentServiceImplBas
             }
             
             // Generate session token
-            String sessionToken = generateSessionToken();
+            String sessionToken = sessions.generateToken();
             
             // Create agent session
             AgentSession session = new AgentSession(
-                    agentId,
-                    request.getAgentName(),
-                    request.getAgentType(),
+                    new AgentContext(agentId, request.getAgentName(), request.getAgentType()),
+                    sessionToken,
                     request.getDescription(),
                     request.getCapabilitiesMap(),
                     request.getHeartbeatIntervalMs() > 0 ? request.getHeartbeatIntervalMs() :
@@ -87,8 +95,12 @@ public class AIAgentServiceImpl extends AIAgentServiceGrpc.AIAgentServiceImplBas
                     Instant.now()
             );
             
-            activeAgents.put(agentId, session);
-            sessionTokens.put(sessionToken, agentId);
+            if (!sessions.register(session)) {
+                responseObserver.onError(Status.ALREADY_EXISTS
+                        .withDescription("Agent already registered: " + agentId)
+                        .asRuntimeException());
+                return;
+            }
             
             LOGGER.info("Agent registered: {} ({})", agentId, request.getAgentName());
             
@@ -127,7 +139,7 @@ public class AIAgentServiceImpl extends AIAgentServiceGrpc.AIAgentServiceImplBas
             String sessionToken = request.getSessionToken();
             
             // Validate session token
-            if (!validateSession(agentId, sessionToken)) {
+            if (sessions.validate(agentId, sessionToken) == null) {
                 responseObserver.onError(Status.UNAUTHENTICATED
                         .withDescription("Invalid session token")
                         .asRuntimeException());
@@ -135,8 +147,7 @@ public class AIAgentServiceImpl extends AIAgentServiceGrpc.AIAgentServiceImplBas
             }
             
             // Remove agent
-            activeAgents.remove(agentId);
-            sessionTokens.remove(sessionToken);
+            sessions.unregister(agentId);
             
             LOGGER.info("Agent unregistered: {}", agentId);
             
@@ -164,10 +175,10 @@ public class AIAgentServiceImpl extends AIAgentServiceGrpc.AIAgentServiceImplBas
                     .setSuccess(true);
             
             // Clean up expired sessions
-            cleanupExpiredSessions();
+            sessions.cleanupExpiredSessions();
             
             // Build agent info list
-            for (AgentSession session : activeAgents.values()) {
+            for (AgentSession session : sessions.sessions()) {
                 AgentInfo agentInfo = AgentInfo.newBuilder()
                         .setAgentId(session.getAgentId())
                         .setAgentName(session.getAgentName())
@@ -179,7 +190,7 @@ public class AIAgentServiceImpl extends AIAgentServiceGrpc.AIAgentServiceImplBas
                         .setLastHeartbeat(Timestamp.newBuilder()
                                 .setSeconds(session.getLastHeartbeat().getEpochSecond())
                                 .setNanos(session.getLastHeartbeat().getNano()))
-                        .setIsActive(isSessionActive(session))
+                        .setIsActive(sessions.isActive(session))
                         .putAllCapabilities(session.getCapabilities())
                         .build();
                 
@@ -213,7 +224,8 @@ public class AIAgentServiceImpl extends AIAgentServiceGrpc.AIAgentServiceImplBas
             String sessionToken = request.getSessionToken();
             
             // Validate session
-            if (!validateSession(agentId, sessionToken)) {
+            AgentSession session = sessions.validate(agentId, sessionToken);
+            if (session == null) {
                 responseObserver.onError(Status.UNAUTHENTICATED
                         .withDescription("Invalid session token")
                         .asRuntimeException());
@@ -221,10 +233,7 @@ public class AIAgentServiceImpl extends AIAgentServiceGrpc.AIAgentServiceImplBas
             }
             
             // Update heartbeat
-            AgentSession session = activeAgents.get(agentId);
-            if (session != null) {
-                session.updateHeartbeat();
-            }
+            session.updateHeartbeat();
             
             HeartbeatResponse response = HeartbeatResponse.newBuilder()
                     .setSuccess(true)
@@ -245,131 +254,75 @@ public class AIAgentServiceImpl extends AIAgentServiceGrpc.AIAgentServiceImplBas
         }
     }
     
-    /**
-     * Validates a session token for an agent.
-     *
-     * @param agentId the agent ID
-     * @param sessionToken the session token
-     * @return true if session is valid
-     */
-    private boolean validateSession(String agentId, String sessionToken) {
-        String registeredAgentId = sessionTokens.get(sessionToken);
-        return agentId.equals(registeredAgentId) && activeAgents.containsKey(agentId);
-    }
-    
-    /**
-     * Generates a random session token.
-     *
-     * @return session token string
-     */
-    private String generateSessionToken() {
-        Random random = new Random();
-        StringBuilder token = new StringBuilder();
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-        for (int i = 0; i < SuperAIConstants.SESSION_TOKEN_LENGTH; i++) {
-            token.append(chars.charAt(random.nextInt(chars.length())));
+    @Override
+    public void getServerStats(Empty request, StreamObserver<ServerStatsResponse> responseObserver) {
+        // Statistics are published by the draining threads; reading them needs no main-thread hop
+        Instant now = Instant.now();
+        ServerStatsResponse.Builder response = ServerStatsResponse.newBuilder()
+                .addQueues(toQueueStats(MainThreadQueue.CLIENT.stats()))
+                .addQueues(toQueueStats(MainThreadQueue.SERVER.stats()))
+                .setRejectedCalls(AdmissionController.getInstance().rejectedCalls())
+                .setDegradedScans(AdmissionController.getInstance().degradedScans())
+                .setStreamMessagesDropped(FlowControlledStream.droppedMessages())
+                .setStreamsOverflowed(FlowControlledStream.overflowedStreams())
+                .setRateLimitedCalls(RateLimitingInterceptor.limitedCalls())
+                .setServerTime(Timestamp.newBuilder()
+                        .setSeconds(now.getEpochSecond())
+                        .setNanos(now.getNano()));
+        GrpcServerManager.ExecutorStats executor = GrpcServerManager.getInstance().getExecutorStats();
+        if (executor != null) {
+            response.setExecutor(toExecutorStats(executor));
         }
-        return token.toString();
+        
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
     }
     
     /**
-     * Checks if a session is still active.
+     * Converts main-thread queue statistics to their protobuf message.
      *
-     * @param session the agent session
-     * @return true if session is active
+     * @param stats the queue statistics
+     * @return the MainThreadQueueStats protobuf message
      */
-    private boolean isSessionActive(AgentSession session) {
-        long timeoutMs = SuperAIConfig.AGENT_HEARTBEAT_TIMEOUT_MS.get();
-        long timeSinceHeartbeat = Instant.now().toEpochMilli() - session.getLastHeartbeat().toEpochMilli();
-        return timeSinceHeartbeat < timeoutMs;
+    private static MainThreadQueueStats toQueueStats(MainThreadQueue.Stats stats) {
+        MainThreadQueueStats.Builder builder = MainThreadQueueStats.newBuilder();
+        stats.depthByPriority().forEach((priority, depth) ->
+                builder.putDepthByPriority(priority.name().toLowerCase(Locale.ROOT), depth));
+        return builder
+                .setName(stats.name())
+                .setDepth(stats.depth())
+                .setExecutedTasks(stats.executed())
+                .setDroppedTasks(stats.dropped())
+                .setAverageWaitMs(stats.averageWaitNanos() / 1_000_000.0)
+                .setMaxWaitMs(stats.maxWaitNanos() / 1_000_000.0)
+                .setLastDrained(stats.lastDrained())
+                .setLastDrainMs(stats.lastDrainNanos() / 1_000_000.0)
+                .setAverageTickMs(stats.averageTickNanos() / 1_000_000.0)
+                .build();
     }
     
     /**
-     * Cleans up expired agent sessions.
-     */
-    private void cleanupExpiredSessions() {
-        long timeoutMs = SuperAIConfig.AGENT_HEARTBEAT_TIMEOUT_MS.get();
-        long sessionTimeoutMs = SuperAIConfig.AGENT_SESSION_TIMEOUT_MINUTES.get() * 60L * 1000L;
-        Instant now = Instant.now();
-        
-        List<String> toRemove = new ArrayList<>();
-        for (Map.Entry<String, AgentSession> entry : activeAgents.entrySet()) {
-            AgentSession session = entry.getValue();
-            long timeSinceHeartbeat = now.toEpochMilli() - session.getLastHeartbeat().toEpochMilli();
-            long timeSinceRegistration = now.toEpochMilli() - session.getRegisteredAt().toEpochMilli();
-            
-            if (timeSinceHeartbeat > timeoutMs || timeSinceRegistration > sessionTimeoutMs) {
-                toRemove.add(entry.getKey());
-            }
-        }
-        
-        for (String agentId : toRemove) {
-            activeAgents.remove(agentId);
-            sessionTokens.values().removeIf(token -> sessionTokens.get(token).equals(agentId));
-            LOGGER.info("Removed expired agent session: {}", agentId);
-        }
-    }
-    
-    /**
-     * Represents an active AI agent session.
+     * Converts gRPC executor statistics to their protobuf message.
+     *
+     * @param stats the executor statistics
+     * @return the GrpcExecutorStats protobuf message
      */
-    private static class AgentSession {
-        private final String agentId;
-        private final String agentName;
-        private final String agentType;
-        private final String description;
-        private final Map<String, String> capabilities;
-        private final int heartbeatIntervalMs;
-        private final Instant registeredAt;
-        private Instant lastHeartbeat;
-        
-        public AgentSession(String agentId, String agentName, String agentType, String description,
-                          Map<String, String> capabilities, int heartbeatIntervalMs, Instant registeredAt) {
-            this.agentId = agentId;
-            this.agentName = agentName;
-            this.agentType = agentType;
-            this.description = description;
-            this.capabilities = new HashMap<>(capabilities);
-            this.heartbeatIntervalMs = heartbeatIntervalMs;
-            this.registeredAt = registeredAt;
-            this.lastHeartbeat = registeredAt;
-        }
-        
-        public String getAgentId() {
-            return agentId;
-        }
-        
-        public String getAgentName() {
-            return agentName;
-        }
-        
-        public String getAgentType() {
-            return agentType;
-        }
-        
-        public String getDescription() {
-            return description;
-        }
-        
-        public Map<String, String> getCapabilities() {
-            return capabilities;
-        }
-        
-        public int getHeartbeatIntervalMs() {
-            return heartbeatIntervalMs;
-        }
-        
-        public Instant getRegisteredAt() {
-            return registeredAt;
-        }
-        
-        public Instant getLastHeartbeat() {
-            return lastHeartbeat;
-        }
-        
-        public void updateHeartbeat() {
-            this.lastHeartbeat = Instant.now();
+    private static GrpcExecutorStats toExecutorStats(GrpcServerManager.ExecutorStats stats) {
+        GrpcExecutorStats.Builder builder = GrpcExecutorStats.newBuilder()
+                .setMode(stats.mode().name())
+                .setTransport(stats.transport())
+                .setBossThreads(stats.bossThreads())
+                .setWorkerThreads(stats.workerThreads());
+        InstrumentedExecutor.Stats handlers = stats.handlers();
+        if (handlers != null) {
+            builder.setThreads(handlers.threads())
+                    .setActiveTasks(handlers.active())
+                    .setPeakActiveTasks(handlers.peakActive())
+                    .setQueuedTasks(handlers.queued())
+                    .setCompletedTasks(handlers.completed())
+                    .setAverageWaitMs(handlers.averageWaitNanos() / 1_000_000.0)
+                    .setAverageRunMs(handlers.averageRunNanos() / 1_000_000.0);
         }
+        return builder.build();
     }
 }
-
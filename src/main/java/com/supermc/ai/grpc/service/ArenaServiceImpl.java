@@ -0,0 +1,266 @@
+package com.supermc.ai.grpc.service;
+
+import com.supermc.ai.arena.ArenaManager;
+import com.supermc.ai.arena.TrainingArena;
+import com.supermc.ai.common.MainThreadQueue;
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.SuperAIExceptions;
+import com.supermc.ai.common.TaskPriority;
+import com.supermc.ai.config.SuperAIConfig;
+import com.supermc.ai.grpc.proto.*;
+import com.supermc.ai.grpc.util.AdmissionController;
+import com.supermc.ai.grpc.util.ProtoConverter;
+import com.mojang.logging.LogUtils;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Vec3i;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.server.ServerLifecycleHooks;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of the Arena Service gRPC interface.
+ *
+ * Exposes isolated training arenas as a vectorized environment: every
+ * {@code StepBatch} advances all arenas together and returns their
+ * observations in a single message.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ArenaServiceImpl extends ArenaServiceGrpc.ArenaServiceImplBase {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    @Override
+    public void createArena(CreateArenaRequest request,
+                            StreamObserver<CreateArenaResponse> responseObserver) {
+        if (request == null || !request.hasTemplate() || !request.getTemplate().hasOrigin()
+                || !request.getTemplate().hasSize()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Invalid request: template origin and size are required")
+                    .asRuntimeException());
+            return;
+        }
+
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            responseObserver.onError(Status.UNAVAILABLE
+                    .withDescription("Server not running")
+                    .asRuntimeException());
+            return;
+        }
+
+        ArenaTemplateSpec template = request.getTemplate();
+        BlockPos origin = ProtoConverter.toBlockPos(template.getOrigin());
+        BlockPos sizePos = ProtoConverter.toBlockPos(template.getSize());
+        Vec3i size = new Vec3i(sizePos.getX(), sizePos.getY(), sizePos.getZ());
+        Vec3 spawnOffset = template.hasSpawnOffset() ? ProtoConverter.toVec3(template.getSpawnOffset())
+                : new Vec3(size.getX() / 2.0, 1.0, size.getZ() / 2.0);
+        int count = request.getCount() > 0 ? request.getCount() : 1;
+        int ticksPerStep = request.getTicksPerStep() > 0 ? request.getTicksPerStep()
+                : SuperAIConfig.ARENA_TICKS_PER_STEP_DEFAULT.get();
+
+        StatusRuntimeException rejection = AdmissionController.getInstance()
+                .admit(MainThreadQueue.SERVER, TaskPriority.ADMIN);
+        if (rejection != null) {
+            responseObserver.onError(rejection);
+            return;
+        }
+
+        MainThreadQueue.SERVER.execute(TaskPriority.ADMIN, () -> {
+            try {
+                List<TrainingArena> arenas = ArenaManager.getInstance().createArenas(server,
+                        template.getDimension(), origin, size, spawnOffset, count, ticksPerStep,
+                        request.getLockstep());
+
+                CreateArenaResponse response = CreateArenaResponse.newBuilder()
+                        .setSuccess(true)
+                        .addAllObservations(toObservations(arenas))
+                        .build();
+
+                responseObserver.onNext(response);
+                responseObserver.onCompleted();
+
+            } catch (SuperAIExceptions.ArenaException e) {
+                responseObserver.onError(toStatus(e).asRuntimeException());
+            } catch (Exception e) {
+                LOGGER.error("Error creating arenas", e);
+                responseObserver.onError(Status.INTERNAL
+                        .withDescription("Failed to create arenas: " + e.getMessage())
+                        .withCause(e)
+                        .asRuntimeException());
+            }
+        });
+    }
+
+    @Override
+    public void resetArena(ResetArenaRequest request,
+                           StreamObserver<ResetArenaResponse> responseObserver) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            responseObserver.onError(Status.UNAVAILABLE
+                    .withDescription("Server not running")
+                    .asRuntimeException());
+            return;
+        }
+
+        StatusRuntimeException rejection = AdmissionController.getInstance()
+                .admit(MainThreadQueue.SERVER, TaskPriority.ADMIN);
+        if (rejection != null) {
+            responseObserver.onError(rejection);
+            return;
+        }
+
+        MainThreadQueue.SERVER.execute(TaskPriority.ADMIN, () -> {
+            try {
+                List<TrainingArena> arenas = ArenaManager.getInstance().resetArenas(request.getArenaIdsList());
+
+                ResetArenaResponse response = ResetArenaResponse.newBuilder()
+                        .setSuccess(true)
+                        .addAllObservations(toObservations(arenas))
+                        .build();
+
+                responseObserver.onNext(response);
+                responseObserver.onCompleted();
+
+            } catch (SuperAIExceptions.ArenaException e) {
+                responseObserver.onError(toStatus(e).asRuntimeException());
+            } catch (Exception e) {
+                LOGGER.error("Error resetting arenas", e);
+                responseObserver.onError(Status.INTERNAL
+                        .withDescription("Failed to reset arenas: " + e.getMessage())
+                        .withCause(e)
+                        .asRuntimeException());
+            }
+        });
+    }
+
+    @Override
+    public void destroyArena(DestroyArenaRequest request,
+                             StreamObserver<DestroyArenaResponse> responseObserver) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            responseObserver.onError(Status.UNAVAILABLE
+                    .withDescription("Server not running")
+                    .asRuntimeException());
+            return;
+        }
+
+        StatusRuntimeException rejection = AdmissionController.getInstance()
+                .admit(MainThreadQueue.SERVER, TaskPriority.ADMIN);
+        if (rejection != null) {
+            responseObserver.onError(rejection);
+            return;
+        }
+
+        MainThreadQueue.SERVER.execute(TaskPriority.ADMIN, () -> {
+            try {
+                ArenaManager.getInstance().destroyArenas(request.getArenaIdsList());
+
+                responseObserver.onNext(DestroyArenaResponse.newBuilder().setSuccess(true).build());
+                responseObserver.onCompleted();
+
+            } catch (SuperAIExceptions.ArenaException e) {
+                responseObserver.onError(toStatus(e).asRuntimeException());
+            } catch (Exception e) {
+                LOGGER.error("Error destroying arenas", e);
+                responseObserver.onError(Status.INTERNAL
+                        .withDescription("Failed to destroy arenas: " + e.getMessage())
+                        .withCause(e)
+                        .asRuntimeException());
+            }
+        });
+    }
+
+    @Override
+    public void stepBatch(StepBatchRequest request,
+                          StreamObserver<StepBatchResponse> responseObserver) {
+        if (request == null || request.getTicks() < 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Invalid request: ticks must not be negative")
+                    .asRuntimeException());
+            return;
+        }
+
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            responseObserver.onError(Status.UNAVAILABLE
+                    .withDescription("Server not running")
+                    .asRuntimeException());
+            return;
+        }
+
+        List<ArenaManager.StepInput> inputs = new ArrayList<>(request.getActionsCount());
+        for (ArenaAction action : request.getActionsList()) {
+            inputs.add(new ArenaManager.StepInput(action.getArenaId(), action.getActionsList(),
+                    action.getParametersMap()));
+        }
+
+        MainThreadQueue.SERVER.execute(TaskPriority.CONTROL, () -> {
+            try {
+                ArenaManager.getInstance().enqueueStep(inputs, request.getTicks(), arenas -> {
+                    StepBatchResponse response = StepBatchResponse.newBuilder()
+                            .setSuccess(true)
+                            .addAllObservations(toObservations(arenas))
+                            .setServerTick(server.getTickCount())
+                            .build();
+
+                    responseObserver.onNext(response);
+                    responseObserver.onCompleted();
+                }, error -> responseObserver.onError(toStatus(error).asRuntimeException()));
+
+            } catch (SuperAIExceptions.ArenaException e) {
+                responseObserver.onError(toStatus(e).asRuntimeException());
+            } catch (Exception e) {
+                LOGGER.error("Error stepping arenas", e);
+                responseObserver.onError(Status.INTERNAL
+                        .withDescription("Failed to step arenas: " + e.getMessage())
+                        .withCause(e)
+                        .asRuntimeException());
+            }
+        });
+    }
+
+    /**
+     * Builds observations for the given arenas. Must be called on the server thread.
+     *
+     * @param arenas the arenas to observe
+     * @return one observation per arena
+     */
+    private List<ArenaObservation> toObservations(List<TrainingArena> arenas) {
+        List<ArenaObservation> observations = new ArrayList<>(arenas.size());
+        for (TrainingArena arena : arenas) {
+            observations.add(ArenaObservation.newBuilder()
+                    .setArenaId(arena.getId())
+                    .setStep(arena.getStep())
+                    .setState(ProtoConverter.toPlayerState(arena.getAgent()))
+                    .setLocalPosition(ProtoConverter.toPosition(arena.getLocalPosition()))
+                    .build());
+        }
+        return observations;
+    }
+
+    /**
+     * Maps an arena exception to a gRPC status.
+     *
+     * @param e the arena exception
+     * @return the matching status
+     */
+    private Status toStatus(SuperAIExceptions.ArenaException e) {
+        Status status = switch (e.getErrorCode()) {
+            case SuperAIConstants.ERROR_INVALID_PARAMETER -> Status.INVALID_ARGUMENT;
+            case SuperAIConstants.ERROR_RESOURCE_NOT_FOUND -> Status.NOT_FOUND;
+            case SuperAIConstants.ERROR_OPERATION_NOT_ALLOWED -> Status.RESOURCE_EXHAUSTED;
+            case SuperAIConstants.ERROR_OPERATION_ABORTED -> Status.ABORTED;
+            default -> Status.INTERNAL;
+        };
+        return status.withDescription(e.getMessage());
+    }
+}
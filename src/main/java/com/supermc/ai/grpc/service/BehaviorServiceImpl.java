@@ -0,0 +1,171 @@
+package com.supermc.ai.grpc.service;
+
+import com.supermc.ai.common.MainThreadQueue;
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.SuperAIExceptions;
+import com.supermc.ai.common.TaskPriority;
+import com.supermc.ai.grpc.proto.*;
+import com.supermc.ai.grpc.util.FlowControlledStream;
+import com.supermc.ai.grpc.util.OverflowPolicy;
+import com.supermc.ai.player.behavior.BehaviorManager;
+import com.supermc.ai.player.behavior.CompiledBehavior;
+import com.supermc.ai.player.behavior.TriggerManager;
+import com.mojang.logging.LogUtils;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.player.LocalPlayer;
+import org.slf4j.Logger;
+
+/**
+ * Implementation of the Behavior Service gRPC interface.
+ *
+ * Lets AI agents move tight reactive control loops into the client: programs
+ * are compiled on upload and then stepped every tick by the
+ * {@link BehaviorManager}, and waits and triggers are evaluated every tick by
+ * the {@link TriggerManager} instead of being polled for.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BehaviorServiceImpl extends BehaviorServiceGrpc.BehaviorServiceImplBase {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    @Override
+    public void uploadBehavior(UploadBehaviorRequest request,
+                               StreamObserver<UploadBehaviorResponse> responseObserver) {
+        if (request == null || !request.hasProgram()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Invalid request: program is required")
+                    .asRuntimeException());
+            return;
+        }
+
+        // Compile on the gRPC thread so invalid programs never reach the client thread
+        CompiledBehavior program;
+        try {
+            program = CompiledBehavior.compile(request.getProgram());
+        } catch (SuperAIExceptions.BehaviorException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+
+        MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL, () -> {
+            try {
+                LocalPlayer player = Minecraft.getInstance().player;
+                if (player == null) {
+                    responseObserver.onError(Status.UNAVAILABLE
+                            .withDescription("Player not available")
+                            .asRuntimeException());
+                    return;
+                }
+
+                String id = BehaviorManager.getInstance().start(program, player);
+                LOGGER.info("Started behavior {}", id);
+
+                responseObserver.onNext(UploadBehaviorResponse.newBuilder()
+                        .setSuccess(true)
+                        .setBehaviorId(id)
+                        .build());
+                responseObserver.onCompleted();
+
+            } catch (SuperAIExceptions.BehaviorException e) {
+                responseObserver.onError(toStatus(e).asRuntimeException());
+            } catch (Exception e) {
+                LOGGER.error("Error starting behavior", e);
+                responseObserver.onError(Status.INTERNAL
+                        .withDescription("Failed to start behavior: " + e.getMessage())
+                        .withCause(e)
+                        .asRuntimeException());
+            }
+        });
+    }
+
+    @Override
+    public void stopBehavior(StopBehaviorRequest request, StreamObserver<StopBehaviorResponse> responseObserver) {
+        if (request == null || request.getBehaviorId().isEmpty()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Invalid request: behavior_id is required")
+                    .asRuntimeException());
+            return;
+        }
+
+        MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL, () -> {
+            LocalPlayer player = Minecraft.getInstance().player;
+            if (player == null) {
+                responseObserver.onError(Status.UNAVAILABLE
+                        .withDescription("Player not available")
+                        .asRuntimeException());
+                return;
+            }
+
+            if (!BehaviorManager.getInstance().stop(request.getBehaviorId(), player)) {
+                responseObserver.onError(Status.NOT_FOUND
+                        .withDescription("Behavior not running: " + request.getBehaviorId())
+                        .asRuntimeException());
+                return;
+            }
+            responseObserver.onNext(StopBehaviorResponse.newBuilder().setSuccess(true).build());
+            responseObserver.onCompleted();
+        });
+    }
+
+    @Override
+    public void streamBehaviorEvents(BehaviorEventStreamRequest request,
+                                     StreamObserver<BehaviorEvent> responseObserver) {
+        BehaviorManager.getInstance().subscribe(FlowControlledStream.of(responseObserver, OverflowPolicy.CANCEL),
+                request.getBehaviorId());
+    }
+
+    @Override
+    public void waitFor(WaitForRequest request, StreamObserver<WaitForResponse> responseObserver) {
+        if (request == null || !request.hasCondition() || request.getTimeoutTicks() < 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Invalid request: condition is required and timeout_ticks must not be negative")
+                    .asRuntimeException());
+            return;
+        }
+
+        // Answered from the client tick on which the condition holds
+        try {
+            TriggerManager.getInstance().waitFor(request.getCondition(), request.getTimeoutTicks(),
+                    (ServerCallStreamObserver<WaitForResponse>) responseObserver);
+        } catch (SuperAIExceptions.BehaviorException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void subscribeTriggers(TriggerSubscriptionRequest request, StreamObserver<TriggerEvent> responseObserver) {
+        if (request == null || request.getTriggersCount() == 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Invalid request: at least one trigger is required")
+                    .asRuntimeException());
+            return;
+        }
+
+        try {
+            TriggerManager.getInstance().subscribe(request.getTriggersList(),
+                    FlowControlledStream.of(responseObserver, OverflowPolicy.CANCEL));
+        } catch (SuperAIExceptions.BehaviorException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    /**
+     * Maps a behavior exception to a gRPC status.
+     *
+     * @param e the behavior exception
+     * @return the matching status
+     */
+    private Status toStatus(SuperAIExceptions.BehaviorException e) {
+        Status status = switch (e.getErrorCode()) {
+            case SuperAIConstants.ERROR_INVALID_PARAMETER -> Status.INVALID_ARGUMENT;
+            case SuperAIConstants.ERROR_OPERATION_NOT_ALLOWED -> Status.RESOURCE_EXHAUSTED;
+            default -> Status.INTERNAL;
+        };
+        return status.withDescription(e.getMessage());
+    }
+}
@@ -2,21 +2,34 @@ package com.supermc.ai.grpc.service;
 
 import com.google.protobuf.Empty;
 import com.google.protobuf.Timestamp;
+import com.supermc.ai.common.MainThreadJob;
+import com.supermc.ai.common.MainThreadQueue;
 import com.supermc.ai.common.SuperAIConstants;
 import com.supermc.ai.common.SuperAIExceptions;
+import com.supermc.ai.common.TaskPriority;
 import com.supermc.ai.config.SuperAIConfig;
 import com.supermc.ai.grpc.proto.*;
+import com.supermc.ai.grpc.util.AdmissionController;
+import com.supermc.ai.grpc.util.FlowControlledStream;
+import com.supermc.ai.grpc.util.OverflowPolicy;
 import com.supermc.ai.grpc.util.ProtoConverter;
+import com.supermc.ai.grpc.util.StreamScheduler;
 import com.mojang.logging.LogUtils;
+import io.grpc.Context;
 import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
 import org.slf4j.Logger;
 
+import javax.annotation.Nullable;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,6 +46,8 @@ import java.util.List;
 public class EnvironmentServiceImpl extends EnvironmentServiceGrpc.EnvironmentServiceImplBase {
     private static final Logger LOGGER = LogUtils.getLogger();
     
+    private final StreamScheduler.Source<EnvironmentUpdateRequest, EnvironmentScan> updateSource = this::buildUpdate;
+    
     @Override
     public void scanEnvironment(EnvironmentScanRequest request,
                                 StreamObserver<EnvironmentScanResponse> responseObserver) {
@@ -54,85 +69,22 @@ public class EnvironmentServiceImpl extends EnvironmentServiceGrpc.EnvironmentSe
             return;
         }
         
-        // Dispatch to main thread for Minecraft operations
-        Minecraft.getInstance().execute(() -> {
-            try {
-                Level level = Minecraft.getInstance().level;
-                if (level == null) {
-                    responseObserver.onError(Status.UNAVAILABLE
-                            .withDescription("World not loaded")
-                            .asRuntimeException());
-                    return;
-                }
-                
-                BlockPos center = ProtoConverter.toBlockPos(request.getCenter());
-                boolean includeAir = request.getIncludeAirBlocks();
-                boolean includeEntities = request.getIncludeEntities();
-                int maxBlocks = request.getMaxBlocks() > 0 ? request.getMaxBlocks() : SuperAIConfig.SCAN_MAX_BLOCKS.get();
-                int maxEntities = request.getMaxEntities() > 0 ? request.getMaxEntities() : SuperAIConfig.SCAN_MAX_ENTITIES.get();
-                
-                // Scan blocks
-                List<BlockInfo> blocks = new ArrayList<>();
-                int blocksScanned = 0;
-                
-                for (int x = -radius; x <= radius && blocksScanned < maxBlocks; x++) {
-                    for (int y = -radius; y <= radius && blocksScanned < maxBlocks; y++) {
-                        for (int z = -radius; z <= radius && blocksScanned < maxBlocks; z++) {
-                            BlockPos pos = center.offset(x, y, z);
-                            BlockState blockState = level.getBlockState(pos);
-                            
-                            if (includeAir || !blockState.isAir()) {
-                                blocks.add(ProtoConverter.toBlockInfo(blockState, pos));
-                                blocksScanned++;
-                            }
-                        }
-                    }
-                }
-                
-                // Scan entities
-                List<EntityInfo> entities = new ArrayList<>();
-                if (includeEntities) {
-                    List<Entity> nearbyEntities = level.getEntitiesOfClass(Entity.class,
-                            net.minecraft.world.phys.AABB.ofSize(
-                                    net.minecraft.world.phys.Vec3.atCenterOf(center),
-                                    radius * 2.0, radius * 2.0, radius * 2.0));
-                    
-                    for (int i = 0; i < Math.min(nearbyEntities.size(), maxEntities); i++) {
-                        entities.add(ProtoConverter.toEntityInfo(nearbyEntities.get(i)));
-                    }
-                }
-                
-                // Build response
-                EnvironmentScan scan = EnvironmentScan.newBuilder()
-                        .setCenter(request.getCenter())
-                        .setRadius(radius)
-                        .addAllBlocks(blocks)
-                        .addAllEntities(entities)
-                        .setScanTime(Timestamp.newBuilder()
-                                .setSeconds(Instant.now().getEpochSecond())
-                                .setNanos(Instant.now().getNano()))
-                        .setDimension(getDimensionName(level))
-                        .setIncludeAirBlocks(includeAir)
-                        .setMaxBlocks(maxBlocks)
-                        .setMaxEntities(maxEntities)
-                        .build();
-                
-                EnvironmentScanResponse response = EnvironmentScanResponse.newBuilder()
-                        .setScan(scan)
-                        .setSuccess(true)
-                        .build();
-                
-                responseObserver.onNext(response);
-                responseObserver.onCompleted();
-                
-            } catch (Exception e) {
-                LOGGER.error("Error scanning environment", e);
-                responseObserver.onError(Status.INTERNAL
-                        .withDescription("Failed to scan environment: " + e.getMessage())
-                        .withCause(e)
-                        .asRuntimeException());
+        // Under load answer with a small surface scan rather than nothing, if allowed
+        AdmissionController admission = AdmissionController.getInstance();
+        boolean degraded = admission.degradeScan(MainThreadQueue.CLIENT);
+        if (degraded) {
+            radius = Math.min(radius, SuperAIConfig.PERF_DEGRADED_SCAN_RADIUS.get());
+        } else {
+            StatusRuntimeException rejection = admission.admit(MainThreadQueue.CLIENT, TaskPriority.PERCEPTION);
+            if (rejection != null) {
+                responseObserver.onError(rejection);
+                return;
             }
-        });
+        }
+        
+        // Runs in slices on the client thread so actions queued behind a large scan are not held up
+        MainThreadQueue.CLIENT.submit(TaskPriority.PERCEPTION,
+                new ScanJob(request, radius, degraded, responseObserver));
     }
     
     @Override
@@ -150,56 +102,15 @@ public class EnvironmentServiceImpl extends EnvironmentServiceGrpc.EnvironmentSe
         int updateInterval = request.getUpdateIntervalMs() > 0 ? request.getUpdateIntervalMs() : 
                 SuperAIConfig.SCAN_UPDATE_INTERVAL_MS.get();
         
-        // Start streaming updates on a background thread
-        new Thread(() -> {
-            try {
-                while (!responseObserver.getClass().getSimpleName().contains("Cancelled")) {
-                    // Dispatch scan to main thread
-                    Minecraft.getInstance().execute(() -> {
-                        try {
-                            Level level = Minecraft.getInstance().level;
-                            if (level == null) {
-                                responseObserver.onError(Status.UNAVAILABLE
-                                        .withDescription("World not loaded")
-                                        .asRuntimeException());
-                                return;
-                            }
-                            
-                            BlockPos center = ProtoConverter.toBlockPos(request.getCenter());
-                            
-                            // Perform scan (simplified for streaming)
-                            EnvironmentScan scan = EnvironmentScan.newBuilder()
-                                    .setCenter(request.getCenter())
-                                    .setRadius(radius)
-                                    .setScanTime(Timestamp.newBuilder()
-                                            .setSeconds(Instant.now().getEpochSecond())
-                                            .setNanos(Instant.now().getNano()))
-                                    .setDimension(getDimensionName(level))
-                                    .setIncludeAirBlocks(request.getIncludeAirBlocks())
-                                    .build();
-                            
-                            responseObserver.onNext(scan);
-                            
-                        } catch (Exception e) {
-                            LOGGER.error("Error in environment stream", e);
-                            responseObserver.onError(Status.INTERNAL
-                                    .withDescription("Stream error: " + e.getMessage())
-                                    .asRuntimeException());
-                        }
-                    });
-                    
-                    Thread.sleep(updateInterval);
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                responseObserver.onCompleted();
-            } catch (Exception e) {
-                LOGGER.error("Error in environment update stream", e);
-                responseObserver.onError(Status.INTERNAL
-                        .withDescription("Stream error: " + e.getMessage())
-                        .asRuntimeException());
-            }
-        }).start();
+        // Sent from the client tick; streams of the same block, radius and interval share one topic
+        EnvironmentUpdateRequest params = request.toBuilder()
+                .setCenter(ProtoConverter.toPosition(ProtoConverter.toBlockPos(request.getCenter())))
+                .setRadius(radius)
+                .clearUpdateIntervalMs()
+                .build();
+        StreamScheduler.getInstance().subscribe(updateSource, params,
+                Math.max(1, updateInterval / SuperAIConstants.MS_PER_TICK),
+                FlowControlledStream.of(responseObserver, OverflowPolicy.CONFLATE));
     }
     
     @Override
@@ -212,7 +123,14 @@ public class EnvironmentServiceImpl extends EnvironmentServiceGrpc.EnvironmentSe
             return;
         }
         
-        Minecraft.getInstance().execute(() -> {
+        StatusRuntimeException rejection = AdmissionController.getInstance()
+                .admit(MainThreadQueue.CLIENT, TaskPriority.STATE);
+        if (rejection != null) {
+            responseObserver.onError(rejection);
+            return;
+        }
+        
+        MainThreadQueue.CLIENT.execute(TaskPriority.STATE, () -> {
             try {
                 Level level = Minecraft.getInstance().level;
                 if (level == null) {
@@ -255,7 +173,14 @@ public class EnvironmentServiceImpl extends EnvironmentServiceGrpc.EnvironmentSe
             return;
         }
         
-        Minecraft.getInstance().execute(() -> {
+        StatusRuntimeException rejection = AdmissionController.getInstance()
+                .admit(MainThreadQueue.CLIENT, TaskPriority.STATE);
+        if (rejection != null) {
+            responseObserver.onError(rejection);
+            return;
+        }
+        
+        MainThreadQueue.CLIENT.execute(TaskPriority.STATE, () -> {
             try {
                 Level level = Minecraft.getInstance().level;
                 if (level == null) {
@@ -281,6 +206,38 @@ public class EnvironmentServiceImpl extends EnvironmentServiceGrpc.EnvironmentSe
         });
     }
     
+    /**
+     * Builds an update for every environment stream with the same parameters.
+     * Called on the client thread by the {@link StreamScheduler}.
+     *
+     * @param params the stream parameters
+     * @return the update, or null to skip it while the client thread is overloaded
+     */
+    @Nullable
+    private EnvironmentScan buildUpdate(EnvironmentUpdateRequest params) {
+        if (AdmissionController.getInstance().isOverloaded(MainThreadQueue.CLIENT, TaskPriority.PERCEPTION)) {
+            return null;
+        }
+        Level level = Minecraft.getInstance().level;
+        if (level == null) {
+            throw Status.UNAVAILABLE
+                    .withDescription("World not loaded")
+                    .asRuntimeException();
+        }
+        
+        // Perform scan (simplified for streaming)
+        Instant now = Instant.now();
+        return EnvironmentScan.newBuilder()
+                .setCenter(params.getCenter())
+                .setRadius(params.getRadius())
+                .setScanTime(Timestamp.newBuilder()
+                        .setSeconds(now.getEpochSecond())
+                        .setNanos(now.getNano()))
+                .setDimension(getDimensionName(level))
+                .setIncludeAirBlocks(params.getIncludeAirBlocks())
+                .build();
+    }
+    
     /**
      * Gets the dimension name from the level.
      *
@@ -297,5 +254,166 @@ public class EnvironmentServiceImpl extends EnvironmentServiceGrpc.EnvironmentSe
         }
         return "unknown";
     }
-}
 
+    /**
+     * A block scan that can stop at any block and continue on a later slice.
+     *
+     * Blocks are read in the same x, y, z order as a scan in one go. The
+     * level is fixed by the first slice; if it changes before the scan is
+     * finished the call fails. Entities are collected in the last slice.
+     * The scan stops as soon as the call is cancelled or its deadline
+     * passes, since the client no longer waits for the result. A surface-only
+     * scan reads just the highest block of each column, from the heightmap.
+     */
+    private final class ScanJob implements MainThreadJob {
+        /** Blocks read between deadline checks */
+        private static final int BLOCKS_PER_CHECK = 256;
+
+        private final EnvironmentScanRequest request;
+        private final StreamObserver<EnvironmentScanResponse> responseObserver;
+        private final BlockPos center;
+        private final int radius;
+        private final boolean includeAir;
+        private final boolean surfaceOnly;
+        private final int maxBlocks;
+        private final int maxEntities;
+        private final List<BlockInfo> blocks = new ArrayList<>();
+        private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        private Level level;
+        private int x;
+        private int y;
+        private int z;
+
+        ScanJob(EnvironmentScanRequest request, int radius, boolean surfaceOnly,
+                StreamObserver<EnvironmentScanResponse> responseObserver) {
+            this.request = request;
+            this.responseObserver = responseObserver;
+            this.center = ProtoConverter.toBlockPos(request.getCenter());
+            this.radius = radius;
+            this.includeAir = request.getIncludeAirBlocks();
+            this.surfaceOnly = surfaceOnly;
+            this.maxBlocks = request.getMaxBlocks() > 0 ? request.getMaxBlocks() : SuperAIConfig.SCAN_MAX_BLOCKS.get();
+            this.maxEntities = request.getMaxEntities() > 0
+                    ? request.getMaxEntities() : SuperAIConfig.SCAN_MAX_ENTITIES.get();
+            this.x = -radius;
+            this.y = -radius;
+            this.z = -radius;
+        }
+
+        @Override
+        public boolean run(long deadlineNanos) {
+            try {
+                Level current = Minecraft.getInstance().level;
+                if (current == null) {
+                    responseObserver.onError(Status.UNAVAILABLE
+                            .withDescription("World not loaded")
+                            .asRuntimeException());
+                    return true;
+                }
+                if (level != null && current != level) {
+                    responseObserver.onError(Status.UNAVAILABLE
+                            .withDescription("World changed during scan")
+                            .asRuntimeException());
+                    return true;
+                }
+                level = current;
+
+                int checked = 0;
+                while (x <= radius && blocks.size() < maxBlocks) {
+                    if (surfaceOnly) {
+                        scanColumn();
+                    } else {
+                        scanBlock();
+                    }
+                    if (++checked == BLOCKS_PER_CHECK) {
+                        checked = 0;
+                        if (Context.current().isCancelled()) {
+                            return true;
+                        }
+                        if (System.nanoTime() - deadlineNanos >= 0) {
+                            return false;
+                        }
+                    }
+                }
+
+                complete();
+
+            } catch (Exception e) {
+                LOGGER.error("Error scanning environment", e);
+                responseObserver.onError(Status.INTERNAL
+                        .withDescription("Failed to scan environment: " + e.getMessage())
+                        .withCause(e)
+                        .asRuntimeException());
+            }
+            return true;
+        }
+
+        private void scanBlock() {
+            pos.set(center.getX() + x, center.getY() + y, center.getZ() + z);
+            BlockState blockState = level.getBlockState(pos);
+            if (includeAir || !blockState.isAir()) {
+                blocks.add(ProtoConverter.toBlockInfo(blockState, pos.immutable()));
+            }
+            if (++z > radius) {
+                z = -radius;
+                if (++y > radius) {
+                    y = -radius;
+                    x++;
+                }
+            }
+        }
+
+        private void scanColumn() {
+            int top = level.getHeight(Heightmap.Types.WORLD_SURFACE, center.getX() + x, center.getZ() + z) - 1;
+            if (Math.abs(top - center.getY()) <= radius) {
+                pos.set(center.getX() + x, top, center.getZ() + z);
+                BlockState blockState = level.getBlockState(pos);
+                if (includeAir || !blockState.isAir()) {
+                    blocks.add(ProtoConverter.toBlockInfo(blockState, pos.immutable()));
+                }
+            }
+            if (++z > radius) {
+                z = -radius;
+                x++;
+            }
+        }
+
+        private void complete() {
+            // Scan entities
+            List<EntityInfo> entities = new ArrayList<>();
+            if (request.getIncludeEntities()) {
+                List<Entity> nearbyEntities = level.getEntitiesOfClass(Entity.class,
+                        AABB.ofSize(Vec3.atCenterOf(center), radius * 2.0, radius * 2.0, radius * 2.0));
+
+                for (int i = 0; i < Math.min(nearbyEntities.size(), maxEntities); i++) {
+                    entities.add(ProtoConverter.toEntityInfo(nearbyEntities.get(i)));
+                }
+            }
+
+            // Build response
+            EnvironmentScan scan = EnvironmentScan.newBuilder()
+                    .setCenter(request.getCenter())
+                    .setRadius(radius)
+                    .addAllBlocks(blocks)
+                    .addAllEntities(entities)
+                    .setScanTime(Timestamp.newBuilder()
+                            .setSeconds(Instant.now().getEpochSecond())
+                            .setNanos(Instant.now().getNano()))
+                    .setDimension(getDimensionName(level))
+                    .setIncludeAirBlocks(includeAir)
+                    .setMaxBlocks(maxBlocks)
+                    .setMaxEntities(maxEntities)
+                    .setSurfaceOnly(surfaceOnly)
+                    .build();
+
+            EnvironmentScanResponse response = EnvironmentScanResponse.newBuilder()
+                    .setScan(scan)
+                    .setSuccess(true)
+                    .setDegraded(surfaceOnly)
+                    .build();
+
+            responseObserver.onNext(response);
+            responseObserver.onCompleted();
+        }
+    }
+}
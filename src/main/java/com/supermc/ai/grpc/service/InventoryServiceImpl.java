@@ -1,11 +1,16 @@
 package com.supermc.ai.grpc.service;
 
 import com.google.protobuf.Empty;
+import com.supermc.ai.common.MainThreadQueue;
 import com.supermc.ai.common.SuperAIExceptions;
+import com.supermc.ai.common.TaskPriority;
 import com.supermc.ai.grpc.proto.*;
+import com.supermc.ai.grpc.util.AdmissionController;
 import com.supermc.ai.grpc.util.ProtoConverter;
+import com.supermc.ai.player.inventory.InventoryTracker;
 import com.mojang.logging.LogUtils;
 import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
@@ -27,7 +32,14 @@ public class InventoryServiceImpl extends InventoryServiceGrpc.InventoryServiceI
     
     @Override
     public void getInventory(Empty request, StreamObserver<InventoryResponse> responseObserver) {
-        Minecraft.getInstance().execute(() -> {
+        StatusRuntimeException rejection = AdmissionController.getInstance()
+                .admit(MainThreadQueue.CLIENT, TaskPriority.STATE);
+        if (rejection != null) {
+            responseObserver.onError(rejection);
+            return;
+        }
+        
+        MainThreadQueue.CLIENT.execute(TaskPriority.STATE, () -> {
             try {
                 LocalPlayer player = Minecraft.getInstance().player;
                 if (player == null) {
@@ -42,11 +54,10 @@ public class InventoryServiceImpl extends InventoryServiceGrpc.InventoryServiceI
                         .setSelectedSlot(inventory.getSelectedSlot())
                         .setSuccess(true);
                 
-                // Add all inventory items
-                for (int i = 0; i < inventory.getContainerSize(); i++) {
-                    ItemStack item = inventory.getItem(i);
-                    responseBuilder.addItems(ProtoConverter.toItemInfo(item));
-                }
+                // Add all inventory items, reusing the tracker's per-slot conversions
+                InventoryTracker tracker = InventoryTracker.getInstance();
+                tracker.sync(player);
+                responseBuilder.addAllItems(tracker.getItems());
                 
                 responseObserver.onNext(responseBuilder.build());
                 responseObserver.onCompleted();
@@ -71,7 +82,7 @@ public class InventoryServiceImpl extends InventoryServiceGrpc.InventoryServiceI
             return;
         }
         
-        Minecraft.getInstance().execute(() -> {
+        MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL, () -> {
             try {
                 LocalPlayer player = Minecraft.getInstance().player;
                 if (player == null) {
@@ -131,7 +142,7 @@ public class InventoryServiceImpl extends InventoryServiceGrpc.InventoryServiceI
             return;
         }
         
-        Minecraft.getInstance().execute(() -> {
+        MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL, () -> {
             try {
                 LocalPlayer player = Minecraft.getInstance().player;
                 if (player == null) {
@@ -195,7 +206,7 @@ public class InventoryServiceImpl extends InventoryServiceGrpc.InventoryServiceI
             return;
         }
         
-        Minecraft.getInstance().execute(() -> {
+        MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL, () -> {
             try {
                 LocalPlayer player = Minecraft.getInstance().player;
                 if (player == null) {
@@ -269,7 +280,7 @@ public class InventoryServiceImpl extends InventoryServiceGrpc.InventoryServiceI
             return;
         }
         
-        Minecraft.getInstance().execute(() -> {
+        MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL, () -> {
             try {
                 LocalPlayer player = Minecraft.getInstance().player;
                 if (player == null) {
@@ -1,13 +1,35 @@
 package com.supermc.ai.grpc.service;
 
-import com.google.protobuf.Empty;
+import com.supermc.ai.common.MainThreadQueue;
 import com.supermc.ai.common.SuperAIConstants;
 import com.supermc.ai.common.SuperAIExceptions;
+import com.supermc.ai.common.SuperAIWorkers;
+import com.supermc.ai.common.TaskPriority;
 import com.supermc.ai.config.SuperAIConfig;
 import com.supermc.ai.grpc.proto.*;
+import com.supermc.ai.grpc.util.AdmissionController;
+import com.supermc.ai.grpc.util.FlowControlledStream;
+import com.supermc.ai.grpc.util.OverflowPolicy;
 import com.supermc.ai.grpc.util.ProtoConverter;
+import com.supermc.ai.player.controller.ActionPipeline;
+import com.supermc.ai.player.controller.HeldInput;
+import com.supermc.ai.player.controller.InputController;
+import com.supermc.ai.player.controller.PlayerActionExecutor;
+import com.supermc.ai.player.inventory.InventoryTracker;
+import com.supermc.ai.player.observation.ObservationChannelManager;
+import com.supermc.ai.player.pathfinding.HierarchicalPathfinder;
+import com.supermc.ai.player.pathfinding.PathFollower;
+import com.supermc.ai.player.pathfinding.PathResult;
+import com.supermc.ai.player.simulation.CollisionSnapshot;
+import com.supermc.ai.player.simulation.MovementSimulator;
+import com.supermc.ai.player.simulation.MovementStart;
+import com.supermc.ai.player.simulation.Trajectory;
+import com.supermc.ai.player.state.PlayerStateStreamHub;
 import com.mojang.logging.LogUtils;
+import io.grpc.Context;
 import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
@@ -18,6 +40,8 @@ import org.slf4j.Logger;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of the Player Control Service gRPC interface.
@@ -31,6 +55,9 @@ import java.util.List;
 public class PlayerControlServiceImpl extends PlayerControlServiceGrpc.PlayerControlServiceImplBase {
     private static final Logger LOGGER = LogUtils.getLogger();
     
+    /** Blocks above the player copied for simulations, enough for a jump and a step */
+    private static final int SIMULATION_HEADROOM = 4;
+    
     @Override
     public void executeAction(PlayerActionRequest request,
                              StreamObserver<PlayerActionResponse> responseObserver) {
@@ -41,7 +68,12 @@ public class PlayerControlServiceImpl extends PlayerControlServiceGrpc.PlayerCon
             return;
         }
         
-        Minecraft.getInstance().execute(() -> {
+        if (request.getAsync()) {
+            submitAction(request, responseObserver);
+            return;
+        }
+        
+        MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL, () -> {
             try {
                 LocalPlayer player = Minecraft.getInstance().player;
                 if (player == null) {
@@ -51,9 +83,9 @@ public class PlayerControlServiceImpl extends PlayerControlServiceGrpc.PlayerCon
                     return;
                 }
                 
-                boolean success = executePlayerAction(player, request.getAction(), request.getParametersMap());
+                boolean success = PlayerActionExecutor.execute(player, request.getAction(), request.getParametersMap());
                 
-                PlayerState newState = getPlayerState(player);
+                PlayerState newState = getPlayerState(player, request.getKnownInventoryVersion());
                 
                 PlayerActionResponse response = PlayerActionResponse.newBuilder()
                         .setSuccess(success)
@@ -73,6 +105,36 @@ public class PlayerControlServiceImpl extends PlayerControlServiceGrpc.PlayerCon
         });
     }
     
+    /**
+     * Schedules an action on the pipeline and answers with its ticket at once.
+     *
+     * @param request the action request
+     * @param responseObserver the response observer
+     */
+    private void submitAction(PlayerActionRequest request, StreamObserver<PlayerActionResponse> responseObserver) {
+        try {
+            long ticket = ActionPipeline.getInstance().submit(request.getAction(), request.getParametersMap(),
+                    request.getScheduledTick(), request.getClientId());
+            responseObserver.onNext(PlayerActionResponse.newBuilder()
+                    .setSuccess(true)
+                    .setTicket(ticket)
+                    .build());
+            responseObserver.onCompleted();
+        } catch (SuperAIExceptions.PlayerControlException e) {
+            Status status = e.getErrorCode() == SuperAIConstants.ERROR_RATE_LIMIT_EXCEEDED
+                    ? Status.RESOURCE_EXHAUSTED
+                    : Status.INVALID_ARGUMENT;
+            responseObserver.onError(status.withDescription(e.getMessage()).asRuntimeException());
+        }
+    }
+    
+    @Override
+    public void streamActionCompletions(ActionCompletionStreamRequest request,
+                                        StreamObserver<ActionCompletion> responseObserver) {
+        ActionPipeline.getInstance().subscribe(FlowControlledStream.of(responseObserver, OverflowPolicy.CANCEL),
+                request.getClientId());
+    }
+    
     @Override
     public void executeActionSequence(PlayerActionSequenceRequest request,
                                      StreamObserver<PlayerActionSequenceResponse> responseObserver) {
@@ -83,7 +145,77 @@ public class PlayerControlServiceImpl extends PlayerControlServiceGrpc.PlayerCon
             return;
         }
         
-        Minecraft.getInstance().execute(() -> {
+        List<PlayerActionResult> results = new ArrayList<>(request.getActionsCount());
+        MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL,
+                () -> continueSequence(request, results, responseObserver));
+    }
+    
+    /**
+     * Runs the next actions of a sequence on the client thread. With a delay
+     * between actions, each later action is queued as its own task once the
+     * delay has passed, so the client thread never waits.
+     *
+     * @param request the sequence request
+     * @param results the results of the actions run so far
+     * @param responseObserver the response observer
+     */
+    private void continueSequence(PlayerActionSequenceRequest request, List<PlayerActionResult> results,
+                                  StreamObserver<PlayerActionSequenceResponse> responseObserver) {
+        try {
+            LocalPlayer player = Minecraft.getInstance().player;
+            if (player == null) {
+                responseObserver.onError(Status.UNAVAILABLE
+                        .withDescription("Player not available")
+                        .asRuntimeException());
+                return;
+            }
+            
+            int delay = request.getDelayBetweenActionsMs();
+            do {
+                PlayerAction action = request.getActions(results.size());
+                boolean success = PlayerActionExecutor.execute(player, action, null);
+                
+                results.add(PlayerActionResult.newBuilder()
+                        .setAction(action)
+                        .setSuccess(success)
+                        .build());
+            } while (delay <= 0 && results.size() < request.getActionsCount());
+            
+            if (results.size() < request.getActionsCount()) {
+                // Bound to the call, so a cancelled sequence stops at its next action
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(Context.current().wrap(
+                        () -> MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL,
+                                () -> continueSequence(request, results, responseObserver))));
+                return;
+            }
+            
+            PlayerActionSequenceResponse response = PlayerActionSequenceResponse.newBuilder()
+                    .setSuccess(true)
+                    .addAllResults(results)
+                    .build();
+            
+            responseObserver.onNext(response);
+            responseObserver.onCompleted();
+            
+        } catch (Exception e) {
+            LOGGER.error("Error executing action sequence", e);
+            responseObserver.onError(Status.INTERNAL
+                    .withDescription("Failed to execute action sequence: " + e.getMessage())
+                    .withCause(e)
+                    .asRuntimeException());
+        }
+    }
+    
+    @Override
+    public void getPlayerState(PlayerStateRequest request, StreamObserver<PlayerStateResponse> responseObserver) {
+        StatusRuntimeException rejection = AdmissionController.getInstance()
+                .admit(MainThreadQueue.CLIENT, TaskPriority.STATE);
+        if (rejection != null) {
+            responseObserver.onError(rejection);
+            return;
+        }
+        
+        MainThreadQueue.CLIENT.execute(TaskPriority.STATE, () -> {
             try {
                 LocalPlayer player = Minecraft.getInstance().player;
                 if (player == null) {
@@ -93,41 +225,20 @@ public class PlayerControlServiceImpl extends PlayerControlServiceGrpc.PlayerCon
                     return;
                 }
                 
-                List<PlayerActionResult> results = new ArrayList<>();
-                int delay = request.getDelayBetweenActionsMs();
+                PlayerState state = getPlayerState(player, request.getKnownInventoryVersion());
                 
-                for (PlayerAction action : request.getActionsList()) {
-                    boolean success = executePlayerAction(player, action, null);
-                    
-                    PlayerActionResult result = PlayerActionResult.newBuilder()
-                            .setAction(action)
-                            .setSuccess(success)
-                            .build();
-                    
-                    results.add(result);
-                    
-                    if (delay > 0) {
-                        try {
-                            Thread.sleep(delay);
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                            break;
-                        }
-                    }
-                }
-                
-                PlayerActionSequenceResponse response = PlayerActionSequenceResponse.newBuilder()
+                PlayerStateResponse response = PlayerStateResponse.newBuilder()
+                        .setState(state)
                         .setSuccess(true)
-                        .addAllResults(results)
                         .build();
                 
                 responseObserver.onNext(response);
                 responseObserver.onCompleted();
                 
             } catch (Exception e) {
-                LOGGER.error("Error executing action sequence", e);
+                LOGGER.error("Error getting player state", e);
                 responseObserver.onError(Status.INTERNAL
-                        .withDescription("Failed to execute action sequence: " + e.getMessage())
+                        .withDescription("Failed to get player state: " + e.getMessage())
                         .withCause(e)
                         .asRuntimeException());
             }
@@ -135,8 +246,29 @@ public class PlayerControlServiceImpl extends PlayerControlServiceGrpc.PlayerCon
     }
     
     @Override
-    public void getPlayerState(Empty request, StreamObserver<PlayerStateResponse> responseObserver) {
-        Minecraft.getInstance().execute(() -> {
+    public void streamPlayerState(PlayerStateStreamRequest request,
+                                 StreamObserver<PlayerState> responseObserver) {
+        int updateInterval = request.getUpdateIntervalMs() > 0 ? request.getUpdateIntervalMs() : 1000;
+        
+        // Sent from the client tick, which computes the state once for all subscribers
+        PlayerStateStreamHub.getInstance().subscribe(
+                FlowControlledStream.of(responseObserver, OverflowPolicy.CONFLATE),
+                updateInterval,
+                request.getDeltaEncoding(),
+                request.getKeyframeIntervalTicks());
+    }
+    
+    @Override
+    public void moveToPosition(MoveToPositionRequest request,
+                              StreamObserver<MoveToPositionResponse> responseObserver) {
+        if (request == null || !request.hasTargetPosition()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Invalid request: target position is required")
+                    .asRuntimeException());
+            return;
+        }
+        
+        MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL, () -> {
             try {
                 LocalPlayer player = Minecraft.getInstance().player;
                 if (player == null) {
@@ -146,20 +278,62 @@ public class PlayerControlServiceImpl extends PlayerControlServiceGrpc.PlayerCon
                     return;
                 }
                 
-                PlayerState state = getPlayerState(player);
+                Vec3 target = ProtoConverter.toVec3(request.getTargetPosition());
+                double distance = player.position().distanceTo(target);
+                double maxRange = SuperAIConfig.PLAYER_PATHFINDING_RANGE_MAX.get();
+                if (distance > maxRange) {
+                    responseObserver.onError(Status.OUT_OF_RANGE
+                            .withDescription(String.format("Target is %.1f blocks away, maximum is %.1f",
+                                    distance, maxRange))
+                            .asRuntimeException());
+                    return;
+                }
+
+                // Walking to a target replaces any input the agent was holding
+                InputController.getInstance().release();
                 
-                PlayerStateResponse response = PlayerStateResponse.newBuilder()
-                        .setState(state)
+                double speed = request.getSpeed() > 0 ? request.getSpeed() :
+                        SuperAIConfig.PLAYER_MOVE_SPEED_DEFAULT.get();
+                boolean sprint = speed > SuperAIConstants.DEFAULT_MOVE_SPEED_MULTIPLIER;
+                BlockPos goal = BlockPos.containing(target);
+
+                if (request.getPathfind() && SuperAIConfig.PLAYER_ENABLE_PATHFINDING.get()) {
+                    // Plan on a worker thread so searching never costs client tick time
+                    HierarchicalPathfinder pathfinder = HierarchicalPathfinder.getInstance();
+                    pathfinder.findPathAsync(player.blockPosition(), goal).whenComplete((result, error) -> {
+                        if (error != null) {
+                            LOGGER.error("Error planning path", error);
+                            responseObserver.onError(Status.INTERNAL
+                                    .withDescription("Failed to plan path: " + error.getMessage())
+                                    .withCause(error)
+                                    .asRuntimeException());
+                            return;
+                        }
+                        if (!result.isEmpty()) {
+                            // Long routes come back partly refined; the follower plans each further stretch.
+                            // Detached, since answering the call below cancels its context before the next drain
+                            MainThreadQueue.CLIENT.executeDetached(TaskPriority.CONTROL, () ->
+                                    PathFollower.getInstance().follow(result, sprint,
+                                            from -> pathfinder.findPathAsync(from, goal)));
+                        }
+                        responseObserver.onNext(toMoveResponse(result));
+                        responseObserver.onCompleted();
+                    });
+                    return;
+                }
+
+                // Without pathfinding walk straight at the target
+                PathFollower.getInstance().follow(List.of(goal), sprint);
+                responseObserver.onNext(MoveToPositionResponse.newBuilder()
                         .setSuccess(true)
-                        .build();
-                
-                responseObserver.onNext(response);
+                        .addPath(ProtoConverter.toPosition(Vec3.atBottomCenterOf(goal)))
+                        .build());
                 responseObserver.onCompleted();
                 
             } catch (Exception e) {
-                LOGGER.error("Error getting player state", e);
+                LOGGER.error("Error moving player", e);
                 responseObserver.onError(Status.INTERNAL
-                        .withDescription("Failed to get player state: " + e.getMessage())
+                        .withDescription("Failed to move player: " + e.getMessage())
                         .withCause(e)
                         .asRuntimeException());
             }
@@ -167,59 +341,103 @@ public class PlayerControlServiceImpl extends PlayerControlServiceGrpc.PlayerCon
     }
     
     @Override
-    public void streamPlayerState(PlayerStateStreamRequest request,
-                                 StreamObserver<PlayerState> responseObserver) {
-        int updateInterval = request.getUpdateIntervalMs() > 0 ? request.getUpdateIntervalMs() : 1000;
+    public void setInput(SetInputRequest request, StreamObserver<SetInputResponse> responseObserver) {
+        if (request == null || (!request.getRelease() && !request.hasInput())) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Invalid request: input is required unless releasing")
+                    .asRuntimeException());
+            return;
+        }
+        int duration = request.getDurationTicks();
+        if (duration < 0 || duration > SuperAIConstants.MAX_HELD_INPUT_TICKS) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("duration_ticks must be between 0 and " + SuperAIConstants.MAX_HELD_INPUT_TICKS)
+                    .asRuntimeException());
+            return;
+        }
         
-        new Thread(() -> {
+        MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL, () -> {
             try {
-                while (!Thread.currentThread().isInterrupted()) {
-                    Minecraft.getInstance().execute(() -> {
-                        try {
-                            LocalPlayer player = Minecraft.getInstance().player;
-                            if (player == null) {
-                                responseObserver.onError(Status.UNAVAILABLE
-                                        .withDescription("Player not available")
-                                        .asRuntimeException());
-                                return;
-                            }
-                            
-                            PlayerState state = getPlayerState(player);
-                            responseObserver.onNext(state);
-                            
-                        } catch (Exception e) {
-                            LOGGER.error("Error in player state stream", e);
-                            responseObserver.onError(Status.INTERNAL
-                                    .withDescription("Stream error: " + e.getMessage())
-                                    .asRuntimeException());
-                        }
-                    });
+                LocalPlayer player = Minecraft.getInstance().player;
+                if (player == null) {
+                    responseObserver.onError(Status.UNAVAILABLE
+                            .withDescription("Player not available")
+                            .asRuntimeException());
+                    return;
+                }
+                
+                InputController controller = InputController.getInstance();
+                SetInputResponse.Builder response = SetInputResponse.newBuilder().setSuccess(true);
+                if (request.getRelease()) {
+                    controller.release();
+                } else {
+                    // Held input takes over from any path being followed
+                    PathFollower.getInstance().stop();
+                    controller.hold(ProtoConverter.toHeldInput(request.getInput()), duration);
                     
-                    Thread.sleep(updateInterval);
+                    // Applied from the next client tick on
+                    long startTick = player.level().getGameTime() + 1;
+                    response.setStartTick(startTick);
+                    if (duration > 0) {
+                        response.setEndTick(startTick + duration - 1);
+                    }
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+                
+                responseObserver.onNext(response.build());
                 responseObserver.onCompleted();
+                
             } catch (Exception e) {
-                LOGGER.error("Error in player state stream", e);
+                LOGGER.error("Error setting input", e);
                 responseObserver.onError(Status.INTERNAL
-                        .withDescription("Stream error: " + e.getMessage())
+                        .withDescription("Failed to set input: " + e.getMessage())
+                        .withCause(e)
                         .asRuntimeException());
             }
-        }).start();
+        });
     }
     
     @Override
-    public void moveToPosition(MoveToPositionRequest request,
-                              StreamObserver<MoveToPositionResponse> responseObserver) {
-        if (request == null || !request.hasTargetPosition()) {
+    public void simulate(SimulateRequest request, StreamObserver<SimulateResponse> responseObserver) {
+        if (request == null || request.getCandidatesCount() == 0
+                || request.getCandidatesCount() > SuperAIConstants.MAX_SIMULATION_CANDIDATES) {
             responseObserver.onError(Status.INVALID_ARGUMENT
-                    .withDescription("Invalid request: target position is required")
+                    .withDescription("Invalid request: between 1 and " + SuperAIConstants.MAX_SIMULATION_CANDIDATES
+                            + " candidates are required")
                     .asRuntimeException());
             return;
         }
+        int maxTicks = 0;
+        for (SimulationCandidate candidate : request.getCandidatesList()) {
+            int ticks = 0;
+            for (SimulationStep step : candidate.getStepsList()) {
+                if (step.getTicks() < 0) {
+                    ticks = Integer.MAX_VALUE;
+                    break;
+                }
+                ticks += Math.max(1, step.getTicks());
+                if (ticks > SuperAIConstants.MAX_SIMULATION_TICKS) {
+                    break;
+                }
+            }
+            if (ticks > SuperAIConstants.MAX_SIMULATION_TICKS) {
+                responseObserver.onError(Status.INVALID_ARGUMENT
+                        .withDescription("Each candidate must simulate at most " + SuperAIConstants.MAX_SIMULATION_TICKS
+                                + " ticks and step ticks must not be negative")
+                        .asRuntimeException());
+                return;
+            }
+            maxTicks = Math.max(maxTicks, ticks);
+        }
+        int horizon = maxTicks;
+        
+        StatusRuntimeException rejection = AdmissionController.getInstance()
+                .admit(MainThreadQueue.CLIENT, TaskPriority.PERCEPTION);
+        if (rejection != null) {
+            responseObserver.onError(rejection);
+            return;
+        }
         
-        Minecraft.getInstance().execute(() -> {
+        MainThreadQueue.CLIENT.execute(TaskPriority.PERCEPTION, () -> {
             try {
                 LocalPlayer player = Minecraft.getInstance().player;
                 if (player == null) {
@@ -229,174 +447,183 @@ public class PlayerControlServiceImpl extends PlayerControlServiceGrpc.PlayerCon
                     return;
                 }
                 
-                Vec3 target = ProtoConverter.toVec3(request.getTargetPosition());
-                Vec3 current = player.position();
-                double distance = current.distanceTo(target);
+                // Only the copy happens on the client thread; rollouts run on the worker pool
+                MovementStart start = MovementStart.of(player);
+                CollisionSnapshot snapshot = captureSnapshot(player, start, horizon);
+                long tick = player.level().getGameTime();
                 
-                // Simple movement implementation - in production, use pathfinding
-                if (request.getPathfind() && SuperAIConfig.PLAYER_ENABLE_PATHFINDING.get()) {
-                    // TODO: Implement pathfinding
-                    LOGGER.warn("Pathfinding not yet implemented, using direct movement");
+                List<CompletableFuture<Trajectory>> rollouts = new ArrayList<>(request.getCandidatesCount());
+                for (SimulationCandidate candidate : request.getCandidatesList()) {
+                    rollouts.add(SuperAIWorkers.supply(() -> simulateCandidate(snapshot, start, candidate)));
                 }
-                
-                // Move player towards target (simplified)
-                Vec3 direction = target.subtract(current).normalize();
-                double speed = request.getSpeed() > 0 ? request.getSpeed() : 
-                        SuperAIConfig.PLAYER_MOVE_SPEED_DEFAULT.get();
-                
-                // Set player movement (this is a simplified approach)
-                // In a real implementation, you'd use player input handlers
-                player.setPos(target.x, target.y, target.z);
-                
-                MoveToPositionResponse response = MoveToPositionResponse.newBuilder()
-                        .setSuccess(true)
-                        .build();
-                
-                responseObserver.onNext(response);
-                responseObserver.onCompleted();
+                CompletableFuture.allOf(rollouts.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        LOGGER.error("Error simulating movement", error);
+                        responseObserver.onError(Status.INTERNAL
+                                .withDescription("Failed to simulate movement: " + error.getMessage())
+                                .withCause(error)
+                                .asRuntimeException());
+                        return;
+                    }
+                    SimulateResponse.Builder response = SimulateResponse.newBuilder()
+                            .setSuccess(true)
+                            .setTick(tick);
+                    for (CompletableFuture<Trajectory> rollout : rollouts) {
+                        response.addResults(toSimulationResult(rollout.join(), start.position(),
+                                request.getIncludeTrajectory()));
+                    }
+                    responseObserver.onNext(response.build());
+                    responseObserver.onCompleted();
+                });
                 
             } catch (Exception e) {
-                LOGGER.error("Error moving player", e);
+                LOGGER.error("Error simulating movement", e);
                 responseObserver.onError(Status.INTERNAL
-                        .withDescription("Failed to move player: " + e.getMessage())
+                        .withDescription("Failed to simulate movement: " + e.getMessage())
                         .withCause(e)
                         .asRuntimeException());
             }
         });
     }
     
+    @Override
+    public void openObservationChannel(OpenObservationChannelRequest request,
+                                       StreamObserver<ObservationChannelInfo> responseObserver) {
+        int gridRadius = request.getGridRadius();
+        int slots = request.getSlotCount() == 0 ? SuperAIConstants.DEFAULT_OBSERVATION_SLOTS : request.getSlotCount();
+        if (gridRadius < 0 || gridRadius > SuperAIConstants.MAX_OBSERVATION_GRID_RADIUS
+                || slots < 1 || slots > SuperAIConstants.MAX_OBSERVATION_SLOTS || request.getIntervalTicks() < 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Invalid request: grid radius must be between 0 and "
+                            + SuperAIConstants.MAX_OBSERVATION_GRID_RADIUS + ", slot count at most "
+                            + SuperAIConstants.MAX_OBSERVATION_SLOTS + " and interval not negative")
+                    .asRuntimeException());
+            return;
+        }
+        
+        // The ring file is created on a worker thread, which reports failures on the stream
+        ObservationChannelManager.getInstance().open(
+                (ServerCallStreamObserver<ObservationChannelInfo>) responseObserver,
+                gridRadius, slots, Math.max(1, request.getIntervalTicks()));
+    }
+    
     /**
-     * Executes a player action.
+     * Copies the collision shapes a simulation of the given length can reach.
      *
-     * @param player the player to control
-     * @param action the action to execute
-     * @param parameters optional action parameters
-     * @return true if action was successful
+     * @param player the player
+     * @param start the simulation start state
+     * @param ticks the longest candidate in ticks
+     * @return the snapshot
      */
-    private boolean executePlayerAction(LocalPlayer player, PlayerAction action,
-                                       java.util.Map<String, String> parameters) {
-        try {
-            switch (action) {
-                case MOVE_FORWARD:
-                    // Handle movement through input system
-                    // player.input.forwardImpulse = 1.0f;
-                    return true;
-                case MOVE_BACKWARD:
-                    // player.input.forwardImpulse = -1.0f;
-                    return true;
-                case MOVE_LEFT:
-                    // player.input.leftImpulse = 1.0f;
-                    return true;
-                case MOVE_RIGHT:
-                    // player.input.rightImpulse = 1.0f;
-                    return true;
-                case JUMP:
-                    if (player.onGround()) {
-                        player.jumpFromGround();
-                    }
-                    return true;
-                case SNEAK:
-                    player.setShiftKeyDown(true);
-                    return true;
-                case SPRINT:
-                    player.setSprinting(true);
-                    return true;
-                case LOOK_UP:
-                case LOOK_DOWN:
-                case LOOK_LEFT:
-                case LOOK_RIGHT:
-                    // Handle rotation
-                    float rotationAmount = 10.0f; // degrees
-                    if (parameters != null && parameters.containsKey("amount")) {
-                        rotationAmount = Float.parseFloat(parameters.get("amount"));
-                    }
-                    float currentYaw = player.getYRot();
-                    float currentPitch = player.getXRot();
-                    
-                    switch (action) {
-                        case LOOK_UP:
-                            player.setXRot(Math.max(-90, currentPitch - rotationAmount));
-                            break;
-                        case LOOK_DOWN:
-                            player.setXRot(Math.min(90, currentPitch + rotationAmount));
-                            break;
-                        case LOOK_LEFT:
-                            player.setYRot(currentYaw - rotationAmount);
-                            break;
-                        case LOOK_RIGHT:
-                            player.setYRot(currentYaw + rotationAmount);
-                            break;
-                    }
-                    return true;
-                case ATTACK:
-                    // Trigger attack
-                    // player.attack(...);
-                    return true;
-                case USE_ITEM:
-                    // Use item in hand
-                    // player.useItem();
-                    return true;
-                case DROP_ITEM:
-                    // Drop item
-                    // player.drop(false);
-                    return true;
-                case OPEN_INVENTORY:
-                    // Open inventory
-                    // Minecraft.getInstance().setScreen(new InventoryScreen(...));
-                    return true;
-                case CLOSE_INVENTORY:
-                    // Close inventory
-                    // Minecraft.getInstance().setScreen(null);
-                    return true;
-                case SELECT_SLOT:
-                    if (parameters != null && parameters.containsKey("slot")) {
-                        int slot = Integer.parseInt(parameters.get("slot"));
-                        if (slot >= 0 && slot < 9) {
-                            player.getInventory().setSelectedSlot(slot);
-                            return true;
-                        }
-                    }
-                    return false;
-                default:
-                    return false;
+    private CollisionSnapshot captureSnapshot(LocalPlayer player, MovementStart start, int ticks) {
+        // Sprint-jumping covers about six times the speed attribute per tick
+        double reach = start.movementSpeed() * 6.0 + start.velocity().horizontalDistance();
+        int radius = (int) Math.min(SuperAIConstants.MAX_SIMULATION_RADIUS, Math.ceil(ticks * reach) + 2);
+        return CollisionSnapshot.capture(player.level(), player.blockPosition(), radius, radius, SIMULATION_HEADROOM);
+    }
+    
+    /**
+     * Expands a candidate's steps into per-tick input and simulates it.
+     *
+     * @param snapshot the collision snapshot
+     * @param start the simulation start state
+     * @param candidate the candidate
+     * @return the predicted trajectory
+     */
+    private static Trajectory simulateCandidate(CollisionSnapshot snapshot, MovementStart start,
+                                                SimulationCandidate candidate) {
+        int ticks = 0;
+        for (SimulationStep step : candidate.getStepsList()) {
+            ticks += Math.max(1, step.getTicks());
+        }
+        HeldInput[] inputs = new HeldInput[ticks];
+        float[] yaws = new float[ticks];
+        float yaw = start.yaw();
+        int tick = 0;
+        for (SimulationStep step : candidate.getStepsList()) {
+            HeldInput input = ProtoConverter.toHeldInput(step.getInput());
+            if (step.hasYaw()) {
+                yaw = step.getYaw();
+            }
+            for (int i = Math.max(1, step.getTicks()); i > 0; i--) {
+                inputs[tick] = input;
+                yaws[tick++] = yaw;
+            }
+        }
+        return MovementSimulator.simulate(snapshot, start, inputs, yaws);
+    }
+    
+    /**
+     * Converts a predicted trajectory to its protobuf message.
+     *
+     * @param trajectory the trajectory
+     * @param origin the start position, reported when no tick was simulated
+     * @param includeTrajectory whether to list every tick's position
+     * @return the SimulationResult protobuf message
+     */
+    private static SimulationResult toSimulationResult(Trajectory trajectory, Vec3 origin, boolean includeTrajectory) {
+        List<Vec3> positions = trajectory.positions();
+        SimulationResult.Builder result = SimulationResult.newBuilder()
+                .setFinalPosition(ProtoConverter.toPosition(positions.isEmpty()
+                        ? origin
+                        : positions.get(positions.size() - 1)))
+                .setOnGround(trajectory.onGround())
+                .setHorizontalCollision(trajectory.horizontalCollision())
+                .setTruncated(trajectory.truncated())
+                .setTicks(trajectory.ticks());
+        if (includeTrajectory) {
+            for (Vec3 position : positions) {
+                result.addTrajectory(ProtoConverter.toPosition(position));
             }
-        } catch (Exception e) {
-            LOGGER.error("Error executing action: " + action, e);
-            return false;
         }
+        return result.build();
     }
     
     /**
-     * Gets the current player state.
+     * Builds the MoveToPosition response for a planned route.
+     *
+     * @param result the search result
+     * @return the response listing every known position of the route
+     */
+    private MoveToPositionResponse toMoveResponse(PathResult result) {
+        MoveToPositionResponse.Builder response = MoveToPositionResponse.newBuilder();
+        if (result.isEmpty()) {
+            return response.setSuccess(false)
+                    .setErrorMessage("No walkable starting position")
+                    .build();
+        }
+
+        List<BlockPos> route = result.fullRoute();
+        for (BlockPos node : route) {
+            response.addPath(ProtoConverter.toPosition(Vec3.atBottomCenterOf(node)));
+        }
+        response.setSuccess(result.complete());
+        if (!result.complete()) {
+            response.setErrorMessage(String.format(
+                    "Target unreachable within search limit, moving to closest position (%d nodes expanded)",
+                    result.expandedNodes()));
+        }
+        LOGGER.debug("Route of {} positions found in {} us ({} nodes expanded, complete={})",
+                route.size(), result.elapsedNanos() / 1000, result.expandedNodes(), result.complete());
+        return response.build();
+    }
+    
+    /**
+     * Gets the current player state, using the tracker's cached inventory conversion.
      *
      * @param player the player
+     * @param knownInventoryVersion inventory version the client already has, 0 if none
      * @return PlayerState protobuf message
      */
-    private PlayerState getPlayerState(LocalPlayer player) {
-        PlayerState.Builder builder = PlayerState.newBuilder()
-                .setPlayerName(player.getName().getString())
-                .setPosition(ProtoConverter.toPosition(player.position()))
-                .setRotation(ProtoConverter.toRotation(player.getYRot(), player.getXRot()))
-                .setHealth(player.getHealth())
-                .setMaxHealth(player.getMaxHealth())
-                .setFoodLevel(player.getFoodData().getFoodLevel())
-                .setSaturation(player.getFoodData().getSaturationLevel())
-                .setExperienceLevel(player.experienceLevel)
-                .setExperienceProgress(player.experienceProgress)
-                .setIsSneaking(player.isShiftKeyDown())
-                .setIsSprinting(player.isSprinting())
-                .setIsOnGround(player.onGround())
-                .setIsFlying(player.getAbilities().flying)
-                .setSelectedSlot(player.getInventory().getSelectedSlot());
+    private PlayerState getPlayerState(LocalPlayer player, long knownInventoryVersion) {
+        InventoryTracker inventory = InventoryTracker.getInstance();
+        long version = inventory.sync(player);
         
-        // Add inventory items
-        for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
-            builder.addInventory(ProtoConverter.toItemInfo(player.getInventory().getItem(i)));
+        PlayerState.Builder builder = ProtoConverter.toPlayerStateBuilder(player)
+                .setInventoryVersion(version);
+        if (knownInventoryVersion != version) {
+            builder.addAllInventory(inventory.getItems());
         }
-        
-        // Add held item
-        builder.setHeldItem(ProtoConverter.toItemInfo(player.getMainHandItem()));
-        
         return builder.build();
     }
 }
@@ -0,0 +1,219 @@
+package com.supermc.ai.grpc.service;
+
+import com.supermc.ai.common.MainThreadQueue;
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.SuperAIExceptions;
+import com.supermc.ai.common.SuperAIWorkers;
+import com.supermc.ai.common.TaskPriority;
+import com.supermc.ai.grpc.proto.*;
+import com.supermc.ai.grpc.util.FlowControlledStream;
+import com.supermc.ai.grpc.util.OverflowPolicy;
+import com.supermc.ai.grpc.util.ProtoConverter;
+import com.supermc.ai.player.task.BlockTask;
+import com.supermc.ai.player.task.MineRegionTask;
+import com.supermc.ai.player.task.PlaceStructureTask;
+import com.supermc.ai.player.task.TaskManager;
+import com.mojang.logging.LogUtils;
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Implementation of the Task Service gRPC interface.
+ *
+ * Lets AI agents hand over whole mining and building jobs: the blocks are
+ * planned once and then broken or placed tick by tick by the
+ * {@link TaskManager}, with progress streamed back on the call.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskServiceImpl extends TaskServiceGrpc.TaskServiceImplBase {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    @Override
+    public void mineRegion(MineRegionRequest request, StreamObserver<TaskProgress> responseObserver) {
+        if (request == null || !request.hasFrom() || !request.hasTo()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Invalid request: from and to are required")
+                    .asRuntimeException());
+            return;
+        }
+        BlockPos from = ProtoConverter.toBlockPos(request.getFrom());
+        BlockPos to = ProtoConverter.toBlockPos(request.getTo());
+        long volume = (long) (Math.abs(from.getX() - to.getX()) + 1)
+                * (Math.abs(from.getY() - to.getY()) + 1)
+                * (Math.abs(from.getZ() - to.getZ()) + 1);
+        if (volume > SuperAIConstants.MAX_TASK_BLOCKS) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Region has more than " + SuperAIConstants.MAX_TASK_BLOCKS + " blocks")
+                    .asRuntimeException());
+            return;
+        }
+
+        Set<Block> filter = null;
+        try {
+            if (request.getBlockFilterCount() > 0) {
+                filter = new HashSet<>();
+                for (String id : request.getBlockFilterList()) {
+                    filter.add(parseBlock(id));
+                }
+            }
+        } catch (SuperAIExceptions.TaskException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            return;
+        }
+
+        Set<Block> blocks = filter;
+        start(responseObserver, player -> MineRegionTask.plan(player.level(), from, to, blocks,
+                request.getSelectBestTool()));
+    }
+
+    @Override
+    public void placeStructure(PlaceStructureRequest request, StreamObserver<TaskProgress> responseObserver) {
+        if (request == null || !request.hasOrigin()
+                || (request.getBlocksCount() == 0 && request.getStructureNbt().isEmpty())) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Invalid request: origin and blocks or structure_nbt are required")
+                    .asRuntimeException());
+            return;
+        }
+        if (request.getBlocksCount() > SuperAIConstants.MAX_TASK_BLOCKS
+                || request.getStructureNbt().size() > SuperAIConstants.MAX_STRUCTURE_NBT_BYTES) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Structure is too large: at most " + SuperAIConstants.MAX_TASK_BLOCKS
+                            + " blocks and " + SuperAIConstants.MAX_STRUCTURE_NBT_BYTES + " bytes")
+                    .asRuntimeException());
+            return;
+        }
+
+        // Resolve the structure on a worker thread, so invalid input never reaches the client thread and
+        // decompressing a structure file never holds up a network thread when handlers run on it
+        FlowControlledStream<TaskProgress> stream = FlowControlledStream.of(responseObserver, OverflowPolicy.CANCEL);
+        SuperAIWorkers.execute(Context.current().wrap(() -> {
+            Map<BlockPos, BlockState> blocks;
+            try {
+                blocks = resolveStructure(request);
+            } catch (SuperAIExceptions.TaskException e) {
+                stream.fail(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.error("Error reading structure", e);
+                stream.fail(Status.INTERNAL
+                        .withDescription("Failed to read structure: " + e.getMessage())
+                        .withCause(e)
+                        .asRuntimeException());
+                return;
+            }
+            start(stream, player -> PlaceStructureTask.plan(blocks));
+        }));
+    }
+
+    @Override
+    public void cancelTask(CancelTaskRequest request, StreamObserver<CancelTaskResponse> responseObserver) {
+        MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL, () -> {
+            LocalPlayer player = Minecraft.getInstance().player;
+            if (player == null) {
+                responseObserver.onError(Status.UNAVAILABLE
+                        .withDescription("Player not available")
+                        .asRuntimeException());
+                return;
+            }
+
+            if (!TaskManager.getInstance().cancel(request.getTaskId(), player)) {
+                responseObserver.onError(Status.NOT_FOUND
+                        .withDescription("Task not running: " + request.getTaskId())
+                        .asRuntimeException());
+                return;
+            }
+            responseObserver.onNext(CancelTaskResponse.newBuilder().setSuccess(true).build());
+            responseObserver.onCompleted();
+        });
+    }
+
+    /**
+     * Plans a task on the client thread and starts it.
+     *
+     * @param responseObserver the progress stream
+     * @param planner plans the task for the local player
+     */
+    private void start(StreamObserver<TaskProgress> responseObserver, Function<LocalPlayer, BlockTask> planner) {
+        start(FlowControlledStream.of(responseObserver, OverflowPolicy.CANCEL), planner);
+    }
+
+    /**
+     * Plans a task on the client thread and starts it.
+     *
+     * @param stream the progress stream
+     * @param planner plans the task for the local player
+     */
+    private void start(FlowControlledStream<TaskProgress> stream, Function<LocalPlayer, BlockTask> planner) {
+        MainThreadQueue.CLIENT.execute(TaskPriority.CONTROL, () -> {
+            try {
+                LocalPlayer player = Minecraft.getInstance().player;
+                if (player == null) {
+                    stream.fail(Status.UNAVAILABLE
+                            .withDescription("Player not available")
+                            .asRuntimeException());
+                    return;
+                }
+
+                String id = TaskManager.getInstance().start(planner.apply(player), stream, player);
+                LOGGER.info("Started task {}", id);
+
+            } catch (Exception e) {
+                LOGGER.error("Error starting task", e);
+                stream.fail(Status.INTERNAL
+                        .withDescription("Failed to start task: " + e.getMessage())
+                        .withCause(e)
+                        .asRuntimeException());
+            }
+        });
+    }
+
+    /**
+     * Resolves the blocks of a structure from its block list or structure file.
+     *
+     * @param request the request
+     * @return the block to place at each world position
+     * @throws SuperAIExceptions.TaskException if a block or the file is invalid
+     */
+    private static Map<BlockPos, BlockState> resolveStructure(PlaceStructureRequest request)
+            throws SuperAIExceptions.TaskException {
+        BlockPos origin = ProtoConverter.toBlockPos(request.getOrigin());
+        if (request.getBlocksCount() == 0) {
+            return PlaceStructureTask.readStructure(request.getStructureNbt().toByteArray(), origin);
+        }
+        Map<BlockPos, BlockState> blocks = new HashMap<>();
+        for (StructureBlock block : request.getBlocksList()) {
+            BlockPos offset = ProtoConverter.toBlockPos(block.getOffset());
+            blocks.put(origin.offset(offset), parseBlock(block.getBlockId()).defaultBlockState());
+        }
+        return blocks;
+    }
+
+    private static Block parseBlock(@Nullable String id) throws SuperAIExceptions.TaskException {
+        ResourceLocation location = id == null ? null : ResourceLocation.tryParse(id);
+        if (location == null) {
+            throw new SuperAIExceptions.TaskException("Invalid block id: " + id);
+        }
+        return BuiltInRegistries.BLOCK.getOptional(location)
+                .orElseThrow(() -> new SuperAIExceptions.TaskException("Unknown block: " + id));
+    }
+}
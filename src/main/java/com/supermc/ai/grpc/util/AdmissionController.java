@@ -0,0 +1,152 @@
+package com.supermc.ai.grpc.util;
+
+import com.supermc.ai.common.MainThreadQueue;
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.TaskPriority;
+import com.supermc.ai.config.SuperAIConfig;
+import com.mojang.logging.LogUtils;
+import io.grpc.StatusRuntimeException;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides whether a call may queue more main-thread work, based on the
+ * health of the thread that would run it.
+ *
+ * Control calls are always admitted. Perception and admin calls are shed
+ * once the thread's average tick time passes
+ * {@code performance.admissionMaxMspt} or its queue is deeper than
+ * {@code performance.admissionMaxQueueDepth}; state reads, which are cheap,
+ * only once the queue is twice that deep. Shed calls fail with
+ * RESOURCE_EXHAUSTED and a hint of when the queue will have caught up.
+ * Scans may instead be answered with a smaller surface-only scan.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class AdmissionController {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** Longest retry hint given (5 seconds) */
+    private static final long MAX_RETRY_AFTER_MS = 5000;
+
+    private static final AdmissionController INSTANCE = new AdmissionController();
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong degraded = new AtomicLong();
+
+    private AdmissionController() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     *
+     * @return the controller instance
+     */
+    public static AdmissionController getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Checks whether a call may queue work of the given class.
+     *
+     * @param queue the queue the work would go to
+     * @param priority the priority class of the work
+     * @return null if the call is admitted, otherwise the error to answer it with
+     */
+    @Nullable
+    public StatusRuntimeException admit(MainThreadQueue queue, TaskPriority priority) {
+        String reason = overload(queue, priority);
+        if (reason == null) {
+            return null;
+        }
+        rejected.incrementAndGet();
+        long retryAfter = retryAfterMs(queue);
+        LOGGER.debug("Rejected {} call: {}", priority, reason);
+        return GrpcErrors.resourceExhausted("Server overloaded (" + reason + "), retry in " + retryAfter + " ms",
+                retryAfter);
+    }
+
+    /**
+     * Checks whether work of the given class would currently be shed,
+     * without counting a rejection.
+     *
+     * @param queue the queue the work would go to
+     * @param priority the priority class of the work
+     * @return true if the work would be shed
+     */
+    public boolean isOverloaded(MainThreadQueue queue, TaskPriority priority) {
+        return overload(queue, priority) != null;
+    }
+
+    /**
+     * Checks whether a scan should be answered with a degraded scan instead
+     * of being rejected.
+     *
+     * @param queue the queue the scan would go to
+     * @return true if the scan should be degraded
+     */
+    public boolean degradeScan(MainThreadQueue queue) {
+        if (!SuperAIConfig.PERF_DEGRADE_SCANS_UNDER_LOAD.get() || !isOverloaded(queue, TaskPriority.PERCEPTION)) {
+            return false;
+        }
+        degraded.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Gets the number of calls rejected since startup.
+     *
+     * @return the rejected call count
+     */
+    public long rejectedCalls() {
+        return rejected.get();
+    }
+
+    /**
+     * Gets the number of scans degraded since startup.
+     *
+     * @return the degraded scan count
+     */
+    public long degradedScans() {
+        return degraded.get();
+    }
+
+    /**
+     * Describes why work of the given class would be shed.
+     *
+     * @return the reason, null if the work is admitted
+     */
+    @Nullable
+    private static String overload(MainThreadQueue queue, TaskPriority priority) {
+        if (priority == TaskPriority.CONTROL || !SuperAIConfig.PERF_ADMISSION_CONTROL.get()) {
+            return null;
+        }
+        int maxDepth = SuperAIConfig.PERF_ADMISSION_MAX_QUEUE_DEPTH.get();
+        int depth = queue.depth();
+        if (priority == TaskPriority.STATE) {
+            return depth > maxDepth * 2 ? "queue depth " + depth : null;
+        }
+        if (depth > maxDepth) {
+            return "queue depth " + depth;
+        }
+        double mspt = queue.averageTickNanos() / 1_000_000.0;
+        if (mspt > SuperAIConfig.PERF_ADMISSION_MAX_MSPT.get()) {
+            return String.format("average tick %.1f ms", mspt);
+        }
+        return null;
+    }
+
+    /**
+     * Estimates when the queue will have caught up: the ticks needed to drain
+     * it at the configured batch size, at the current tick time.
+     */
+    private static long retryAfterMs(MainThreadQueue queue) {
+        double tickMs = Math.max(SuperAIConstants.MS_PER_TICK, queue.averageTickNanos() / 1_000_000.0);
+        long ticks = 1 + queue.depth() / SuperAIConfig.PERF_MAIN_THREAD_BATCH_SIZE.get();
+        return Math.min(MAX_RETRY_AFTER_MS, (long) Math.ceil(ticks * tickMs));
+    }
+}
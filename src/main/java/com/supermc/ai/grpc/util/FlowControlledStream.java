@@ -0,0 +1,257 @@
+package com.supermc.ai.grpc.util;
+
+import com.supermc.ai.config.SuperAIConfig;
+import com.mojang.logging.LogUtils;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server stream that only hands messages to gRPC while the transport is
+ * ready for them.
+ *
+ * Messages sent while the consumer is behind wait in a queue of
+ * {@code performance.streamQueueCapacity} messages that is drained from
+ * gRPC's on-ready callback. When the queue is full the stream applies the
+ * {@link OverflowPolicy} its service chose, so a stuck consumer costs at most
+ * one queue and never buffers without bound in Netty. Streams of state
+ * snapshots conflate; streams of events cancel, so a client never misses an
+ * event without being told. Completion waits until the queue has drained.
+ *
+ * Must be created during the service method, before it returns. The other
+ * methods may be called from any thread.
+ *
+ * @param <T> the message type
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FlowControlledStream<T> {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final AtomicLong OVERFLOWED = new AtomicLong();
+
+    private final ServerCallStreamObserver<T> observer;
+    private final OverflowPolicy policy;
+    private final int capacity;
+    // Messages of type T or SerializedMessage
+    private final ArrayDeque<Object> queue = new ArrayDeque<>();
+
+    private volatile Runnable onCancel;
+    private volatile boolean closed;
+    private boolean completing;
+    private boolean dropped;
+
+    FlowControlledStream(ServerCallStreamObserver<T> observer, OverflowPolicy policy, int capacity) {
+        this.observer = observer;
+        this.policy = policy;
+        this.capacity = capacity;
+        observer.setOnReadyHandler(this::drain);
+        observer.setOnCancelHandler(() -> {
+            synchronized (this) {
+                closed = true;
+                queue.clear();
+            }
+            Runnable handler = onCancel;
+            if (handler != null) {
+                handler.run();
+            }
+        });
+    }
+
+    /**
+     * Wraps a response stream with the configured queue capacity.
+     *
+     * @param responseObserver the response stream passed to the service method
+     * @param policy what to do when the queue is full
+     * @param <T> the message type
+     * @return the stream
+     */
+    public static <T> FlowControlledStream<T> of(StreamObserver<T> responseObserver, OverflowPolicy policy) {
+        return new FlowControlledStream<>((ServerCallStreamObserver<T>) responseObserver, policy,
+                SuperAIConfig.PERF_STREAM_QUEUE_CAPACITY.get());
+    }
+
+    /**
+     * Sets the handler run when the client cancels the call. Unlike gRPC's
+     * own handler it may be set at any time.
+     *
+     * @param handler the handler
+     */
+    public void setOnCancelHandler(Runnable handler) {
+        onCancel = handler;
+        if (observer.isCancelled()) {
+            handler.run();
+        }
+    }
+
+    /**
+     * Sends a message, or queues it while the consumer is behind.
+     *
+     * @param message the message
+     * @return false if the stream has ended, so the caller can drop it
+     */
+    public boolean send(T message) {
+        return offer(message);
+    }
+
+    /**
+     * Sends a message serialized once for several streams, or queues it
+     * while the consumer is behind. The service must have been registered
+     * through {@link SerializedMessage#enable}.
+     *
+     * @param message the serialized message
+     * @return false if the stream has ended, so the caller can drop it
+     */
+    public boolean sendSerialized(SerializedMessage message) {
+        return offer(message);
+    }
+
+    private synchronized boolean offer(Object message) {
+        if (closed || completing) {
+            return false;
+        }
+        if (queue.isEmpty() && observer.isReady()) {
+            return emit(message);
+        }
+        if (queue.size() >= capacity) {
+            switch (policy) {
+                case CONFLATE -> {
+                    DROPPED.addAndGet(queue.size());
+                    queue.clear();
+                }
+                case CANCEL -> {
+                    OVERFLOWED.incrementAndGet();
+                    LOGGER.debug("Ending stream whose consumer is {} messages behind", queue.size());
+                    fail(Status.RESOURCE_EXHAUSTED
+                            .withDescription("Consumer too slow: " + queue.size() + " messages queued")
+                            .asRuntimeException());
+                    return false;
+                }
+            }
+            dropped = true;
+        }
+        queue.add(message);
+        return true;
+    }
+
+    /**
+     * Checks whether a producer of state should skip this update: the policy
+     * conflates and the consumer has not taken the previous message yet.
+     * Skipping at the source saves building a message that would only be
+     * replaced.
+     *
+     * @return true if the update should be skipped
+     */
+    public synchronized boolean isBehind() {
+        return policy == OverflowPolicy.CONFLATE && (!queue.isEmpty() || !observer.isReady());
+    }
+
+    /**
+     * Checks whether messages were dropped since the last call, e.g. so a
+     * delta-encoded stream can send a keyframe next.
+     *
+     * @return true if a message was dropped
+     */
+    public synchronized boolean takeDropped() {
+        boolean result = dropped;
+        dropped = false;
+        return result;
+    }
+
+    /**
+     * Completes the stream once the queued messages have been sent.
+     */
+    public synchronized void complete() {
+        if (closed || completing) {
+            return;
+        }
+        completing = true;
+        if (queue.isEmpty()) {
+            close(null);
+        }
+    }
+
+    /**
+     * Ends the stream with an error, dropping the queued messages.
+     *
+     * @param error the error
+     */
+    public synchronized void fail(Throwable error) {
+        if (closed) {
+            return;
+        }
+        queue.clear();
+        close(error);
+    }
+
+    /**
+     * Checks whether the stream has ended.
+     *
+     * @return true if the client cancelled the call or the stream was closed
+     */
+    public boolean isClosed() {
+        return closed || observer.isCancelled();
+    }
+
+    /**
+     * Gets the number of messages dropped by all streams since startup.
+     *
+     * @return the dropped message count
+     */
+    public static long droppedMessages() {
+        return DROPPED.get();
+    }
+
+    /**
+     * Gets the number of streams ended by {@link OverflowPolicy#CANCEL} since startup.
+     *
+     * @return the overflowed stream count
+     */
+    public static long overflowedStreams() {
+        return OVERFLOWED.get();
+    }
+
+    private synchronized void drain() {
+        while (!closed && !queue.isEmpty() && observer.isReady()) {
+            if (!emit(queue.poll())) {
+                return;
+            }
+        }
+        if (!closed && completing && queue.isEmpty()) {
+            close(null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean emit(Object message) {
+        try {
+            // A serialized message passes through to the shared marshaller
+            observer.onNext((T) message);
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Dropping stream that failed to send", e);
+            closed = true;
+            queue.clear();
+            return false;
+        }
+    }
+
+    private void close(Throwable error) {
+        closed = true;
+        try {
+            if (error == null) {
+                observer.onCompleted();
+            } else {
+                observer.onError(error);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.debug("Failed to close stream", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.supermc.ai.grpc.util;
+
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+/**
+ * Builds gRPC errors that carry hints in their trailers.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class GrpcErrors {
+
+    /** Milliseconds the client should wait before retrying */
+    public static final Metadata.Key<String> RETRY_AFTER_MS =
+            Metadata.Key.of("retry-after-ms", Metadata.ASCII_STRING_MARSHALLER);
+
+    /** Pushback honoured by gRPC clients with a retry policy */
+    public static final Metadata.Key<String> RETRY_PUSHBACK_MS =
+            Metadata.Key.of("grpc-retry-pushback-ms", Metadata.ASCII_STRING_MARSHALLER);
+
+    private GrpcErrors() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Creates a RESOURCE_EXHAUSTED error telling the client when to retry.
+     *
+     * @param description the error description
+     * @param retryAfterMs milliseconds the client should wait before retrying
+     * @return the error
+     */
+    public static StatusRuntimeException resourceExhausted(String description, long retryAfterMs) {
+        Metadata trailers = new Metadata();
+        trailers.put(RETRY_AFTER_MS, Long.toString(retryAfterMs));
+        trailers.put(RETRY_PUSHBACK_MS, Long.toString(retryAfterMs));
+        return Status.RESOURCE_EXHAUSTED
+                .withDescription(description)
+                .asRuntimeException(trailers);
+    }
+}
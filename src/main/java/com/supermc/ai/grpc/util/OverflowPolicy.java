@@ -0,0 +1,20 @@
+package com.supermc.ai.grpc.util;
+
+/**
+ * What a server stream does when its consumer falls so far behind that the
+ * stream's queue is full.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum OverflowPolicy {
+    /**
+     * Replace the queued messages with the newest one; state producers also
+     * skip updates while behind. Only for streams of snapshots, where the
+     * newest message supersedes the older ones.
+     */
+    CONFLATE,
+    /** End the stream with RESOURCE_EXHAUSTED, so no message is lost unnoticed; for event streams */
+    CANCEL
+}
@@ -1,6 +1,7 @@
 package com.supermc.ai.grpc.util;
 
 import com.supermc.ai.grpc.proto.*;
+import com.supermc.ai.player.controller.HeldInput;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
@@ -257,6 +258,75 @@ public final class ProtoConverter {
         return builder.build();
     }
     
+    /**
+     * Converts a Player to PlayerState protobuf message.
+     *
+     * @param player the Minecraft Player (local or server-side)
+     * @return the PlayerState protobuf message
+     */
+    public static PlayerState toPlayerState(Player player) {
+        return toPlayerState(player, true);
+    }
+    
+    /**
+     * Converts a Player to a full PlayerState protobuf message.
+     *
+     * @param player the Minecraft Player (local or server-side)
+     * @param includeInventory whether to convert every inventory slot
+     * @return the PlayerState protobuf message
+     */
+    public static PlayerState toPlayerState(Player player, boolean includeInventory) {
+        PlayerState.Builder builder = toPlayerStateBuilder(player);
+        
+        // Add inventory items
+        if (includeInventory) {
+            for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
+                builder.addInventory(toItemInfo(player.getInventory().getItem(i)));
+            }
+        }
+        
+        return builder.build();
+    }
+    
+    /**
+     * Converts a Player to a PlayerState builder with every field except the
+     * inventory, so callers can attach a cached inventory.
+     *
+     * @param player the Minecraft Player (local or server-side)
+     * @return the PlayerState builder
+     */
+    public static PlayerState.Builder toPlayerStateBuilder(Player player) {
+        return PlayerState.newBuilder()
+                .setPlayerName(player.getName().getString())
+                .setPosition(toPosition(player.position()))
+                .setRotation(toRotation(player.getYRot(), player.getXRot()))
+                .setHealth(player.getHealth())
+                .setMaxHealth(player.getMaxHealth())
+                .setFoodLevel(player.getFoodData().getFoodLevel())
+                .setSaturation(player.getFoodData().getSaturationLevel())
+                .setExperienceLevel(player.experienceLevel)
+                .setExperienceProgress(player.experienceProgress)
+                .setIsSneaking(player.isShiftKeyDown())
+                .setIsSprinting(player.isSprinting())
+                .setIsOnGround(player.onGround())
+                .setIsFlying(player.getAbilities().flying)
+                .setSelectedSlot(player.getInventory().getSelectedSlot())
+                .setHeldItem(toItemInfo(player.getMainHandItem()))
+                .setTick(player.level().getGameTime())
+                .setIsKeyframe(true);
+    }
+    
+    /**
+     * Converts an InputVector protobuf message to held input.
+     *
+     * @param input the InputVector protobuf message
+     * @return the held input, with impulses clamped to -1..1
+     */
+    public static HeldInput toHeldInput(InputVector input) {
+        return new HeldInput(input.getForward(), input.getStrafe(), input.getJump(), input.getSneak(),
+                input.getSprint(), input.getAttack(), input.getUse());
+    }
+    
     /**
      * Converts an ItemStack to ItemInfo protobuf message.
      *
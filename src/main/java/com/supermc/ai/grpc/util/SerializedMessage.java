@@ -0,0 +1,133 @@
+package com.supermc.ai.grpc.util;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A stream message serialized once so that every subscriber of a topic is
+ * sent the same bytes.
+ *
+ * gRPC serializes each message per call, so a message fanned out to many
+ * streams would be encoded once per stream. Services registered through
+ * {@link #enable(ServerServiceDefinition)} accept a {@code SerializedMessage}
+ * wherever a server-streaming method expects its response type, and write its
+ * bytes as they are.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SerializedMessage {
+
+    private final byte[] bytes;
+
+    private SerializedMessage(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Serializes a message.
+     *
+     * @param message the message
+     * @return the serialized message
+     */
+    public static SerializedMessage of(MessageLite message) {
+        return new SerializedMessage(message.toByteArray());
+    }
+
+    /**
+     * Lets the server-streaming methods of a service send serialized messages.
+     * Other methods are left as they are.
+     *
+     * The service descriptor is rebuilt around the new method descriptors and
+     * keeps the original schema descriptor, so server reflection still
+     * describes the service.
+     *
+     * @param service the bound service
+     * @return the service with shared-message marshallers
+     */
+    public static ServerServiceDefinition enable(ServerServiceDefinition service) {
+        ServiceDescriptor original = service.getServiceDescriptor();
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        ServiceDescriptor.Builder descriptor = ServiceDescriptor.newBuilder(original.getName())
+                .setSchemaDescriptor(original.getSchemaDescriptor());
+        for (ServerMethodDefinition<?, ?> method : service.getMethods()) {
+            ServerMethodDefinition<?, ?> bound =
+                    method.getMethodDescriptor().getType() == MethodDescriptor.MethodType.SERVER_STREAMING
+                            ? shared(method) : method;
+            methods.add(bound);
+            descriptor.addMethod(bound.getMethodDescriptor());
+        }
+
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(descriptor.build());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            builder.addMethod(method);
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <ReqT, RespT> ServerMethodDefinition<ReqT, Object> shared(
+            ServerMethodDefinition<ReqT, RespT> method) {
+        MethodDescriptor<ReqT, RespT> descriptor = method.getMethodDescriptor();
+        MethodDescriptor<ReqT, Object> shared = descriptor.toBuilder(descriptor.getRequestMarshaller(),
+                new SharedMarshaller<>(descriptor.getResponseMarshaller())).build();
+        // Handlers only pass responses on to the call, so they accept a serialized message too
+        return ServerMethodDefinition.create(shared,
+                (ServerCallHandler<ReqT, Object>) (ServerCallHandler<?, ?>) method.getServerCallHandler());
+    }
+
+    private static final class SharedMarshaller<T> implements MethodDescriptor.Marshaller<Object> {
+        private final MethodDescriptor.Marshaller<T> delegate;
+
+        SharedMarshaller(MethodDescriptor.Marshaller<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public InputStream stream(Object value) {
+            if (value instanceof SerializedMessage serialized) {
+                return new BytesStream(serialized.bytes);
+            }
+            return delegate.stream((T) value);
+        }
+
+        @Override
+        public Object parse(InputStream stream) {
+            return delegate.parse(stream);
+        }
+    }
+
+    /**
+     * Stream over shared bytes that gRPC can size and copy to the transport
+     * in one write.
+     */
+    private static final class BytesStream extends ByteArrayInputStream implements KnownLength, Drainable {
+
+        BytesStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            int length = count - pos;
+            target.write(buf, pos, length);
+            pos = count;
+            return length;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.supermc.ai.grpc.util;
+
+import com.google.protobuf.MessageLite;
+import com.mojang.logging.LogUtils;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Sends periodic stream updates from the client tick instead of a thread
+ * per stream.
+ *
+ * Subscriptions with the same source, canonical parameters and interval
+ * share a topic. A due topic builds its message once, serializes it once if
+ * it has several subscribers and sends the same bytes to each of them, so
+ * the cost grows with the number of topics rather than subscribers. Topics
+ * with the same interval fire on the same ticks. Subscribers whose consumer
+ * is behind are skipped, and a topic whose subscribers are all behind
+ * builds nothing. A subscription is removed when its client cancels the
+ * call, and a topic when its last subscriber leaves.
+ *
+ * Subscriptions may be added from any thread; {@link #tick(long)} must be
+ * called on the client thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class StreamScheduler {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final StreamScheduler INSTANCE = new StreamScheduler();
+
+    /**
+     * Builds the message of a topic.
+     *
+     * @param <K> the parameters of the topic
+     * @param <T> the message type
+     */
+    @FunctionalInterface
+    public interface Source<K, T> {
+        /**
+         * Builds a message. Called on the client thread.
+         *
+         * @param params the topic's parameters
+         * @return the message, or null to send nothing this time
+         * @throws StatusRuntimeException to end every stream of the topic
+         */
+        @Nullable
+        T build(K params);
+    }
+
+    private record TopicKey(Source<?, ?> source, Object params, int intervalTicks) {
+    }
+
+    private static final class Topic {
+        final List<FlowControlledStream<MessageLite>> streams = new CopyOnWriteArrayList<>();
+        long nextTick = Long.MIN_VALUE;
+    }
+
+    private final Map<TopicKey, Topic> topics = new ConcurrentHashMap<>();
+
+    private StreamScheduler() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     *
+     * @return the scheduler instance
+     */
+    public static StreamScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Adds a subscription. The subscription ends when the client cancels the call.
+     *
+     * @param source builds the messages
+     * @param params the canonical parameters; subscriptions with equal parameters share a topic
+     * @param intervalTicks ticks between messages
+     * @param stream the response stream
+     * @param <K> the parameter type
+     * @param <T> the message type
+     */
+    @SuppressWarnings("unchecked")
+    public <K, T extends MessageLite> void subscribe(Source<K, T> source, K params, int intervalTicks,
+                                                     FlowControlledStream<T> stream) {
+        TopicKey key = new TopicKey(source, params, Math.max(1, intervalTicks));
+        FlowControlledStream<MessageLite> member = (FlowControlledStream<MessageLite>) stream;
+        topics.compute(key, (k, topic) -> {
+            Topic joined = topic != null ? topic : new Topic();
+            joined.streams.add(member);
+            return joined;
+        });
+        stream.setOnCancelHandler(() -> leave(key, member));
+        LOGGER.debug("Stream subscriber added (every {} ticks, {} topics)", key.intervalTicks(), topics.size());
+    }
+
+    /**
+     * Ends every subscription with {@code UNAVAILABLE}, e.g. when the player
+     * leaves the world.
+     */
+    public void closeAll() {
+        if (topics.isEmpty()) {
+            return;
+        }
+        StatusRuntimeException error = Status.UNAVAILABLE
+                .withDescription("Player not available")
+                .asRuntimeException();
+        for (TopicKey key : topics.keySet()) {
+            Topic topic = topics.remove(key);
+            if (topic != null) {
+                topic.streams.forEach(stream -> stream.fail(error));
+            }
+        }
+    }
+
+    /**
+     * Sends a message to every topic that is due. Called once per client tick.
+     *
+     * @param tick the current game tick
+     */
+    public void tick(long tick) {
+        if (topics.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<TopicKey, Topic> entry : topics.entrySet()) {
+            TopicKey key = entry.getKey();
+            Topic topic = entry.getValue();
+            if (tick < topic.nextTick) {
+                continue;
+            }
+            // Aligned to the interval, so topics with the same interval fire together
+            topic.nextTick = (Math.floorDiv(tick, key.intervalTicks()) + 1) * key.intervalTicks();
+
+            boolean wanted = false;
+            for (FlowControlledStream<MessageLite> stream : topic.streams) {
+                if (stream.isClosed()) {
+                    leave(key, stream);
+                } else if (!stream.isBehind()) {
+                    wanted = true;
+                }
+            }
+            if (!wanted) {
+                continue;
+            }
+
+            MessageLite message;
+            try {
+                message = build(key);
+            } catch (StatusRuntimeException e) {
+                topics.remove(key, topic);
+                topic.streams.forEach(stream -> stream.fail(e));
+                continue;
+            } catch (RuntimeException e) {
+                LOGGER.error("Error building stream message", e);
+                topics.remove(key, topic);
+                StatusRuntimeException error = Status.INTERNAL
+                        .withDescription("Stream error: " + e.getMessage())
+                        .withCause(e)
+                        .asRuntimeException();
+                topic.streams.forEach(stream -> stream.fail(error));
+                continue;
+            }
+            if (message == null) {
+                continue;
+            }
+
+            SerializedMessage serialized = topic.streams.size() > 1 ? SerializedMessage.of(message) : null;
+            for (FlowControlledStream<MessageLite> stream : topic.streams) {
+                if (stream.isBehind()) {
+                    continue;
+                }
+                if (!(serialized != null ? stream.sendSerialized(serialized) : stream.send(message))) {
+                    leave(key, stream);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MessageLite build(TopicKey key) {
+        return ((Source<Object, MessageLite>) key.source()).build(key.params());
+    }
+
+    private void leave(TopicKey key, FlowControlledStream<MessageLite> stream) {
+        topics.computeIfPresent(key, (k, topic) -> {
+            topic.streams.remove(stream);
+            return topic.streams.isEmpty() ? null : topic;
+        });
+    }
+}
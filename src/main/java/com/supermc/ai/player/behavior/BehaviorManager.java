@@ -0,0 +1,257 @@
+package com.supermc.ai.player.behavior;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.SuperAIExceptions;
+import com.supermc.ai.grpc.proto.BehaviorEvent;
+import com.supermc.ai.grpc.proto.BehaviorEventType;
+import com.supermc.ai.player.controller.InputController;
+import com.supermc.ai.player.controller.PlayerActionExecutor;
+import com.supermc.ai.grpc.util.FlowControlledStream;
+import com.mojang.logging.LogUtils;
+import net.minecraft.client.player.LocalPlayer;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs uploaded behavior programs on the local player, one step per client tick.
+ *
+ * Each tick a running behavior checks the transitions of its current state
+ * in order and takes the first whose condition holds, then runs the
+ * per-tick actions of the state it is in. Conditions see the same
+ * {@link ConditionContext} as every other evaluation in that tick. State
+ * changes, failed actions and the end of a behavior are published to event
+ * subscribers.
+ *
+ * Behaviors run in the order they were started. All methods except
+ * {@link #subscribe} must be called on the client thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BehaviorManager {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final BehaviorManager INSTANCE = new BehaviorManager();
+
+    private static final class Running {
+        final String id;
+        final CompiledBehavior program;
+        int state;
+        int ticksInState;
+        int ticksRun;
+        boolean holding;
+
+        Running(String id, CompiledBehavior program) {
+            this.id = id;
+            this.program = program;
+        }
+    }
+
+    private record Subscriber(FlowControlledStream<BehaviorEvent> stream, String behaviorId) {
+    }
+
+    private final Map<String, Running> running = new LinkedHashMap<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    private BehaviorManager() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     *
+     * @return the manager instance
+     */
+    public static BehaviorManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts a behavior by entering its first state.
+     *
+     * @param program the compiled program
+     * @param player the local player
+     * @return the id of the running behavior
+     * @throws SuperAIExceptions.BehaviorException if too many behaviors are running
+     */
+    public String start(CompiledBehavior program, LocalPlayer player) throws SuperAIExceptions.BehaviorException {
+        if (running.size() >= SuperAIConstants.MAX_RUNNING_BEHAVIORS) {
+            throw new SuperAIExceptions.BehaviorException(
+                    "Maximum number of running behaviors reached: " + SuperAIConstants.MAX_RUNNING_BEHAVIORS,
+                    SuperAIConstants.ERROR_OPERATION_NOT_ALLOWED);
+        }
+
+        String id = (program.name.isEmpty() ? "behavior" : program.name) + "-" + nextId.getAndIncrement();
+        Running behavior = new Running(id, program);
+        running.put(id, behavior);
+        long tick = player.level().getGameTime();
+        publish(behavior, BehaviorEventType.BEHAVIOR_STARTED, tick, "");
+        if (!enter(behavior, 0, player, tick)) {
+            running.remove(id);
+        }
+        return id;
+    }
+
+    /**
+     * Stops a running behavior.
+     *
+     * @param id the behavior id
+     * @param player the local player
+     * @return true if the behavior was running
+     */
+    public boolean stop(String id, LocalPlayer player) {
+        Running behavior = running.remove(id);
+        if (behavior == null) {
+            return false;
+        }
+        finish(behavior, BehaviorEventType.BEHAVIOR_STOPPED, player.level().getGameTime(), "Stopped by request");
+        return true;
+    }
+
+    /**
+     * Stops every behavior, e.g. when the player leaves the world.
+     */
+    public void stopAll() {
+        for (Running behavior : new ArrayList<>(running.values())) {
+            publish(behavior, BehaviorEventType.BEHAVIOR_STOPPED, 0, "Player not available");
+        }
+        running.clear();
+    }
+
+    /**
+     * Adds an event subscriber. The subscription ends when the client cancels
+     * the call.
+     *
+     * @param stream the response stream
+     * @param behaviorId only deliver events of this behavior, empty for all
+     */
+    public void subscribe(FlowControlledStream<BehaviorEvent> stream, String behaviorId) {
+        Subscriber subscriber = new Subscriber(stream, behaviorId);
+        stream.setOnCancelHandler(() -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Advances every running behavior by one tick. Called once per client
+     * tick before held input is applied.
+     *
+     * @param player the local player
+     * @param context condition state of this tick
+     */
+    public void tick(LocalPlayer player, ConditionContext context) {
+        if (running.isEmpty()) {
+            return;
+        }
+
+        long tick = context.tick();
+        Iterator<Running> iterator = running.values().iterator();
+        while (iterator.hasNext()) {
+            Running behavior = iterator.next();
+            if (!step(behavior, player, context, tick)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Advances one behavior.
+     *
+     * @return false if the behavior has ended
+     */
+    private boolean step(Running behavior, LocalPlayer player, ConditionContext context, long tick) {
+        if (behavior.program.maxTicks > 0 && ++behavior.ticksRun > behavior.program.maxTicks) {
+            finish(behavior, BehaviorEventType.BEHAVIOR_STOPPED, tick, "max_ticks reached");
+            return false;
+        }
+
+        CompiledBehavior.State state = behavior.program.states[behavior.state];
+        for (int i = 0; i < state.targets().length; i++) {
+            if (behavior.ticksInState >= state.minTicks()[i] && state.conditions()[i].test(context)) {
+                if (!enter(behavior, state.targets()[i], player, tick)) {
+                    return false;
+                }
+                state = behavior.program.states[behavior.state];
+                break;
+            }
+        }
+
+        run(behavior, state.onTick(), player, tick);
+        behavior.ticksInState++;
+        return true;
+    }
+
+    /**
+     * Enters a state.
+     *
+     * @return false if the state is terminal and the behavior has ended
+     */
+    private boolean enter(Running behavior, int index, LocalPlayer player, long tick) {
+        CompiledBehavior.State state = behavior.program.states[index];
+        behavior.state = index;
+        behavior.ticksInState = 0;
+        publish(behavior, BehaviorEventType.BEHAVIOR_STATE_ENTERED, tick, "");
+
+        if (state.hold() != null) {
+            InputController.getInstance().hold(state.hold(), 0);
+            behavior.holding = true;
+        } else if (behavior.holding) {
+            InputController.getInstance().release();
+            behavior.holding = false;
+        }
+        run(behavior, state.onEnter(), player, tick);
+
+        if (state.terminal()) {
+            finish(behavior, BehaviorEventType.BEHAVIOR_COMPLETED, tick, "");
+            return false;
+        }
+        return true;
+    }
+
+    private void run(Running behavior, CompiledBehavior.Step[] steps, LocalPlayer player, long tick) {
+        for (CompiledBehavior.Step step : steps) {
+            if (!PlayerActionExecutor.execute(player, step.action(), step.parameters())) {
+                publish(behavior, BehaviorEventType.BEHAVIOR_ACTION_FAILED, tick, "Action failed: " + step.action());
+            }
+        }
+    }
+
+    private void finish(Running behavior, BehaviorEventType type, long tick, String message) {
+        if (behavior.holding) {
+            InputController.getInstance().release();
+            behavior.holding = false;
+        }
+        publish(behavior, type, tick, message);
+        LOGGER.debug("Behavior {} ended: {} {}", behavior.id, type, message);
+    }
+
+    private void publish(Running behavior, BehaviorEventType type, long tick, String message) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        BehaviorEvent event = BehaviorEvent.newBuilder()
+                .setBehaviorId(behavior.id)
+                .setType(type)
+                .setState(behavior.program.states[behavior.state].name())
+                .setTick(tick)
+                .setMessage(message)
+                .build();
+
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.behaviorId().isEmpty() && !subscriber.behaviorId().equals(behavior.id)) {
+                continue;
+            }
+            if (!subscriber.stream().send(event)) {
+                LOGGER.debug("Dropping behavior event subscriber");
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.supermc.ai.player.behavior;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.SuperAIExceptions;
+import com.supermc.ai.grpc.proto.BehaviorAction;
+import com.supermc.ai.grpc.proto.BehaviorProgram;
+import com.supermc.ai.grpc.proto.BehaviorState;
+import com.supermc.ai.grpc.proto.BehaviorTransition;
+import com.supermc.ai.grpc.proto.PlayerAction;
+import com.supermc.ai.grpc.util.ProtoConverter;
+import com.supermc.ai.player.controller.HeldInput;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A behavior program compiled into an indexed state machine.
+ *
+ * State names are resolved to indices and conditions compiled once, so a
+ * running behavior only walks arrays each tick.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class CompiledBehavior {
+
+    /**
+     * A primitive action with its parameters.
+     */
+    record Step(PlayerAction action, Map<String, String> parameters) {
+    }
+
+    /**
+     * One compiled state.
+     */
+    record State(String name, Step[] onEnter, Step[] onTick, @Nullable HeldInput hold,
+                 CompiledCondition[] conditions, int[] targets, int[] minTicks, boolean terminal) {
+    }
+
+    final String name;
+    final State[] states;
+    final int maxTicks;
+
+    private CompiledBehavior(String name, State[] states, int maxTicks) {
+        this.name = name;
+        this.states = states;
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Compiles a behavior program.
+     *
+     * @param program the program message
+     * @return the compiled program
+     * @throws SuperAIExceptions.BehaviorException if the program is invalid
+     */
+    public static CompiledBehavior compile(BehaviorProgram program) throws SuperAIExceptions.BehaviorException {
+        int count = program.getStatesCount();
+        if (count == 0) {
+            throw new SuperAIExceptions.BehaviorException("Behavior has no states");
+        }
+        if (count > SuperAIConstants.MAX_BEHAVIOR_STATES) {
+            throw new SuperAIExceptions.BehaviorException(
+                    "Behavior has more than " + SuperAIConstants.MAX_BEHAVIOR_STATES + " states");
+        }
+        if (program.getMaxTicks() < 0) {
+            throw new SuperAIExceptions.BehaviorException("max_ticks must not be negative");
+        }
+
+        Object2IntOpenHashMap<String> indices = new Object2IntOpenHashMap<>(count);
+        indices.defaultReturnValue(-1);
+        for (int i = 0; i < count; i++) {
+            String stateName = program.getStates(i).getName();
+            if (stateName.isEmpty() || indices.put(stateName, i) != -1) {
+                throw new SuperAIExceptions.BehaviorException("State names must be unique and non-empty: '"
+                        + stateName + "'");
+            }
+        }
+
+        State[] states = new State[count];
+        for (int i = 0; i < count; i++) {
+            states[i] = compileState(program.getStates(i), indices);
+        }
+        return new CompiledBehavior(program.getName(), states, program.getMaxTicks());
+    }
+
+    private static State compileState(BehaviorState state, Object2IntOpenHashMap<String> indices)
+            throws SuperAIExceptions.BehaviorException {
+        int transitionCount = state.getTransitionsCount();
+        CompiledCondition[] conditions = new CompiledCondition[transitionCount];
+        int[] targets = new int[transitionCount];
+        int[] minTicks = new int[transitionCount];
+
+        for (int i = 0; i < transitionCount; i++) {
+            BehaviorTransition transition = state.getTransitions(i);
+            targets[i] = indices.getInt(transition.getTarget());
+            if (targets[i] < 0) {
+                throw new SuperAIExceptions.BehaviorException("State '" + state.getName()
+                        + "' has a transition to unknown state '" + transition.getTarget() + "'");
+            }
+            conditions[i] = transition.hasWhen()
+                    ? ConditionCompiler.compile(transition.getWhen())
+                    : CompiledCondition.ALWAYS;
+            minTicks[i] = Math.max(0, transition.getMinTicksInState());
+        }
+
+        HeldInput hold = state.hasHold() ? ProtoConverter.toHeldInput(state.getHold()) : null;
+        return new State(state.getName(), compileSteps(state.getOnEnterList()), compileSteps(state.getOnTickList()),
+                hold, conditions, targets, minTicks, state.getTerminal());
+    }
+
+    private static Step[] compileSteps(List<BehaviorAction> actions) throws SuperAIExceptions.BehaviorException {
+        Step[] steps = new Step[actions.size()];
+        for (int i = 0; i < steps.length; i++) {
+            BehaviorAction action = actions.get(i);
+            if (action.getAction() == PlayerAction.PLAYER_ACTION_UNSPECIFIED
+                    || action.getAction() == PlayerAction.UNRECOGNIZED) {
+                throw new SuperAIExceptions.BehaviorException("Behavior action is not set");
+            }
+            steps[i] = new Step(action.getAction(), Map.copyOf(action.getParametersMap()));
+        }
+        return steps;
+    }
+}
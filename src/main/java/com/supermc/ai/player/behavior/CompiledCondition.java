@@ -0,0 +1,23 @@
+package com.supermc.ai.player.behavior;
+
+/**
+ * A condition compiled by {@link ConditionCompiler}.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface CompiledCondition {
+
+    /** Condition that always holds */
+    CompiledCondition ALWAYS = context -> true;
+
+    /**
+     * Evaluates the condition.
+     *
+     * @param context state of the current tick
+     * @return true if the condition holds
+     */
+    boolean test(ConditionContext context);
+}
@@ -0,0 +1,215 @@
+package com.supermc.ai.player.behavior;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.SuperAIExceptions;
+import com.supermc.ai.grpc.proto.BlockCondition;
+import com.supermc.ai.grpc.proto.Comparison;
+import com.supermc.ai.grpc.proto.Condition;
+import com.supermc.ai.grpc.proto.EntityNearbyCondition;
+import com.supermc.ai.grpc.proto.ItemCountCondition;
+import com.supermc.ai.grpc.proto.PlayerStat;
+import com.supermc.ai.grpc.proto.StatCondition;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.monster.Enemy;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Compiles condition messages into {@link CompiledCondition} trees.
+ *
+ * Everything that does not change between ticks is resolved once here:
+ * registry ids become item, block and entity type references, comparisons
+ * and stats become fixed lambdas, and limits are validated. Evaluating the
+ * result does no parsing or lookups.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ConditionCompiler {
+
+    private ConditionCompiler() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Compiles a condition.
+     *
+     * @param condition the condition message
+     * @return the compiled condition
+     * @throws SuperAIExceptions.BehaviorException if the condition is invalid
+     */
+    public static CompiledCondition compile(Condition condition) throws SuperAIExceptions.BehaviorException {
+        return compile(condition, new int[1]);
+    }
+
+    private static CompiledCondition compile(Condition condition, int[] nodes)
+            throws SuperAIExceptions.BehaviorException {
+        if (++nodes[0] > SuperAIConstants.MAX_CONDITION_NODES) {
+            throw new SuperAIExceptions.BehaviorException(
+                    "Condition has more than " + SuperAIConstants.MAX_CONDITION_NODES + " nodes");
+        }
+
+        return switch (condition.getKindCase()) {
+            case ALL -> {
+                CompiledCondition[] children = compileAll(condition.getAll().getConditionsList(), nodes);
+                yield context -> {
+                    for (CompiledCondition child : children) {
+                        if (!child.test(context)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+            }
+            case ANY -> {
+                CompiledCondition[] children = compileAll(condition.getAny().getConditionsList(), nodes);
+                yield context -> {
+                    for (CompiledCondition child : children) {
+                        if (child.test(context)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            }
+            case NOT -> {
+                CompiledCondition child = compile(condition.getNot(), nodes);
+                yield context -> !child.test(context);
+            }
+            case STAT -> compileStat(condition.getStat());
+            case ITEM_COUNT -> compileItemCount(condition.getItemCount());
+            case ENTITY_NEARBY -> compileEntityNearby(condition.getEntityNearby());
+            case BLOCK -> compileBlock(condition.getBlock());
+            case KIND_NOT_SET -> throw new SuperAIExceptions.BehaviorException("Condition kind is not set");
+        };
+    }
+
+    private static CompiledCondition[] compileAll(List<Condition> conditions, int[] nodes)
+            throws SuperAIExceptions.BehaviorException {
+        CompiledCondition[] compiled = new CompiledCondition[conditions.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = compile(conditions.get(i), nodes);
+        }
+        return compiled;
+    }
+
+    private static CompiledCondition compileStat(StatCondition stat) throws SuperAIExceptions.BehaviorException {
+        ToDoubleFunction<Player> value = switch (stat.getStat()) {
+            case STAT_HEALTH -> Player::getHealth;
+            case STAT_FOOD_LEVEL -> player -> player.getFoodData().getFoodLevel();
+            case STAT_SATURATION -> player -> player.getFoodData().getSaturationLevel();
+            case STAT_POSITION_X -> Player::getX;
+            case STAT_POSITION_Y -> Player::getY;
+            case STAT_POSITION_Z -> Player::getZ;
+            case STAT_YAW -> player -> Mth.wrapDegrees(player.getYRot());
+            case STAT_PITCH -> Player::getXRot;
+            case STAT_EXPERIENCE_LEVEL -> player -> player.experienceLevel;
+            case STAT_SELECTED_SLOT -> player -> player.getInventory().getSelectedSlot();
+            case STAT_ON_GROUND -> player -> player.onGround() ? 1.0 : 0.0;
+            case STAT_IN_WATER -> player -> player.isInWater() ? 1.0 : 0.0;
+            case STAT_AIR_SUPPLY -> Player::getAirSupply;
+            default -> throw new SuperAIExceptions.BehaviorException("Unknown stat: " + stat.getStat());
+        };
+        Comparison comparison = checkComparison(stat.getComparison());
+        double threshold = stat.getValue();
+        return context -> compare(value.applyAsDouble(context.player()), comparison, threshold);
+    }
+
+    private static CompiledCondition compileItemCount(ItemCountCondition condition)
+            throws SuperAIExceptions.BehaviorException {
+        Item item = BuiltInRegistries.ITEM.getOptional(parseId(condition.getItemId()))
+                .orElseThrow(() -> new SuperAIExceptions.BehaviorException("Unknown item: " + condition.getItemId()));
+        Comparison comparison = checkComparison(condition.getComparison());
+        int count = condition.getCount();
+        return context -> compare(context.countItem(item), comparison, count);
+    }
+
+    private static CompiledCondition compileEntityNearby(EntityNearbyCondition condition)
+            throws SuperAIExceptions.BehaviorException {
+        double radius = condition.getRadius();
+        if (radius <= 0.0 || radius > SuperAIConstants.MAX_CONDITION_ENTITY_RADIUS) {
+            throw new SuperAIExceptions.BehaviorException(
+                    "Entity radius must be between 0 and " + SuperAIConstants.MAX_CONDITION_ENTITY_RADIUS);
+        }
+
+        EntityType<?> type = null;
+        if (!condition.getEntityType().isEmpty()) {
+            type = BuiltInRegistries.ENTITY_TYPE.getOptional(parseId(condition.getEntityType()))
+                    .orElseThrow(() -> new SuperAIExceptions.BehaviorException(
+                            "Unknown entity type: " + condition.getEntityType()));
+        }
+
+        EntityType<?> requiredType = type;
+        boolean hostileOnly = condition.getHostileOnly();
+        double radiusSquared = radius * radius;
+        int minCount = Math.max(1, condition.getMinCount());
+        return context -> {
+            Player player = context.player();
+            int found = 0;
+            for (Entity entity : context.nearbyEntities()) {
+                if ((requiredType == null || entity.getType() == requiredType)
+                        && (!hostileOnly || entity instanceof Enemy)
+                        && entity.isAlive()
+                        && entity.distanceToSqr(player) <= radiusSquared
+                        && ++found >= minCount) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private static CompiledCondition compileBlock(BlockCondition condition)
+            throws SuperAIExceptions.BehaviorException {
+        int dx = Mth.floor(condition.getOffset().getX());
+        int dy = Mth.floor(condition.getOffset().getY());
+        int dz = Mth.floor(condition.getOffset().getZ());
+
+        if (condition.getBlockId().isEmpty()) {
+            return context -> !context.blockAt(dx, dy, dz).isAir();
+        }
+        Block block = BuiltInRegistries.BLOCK.getOptional(parseId(condition.getBlockId()))
+                .orElseThrow(() -> new SuperAIExceptions.BehaviorException("Unknown block: " + condition.getBlockId()));
+        return context -> {
+            BlockState state = context.blockAt(dx, dy, dz);
+            return state.is(block);
+        };
+    }
+
+    private static ResourceLocation parseId(String id) throws SuperAIExceptions.BehaviorException {
+        ResourceLocation location = ResourceLocation.tryParse(id);
+        if (location == null) {
+            throw new SuperAIExceptions.BehaviorException("Invalid registry id: " + id);
+        }
+        return location;
+    }
+
+    private static Comparison checkComparison(Comparison comparison) throws SuperAIExceptions.BehaviorException {
+        if (comparison == Comparison.COMPARISON_UNSPECIFIED || comparison == Comparison.UNRECOGNIZED) {
+            throw new SuperAIExceptions.BehaviorException("Comparison is required");
+        }
+        return comparison;
+    }
+
+    private static boolean compare(double value, Comparison comparison, double threshold) {
+        return switch (comparison) {
+            case LESS_THAN -> value < threshold;
+            case LESS_OR_EQUAL -> value <= threshold;
+            case GREATER_THAN -> value > threshold;
+            case GREATER_OR_EQUAL -> value >= threshold;
+            case EQUAL -> value == threshold;
+            case NOT_EQUAL -> value != threshold;
+            default -> false;
+        };
+    }
+}
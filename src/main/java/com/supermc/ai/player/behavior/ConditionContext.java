@@ -0,0 +1,107 @@
+package com.supermc.ai.player.behavior;
+
+import com.supermc.ai.common.SuperAIConstants;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.List;
+
+/**
+ * World and player state that conditions are evaluated against during one tick.
+ *
+ * Created once per client tick and shared by every condition evaluated in
+ * that tick. Expensive lookups (the nearby entity list, inventory item
+ * totals) are computed on first use and reused by all later conditions.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ConditionContext {
+
+    private final Player player;
+    private final long tick;
+    private final BlockPos feet;
+    private List<Entity> nearbyEntities;
+    private Object2IntOpenHashMap<Item> itemCounts;
+
+    /**
+     * Creates the context for the current tick.
+     *
+     * @param player the player conditions refer to
+     */
+    public ConditionContext(Player player) {
+        this.player = player;
+        this.tick = player.level().getGameTime();
+        this.feet = player.blockPosition();
+    }
+
+    /**
+     * Gets the player conditions refer to.
+     *
+     * @return the player
+     */
+    public Player player() {
+        return player;
+    }
+
+    /**
+     * Gets the game tick the context was created on.
+     *
+     * @return the game tick
+     */
+    public long tick() {
+        return tick;
+    }
+
+    /**
+     * Gets the block state at an offset from the player's feet.
+     *
+     * @param dx X offset
+     * @param dy Y offset
+     * @param dz Z offset
+     * @return the block state
+     */
+    public BlockState blockAt(int dx, int dy, int dz) {
+        return player.level().getBlockState(feet.offset(dx, dy, dz));
+    }
+
+    /**
+     * Gets the entities within the maximum condition radius of the player.
+     *
+     * @return entities other than the player, computed once per tick
+     */
+    public List<Entity> nearbyEntities() {
+        if (nearbyEntities == null) {
+            nearbyEntities = player.level().getEntities(player,
+                    player.getBoundingBox().inflate(SuperAIConstants.MAX_CONDITION_ENTITY_RADIUS));
+        }
+        return nearbyEntities;
+    }
+
+    /**
+     * Gets the total count of an item across every inventory slot.
+     *
+     * @param item the item
+     * @return the total count
+     */
+    public int countItem(Item item) {
+        if (itemCounts == null) {
+            itemCounts = new Object2IntOpenHashMap<>();
+            Inventory inventory = player.getInventory();
+            for (int i = 0; i < inventory.getContainerSize(); i++) {
+                ItemStack stack = inventory.getItem(i);
+                if (!stack.isEmpty()) {
+                    itemCounts.addTo(stack.getItem(), stack.getCount());
+                }
+            }
+        }
+        return itemCounts.getInt(item);
+    }
+}
@@ -0,0 +1,326 @@
+package com.supermc.ai.player.behavior;
+
+import com.google.protobuf.ByteString;
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.SuperAIExceptions;
+import com.supermc.ai.grpc.proto.Condition;
+import com.supermc.ai.grpc.proto.Trigger;
+import com.supermc.ai.grpc.proto.TriggerEvent;
+import com.supermc.ai.grpc.proto.WaitForResponse;
+import com.supermc.ai.grpc.util.FlowControlledStream;
+import com.mojang.logging.LogUtils;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Evaluates agent-registered conditions once per tick and notifies only when
+ * they hold, replacing client-side polling.
+ *
+ * Two kinds of watcher are supported: a one-shot wait that completes on the
+ * first tick its condition holds (or times out), and a trigger that emits an
+ * event every time its condition starts to hold. Watchers with identical
+ * conditions share one evaluation per tick; conditions are keyed by their
+ * serialized form.
+ *
+ * Registration and cancellation may happen on any thread and take effect at
+ * the start of the next tick; {@link #tick(ConditionContext)} must be called
+ * on the client thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TriggerManager {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final TriggerManager INSTANCE = new TriggerManager();
+
+    private static final class SharedCondition {
+        final ByteString key;
+        final CompiledCondition compiled;
+        final List<Watcher> watchers = new ArrayList<>();
+
+        SharedCondition(ByteString key, CompiledCondition compiled) {
+            this.key = key;
+            this.compiled = compiled;
+        }
+    }
+
+    private abstract static class Watcher {
+        SharedCondition condition;
+
+        /**
+         * Reacts to this tick's value of the condition.
+         *
+         * @return false once the watcher is done
+         */
+        abstract boolean update(long tick, boolean value);
+
+        abstract void close(StatusRuntimeException error);
+    }
+
+    private static final class Wait extends Watcher {
+        final ServerCallStreamObserver<WaitForResponse> observer;
+        final int timeoutTicks;
+        long deadline = Long.MAX_VALUE;
+
+        Wait(ServerCallStreamObserver<WaitForResponse> observer, int timeoutTicks) {
+            this.observer = observer;
+            this.timeoutTicks = timeoutTicks;
+        }
+
+        @Override
+        boolean update(long tick, boolean value) {
+            if (observer.isCancelled()) {
+                return false;
+            }
+            if (timeoutTicks > 0 && deadline == Long.MAX_VALUE) {
+                deadline = tick + timeoutTicks;
+            }
+            if (!value && tick < deadline) {
+                return true;
+            }
+            observer.onNext(WaitForResponse.newBuilder()
+                    .setSuccess(true)
+                    .setFired(value)
+                    .setTick(tick)
+                    .build());
+            observer.onCompleted();
+            return false;
+        }
+
+        @Override
+        void close(StatusRuntimeException error) {
+            if (!observer.isCancelled()) {
+                observer.onError(error);
+            }
+        }
+    }
+
+    private static final class Subscription {
+        final FlowControlledStream<TriggerEvent> stream;
+        final List<TriggerWatcher> triggers = new ArrayList<>();
+        boolean closed;
+
+        Subscription(FlowControlledStream<TriggerEvent> stream) {
+            this.stream = stream;
+        }
+    }
+
+    private static final class TriggerWatcher extends Watcher {
+        final Subscription subscription;
+        final String id;
+        final int cooldownTicks;
+        boolean previous;
+        long lastFired = Long.MIN_VALUE;
+
+        TriggerWatcher(Subscription subscription, String id, int cooldownTicks) {
+            this.subscription = subscription;
+            this.id = id;
+            this.cooldownTicks = cooldownTicks;
+        }
+
+        @Override
+        boolean update(long tick, boolean value) {
+            if (subscription.closed || subscription.stream.isClosed()) {
+                return false;
+            }
+            boolean rising = value && !previous;
+            previous = value;
+            if (rising && (lastFired == Long.MIN_VALUE || tick - lastFired >= cooldownTicks)) {
+                lastFired = tick;
+                return subscription.stream.send(TriggerEvent.newBuilder().setTriggerId(id).setTick(tick).build());
+            }
+            return true;
+        }
+
+        @Override
+        void close(StatusRuntimeException error) {
+            if (!subscription.closed) {
+                subscription.closed = true;
+                subscription.stream.fail(error);
+            }
+        }
+    }
+
+    private final Map<ByteString, SharedCondition> conditions = new HashMap<>();
+    private final ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger watcherCount = new AtomicInteger();
+
+    private TriggerManager() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     *
+     * @return the manager instance
+     */
+    public static TriggerManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers a one-shot wait. The observer receives a single response on
+     * the first tick the condition holds or when the timeout elapses.
+     *
+     * @param condition the condition to wait for
+     * @param timeoutTicks ticks to wait, 0 to wait until the call ends
+     * @param observer the response stream
+     * @throws SuperAIExceptions.BehaviorException if the condition is invalid or too many watchers exist
+     */
+    public void waitFor(Condition condition, int timeoutTicks, ServerCallStreamObserver<WaitForResponse> observer)
+            throws SuperAIExceptions.BehaviorException {
+        CompiledCondition compiled = ConditionCompiler.compile(condition);
+        reserve(1);
+
+        Wait wait = new Wait(observer, timeoutTicks);
+        observer.setOnCancelHandler(() -> pending.add(() -> detach(wait)));
+        pending.add(() -> attach(wait, condition.toByteString(), compiled));
+    }
+
+    /**
+     * Registers a set of triggers on one event stream. The stream stays open
+     * until the client cancels it.
+     *
+     * @param triggers the triggers to register
+     * @param stream the event stream
+     * @throws SuperAIExceptions.BehaviorException if a condition is invalid or too many watchers exist
+     */
+    public void subscribe(List<Trigger> triggers, FlowControlledStream<TriggerEvent> stream)
+            throws SuperAIExceptions.BehaviorException {
+        Subscription subscription = new Subscription(stream);
+        List<CompiledCondition> compiled = new ArrayList<>(triggers.size());
+        for (Trigger trigger : triggers) {
+            compiled.add(ConditionCompiler.compile(trigger.getCondition()));
+            subscription.triggers.add(new TriggerWatcher(subscription, trigger.getTriggerId(),
+                    Math.max(0, trigger.getCooldownTicks())));
+        }
+        reserve(triggers.size());
+
+        stream.setOnCancelHandler(() -> pending.add(() -> subscription.triggers.forEach(this::detach)));
+        pending.add(() -> {
+            for (int i = 0; i < triggers.size(); i++) {
+                attach(subscription.triggers.get(i), triggers.get(i).getCondition().toByteString(),
+                        compiled.get(i));
+            }
+        });
+    }
+
+    /**
+     * Evaluates every registered condition once and updates its watchers.
+     * Called once per client tick after the player has moved.
+     *
+     * @param context condition state of this tick
+     */
+    public void tick(ConditionContext context) {
+        Runnable change;
+        while ((change = pending.poll()) != null) {
+            change.run();
+        }
+        if (conditions.isEmpty()) {
+            return;
+        }
+
+        long tick = context.tick();
+        Iterator<SharedCondition> iterator = conditions.values().iterator();
+        while (iterator.hasNext()) {
+            SharedCondition condition = iterator.next();
+            boolean value = condition.compiled.test(context);
+            Iterator<Watcher> watchers = condition.watchers.iterator();
+            while (watchers.hasNext()) {
+                Watcher watcher = watchers.next();
+                boolean keep;
+                try {
+                    keep = watcher.update(tick, value);
+                } catch (RuntimeException e) {
+                    LOGGER.debug("Dropping condition watcher", e);
+                    keep = false;
+                }
+                if (!keep) {
+                    watchers.remove();
+                    watcher.condition = null;
+                    watcherCount.decrementAndGet();
+                }
+            }
+            if (condition.watchers.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Ends every wait and subscription with {@code UNAVAILABLE}, e.g. when the
+     * player leaves the world.
+     */
+    public void closeAll() {
+        Runnable change;
+        while ((change = pending.poll()) != null) {
+            change.run();
+        }
+        if (conditions.isEmpty()) {
+            return;
+        }
+
+        StatusRuntimeException error = Status.UNAVAILABLE
+                .withDescription("Player not available")
+                .asRuntimeException();
+        for (SharedCondition condition : conditions.values()) {
+            for (Watcher watcher : condition.watchers) {
+                try {
+                    watcher.close(error);
+                } catch (RuntimeException e) {
+                    LOGGER.debug("Failed to close condition watcher", e);
+                }
+                watcherCount.decrementAndGet();
+            }
+        }
+        conditions.clear();
+    }
+
+    /**
+     * Gets the number of distinct conditions currently evaluated each tick.
+     *
+     * @return the number of shared conditions
+     */
+    public int getConditionCount() {
+        return conditions.size();
+    }
+
+    private void reserve(int watchers) throws SuperAIExceptions.BehaviorException {
+        if (watcherCount.addAndGet(watchers) > SuperAIConstants.MAX_CONDITION_WATCHERS) {
+            watcherCount.addAndGet(-watchers);
+            throw new SuperAIExceptions.BehaviorException(
+                    "Maximum number of waits and triggers reached: " + SuperAIConstants.MAX_CONDITION_WATCHERS,
+                    SuperAIConstants.ERROR_OPERATION_NOT_ALLOWED);
+        }
+    }
+
+    private void attach(Watcher watcher, ByteString key, CompiledCondition compiled) {
+        SharedCondition condition = conditions.computeIfAbsent(key, k -> new SharedCondition(k, compiled));
+        condition.watchers.add(watcher);
+        watcher.condition = condition;
+    }
+
+    private void detach(Watcher watcher) {
+        SharedCondition condition = watcher.condition;
+        if (condition == null) {
+            return;
+        }
+        condition.watchers.remove(watcher);
+        watcher.condition = null;
+        watcherCount.decrementAndGet();
+        if (condition.watchers.isEmpty()) {
+            conditions.remove(condition.key);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.supermc.ai.player.controller;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.SuperAIExceptions;
+import com.supermc.ai.grpc.proto.ActionCompletion;
+import com.supermc.ai.grpc.proto.PlayerAction;
+import com.supermc.ai.grpc.util.FlowControlledStream;
+import com.supermc.ai.grpc.util.ProtoConverter;
+import com.supermc.ai.player.inventory.InventoryTracker;
+import com.mojang.logging.LogUtils;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.player.LocalPlayer;
+import org.slf4j.Logger;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs asynchronously submitted actions on their scheduled client tick and
+ * reports completions to subscribers.
+ *
+ * Submitting returns a ticket at once, so a client can keep many actions in
+ * flight on a single connection instead of waiting a round trip for each.
+ * Actions due on the same tick run in submission order, before the held
+ * input and path follower are applied, so their effects show up in that
+ * tick's movement.
+ *
+ * {@link #submit} and {@link #subscribe} may be called from any thread;
+ * {@link #tick(LocalPlayer)} must be called on the client thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ActionPipeline {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final ActionPipeline INSTANCE = new ActionPipeline();
+
+    private record PendingAction(long ticket, long tick, PlayerAction action, Map<String, String> parameters,
+                                 String clientId) {
+    }
+
+    private record Subscriber(FlowControlledStream<ActionCompletion> stream, String clientId) {
+    }
+
+    private final AtomicLong nextTicket = new AtomicLong(1);
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ConcurrentLinkedQueue<PendingAction> submitted = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<PendingAction> scheduled = new PriorityQueue<>(
+            Comparator.comparingLong(PendingAction::tick).thenComparingLong(PendingAction::ticket));
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile long currentTick;
+
+    private ActionPipeline() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     *
+     * @return the pipeline instance
+     */
+    public static ActionPipeline getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Schedules an action.
+     *
+     * @param action the action to run
+     * @param parameters action parameters
+     * @param scheduledTick game tick to run on; ticks already past run on the next tick
+     * @param clientId client whose completion stream receives the result, empty for any
+     * @return the ticket identifying the completion
+     * @throws SuperAIExceptions.PlayerControlException if too many actions are pending or the
+     *                                                  tick is too far ahead
+     */
+    public long submit(PlayerAction action, Map<String, String> parameters, long scheduledTick, String clientId)
+            throws SuperAIExceptions.PlayerControlException {
+        if (scheduledTick > gameTime() + SuperAIConstants.MAX_ACTION_SCHEDULE_AHEAD_TICKS) {
+            throw new SuperAIExceptions.PlayerControlException(
+                    "Actions can be scheduled at most " + SuperAIConstants.MAX_ACTION_SCHEDULE_AHEAD_TICKS
+                            + " ticks ahead", SuperAIConstants.ERROR_INVALID_PARAMETER);
+        }
+        if (pendingCount.incrementAndGet() > SuperAIConstants.MAX_PENDING_ACTIONS) {
+            pendingCount.decrementAndGet();
+            throw new SuperAIExceptions.PlayerControlException(
+                    "Too many pending actions", SuperAIConstants.ERROR_RATE_LIMIT_EXCEEDED);
+        }
+
+        long ticket = nextTicket.getAndIncrement();
+        submitted.add(new PendingAction(ticket, scheduledTick, action, Map.copyOf(parameters), clientId));
+        return ticket;
+    }
+
+    /**
+     * Adds a completion subscriber. The subscription ends when the client
+     * cancels the call.
+     *
+     * @param stream the response stream
+     * @param clientId only deliver completions for this client, empty for all
+     */
+    public void subscribe(FlowControlledStream<ActionCompletion> stream, String clientId) {
+        Subscriber subscriber = new Subscriber(stream, clientId);
+        stream.setOnCancelHandler(() -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Runs every action due on this tick. Called once per client tick.
+     *
+     * @param player the local player
+     */
+    public void tick(LocalPlayer player) {
+        long tick = player.level().getGameTime();
+        currentTick = tick;
+
+        PendingAction pending;
+        while ((pending = submitted.poll()) != null) {
+            scheduled.add(pending);
+        }
+
+        while ((pending = scheduled.peek()) != null && pending.tick() <= tick) {
+            scheduled.poll();
+            pendingCount.decrementAndGet();
+
+            boolean success = PlayerActionExecutor.execute(player, pending.action(), pending.parameters());
+            ActionCompletion.Builder completion = ActionCompletion.newBuilder()
+                    .setTicket(pending.ticket())
+                    .setAction(pending.action())
+                    .setSuccess(success)
+                    .setExecutedTick(tick)
+                    .setPosition(ProtoConverter.toPosition(player.position()))
+                    .setSelectedSlot(player.getInventory().getSelectedSlot())
+                    .setInventoryVersion(InventoryTracker.getInstance().sync(player));
+            if (!success) {
+                completion.setErrorMessage("Action failed: " + pending.action());
+            }
+            publish(completion.build(), pending.clientId());
+        }
+    }
+
+    /**
+     * Fails every pending action, e.g. when the player leaves the world.
+     */
+    public void cancelAll() {
+        PendingAction pending;
+        while ((pending = submitted.poll()) != null) {
+            scheduled.add(pending);
+        }
+        while ((pending = scheduled.poll()) != null) {
+            pendingCount.decrementAndGet();
+            publish(ActionCompletion.newBuilder()
+                    .setTicket(pending.ticket())
+                    .setAction(pending.action())
+                    .setSuccess(false)
+                    .setErrorMessage("Player not available")
+                    .setExecutedTick(currentTick)
+                    .build(), pending.clientId());
+        }
+    }
+
+    /**
+     * Gets the game time of the current world. Until the first tick after
+     * joining, the last tick seen still belongs to the previous world (or is
+     * 0), so the level is read directly; a read racing the client thread is
+     * off by at most one tick.
+     *
+     * @return the current game tick
+     */
+    private long gameTime() {
+        ClientLevel level = Minecraft.getInstance().level;
+        return level != null ? level.getGameTime() : currentTick;
+    }
+
+    private void publish(ActionCompletion completion, String clientId) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.clientId().isEmpty() && !subscriber.clientId().equals(clientId)) {
+                continue;
+            }
+            if (!subscriber.stream().send(completion)) {
+                LOGGER.debug("Dropping action completion subscriber");
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.supermc.ai.player.controller;
+
+import net.minecraft.client.player.ClientInput;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.world.entity.player.Input;
+import net.minecraft.world.phys.Vec2;
+
+/**
+ * Movement input that lets agents drive the local player through the same
+ * code path as the keyboard.
+ *
+ * Wraps the player's original input; while no agent input is set, every tick
+ * is delegated to it so that the human player keeps control.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class AgentInput extends ClientInput {
+
+    private final ClientInput delegate;
+    private boolean overriding;
+    private float forward;
+    private float strafe;
+    private boolean jump;
+    private boolean sneak;
+    private boolean sprint;
+
+    private AgentInput(ClientInput delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Installs an agent input on the player, reusing the existing one if present.
+     *
+     * The player object is recreated on respawn and dimension change, so this
+     * must be called before every use.
+     *
+     * @param player the local player
+     * @return the installed agent input
+     */
+    public static AgentInput install(LocalPlayer player) {
+        if (player.input instanceof AgentInput agentInput) {
+            return agentInput;
+        }
+        AgentInput agentInput = new AgentInput(player.input);
+        player.input = agentInput;
+        return agentInput;
+    }
+
+    /**
+     * Overrides the player's movement input until {@link #release()} is called.
+     *
+     * @param forward forward impulse (-1 to 1, negative moves backward)
+     * @param strafe strafe impulse (-1 to 1, positive moves left)
+     * @param jump whether jump is held
+     * @param sneak whether sneak is held
+     * @param sprint whether sprint is held
+     */
+    public void set(float forward, float strafe, boolean jump, boolean sneak, boolean sprint) {
+        this.forward = forward;
+        this.strafe = strafe;
+        this.jump = jump;
+        this.sneak = sneak;
+        this.sprint = sprint;
+        this.overriding = true;
+    }
+
+    /**
+     * Returns control to the wrapped input.
+     */
+    public void release() {
+        overriding = false;
+        forward = 0.0f;
+        strafe = 0.0f;
+        jump = false;
+        sneak = false;
+        sprint = false;
+    }
+
+    /**
+     * Checks whether agent input currently overrides the wrapped input.
+     *
+     * @return true if agent input is active
+     */
+    public boolean isOverriding() {
+        return overriding;
+    }
+
+    @Override
+    public void tick() {
+        if (!overriding) {
+            delegate.tick();
+            keyPresses = delegate.keyPresses;
+            moveVector = delegate.getMoveVector();
+            return;
+        }
+
+        keyPresses = new Input(forward > 0.0f, forward < 0.0f, strafe > 0.0f, strafe < 0.0f, jump, sneak, sprint);
+        Vec2 move = new Vec2(strafe, forward);
+        moveVector = move.lengthSquared() > 1.0f ? move.normalized() : move;
+    }
+}
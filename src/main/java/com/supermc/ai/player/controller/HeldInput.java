@@ -0,0 +1,39 @@
+package com.supermc.ai.player.controller;
+
+/**
+ * Input an agent holds down, applied to the local player every tick.
+ *
+ * @param forward forward impulse (-1 to 1, negative moves backward)
+ * @param strafe strafe impulse (-1 to 1, positive moves left)
+ * @param jump whether jump is held
+ * @param sneak whether sneak is held
+ * @param sprint whether sprint is held
+ * @param attack whether attack is held (mines the targeted block, attacks the targeted entity)
+ * @param use whether use is held (uses the held item or interacts with the target)
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record HeldInput(float forward, float strafe, boolean jump, boolean sneak, boolean sprint,
+                        boolean attack, boolean use) {
+
+    /** No input held */
+    public static final HeldInput NONE = new HeldInput(0.0f, 0.0f, false, false, false, false, false);
+
+    public HeldInput {
+        forward = Math.max(-1.0f, Math.min(1.0f, forward));
+        strafe = Math.max(-1.0f, Math.min(1.0f, strafe));
+    }
+
+    /**
+     * Creates movement-only input.
+     *
+     * @param forward forward impulse
+     * @param strafe strafe impulse
+     * @return the input
+     */
+    public static HeldInput movement(float forward, float strafe) {
+        return new HeldInput(forward, strafe, false, false, false, false, false);
+    }
+}
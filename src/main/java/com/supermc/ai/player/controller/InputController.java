@@ -0,0 +1,211 @@
+package com.supermc.ai.player.controller;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.MultiPlayerGameMode;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.EntityHitResult;
+import net.minecraft.world.phys.HitResult;
+
+/**
+ * Applies agent-held input to the local player once per client tick.
+ *
+ * An agent sets an input vector, optionally for a number of ticks, and it is
+ * re-applied every tick until it expires or is replaced, so one request
+ * expresses many ticks of behaviour with tick-accurate timing. Movement goes
+ * through {@link AgentInput}; attack and use drive the game mode directly,
+ * the same way holding the mouse buttons does, so they work while the game
+ * window is unfocused.
+ *
+ * All methods must be called on the client thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class InputController {
+
+    /** Ticks between repeated uses while use is held, matching vanilla right-click repeat */
+    private static final int USE_REPEAT_TICKS = 4;
+
+    private static final InputController INSTANCE = new InputController();
+
+    private HeldInput input;
+    private boolean timed;
+    private int remainingTicks;
+    private boolean attacking;
+    private int useCooldown;
+
+    private InputController() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     *
+     * @return the controller instance
+     */
+    public static InputController getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Holds input, replacing whatever is currently held. Takes effect on the
+     * next client tick.
+     *
+     * @param input the input to hold
+     * @param durationTicks ticks to hold it for, or 0 to hold until replaced or released
+     */
+    public void hold(HeldInput input, int durationTicks) {
+        LocalPlayer player = Minecraft.getInstance().player;
+        if (player != null && this.input != null) {
+            releaseButtons(player, input);
+        }
+        this.input = input;
+        this.timed = durationTicks > 0;
+        this.remainingTicks = durationTicks;
+        if (!input.use()) {
+            useCooldown = 0;
+        }
+    }
+
+    /**
+     * Releases all held input and hands movement back to the keyboard.
+     */
+    public void release() {
+        LocalPlayer player = Minecraft.getInstance().player;
+        if (player != null && input != null) {
+            releaseButtons(player, HeldInput.NONE);
+            AgentInput.install(player).release();
+        }
+        reset();
+    }
+
+    /**
+     * Drops held input without touching the player, e.g. when the player
+     * has left the world.
+     */
+    public void reset() {
+        input = null;
+        timed = false;
+        remainingTicks = 0;
+        attacking = false;
+        useCooldown = 0;
+    }
+
+    /**
+     * Checks whether input is currently held.
+     *
+     * @return true if input is held
+     */
+    public boolean isHolding() {
+        return input != null;
+    }
+
+    /**
+     * Gets the ticks left before the held input expires.
+     *
+     * @return the remaining ticks, or 0 if held indefinitely or nothing is held
+     */
+    public int getRemainingTicks() {
+        return timed ? remainingTicks : 0;
+    }
+
+    /**
+     * Applies the held input for this tick. Called once per client tick
+     * before the player moves.
+     *
+     * @param player the local player
+     */
+    public void tick(LocalPlayer player) {
+        if (input == null) {
+            return;
+        }
+        if (timed && remainingTicks <= 0) {
+            release();
+            return;
+        }
+
+        AgentInput.install(player).set(input.forward(), input.strafe(), input.jump(), input.sneak(),
+                input.sprint());
+
+        Minecraft minecraft = Minecraft.getInstance();
+        MultiPlayerGameMode gameMode = minecraft.gameMode;
+        if (gameMode != null && minecraft.screen == null) {
+            if (input.attack()) {
+                attack(player, gameMode, minecraft.hitResult);
+            }
+            if (input.use()) {
+                use(player, gameMode, minecraft.hitResult);
+            }
+        }
+
+        if (timed) {
+            remainingTicks--;
+        }
+    }
+
+    private void attack(LocalPlayer player, MultiPlayerGameMode gameMode, HitResult hit) {
+        if (hit instanceof EntityHitResult entityHit) {
+            // Holding attack swings whenever the weapon has recharged, like a player clicking on cooldown
+            if (!attacking || player.getAttackStrengthScale(0.0f) >= 1.0f) {
+                gameMode.attack(player, entityHit.getEntity());
+                player.swing(InteractionHand.MAIN_HAND);
+            }
+            attacking = true;
+        } else if (hit instanceof BlockHitResult blockHit && hit.getType() == HitResult.Type.BLOCK
+                && !player.level().getBlockState(blockHit.getBlockPos()).isAir()) {
+            // Starts a new break when the target changes, otherwise adds progress
+            if (gameMode.continueDestroyBlock(blockHit.getBlockPos(), blockHit.getDirection())) {
+                player.swing(InteractionHand.MAIN_HAND);
+            }
+            attacking = true;
+        } else if (attacking) {
+            gameMode.stopDestroyBlock();
+            attacking = false;
+        }
+    }
+
+    private void use(LocalPlayer player, MultiPlayerGameMode gameMode, HitResult hit) {
+        if (useCooldown > 0) {
+            useCooldown--;
+            return;
+        }
+        if (player.isUsingItem() || gameMode.isDestroying()) {
+            return;
+        }
+        useCooldown = USE_REPEAT_TICKS;
+
+        for (InteractionHand hand : InteractionHand.values()) {
+            InteractionResult result = InteractionResult.PASS;
+            if (hit instanceof EntityHitResult entityHit) {
+                result = gameMode.interact(player, entityHit.getEntity(), hand);
+            } else if (hit instanceof BlockHitResult blockHit && hit.getType() == HitResult.Type.BLOCK) {
+                result = gameMode.useItemOn(player, hand, blockHit);
+            }
+            if (!result.consumesAction() && !player.getItemInHand(hand).isEmpty()) {
+                result = gameMode.useItem(player, hand);
+            }
+            if (result.consumesAction()) {
+                player.swing(hand);
+                return;
+            }
+        }
+    }
+
+    private void releaseButtons(LocalPlayer player, HeldInput next) {
+        MultiPlayerGameMode gameMode = Minecraft.getInstance().gameMode;
+        if (gameMode == null) {
+            return;
+        }
+        if (attacking && !next.attack()) {
+            gameMode.stopDestroyBlock();
+            attacking = false;
+        }
+        if (input.use() && !next.use() && player.isUsingItem()) {
+            // Lets bows fire and stops eating, like letting go of the use button
+            gameMode.releaseUsingItem(player);
+        }
+    }
+}
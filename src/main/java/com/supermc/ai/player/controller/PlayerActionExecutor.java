@@ -0,0 +1,198 @@
+package com.supermc.ai.player.controller;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.grpc.proto.PlayerAction;
+import com.supermc.ai.player.pathfinding.PathFollower;
+import com.mojang.logging.LogUtils;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.screens.inventory.InventoryScreen;
+import net.minecraft.client.player.LocalPlayer;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+
+/**
+ * Executes discrete player actions on the local player.
+ *
+ * Shared by the synchronous {@code ExecuteAction} call and the
+ * {@link ActionPipeline}. Must be called on the client thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PlayerActionExecutor {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private PlayerActionExecutor() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Executes a player action.
+     *
+     * @param player the player to control
+     * @param action the action to execute
+     * @param parameters optional action parameters
+     * @return true if action was successful
+     */
+    public static boolean execute(LocalPlayer player, PlayerAction action, @Nullable Map<String, String> parameters) {
+        try {
+            switch (action) {
+                case MOVE_FORWARD:
+                    return holdMovement(1.0f, 0.0f, parameters);
+                case MOVE_BACKWARD:
+                    return holdMovement(-1.0f, 0.0f, parameters);
+                case MOVE_LEFT:
+                    return holdMovement(0.0f, 1.0f, parameters);
+                case MOVE_RIGHT:
+                    return holdMovement(0.0f, -1.0f, parameters);
+                case JUMP:
+                    if (player.onGround()) {
+                        player.jumpFromGround();
+                    }
+                    return true;
+                case SNEAK:
+                    player.setShiftKeyDown(enabled(parameters));
+                    return true;
+                case SPRINT:
+                    player.setSprinting(enabled(parameters));
+                    return true;
+                case LOOK_UP:
+                case LOOK_DOWN:
+                case LOOK_LEFT:
+                case LOOK_RIGHT:
+                    // Handle rotation
+                    float rotationAmount = 10.0f; // degrees
+                    if (parameters != null && parameters.containsKey("amount")) {
+                        rotationAmount = Float.parseFloat(parameters.get("amount"));
+                    }
+                    float currentYaw = player.getYRot();
+                    float currentPitch = player.getXRot();
+                    
+                    switch (action) {
+                        case LOOK_UP:
+                            player.setXRot(Math.max(-90, currentPitch - rotationAmount));
+                            break;
+                        case LOOK_DOWN:
+                            player.setXRot(Math.min(90, currentPitch + rotationAmount));
+                            break;
+                        case LOOK_LEFT:
+                            player.setYRot(currentYaw - rotationAmount);
+                            break;
+                        case LOOK_RIGHT:
+                            player.setYRot(currentYaw + rotationAmount);
+                            break;
+                    }
+                    return true;
+                case ATTACK:
+                    // A single click unless a duration is given, e.g. to mine a block
+                    PathFollower.getInstance().stop();
+                    InputController.getInstance().hold(
+                            new HeldInput(0.0f, 0.0f, false, false, false, true, false),
+                            durationTicks(parameters, 1));
+                    return true;
+                case USE_ITEM:
+                    PathFollower.getInstance().stop();
+                    InputController.getInstance().hold(
+                            new HeldInput(0.0f, 0.0f, false, false, false, false, true),
+                            durationTicks(parameters, 1));
+                    return true;
+                case DROP_ITEM:
+                    // One item, or the whole stack with full_stack=true, as with Q and Ctrl+Q
+                    boolean fullStack = parameters != null && Boolean.parseBoolean(parameters.get("full_stack"));
+                    if (!player.drop(fullStack)) {
+                        LOGGER.debug("Nothing to drop: selected slot is empty");
+                        return false;
+                    }
+                    return true;
+                case OPEN_INVENTORY:
+                    return openInventory(player);
+                case CLOSE_INVENTORY:
+                    if (Minecraft.getInstance().screen == null) {
+                        LOGGER.debug("No screen to close");
+                        return false;
+                    }
+                    // Tells the server as well when a container is open
+                    player.closeContainer();
+                    return true;
+                case SELECT_SLOT:
+                    if (parameters != null && parameters.containsKey("slot")) {
+                        int slot = Integer.parseInt(parameters.get("slot"));
+                        if (slot >= 0 && slot < 9) {
+                            player.getInventory().setSelectedSlot(slot);
+                            return true;
+                        }
+                    }
+                    return false;
+                default:
+                    return false;
+            }
+        } catch (Exception e) {
+            LOGGER.error("Error executing action: " + action, e);
+            return false;
+        }
+    }
+    
+    /**
+     * Opens the inventory the way the inventory key does.
+     *
+     * @param player the local player
+     * @return false if another screen is open
+     */
+    private static boolean openInventory(LocalPlayer player) {
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft.screen != null) {
+            LOGGER.debug("Not opening the inventory over {}", minecraft.screen.getClass().getSimpleName());
+            return false;
+        }
+        if (minecraft.gameMode != null && minecraft.gameMode.isServerControlledInventory()) {
+            // Riding a mount: the server opens the mount's inventory
+            player.sendOpenInventory();
+        } else {
+            minecraft.setScreen(new InventoryScreen(player));
+        }
+        return true;
+    }
+    
+    /**
+     * Holds a movement impulse for the action's duration.
+     *
+     * @param forward forward impulse
+     * @param strafe strafe impulse
+     * @param parameters action parameters, may contain {@code duration_ticks}
+     * @return true
+     */
+    private static boolean holdMovement(float forward, float strafe, @Nullable Map<String, String> parameters) {
+        PathFollower.getInstance().stop();
+        InputController.getInstance().hold(HeldInput.movement(forward, strafe),
+                durationTicks(parameters, SuperAIConstants.DEFAULT_MOVE_ACTION_TICKS));
+        return true;
+    }
+    
+    /**
+     * Reads the {@code enabled} parameter of a state action such as sneaking.
+     *
+     * @param parameters action parameters, may be null
+     * @return false only if the parameter is {@code false}, which stops the state
+     */
+    private static boolean enabled(@Nullable Map<String, String> parameters) {
+        return parameters == null || !"false".equalsIgnoreCase(parameters.get("enabled"));
+    }
+    
+    /**
+     * Reads the {@code duration_ticks} action parameter.
+     *
+     * @param parameters action parameters, may be null
+     * @param defaultTicks duration if the parameter is absent
+     * @return the duration in ticks, clamped to the held input limit
+     */
+    private static int durationTicks(@Nullable Map<String, String> parameters, int defaultTicks) {
+        if (parameters == null || !parameters.containsKey("duration_ticks")) {
+            return defaultTicks;
+        }
+        int ticks = Integer.parseInt(parameters.get("duration_ticks"));
+        return Math.max(1, Math.min(ticks, SuperAIConstants.MAX_HELD_INPUT_TICKS));
+    }
+}
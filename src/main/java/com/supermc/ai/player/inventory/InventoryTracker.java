@@ -0,0 +1,126 @@
+package com.supermc.ai.player.inventory;
+
+import com.supermc.ai.grpc.proto.ItemInfo;
+import com.supermc.ai.grpc.util.ProtoConverter;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks changes to the local player's inventory.
+ *
+ * Once per client tick, and whenever a consumer asks for an up-to-date view,
+ * the tracker compares every slot against a private copy taken on the previous
+ * check (item, count and components, via {@link ItemStack#matches}). Changed
+ * slots are converted to {@link ItemInfo} again and bump a version number;
+ * unchanged slots keep their cached conversion. Consumers remember the
+ * version they last saw and skip the inventory when it has not moved on.
+ *
+ * Must only be used on the client thread; {@link #getVersion()} may be read
+ * from any thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class InventoryTracker {
+
+    private static final InventoryTracker INSTANCE = new InventoryTracker();
+
+    private final List<ItemStack> snapshot = new ArrayList<>();
+    private final List<ItemInfo> converted = new ArrayList<>();
+    private List<ItemInfo> items = List.of();
+    private volatile long version;
+
+    private InventoryTracker() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     *
+     * @return the tracker instance
+     */
+    public static InventoryTracker getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Compares the player's inventory with the last snapshot. Called once per
+     * client tick.
+     *
+     * @param player the local player
+     */
+    public void tick(Player player) {
+        sync(player);
+    }
+
+    /**
+     * Brings the snapshot, cached conversions and version up to date with the
+     * player's inventory.
+     *
+     * @param player the local player
+     * @return the current version
+     */
+    public long sync(Player player) {
+        Inventory inventory = player.getInventory();
+        int size = inventory.getContainerSize();
+        boolean changed = false;
+
+        if (snapshot.size() != size) {
+            snapshot.clear();
+            converted.clear();
+            for (int i = 0; i < size; i++) {
+                ItemStack stack = inventory.getItem(i);
+                snapshot.add(stack.copy());
+                converted.add(ProtoConverter.toItemInfo(stack));
+            }
+            changed = true;
+        } else {
+            for (int i = 0; i < size; i++) {
+                ItemStack stack = inventory.getItem(i);
+                if (!ItemStack.matches(snapshot.get(i), stack)) {
+                    snapshot.set(i, stack.copy());
+                    converted.set(i, ProtoConverter.toItemInfo(stack));
+                    changed = true;
+                }
+            }
+        }
+
+        if (changed) {
+            items = List.copyOf(converted);
+            version++;
+        }
+        return version;
+    }
+
+    /**
+     * Gets the converted inventory as of the last {@link #sync(Player)}.
+     *
+     * @return one entry per slot, unmodifiable
+     */
+    public List<ItemInfo> getItems() {
+        return items;
+    }
+
+    /**
+     * Forgets the snapshot, e.g. when the player leaves the world. The next
+     * check starts a new version.
+     */
+    public void reset() {
+        snapshot.clear();
+        converted.clear();
+        items = List.of();
+    }
+
+    /**
+     * Gets the inventory contents version. Increases every time any slot changes.
+     *
+     * @return the current version
+     */
+    public long getVersion() {
+        return version;
+    }
+}
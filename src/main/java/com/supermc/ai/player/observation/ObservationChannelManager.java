@@ -0,0 +1,233 @@
+package com.supermc.ai.player.observation;
+
+import com.supermc.ai.common.SuperAIWorkers;
+import com.supermc.ai.grpc.proto.ObservationChannelInfo;
+import com.mojang.logging.LogUtils;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.fml.loading.FMLPaths;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes observation frames of the local player into shared-memory rings
+ * that co-located agents map and read without a copy through gRPC.
+ *
+ * Each {@code OpenObservationChannel} call gets its own ring file under
+ * {@code superai/observations} in the game directory. The call stays open
+ * as a lease: its first and only message describes the ring, and the ring
+ * is closed and its file deleted when the client cancels the call.
+ *
+ * Ring files are created on a worker thread. {@link #tick(Player)} must be
+ * called on the client thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ObservationChannelManager {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final ObservationChannelManager INSTANCE = new ObservationChannelManager();
+
+    private final List<Channel> channels = new CopyOnWriteArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+    private ObservationChannelManager() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     *
+     * @return the manager instance
+     */
+    public static ObservationChannelManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates a ring on a worker thread, sends its description and starts
+     * writing frames to it. Must be called during the service method, while
+     * the lease's cancel handler can still be set.
+     *
+     * @param observer the lease stream; the channel closes when the client cancels it
+     * @param gridRadius the block grid radius, 0 for no grid
+     * @param slots the number of frames kept
+     * @param intervalTicks ticks between frames
+     */
+    public void open(ServerCallStreamObserver<ObservationChannelInfo> observer, int gridRadius, int slots,
+                     int intervalTicks) {
+        AtomicReference<Channel> opened = new AtomicReference<>();
+        observer.setOnCancelHandler(() -> {
+            Channel channel = opened.get();
+            if (channel != null) {
+                remove(channel);
+            }
+        });
+
+        // Creating and mapping the ring file is disk work, kept off the network threads
+        SuperAIWorkers.execute(() -> {
+            Channel channel;
+            try {
+                channel = create(observer, gridRadius, slots, intervalTicks);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Error opening observation channel", e);
+                observer.onError(Status.INTERNAL
+                        .withDescription("Failed to open observation channel: " + e.getMessage())
+                        .withCause(e)
+                        .asRuntimeException());
+                return;
+            }
+            opened.set(channel);
+            channels.add(channel);
+            // The client may have cancelled before the channel was listed
+            if (observer.isCancelled()) {
+                remove(channel);
+            }
+            LOGGER.info("Opened observation channel {} ({} slots of {} bytes)", channel.ring.path(),
+                    channel.ring.slotCount(), channel.ring.slotSize());
+        });
+    }
+
+    /**
+     * Creates a ring and sends its description.
+     *
+     * @return the channel, not yet listed
+     * @throws IOException if the ring file cannot be created
+     */
+    private Channel create(ServerCallStreamObserver<ObservationChannelInfo> observer, int gridRadius, int slots,
+                           int intervalTicks) throws IOException {
+        Path path = FMLPaths.GAMEDIR.get().resolve("superai").resolve("observations")
+                .resolve("channel-" + nextId.getAndIncrement() + ".ring");
+        ObservationRing ring = ObservationRing.create(path, slots, ObservationFrame.size(gridRadius), gridRadius);
+        try {
+            // Frames may show what the player sees, so only the user running the game may read them
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.debug("Failed to restrict access to observation ring {}", path, e);
+        }
+
+        ObservationChannelInfo.Builder info = ObservationChannelInfo.newBuilder()
+                .setPath(path.toAbsolutePath().toString())
+                .setVersion(ObservationRing.VERSION)
+                .setHeaderSize(ObservationRing.HEADER_SIZE)
+                .setSlotCount(ring.slotCount())
+                .setSlotSize(ring.slotSize())
+                .setFrameSize(ring.frameSize())
+                .setGridRadius(gridRadius);
+        if (gridRadius > 0) {
+            info.addAllBlockIds(ObservationFrame.blockIds());
+        }
+
+        Channel channel = new Channel(observer, ring, gridRadius, intervalTicks);
+        try {
+            // Sent before the channel is listed, so later calls on the stream come from the client thread only
+            observer.onNext(info.build());
+        } catch (RuntimeException e) {
+            close(channel);
+            throw e;
+        }
+        return channel;
+    }
+
+    /**
+     * Ends every channel with {@code UNAVAILABLE}, e.g. when the player
+     * leaves the world.
+     */
+    public void closeAll() {
+        if (channels.isEmpty()) {
+            return;
+        }
+        StatusRuntimeException error = Status.UNAVAILABLE
+                .withDescription("Player not available")
+                .asRuntimeException();
+        for (Channel channel : channels) {
+            if (!remove(channel)) {
+                continue;
+            }
+            try {
+                channel.observer.onError(error);
+            } catch (RuntimeException e) {
+                LOGGER.debug("Failed to close observation channel stream", e);
+            }
+        }
+    }
+
+    /**
+     * Writes a frame to every channel that is due. Called once per client tick
+     * after the player has moved.
+     *
+     * @param player the local player
+     */
+    public void tick(Player player) {
+        if (channels.isEmpty()) {
+            return;
+        }
+
+        long tick = player.level().getGameTime();
+        for (Channel channel : channels) {
+            if (channel.observer.isCancelled()) {
+                remove(channel);
+                continue;
+            }
+            if (tick < channel.nextTick) {
+                continue;
+            }
+            channel.nextTick = tick + channel.intervalTicks;
+
+            ObservationFrame.write(channel.ring.begin(), player, channel.gridRadius, cursor);
+            channel.ring.commit();
+        }
+    }
+
+    /**
+     * Unlists a channel and closes it, unless another thread already has.
+     *
+     * @return true if this call closed the channel
+     */
+    private boolean remove(Channel channel) {
+        if (!channels.remove(channel)) {
+            return false;
+        }
+        close(channel);
+        return true;
+    }
+
+    private static void close(Channel channel) {
+        try {
+            channel.ring.close();
+            LOGGER.debug("Closed observation channel {}", channel.ring.path());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete observation ring {}", channel.ring.path(), e);
+        }
+    }
+
+    private static final class Channel {
+        final ServerCallStreamObserver<ObservationChannelInfo> observer;
+        final ObservationRing ring;
+        final int gridRadius;
+        final int intervalTicks;
+
+        long nextTick = Long.MIN_VALUE;
+
+        Channel(ServerCallStreamObserver<ObservationChannelInfo> observer, ObservationRing ring, int gridRadius,
+                int intervalTicks) {
+            this.observer = observer;
+            this.ring = ring;
+            this.gridRadius = gridRadius;
+            this.intervalTicks = intervalTicks;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.supermc.ai.player.observation;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed layout of an observation frame.
+ *
+ * Layout, all little-endian:
+ * <pre>
+ *  0  int64    game tick
+ *  8  float64  x, y, z
+ * 32  float64  velocity x, y, z (blocks per tick)
+ * 56  float32  yaw, pitch
+ * 64  float32  health, max health
+ * 72  int32    food level
+ * 76  float32  saturation
+ * 80  int32    flags, see the FLAG_ constants
+ * 84  int32    selected hotbar slot
+ * 88  int32    air supply
+ * 92  float32  fall distance
+ * 96  int32[]  block grid, if the grid radius r is above 0
+ * </pre>
+ *
+ * The block grid is a cube of side {@code 2r + 1} centred on the player's
+ * block position, indexed {@code ((dx + r) * side + (dy + r)) * side + (dz + r)}.
+ * Each entry is the block's id in the block registry; {@link #blockIds()}
+ * gives the name for each id. The ring's frame format word holds r.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ObservationFrame {
+
+    /** Size of the fields before the block grid */
+    public static final int PLAYER_SIZE = 96;
+
+    public static final int FLAG_ON_GROUND = 1;
+    public static final int FLAG_SPRINTING = 1 << 1;
+    public static final int FLAG_SNEAKING = 1 << 2;
+    public static final int FLAG_IN_WATER = 1 << 3;
+    public static final int FLAG_IN_LAVA = 1 << 4;
+    public static final int FLAG_FLYING = 1 << 5;
+    public static final int FLAG_HORIZONTAL_COLLISION = 1 << 6;
+    public static final int FLAG_SWIMMING = 1 << 7;
+
+    private ObservationFrame() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Gets the size of a frame.
+     *
+     * @param gridRadius the block grid radius, 0 for no grid
+     * @return the frame size in bytes
+     */
+    public static int size(int gridRadius) {
+        int side = 2 * gridRadius + 1;
+        return PLAYER_SIZE + (gridRadius > 0 ? side * side * side * Integer.BYTES : 0);
+    }
+
+    /**
+     * Gets the block registry names by id, for decoding the block grid.
+     *
+     * @return the block names, indexed by id
+     */
+    public static List<String> blockIds() {
+        List<String> ids = new ArrayList<>(BuiltInRegistries.BLOCK.size());
+        for (int id = 0; id < BuiltInRegistries.BLOCK.size(); id++) {
+            ids.add(BuiltInRegistries.BLOCK.getKey(BuiltInRegistries.BLOCK.byId(id)).toString());
+        }
+        return ids;
+    }
+
+    /**
+     * Writes a frame. Must be called on the client thread.
+     *
+     * @param frame the frame buffer, little-endian
+     * @param player the local player
+     * @param gridRadius the block grid radius, 0 for no grid
+     * @param cursor reused block position
+     */
+    public static void write(ByteBuffer frame, Player player, int gridRadius, BlockPos.MutableBlockPos cursor) {
+        Vec3 position = player.position();
+        Vec3 velocity = player.getDeltaMovement();
+        frame.putLong(0, player.level().getGameTime());
+        frame.putDouble(8, position.x);
+        frame.putDouble(16, position.y);
+        frame.putDouble(24, position.z);
+        frame.putDouble(32, velocity.x);
+        frame.putDouble(40, velocity.y);
+        frame.putDouble(48, velocity.z);
+        frame.putFloat(56, player.getYRot());
+        frame.putFloat(60, player.getXRot());
+        frame.putFloat(64, player.getHealth());
+        frame.putFloat(68, player.getMaxHealth());
+        frame.putInt(72, player.getFoodData().getFoodLevel());
+        frame.putFloat(76, player.getFoodData().getSaturationLevel());
+        frame.putInt(80, flags(player));
+        frame.putInt(84, player.getInventory().getSelectedSlot());
+        frame.putInt(88, player.getAirSupply());
+        frame.putFloat(92, (float) player.fallDistance);
+
+        if (gridRadius > 0) {
+            writeGrid(frame, player.level(), player.blockPosition(), gridRadius, cursor);
+        }
+    }
+
+    private static int flags(Player player) {
+        int flags = 0;
+        if (player.onGround()) {
+            flags |= FLAG_ON_GROUND;
+        }
+        if (player.isSprinting()) {
+            flags |= FLAG_SPRINTING;
+        }
+        if (player.isShiftKeyDown()) {
+            flags |= FLAG_SNEAKING;
+        }
+        if (player.isInWater()) {
+            flags |= FLAG_IN_WATER;
+        }
+        if (player.isInLava()) {
+            flags |= FLAG_IN_LAVA;
+        }
+        if (player.getAbilities().flying) {
+            flags |= FLAG_FLYING;
+        }
+        if (player.horizontalCollision) {
+            flags |= FLAG_HORIZONTAL_COLLISION;
+        }
+        if (player.isSwimming()) {
+            flags |= FLAG_SWIMMING;
+        }
+        return flags;
+    }
+
+    private static void writeGrid(ByteBuffer frame, Level level, BlockPos center, int radius,
+                                  BlockPos.MutableBlockPos cursor) {
+        int offset = PLAYER_SIZE;
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dy = -radius; dy <= radius; dy++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    cursor.set(center.getX() + dx, center.getY() + dy, center.getZ() + dz);
+                    frame.putInt(offset, BuiltInRegistries.BLOCK.getId(level.getBlockState(cursor).getBlock()));
+                    offset += Integer.BYTES;
+                }
+            }
+        }
+    }
+}
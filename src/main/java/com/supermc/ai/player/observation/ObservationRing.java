@@ -0,0 +1,199 @@
+package com.supermc.ai.player.observation;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Single-producer ring of fixed-size frames in a memory-mapped file.
+ *
+ * Layout, all little-endian:
+ * <pre>
+ * header (64 bytes)
+ *   0  int32  magic "SAIR"
+ *   4  int32  layout version
+ *   8  int32  slot count
+ *  12  int32  slot size in bytes, a multiple of 64
+ *  16  int32  frame size in bytes
+ *  20  int32  frame format word, defined by the writer
+ *  24  int64  sequence of the last published frame, 0 before the first
+ *  32  int32  1 once the writer has closed the ring
+ * slot i at 64 + i * slot size
+ *   0  int64  sequence lock: 2 * seq once frame seq is complete, odd while it is written
+ *   8  frame
+ * </pre>
+ *
+ * Frame {@code seq} (counted from 1) goes to slot {@code seq % slot count}.
+ * A reader takes the last published sequence from the header, reads the
+ * slot's lock, copies the frame and reads the lock again; the copy is
+ * valid if both reads equal {@code 2 * seq}. Otherwise the writer lapped
+ * the reader and it should start again from the header.
+ *
+ * The lock and header sequence are written with release semantics, so
+ * a reader that sees a published sequence also sees its frame.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ObservationRing {
+
+    /** "SAIR" read as a little-endian int32 */
+    public static final int MAGIC = 0x52494153;
+
+    /** Layout version */
+    public static final int VERSION = 1;
+
+    /** Size of the file header */
+    public static final int HEADER_SIZE = 64;
+
+    /** Size of the sequence lock in front of each frame */
+    public static final int SLOT_HEADER_SIZE = 8;
+
+    private static final int SLOT_ALIGNMENT = 64;
+    private static final int SEQUENCE_OFFSET = 24;
+    private static final int CLOSED_OFFSET = 32;
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INTS =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer[] frames;
+    private final int slotSize;
+    private final int frameSize;
+    private long sequence;
+
+    private ObservationRing(Path path, MappedByteBuffer buffer, int slots, int slotSize, int frameSize) {
+        this.path = path;
+        this.buffer = buffer;
+        this.slotSize = slotSize;
+        this.frameSize = frameSize;
+        this.frames = new ByteBuffer[slots];
+        for (int i = 0; i < slots; i++) {
+            frames[i] = buffer.slice(slotOffset(i) + SLOT_HEADER_SIZE, frameSize).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Creates the ring file, replacing any existing file, and maps it.
+     *
+     * @param path the file to create
+     * @param slots the number of frames kept
+     * @param frameSize the size of a frame in bytes
+     * @param format the frame format word stored in the header
+     * @return the ring
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static ObservationRing create(Path path, int slots, int frameSize, int format) throws IOException {
+        int slotSize = (SLOT_HEADER_SIZE + frameSize + SLOT_ALIGNMENT - 1) / SLOT_ALIGNMENT * SLOT_ALIGNMENT;
+        long fileSize = HEADER_SIZE + (long) slots * slotSize;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("Observation ring too large: " + fileSize + " bytes");
+        }
+
+        Files.createDirectories(path.getParent());
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, slots);
+        buffer.putInt(12, slotSize);
+        buffer.putInt(16, frameSize);
+        buffer.putInt(20, format);
+        // Magic last, so a reader that sees it sees the rest of the header
+        INTS.setRelease(buffer, 0, MAGIC);
+        return new ObservationRing(path, buffer, slots, slotSize, frameSize);
+    }
+
+    /**
+     * Starts writing the next frame. The returned buffer is the frame's slot;
+     * write it with absolute puts, then call {@link #commit()}.
+     *
+     * @return the frame buffer, little-endian
+     */
+    public ByteBuffer begin() {
+        long next = sequence + 1;
+        int slot = (int) (next % frames.length);
+        LONGS.setOpaque(buffer, slotOffset(slot), 2 * next - 1);
+        // The odd lock must be visible before any byte of the new frame
+        VarHandle.storeStoreFence();
+        return frames[slot];
+    }
+
+    /**
+     * Publishes the frame started by {@link #begin()}.
+     *
+     * @return the frame's sequence number
+     */
+    public long commit() {
+        long next = ++sequence;
+        LONGS.setRelease(buffer, slotOffset((int) (next % frames.length)), 2 * next);
+        LONGS.setRelease(buffer, SEQUENCE_OFFSET, next);
+        return next;
+    }
+
+    /**
+     * Marks the ring closed for readers and deletes the file. Readers that
+     * already mapped it keep their mapping.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    public void close() throws IOException {
+        INTS.setRelease(buffer, CLOSED_OFFSET, 1);
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Gets the ring file.
+     *
+     * @return the file path
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Gets the number of frames kept.
+     *
+     * @return the slot count
+     */
+    public int slotCount() {
+        return frames.length;
+    }
+
+    /**
+     * Gets the size of a slot, lock included.
+     *
+     * @return the slot size in bytes
+     */
+    public int slotSize() {
+        return slotSize;
+    }
+
+    /**
+     * Gets the size of a frame.
+     *
+     * @return the frame size in bytes
+     */
+    public int frameSize() {
+        return frameSize;
+    }
+
+    private int slotOffset(int slot) {
+        return HEADER_SIZE + slot * slotSize;
+    }
+}
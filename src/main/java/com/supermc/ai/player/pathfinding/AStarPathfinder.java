@@ -0,0 +1,365 @@
+package com.supermc.ai.player.pathfinding;
+
+import com.supermc.ai.common.SuperAIConstants;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A* search over standing positions for a walking player.
+ *
+ * Nodes are identified by packed block coordinates ({@link BlockPos#asLong})
+ * and stored in flat primitive arrays indexed through a long-keyed open
+ * addressing map, so a search allocates nothing per node once the arrays have
+ * grown. Each node is expanded at most once: neighbours already expanded
+ * are skipped before their walkability is read. Instances are reusable but
+ * not thread-safe.
+ *
+ * Moves: walking to any of the 8 horizontal neighbours (diagonals only when
+ * both adjacent cells are clear), jumping up one block, and dropping up to
+ * {@link #MAX_DROP} blocks.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class AStarPathfinder {
+
+    /** Horizontal neighbour offsets; the first four are cardinal */
+    private static final int[] DX = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] DZ = {0, 0, 1, -1, 1, -1, 1, -1};
+    private static final int CARDINAL_DIRECTIONS = 4;
+
+    /** Maximum safe fall height in blocks */
+    private static final int MAX_DROP = 3;
+
+    private static final float STRAIGHT_COST = 1.0f;
+    private static final float DIAGONAL_COST = (float) SuperAIConstants.SQRT_2;
+    private static final float STEP_UP_COST = 1.5f;
+    private static final float DROP_COST_PER_BLOCK = 0.5f;
+
+    /** Extra cost of entering water or standing on slowing blocks */
+    private static final float SLOW_PENALTY = 2.0f;
+
+    /** Heuristic weight of vertical distance; never exceeds the real cost of climbing or falling */
+    private static final float VERTICAL_HEURISTIC = 0.5f;
+
+    /** Slight overestimate that breaks ties toward the goal without hurting path quality */
+    private static final float TIE_BREAKER = 1.001f;
+
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private final Long2IntOpenHashMap nodeIndex = new Long2IntOpenHashMap(INITIAL_CAPACITY);
+    private final NodeHeap open = new NodeHeap();
+    private long[] positions = new long[INITIAL_CAPACITY];
+    private float[] costs = new float[INITIAL_CAPACITY];
+    private int[] parents = new int[INITIAL_CAPACITY];
+    private boolean[] closed = new boolean[INITIAL_CAPACITY];
+    private int nodeCount;
+
+    private WalkabilityView view;
+    private BoundingBox bounds;
+    private boolean useHeuristic;
+    private int goalX;
+    private int goalY;
+    private int goalZ;
+
+    public AStarPathfinder() {
+        nodeIndex.defaultReturnValue(-1);
+    }
+
+    /**
+     * Searches for a path between two positions.
+     *
+     * If the goal cannot be reached within {@code maxNodes} expansions, the
+     * returned path leads to the expanded position closest to the goal and is
+     * marked incomplete.
+     *
+     * @param view walkability source
+     * @param start the player's feet position
+     * @param goal the target feet position
+     * @param maxNodes maximum number of node expansions
+     * @param bounds optional region the search must stay inside
+     * @return the search result
+     */
+    public PathResult findPath(WalkabilityView view, BlockPos start, BlockPos goal, int maxNodes,
+                               @Nullable BoundingBox bounds) {
+        long startTime = System.nanoTime();
+        reset();
+        this.view = view;
+        this.bounds = bounds;
+        this.useHeuristic = true;
+        this.goalX = goal.getX();
+        this.goalY = goal.getY();
+        this.goalZ = goal.getZ();
+
+        try {
+            BlockPos origin = resolveStart(start);
+            if (origin == null) {
+                return PathResult.empty(System.nanoTime() - startTime);
+            }
+            boolean goalStandable = view.canStandAt(goalX, goalY, goalZ);
+
+            int startNode = addNode(origin.asLong(), 0.0f, -1);
+            open.insertOrDecrease(startNode, heuristic(origin.getX(), origin.getY(), origin.getZ()));
+
+            int best = startNode;
+            float bestHeuristic = Float.MAX_VALUE;
+            int reached = -1;
+            int expanded = 0;
+
+            while (!open.isEmpty() && expanded < maxNodes) {
+                int node = open.poll();
+                closed[node] = true;
+                expanded++;
+
+                long pos = positions[node];
+                int x = BlockPos.getX(pos);
+                int y = BlockPos.getY(pos);
+                int z = BlockPos.getZ(pos);
+
+                if (isGoal(x, y, z, goalStandable)) {
+                    reached = node;
+                    break;
+                }
+
+                float h = heuristic(x, y, z);
+                if (h < bestHeuristic) {
+                    bestHeuristic = h;
+                    best = node;
+                }
+
+                expand(node, x, y, z);
+            }
+
+            int end = reached >= 0 ? reached : best;
+            return new PathResult(reconstruct(end), List.of(), reached >= 0, costs[end], expanded,
+                    System.nanoTime() - startTime);
+        } finally {
+            this.view = null;
+            this.bounds = null;
+        }
+    }
+
+    /**
+     * Computes the cheapest movement cost from one position to each of several
+     * targets with a single Dijkstra search.
+     *
+     * Used to connect the entrances of a region without one search per pair.
+     *
+     * @param view walkability source
+     * @param start the standing position to search from
+     * @param targets packed target positions
+     * @param maxNodes maximum number of node expansions
+     * @param bounds optional region the search must stay inside
+     * @return the cost to each target, {@link Float#POSITIVE_INFINITY} where unreachable
+     */
+    public float[] costsTo(WalkabilityView view, BlockPos start, long[] targets, int maxNodes,
+                           @Nullable BoundingBox bounds) {
+        float[] result = new float[targets.length];
+        Arrays.fill(result, Float.POSITIVE_INFINITY);
+        if (targets.length == 0 || !view.canStandAt(start.getX(), start.getY(), start.getZ())) {
+            return result;
+        }
+
+        reset();
+        this.view = view;
+        this.bounds = bounds;
+        this.useHeuristic = false;
+
+        try {
+            Long2IntOpenHashMap targetIndex = new Long2IntOpenHashMap(targets.length);
+            targetIndex.defaultReturnValue(-1);
+            for (int i = 0; i < targets.length; i++) {
+                targetIndex.put(targets[i], i);
+            }
+
+            int remaining = targetIndex.size();
+            open.insertOrDecrease(addNode(start.asLong(), 0.0f, -1), 0.0f);
+            int expanded = 0;
+
+            while (!open.isEmpty() && expanded < maxNodes && remaining > 0) {
+                int node = open.poll();
+                closed[node] = true;
+                expanded++;
+
+                long pos = positions[node];
+                int target = targetIndex.remove(pos);
+                if (target >= 0) {
+                    result[target] = costs[node];
+                    remaining--;
+                }
+                expand(node, BlockPos.getX(pos), BlockPos.getY(pos), BlockPos.getZ(pos));
+            }
+
+            // Duplicate targets share the cost of their first occurrence
+            for (int i = 0; i < targets.length; i++) {
+                if (result[i] == Float.POSITIVE_INFINITY) {
+                    int node = nodeIndex.get(targets[i]);
+                    if (node != -1 && closed[node]) {
+                        result[i] = costs[node];
+                    }
+                }
+            }
+            return result;
+        } finally {
+            this.view = null;
+            this.bounds = null;
+        }
+    }
+
+    private void expand(int node, int x, int y, int z) {
+        for (int direction = 0; direction < DX.length; direction++) {
+            int nx = x + DX[direction];
+            int nz = z + DZ[direction];
+
+            if (direction >= CARDINAL_DIRECTIONS) {
+                // Diagonal moves must not clip the corners of either adjacent cell
+                if (view.isPassable(nx, y, z) && view.isPassable(nx, y + 1, z)
+                        && view.isPassable(x, y, nz) && view.isPassable(x, y + 1, nz)
+                        && view.canStandAt(nx, y, nz)) {
+                    relax(node, nx, y, nz, DIAGONAL_COST);
+                }
+                continue;
+            }
+
+            if (view.canStandAt(nx, y, nz)) {
+                relax(node, nx, y, nz, STRAIGHT_COST);
+                continue;
+            }
+
+            // Jump up one block, which needs head room above the current position
+            if (view.isPassable(x, y + 2, z) && view.canStandAt(nx, y + 1, nz)) {
+                relax(node, nx, y + 1, nz, STEP_UP_COST);
+                continue;
+            }
+
+            // Walk off an edge and fall onto the first floor below
+            if (view.isPassable(nx, y, nz) && view.isPassable(nx, y + 1, nz)) {
+                for (int drop = 1; drop <= MAX_DROP; drop++) {
+                    int ny = y - drop;
+                    if (!view.isPassable(nx, ny, nz)) {
+                        break;
+                    }
+                    if (view.isFloor(nx, ny - 1, nz)) {
+                        relax(node, nx, ny, nz, STRAIGHT_COST + drop * DROP_COST_PER_BLOCK);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void relax(int from, int x, int y, int z, float stepCost) {
+        if (bounds != null && !bounds.isInside(x, y, z)) {
+            return;
+        }
+
+        long key = BlockPos.asLong(x, y, z);
+        int node = nodeIndex.get(key);
+        if (node != -1 && closed[node]) {
+            // The heuristic is consistent (up to the tie breaker), so an expanded node has its final cost
+            return;
+        }
+
+        if (((view.flags(x, y, z) | view.flags(x, y - 1, z)) & BlockWalkability.SLOW) != 0) {
+            stepCost += SLOW_PENALTY;
+        }
+
+        float cost = costs[from] + stepCost;
+        if (node == -1) {
+            node = addNode(key, cost, from);
+        } else if (cost < costs[node]) {
+            costs[node] = cost;
+            parents[node] = from;
+        } else {
+            return;
+        }
+        open.insertOrDecrease(node, cost + heuristic(x, y, z));
+    }
+
+    private int addNode(long key, float cost, int parent) {
+        if (nodeCount == positions.length) {
+            int capacity = nodeCount * 2;
+            positions = Arrays.copyOf(positions, capacity);
+            costs = Arrays.copyOf(costs, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            closed = Arrays.copyOf(closed, capacity);
+        }
+        int node = nodeCount++;
+        positions[node] = key;
+        costs[node] = cost;
+        parents[node] = parent;
+        closed[node] = false;
+        nodeIndex.put(key, node);
+        return node;
+    }
+
+    private float heuristic(int x, int y, int z) {
+        if (!useHeuristic) {
+            return 0.0f;
+        }
+        return estimate(x - goalX, y - goalY, z - goalZ) * TIE_BREAKER;
+    }
+
+    /**
+     * Lower bound on the movement cost of a displacement under this search's cost model.
+     *
+     * @param dx X displacement
+     * @param dy Y displacement
+     * @param dz Z displacement
+     * @return the estimated cost
+     */
+    static float estimate(int dx, int dy, int dz) {
+        dx = Math.abs(dx);
+        dz = Math.abs(dz);
+        int diagonal = Math.min(dx, dz);
+        int straight = Math.max(dx, dz) - diagonal;
+        return diagonal * DIAGONAL_COST + straight * STRAIGHT_COST + Math.abs(dy) * VERTICAL_HEURISTIC;
+    }
+
+    private boolean isGoal(int x, int y, int z, boolean goalStandable) {
+        if (x == goalX && y == goalY && z == goalZ) {
+            return true;
+        }
+        if (goalStandable) {
+            return false;
+        }
+        // Unreachable goal blocks (mid-air, inside a wall) count as reached from any adjacent standing spot
+        int dx = x - goalX;
+        int dz = z - goalZ;
+        return dx * dx + dz * dz <= 2 && Math.abs(y - goalY) <= 1;
+    }
+
+    @Nullable
+    private BlockPos resolveStart(BlockPos start) {
+        // Slabs, paths and farmland put the player's feet inside the floor block
+        for (int offset : new int[]{0, 1, -1}) {
+            if (view.canStandAt(start.getX(), start.getY() + offset, start.getZ())) {
+                return start.offset(0, offset, 0);
+            }
+        }
+        return null;
+    }
+
+    private List<BlockPos> reconstruct(int end) {
+        List<BlockPos> path = new ArrayList<>();
+        for (int node = end; node != -1; node = parents[node]) {
+            path.add(BlockPos.of(positions[node]));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private void reset() {
+        open.clear(nodeCount);
+        nodeIndex.clear();
+        nodeCount = 0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.supermc.ai.player.pathfinding;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classifies block states for pathfinding.
+ *
+ * Classification depends only on the block state (collision shapes are
+ * resolved against an empty world), so results are cached per state and can
+ * be computed from any thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BlockWalkability {
+
+    /** The player's body can occupy the block */
+    public static final int PASSABLE = 1;
+
+    /** The player can stand on top of the block */
+    public static final int FLOOR = 1 << 1;
+
+    /** Moving through or on top of the block is slow (water, soul sand, honey) */
+    public static final int SLOW = 1 << 2;
+
+    /** Collision height below which a block is treated as flat ground (carpets, snow layers) */
+    private static final double THIN_SHAPE_HEIGHT = 3.0 / 16.0;
+
+    private static final Map<BlockState, Integer> CACHE = new ConcurrentHashMap<>();
+
+    private BlockWalkability() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Gets the walkability flags of a block state.
+     *
+     * @param state the block state
+     * @return a combination of {@link #PASSABLE}, {@link #FLOOR} and {@link #SLOW}
+     */
+    public static int flags(BlockState state) {
+        if (state.isAir()) {
+            return PASSABLE;
+        }
+        return CACHE.computeIfAbsent(state, BlockWalkability::classify);
+    }
+
+    private static int classify(BlockState state) {
+        if (isDangerous(state)) {
+            return 0;
+        }
+
+        int slow = isSlow(state) ? SLOW : 0;
+        VoxelShape shape = state.getCollisionShape(EmptyBlockGetter.INSTANCE, BlockPos.ZERO);
+        if (shape.isEmpty()) {
+            return PASSABLE | slow;
+        }
+        if (shape.max(Direction.Axis.Y) <= THIN_SHAPE_HEIGHT) {
+            return PASSABLE | FLOOR | slow;
+        }
+        // Fences and walls are taller than a jump, so they can neither be crossed nor stood on
+        if (shape.max(Direction.Axis.Y) > 1.0) {
+            return 0;
+        }
+        return FLOOR | slow;
+    }
+
+    private static boolean isSlow(BlockState state) {
+        return state.getFluidState().is(FluidTags.WATER)
+                || state.is(Blocks.SOUL_SAND)
+                || state.is(Blocks.HONEY_BLOCK);
+    }
+
+    private static boolean isDangerous(BlockState state) {
+        return state.getFluidState().is(FluidTags.LAVA)
+                || state.is(BlockTags.FIRE)
+                || state.is(Blocks.CACTUS)
+                || state.is(Blocks.MAGMA_BLOCK)
+                || state.is(Blocks.SWEET_BERRY_BUSH)
+                || state.is(Blocks.COBWEB)
+                || state.is(Blocks.POWDER_SNOW);
+    }
+}
@@ -0,0 +1,404 @@
+package com.supermc.ai.player.pathfinding;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.SuperAIWorkers;
+import it.unimi.dsi.fastutil.ints.Int2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Path search for routes of any length, in the style of HPA*.
+ *
+ * Short routes are searched directly at block level. Longer routes are first
+ * planned over the {@link PortalGraph} of chunk-column entrances; only the
+ * first {@link #REFINED_CROSSINGS} border crossings are then refined to
+ * blocks, and the remaining entrances are returned as waypoints so the caller
+ * can refine the next stretch once it gets there.
+ *
+ * Searches read only the {@link NavigationGrid}, so they run on worker
+ * threads via {@link #findPathAsync}; searches are serialized because they
+ * share the entrance graph. Sections whose walkability changes invalidate
+ * their cluster, which is rebuilt on demand by the next search that reaches it.
+ *
+ * Complete routes are kept in a {@link RouteCache}, so repeated trips between
+ * the same places cost two short connecting searches instead of a full plan.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class HierarchicalPathfinder {
+
+    /** Horizontal distance below which routes are searched directly at block level */
+    private static final int DIRECT_SEARCH_DISTANCE = 48;
+
+    /** Border crossings refined to blocks per returned segment */
+    private static final int REFINED_CROSSINGS = 3;
+
+    /** Maximum entrance nodes expanded by one abstract search */
+    private static final int ABSTRACT_MAX_NODES = 50_000;
+
+    /** Node expansion limit for searches within a single cluster */
+    private static final int CLUSTER_MAX_NODES = 8192;
+
+    /** Node expansion limit for direct searches that fall back after the abstract search fails */
+    private static final int FALLBACK_MAX_NODES = 50_000;
+
+    /** Minimum distance between start and goal for a route to be cached */
+    private static final int MIN_CACHED_DISTANCE = 16;
+
+    /** Node expansion limit for joining a cached route to nearby start and goal positions */
+    private static final int CONNECT_MAX_NODES = 512;
+
+    /** Local search index of the route's start */
+    private static final int START = 0;
+
+    /** Local search index of the route's goal */
+    private static final int GOAL = 1;
+
+    private static final HierarchicalPathfinder INSTANCE = new HierarchicalPathfinder();
+
+    private final PortalGraph graph = new PortalGraph();
+    private final AStarPathfinder pathfinder = new AStarPathfinder();
+    private final RouteCache routeCache = new RouteCache();
+    private final Queue<Long> dirtyClusters = new ConcurrentLinkedQueue<>();
+    private int epoch = -1;
+
+    // Abstract search state, indexed by local node index
+    private final Int2IntOpenHashMap localIndex = new Int2IntOpenHashMap();
+    private final NodeHeap open = new NodeHeap();
+    private int[] nodeIds = new int[256];
+    private float[] costs = new float[256];
+    private int[] parents = new int[256];
+    private int nodeCount;
+
+    private HierarchicalPathfinder() {
+        localIndex.defaultReturnValue(-1);
+    }
+
+    /**
+     * Gets the singleton instance of HierarchicalPathfinder.
+     *
+     * @return the singleton instance
+     */
+    public static HierarchicalPathfinder getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Subscribes to navigation grid changes that invalidate clusters and cached routes.
+     */
+    public void register() {
+        NavigationGrid.getInstance().addChangeListener(sectionKey -> {
+            dirtyClusters.add(ChunkPos.asLong(SectionPos.x(sectionKey), SectionPos.z(sectionKey)));
+            routeCache.sectionChanged(sectionKey);
+        });
+    }
+
+    /**
+     * Searches for a route on the shared worker pool.
+     *
+     * @param start the player's feet position
+     * @param goal the target feet position
+     * @return a future completed with the search result
+     */
+    public CompletableFuture<PathResult> findPathAsync(BlockPos start, BlockPos goal) {
+        return SuperAIWorkers.supply(() -> findPath(start, goal));
+    }
+
+    /**
+     * Searches for a route between two positions.
+     *
+     * For long routes the result holds block-level nodes for the first part
+     * of the route and the remaining entrances as waypoints; search again from
+     * the last node to continue.
+     *
+     * @param start the player's feet position
+     * @param goal the target feet position
+     * @return the search result
+     */
+    public synchronized PathResult findPath(BlockPos start, BlockPos goal) {
+        NavigationGrid grid = NavigationGrid.getInstance();
+        WalkabilityView view = grid.view();
+        bind(grid.getEpoch());
+
+        // Short hops are cheaper to search than to connect to a cached route
+        if (start.distSqr(goal) < MIN_CACHED_DISTANCE * MIN_CACHED_DISTANCE) {
+            return plan(grid, view, start, goal);
+        }
+
+        PathResult cached = findCached(view, start, goal);
+        if (cached != null) {
+            return cached;
+        }
+        PathResult result = plan(grid, view, start, goal);
+        routeCache.put(start, goal, result);
+        return result;
+    }
+
+    private PathResult plan(NavigationGrid grid, WalkabilityView view, BlockPos start, BlockPos goal) {
+        int dx = goal.getX() - start.getX();
+        int dz = goal.getZ() - start.getZ();
+        double horizontal = Math.sqrt((double) dx * dx + (double) dz * dz);
+        if (horizontal <= DIRECT_SEARCH_DISTANCE) {
+            int maxNodes = (int) Math.max(1.0, Math.sqrt(start.distSqr(goal)))
+                    * SuperAIConstants.PATHFINDING_NODES_PER_BLOCK;
+            return searchDirect(view, start, goal, maxNodes);
+        }
+
+        long startTime = System.nanoTime();
+        graph.begin(view, grid.getMinY(), grid.getMaxY());
+        try {
+            BlockPos origin = standable(view, start);
+            BlockPos target = standable(view, goal);
+            IntArrayList route = origin != null && target != null ? searchAbstract(view, origin, target) : null;
+            if (route == null) {
+                // No known route; walk toward the goal as far as the block-level search gets
+                return searchDirect(view, start, goal, FALLBACK_MAX_NODES);
+            }
+
+            // Refine up to the entrance node on the far side of the last refined crossing
+            int refined = Math.min(route.size(), REFINED_CROSSINGS * 2);
+            BlockPos segmentEnd = refined == 0 ? target : BlockPos.of(graph.node(route.getInt(refined - 1)).pos);
+            PathResult segment = searchDirect(view, origin, segmentEnd, CLUSTER_MAX_NODES * (REFINED_CROSSINGS + 1));
+            if (!segment.complete()) {
+                // The graph disagrees with the blocks; hand back what was found so the caller retries from there
+                return segment;
+            }
+
+            List<BlockPos> waypoints = new ArrayList<>(route.size() - refined + 1);
+            for (int i = refined; i < route.size(); i++) {
+                waypoints.add(BlockPos.of(graph.node(route.getInt(i)).pos));
+            }
+            if (refined > 0) {
+                waypoints.add(target);
+            }
+            return new PathResult(segment.nodes(), waypoints, true, segment.cost(),
+                    nodeCount + segment.expandedNodes(), System.nanoTime() - startTime);
+        } finally {
+            graph.end();
+        }
+    }
+
+    /**
+     * Plans over the entrance graph.
+     *
+     * @return entrance node ids from start to goal, or null if no route is known
+     */
+    private IntArrayList searchAbstract(WalkabilityView view, BlockPos start, BlockPos goal) {
+        long startCluster = ChunkPos.asLong(start.getX() >> 4, start.getZ() >> 4);
+        long goalCluster = ChunkPos.asLong(goal.getX() >> 4, goal.getZ() >> 4);
+
+        IntArrayList startEntrances = graph.connect(startCluster);
+        IntArrayList goalEntrances = graph.connect(goalCluster);
+        float[] startCosts = costsToEntrances(view, start, startEntrances, startCluster);
+        // Movement costs are nearly symmetric, so searching outward from the goal approximates the way in
+        float[] goalCosts = costsToEntrances(view, goal, goalEntrances, goalCluster);
+
+        Int2FloatOpenHashMap exitCosts = new Int2FloatOpenHashMap();
+        for (int i = 0; i < goalEntrances.size(); i++) {
+            if (goalCosts[i] != Float.POSITIVE_INFINITY) {
+                exitCosts.put(goalEntrances.getInt(i), goalCosts[i]);
+            }
+        }
+        if (exitCosts.isEmpty()) {
+            return null;
+        }
+
+        resetSearch();
+        addNode(-1, 0.0f, -1);
+        addNode(-1, Float.POSITIVE_INFINITY, -1);
+        for (int i = 0; i < startEntrances.size(); i++) {
+            if (startCosts[i] != Float.POSITIVE_INFINITY) {
+                relax(START, startEntrances.getInt(i), startCosts[i], goal);
+            }
+        }
+
+        int expanded = 0;
+        while (!open.isEmpty() && expanded < ABSTRACT_MAX_NODES) {
+            int current = open.poll();
+            if (current == GOAL) {
+                return reconstruct();
+            }
+            expanded++;
+
+            PortalGraph.Node node = graph.node(nodeIds[current]);
+            if (node == null) {
+                continue;
+            }
+
+            float exit = exitCosts.getOrDefault(node.id, Float.POSITIVE_INFINITY);
+            if (exit != Float.POSITIVE_INFINITY && costs[current] + exit < costs[GOAL]) {
+                costs[GOAL] = costs[current] + exit;
+                parents[GOAL] = current;
+                open.insertOrDecrease(GOAL, costs[GOAL]);
+            }
+
+            PortalGraph.Node partner = graph.node(node.partner);
+            if (partner != null) {
+                relax(current, partner.id, crossingCost(node, partner), goal);
+            }
+
+            graph.connect(node.cluster);
+            for (int i = 0; i < node.edges.length; i++) {
+                relax(current, node.edges[i], node.costs[i], goal);
+            }
+        }
+        return null;
+    }
+
+    private void relax(int from, int nodeId, float stepCost, BlockPos goal) {
+        PortalGraph.Node node = graph.node(nodeId);
+        if (node == null) {
+            return;
+        }
+
+        float cost = costs[from] + stepCost;
+        int local = localIndex.get(nodeId);
+        if (local == -1) {
+            local = addNode(nodeId, cost, from);
+        } else if (cost < costs[local]) {
+            costs[local] = cost;
+            parents[local] = from;
+        } else {
+            return;
+        }
+        open.insertOrDecrease(local, cost + AStarPathfinder.estimate(BlockPos.getX(node.pos) - goal.getX(),
+                BlockPos.getY(node.pos) - goal.getY(), BlockPos.getZ(node.pos) - goal.getZ()));
+    }
+
+    private int addNode(int nodeId, float cost, int parent) {
+        if (nodeCount == nodeIds.length) {
+            int capacity = nodeCount * 2;
+            nodeIds = Arrays.copyOf(nodeIds, capacity);
+            costs = Arrays.copyOf(costs, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+        }
+        int local = nodeCount++;
+        nodeIds[local] = nodeId;
+        costs[local] = cost;
+        parents[local] = parent;
+        if (nodeId >= 0) {
+            localIndex.put(nodeId, local);
+        }
+        return local;
+    }
+
+    private IntArrayList reconstruct() {
+        IntArrayList route = new IntArrayList();
+        for (int local = parents[GOAL]; local != START; local = parents[local]) {
+            route.add(nodeIds[local]);
+        }
+        int size = route.size();
+        for (int i = 0; i < size / 2; i++) {
+            int swap = route.getInt(i);
+            route.set(i, route.getInt(size - 1 - i));
+            route.set(size - 1 - i, swap);
+        }
+        return route;
+    }
+
+    private void resetSearch() {
+        open.clear(nodeCount);
+        localIndex.clear();
+        nodeCount = 0;
+    }
+
+    private float[] costsToEntrances(WalkabilityView view, BlockPos from, IntArrayList entrances, long clusterKey) {
+        long[] targets = new long[entrances.size()];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = graph.node(entrances.getInt(i)).pos;
+        }
+        return pathfinder.costsTo(view, from, targets, CLUSTER_MAX_NODES, graph.columnBounds(clusterKey));
+    }
+
+    /**
+     * Serves a route from the cache, connecting the player's exact start and
+     * goal to the cached route's ends with short searches.
+     *
+     * @return the adapted route, or null on a miss
+     */
+    private PathResult findCached(WalkabilityView view, BlockPos start, BlockPos goal) {
+        long startTime = System.nanoTime();
+        PathResult cached = routeCache.get(start, goal, view);
+        if (cached == null) {
+            return null;
+        }
+
+        List<BlockPos> nodes = new ArrayList<>(cached.nodes().size() + 8);
+        int expanded = 0;
+        BlockPos first = cached.nodes().get(0);
+        if (!first.equals(start)) {
+            PathResult head = searchDirect(view, start, first, CONNECT_MAX_NODES);
+            if (!head.complete()) {
+                return null;
+            }
+            nodes.addAll(head.nodes().subList(0, head.nodes().size() - 1));
+            expanded += head.expandedNodes();
+        }
+        nodes.addAll(cached.nodes());
+
+        List<BlockPos> waypoints = cached.waypoints();
+        if (waypoints.isEmpty()) {
+            BlockPos last = cached.nodes().get(cached.nodes().size() - 1);
+            if (!last.equals(goal)) {
+                PathResult tail = searchDirect(view, last, goal, CONNECT_MAX_NODES);
+                if (!tail.complete()) {
+                    return null;
+                }
+                nodes.addAll(tail.nodes().subList(1, tail.nodes().size()));
+                expanded += tail.expandedNodes();
+            }
+        } else {
+            // The final waypoint is the goal itself; later stretches are planned from the real goal
+            waypoints = new ArrayList<>(waypoints);
+            waypoints.set(waypoints.size() - 1, goal);
+        }
+        return new PathResult(nodes, waypoints, true, cached.cost(), expanded, System.nanoTime() - startTime);
+    }
+
+    private PathResult searchDirect(WalkabilityView view, BlockPos start, BlockPos goal, int maxNodes) {
+        BoundingBox bounds = BoundingBox.fromCorners(start, goal).inflatedBy(SuperAIConstants.PATHFINDING_SEARCH_MARGIN);
+        return pathfinder.findPath(view, start, goal, maxNodes, bounds);
+    }
+
+    private void bind(int epoch) {
+        if (this.epoch != epoch) {
+            graph.clear();
+            routeCache.clear();
+            dirtyClusters.clear();
+            this.epoch = epoch;
+        }
+
+        Long key;
+        while ((key = dirtyClusters.poll()) != null) {
+            graph.invalidate(key);
+        }
+    }
+
+    private static float crossingCost(PortalGraph.Node from, PortalGraph.Node to) {
+        // Matches the block-level cost of a single step, jump or one-block drop
+        return AStarPathfinder.estimate(BlockPos.getX(to.pos) - BlockPos.getX(from.pos),
+                BlockPos.getY(to.pos) - BlockPos.getY(from.pos), BlockPos.getZ(to.pos) - BlockPos.getZ(from.pos));
+    }
+
+    private static BlockPos standable(WalkabilityView view, BlockPos pos) {
+        for (int offset : new int[]{0, 1, -1}) {
+            if (view.canStandAt(pos.getX(), pos.getY() + offset, pos.getZ())) {
+                return pos.offset(0, offset, 0);
+            }
+        }
+        return null;
+    }
+}
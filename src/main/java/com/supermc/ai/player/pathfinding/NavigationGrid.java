@@ -0,0 +1,373 @@
+package com.supermc.ai.player.pathfinding;
+
+import com.supermc.ai.common.SuperAIWorkers;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+/**
+ * Walkability grid of the client level, built in the background.
+ *
+ * When a chunk loads or a block changes, the client thread only copies the
+ * affected sections' block states; the copies are turned into
+ * {@link SectionWalkability} bitsets on the shared worker pool and published
+ * on the next tick. Path searches read the published, immutable sections
+ * through {@link #view()} from any thread and never touch the level.
+ *
+ * Block changes on a remote server raise no client events, so sections
+ * around the player are also re-copied once they are
+ * {@link #MAX_SECTION_AGE_TICKS} old. Listeners registered with
+ * {@link #addChangeListener} are told about sections whose walkability
+ * actually changed.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class NavigationGrid {
+
+    /** Age after which sections near the player are copied again (5 seconds) */
+    private static final long MAX_SECTION_AGE_TICKS = 100;
+
+    /** Chunk radius around the player kept fresh by age */
+    private static final int REFRESH_RADIUS_CHUNKS = 4;
+
+    /** Section radius above and below the player kept fresh by age */
+    private static final int REFRESH_RADIUS_SECTIONS = 2;
+
+    /** Delay before copying a section after a block change, so the client has received it */
+    private static final long CHANGE_DELAY_TICKS = 2;
+
+    /** Maximum sections copied per tick, bounding the client thread cost */
+    private static final int MAX_SNAPSHOTS_PER_TICK = 256;
+
+    private static final NavigationGrid INSTANCE = new NavigationGrid();
+
+    /** Walkability published by the worker pool, read from any thread */
+    private final Map<Long, SectionWalkability> sections = new ConcurrentHashMap<>();
+    private final Set<Long> requested = ConcurrentHashMap.newKeySet();
+    private final Queue<Long> requestedSections = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> changedSections = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> loadedChunks = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> unloadedChunks = new ConcurrentLinkedQueue<>();
+    private final Queue<BuiltSection> builtSections = new ConcurrentLinkedQueue<>();
+    private final List<LongConsumer> changeListeners = new CopyOnWriteArrayList<>();
+
+    // Client thread only
+    private final Long2LongOpenHashMap snapshotAt = new Long2LongOpenHashMap();
+    private final Long2IntOpenHashMap versions = new Long2IntOpenHashMap();
+    private final Long2LongOpenHashMap scheduled = new Long2LongOpenHashMap();
+    private Level level;
+
+    private volatile int minY;
+    private volatile int maxY;
+    private volatile long gameTime;
+    private volatile int epoch;
+
+    private record BuiltSection(int epoch, long key, int version, SectionWalkability section) {
+    }
+
+    private NavigationGrid() {
+    }
+
+    /**
+     * Gets the singleton instance of NavigationGrid.
+     *
+     * @return the singleton instance
+     */
+    public static NavigationGrid getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers block change and chunk listeners that keep the grid current.
+     */
+    public void register() {
+        BlockEvent.NeighborNotifyEvent.BUS.addListener(event ->
+                changedSections.add(SectionPos.asLong(event.getPos())));
+        ChunkEvent.Load.BUS.addListener(event -> {
+            if (event.getLevel().isClientSide()) {
+                loadedChunks.add(event.getChunk().getPos().toLong());
+            }
+        });
+        ChunkEvent.Unload.BUS.addListener(event -> {
+            if (event.getLevel().isClientSide()) {
+                unloadedChunks.add(event.getChunk().getPos().toLong());
+            }
+        });
+    }
+
+    /**
+     * Adds a listener notified with the packed section position of every
+     * section whose walkability changed, appeared or was dropped. Listeners
+     * run on the client thread.
+     *
+     * @param listener the listener
+     */
+    public void addChangeListener(LongConsumer listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Creates a view of the grid for one search. Views are cheap and must not
+     * be shared between threads.
+     *
+     * @return a new view
+     */
+    public WalkabilityView view() {
+        return new GridView(minY, maxY);
+    }
+
+    /**
+     * Gets a counter that changes whenever the grid switches to another level.
+     *
+     * @return the level epoch
+     */
+    public int getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Gets the lowest block Y of the current level.
+     *
+     * @return the minimum Y
+     */
+    public int getMinY() {
+        return minY;
+    }
+
+    /**
+     * Gets the highest block Y of the current level.
+     *
+     * @return the maximum Y
+     */
+    public int getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Publishes finished sections and copies changed ones for rebuilding.
+     * Called once per client tick.
+     *
+     * @param level the client level
+     * @param center the player's position, around which sections are kept fresh
+     */
+    public void tick(Level level, BlockPos center) {
+        if (this.level != level) {
+            bind(level);
+        }
+        gameTime = level.getGameTime();
+
+        publishBuilt();
+
+        Long key;
+        while ((key = unloadedChunks.poll()) != null) {
+            dropChunk(key);
+        }
+        while ((key = loadedChunks.poll()) != null) {
+            ChunkPos chunk = new ChunkPos(key);
+            for (int sectionY = level.getMinSectionY(); sectionY <= level.getMaxSectionY(); sectionY++) {
+                long sectionKey = SectionPos.asLong(chunk.x, sectionY, chunk.z);
+                requested.remove(sectionKey);
+                requestedSections.add(sectionKey);
+            }
+        }
+        while ((key = changedSections.poll()) != null) {
+            scheduled.putIfAbsent(key.longValue(), gameTime + CHANGE_DELAY_TICKS);
+        }
+
+        int budget = MAX_SNAPSHOTS_PER_TICK;
+        budget -= snapshotScheduled(budget);
+        while (budget > 0 && (key = requestedSections.poll()) != null) {
+            if (snapshot(key)) {
+                budget--;
+            }
+        }
+        if (budget > 0) {
+            refreshAround(center, budget);
+        }
+    }
+
+    private void bind(Level level) {
+        sections.clear();
+        requested.clear();
+        builtSections.clear();
+        snapshotAt.clear();
+        versions.clear();
+        scheduled.clear();
+        this.level = level;
+        this.minY = level.getMinY();
+        this.maxY = level.getMaxY();
+        epoch++;
+    }
+
+    private int snapshotScheduled(int budget) {
+        int copied = 0;
+        ObjectIterator<Long2LongMap.Entry> iterator = scheduled.long2LongEntrySet().iterator();
+        while (iterator.hasNext() && copied < budget) {
+            Long2LongMap.Entry entry = iterator.next();
+            if (entry.getLongValue() <= gameTime) {
+                iterator.remove();
+                if (snapshot(entry.getLongKey())) {
+                    copied++;
+                }
+            }
+        }
+        return copied;
+    }
+
+    private void refreshAround(BlockPos center, int budget) {
+        int centerX = SectionPos.blockToSectionCoord(center.getX());
+        int centerY = SectionPos.blockToSectionCoord(center.getY());
+        int centerZ = SectionPos.blockToSectionCoord(center.getZ());
+        int lowY = Math.max(level.getMinSectionY(), centerY - REFRESH_RADIUS_SECTIONS);
+        int highY = Math.min(level.getMaxSectionY(), centerY + REFRESH_RADIUS_SECTIONS);
+
+        for (int x = centerX - REFRESH_RADIUS_CHUNKS; x <= centerX + REFRESH_RADIUS_CHUNKS; x++) {
+            for (int z = centerZ - REFRESH_RADIUS_CHUNKS; z <= centerZ + REFRESH_RADIUS_CHUNKS; z++) {
+                for (int y = lowY; y <= highY; y++) {
+                    long key = SectionPos.asLong(x, y, z);
+                    if (gameTime - snapshotAt.get(key) > MAX_SECTION_AGE_TICKS && snapshot(key) && --budget == 0) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a section's block states and hands them to a worker.
+     *
+     * @return true if the section was loaded and copied
+     */
+    private boolean snapshot(long key) {
+        if (snapshotAt.containsKey(key) && snapshotAt.get(key) == gameTime) {
+            return false;
+        }
+        int sectionY = SectionPos.y(key);
+        if (sectionY < level.getMinSectionY() || sectionY > level.getMaxSectionY()) {
+            return false;
+        }
+        LevelChunk chunk = level.getChunkSource().getChunk(SectionPos.x(key), SectionPos.z(key), false);
+        if (chunk == null) {
+            return false;
+        }
+
+        LevelChunkSection section = chunk.getSection(level.getSectionIndexFromSectionY(sectionY));
+        int version = versions.get(key) + 1;
+        versions.put(key, version);
+        snapshotAt.put(key, gameTime);
+
+        if (section.hasOnlyAir()) {
+            publish(key, SectionWalkability.EMPTY);
+            return true;
+        }
+
+        PalettedContainer<BlockState> states = section.getStates().copy();
+        int currentEpoch = epoch;
+        SuperAIWorkers.execute(() -> builtSections.add(
+                new BuiltSection(currentEpoch, key, version, SectionWalkability.build(states))));
+        return true;
+    }
+
+    private void publishBuilt() {
+        BuiltSection built;
+        while ((built = builtSections.poll()) != null) {
+            // Skip results overtaken by a newer copy or a level change
+            if (built.epoch() == epoch && versions.get(built.key()) == built.version()) {
+                publish(built.key(), built.section());
+            }
+        }
+    }
+
+    private void publish(long key, SectionWalkability section) {
+        SectionWalkability previous = sections.put(key, section);
+        requested.remove(key);
+        if (previous == null || !previous.sameAs(section)) {
+            notifyChanged(key);
+        }
+    }
+
+    private void dropChunk(long chunkKey) {
+        ChunkPos chunk = new ChunkPos(chunkKey);
+        for (int sectionY = level.getMinSectionY(); sectionY <= level.getMaxSectionY(); sectionY++) {
+            long key = SectionPos.asLong(chunk.x, sectionY, chunk.z);
+            snapshotAt.remove(key);
+            scheduled.remove(key);
+            // Keep the version so that builds still in flight are discarded
+            versions.put(key, versions.get(key) + 1);
+            if (sections.remove(key) != null) {
+                notifyChanged(key);
+            }
+        }
+    }
+
+    private void notifyChanged(long key) {
+        for (LongConsumer listener : changeListeners) {
+            listener.accept(key);
+        }
+    }
+
+    private SectionWalkability section(long key) {
+        SectionWalkability section = sections.get(key);
+        if (section == null) {
+            // Ask the client thread for sections that were never copied (loaded before the grid was bound)
+            if (requested.add(key)) {
+                requestedSections.add(key);
+            }
+            return SectionWalkability.UNKNOWN;
+        }
+        return section;
+    }
+
+    /**
+     * Single-threaded view with a one-section lookup memo.
+     */
+    private final class GridView implements WalkabilityView {
+        private final int viewMinY;
+        private final int viewMaxY;
+        private long lastKey = Long.MIN_VALUE;
+        private SectionWalkability lastSection;
+
+        private GridView(int minY, int maxY) {
+            this.viewMinY = minY;
+            this.viewMaxY = maxY;
+        }
+
+        @Override
+        public int flags(int x, int y, int z) {
+            if (y < viewMinY) {
+                return 0;
+            }
+            if (y > viewMaxY) {
+                return BlockWalkability.PASSABLE;
+            }
+            long key = SectionPos.asLong(x >> 4, y >> 4, z >> 4);
+            if (key != lastKey) {
+                lastSection = section(key);
+                lastKey = key;
+            }
+            return lastSection.flags(x & 15, y & 15, z & 15);
+        }
+    }
+}
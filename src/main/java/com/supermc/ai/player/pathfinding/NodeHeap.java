@@ -0,0 +1,144 @@
+package com.supermc.ai.player.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Primitive binary min-heap of search node indices ordered by a float key.
+ *
+ * Node indices refer to the packed-coordinate node table of
+ * {@link AStarPathfinder}; each node's heap slot is tracked so that
+ * decrease-key runs in O(log n) without allocating.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class NodeHeap {
+
+    /** Slot value for nodes that are not in the heap */
+    static final int NOT_IN_HEAP = -1;
+
+    private int[] nodes = new int[1024];
+    private float[] keys = new float[1024];
+    private int[] slots = new int[1024];
+    private int size;
+
+    NodeHeap() {
+        Arrays.fill(slots, NOT_IN_HEAP);
+    }
+
+    /**
+     * Removes all nodes. Slot tracking is reset for node indices below {@code nodeCount}.
+     *
+     * @param nodeCount number of node indices used by the previous search
+     */
+    void clear(int nodeCount) {
+        Arrays.fill(slots, 0, Math.min(nodeCount, slots.length), NOT_IN_HEAP);
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int node) {
+        return node < slots.length && slots[node] != NOT_IN_HEAP;
+    }
+
+    /**
+     * Inserts a node, or lowers its key if it is already queued.
+     *
+     * @param node the node index
+     * @param key the priority; lower keys are polled first
+     */
+    void insertOrDecrease(int node, float key) {
+        ensureNodeCapacity(node);
+        int slot = slots[node];
+        if (slot == NOT_IN_HEAP) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            slot = size++;
+            nodes[slot] = node;
+            keys[slot] = key;
+            slots[node] = slot;
+        } else if (key < keys[slot]) {
+            keys[slot] = key;
+        } else {
+            return;
+        }
+        siftUp(slot);
+    }
+
+    /**
+     * Removes and returns the node with the lowest key.
+     *
+     * @return the node index
+     */
+    int poll() {
+        int top = nodes[0];
+        slots[top] = NOT_IN_HEAP;
+        size--;
+        if (size > 0) {
+            nodes[0] = nodes[size];
+            keys[0] = keys[size];
+            slots[nodes[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int slot) {
+        int node = nodes[slot];
+        float key = keys[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            move(parent, slot);
+            slot = parent;
+        }
+        place(node, key, slot);
+    }
+
+    private void siftDown(int slot) {
+        int node = nodes[slot];
+        float key = keys[slot];
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) {
+                child = right;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            move(child, slot);
+            slot = child;
+        }
+        place(node, key, slot);
+    }
+
+    private void move(int from, int to) {
+        nodes[to] = nodes[from];
+        keys[to] = keys[from];
+        slots[nodes[to]] = to;
+    }
+
+    private void place(int node, float key, int slot) {
+        nodes[slot] = node;
+        keys[slot] = key;
+        slots[node] = slot;
+    }
+
+    private void ensureNodeCapacity(int node) {
+        if (node >= slots.length) {
+            int oldLength = slots.length;
+            slots = Arrays.copyOf(slots, Math.max(node + 1, oldLength * 2));
+            Arrays.fill(slots, oldLength, slots.length, NOT_IN_HEAP);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.supermc.ai.player.pathfinding;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.player.controller.AgentInput;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.core.BlockPos;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Walks the local player along a path, one client tick at a time.
+ *
+ * Movement goes through {@link AgentInput}, so the player moves with normal
+ * physics and server-side movement checks see ordinary input.
+ *
+ * All methods must be called on the client thread; only planning of later
+ * stretches of a long route happens elsewhere.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PathFollower {
+
+    /** Horizontal distance at which a node counts as reached */
+    private static final double NODE_REACHED_DISTANCE = 0.35;
+
+    /** Ticks without getting closer to the current node before giving up */
+    private static final int STUCK_TIMEOUT_TICKS = 40;
+
+    /** Minimum distance improvement that counts as progress */
+    private static final double MIN_PROGRESS = 0.05;
+
+    /** Nodes before the end of a stretch at which the next stretch is requested */
+    private static final int PREFETCH_NODES = 8;
+
+    private static final PathFollower INSTANCE = new PathFollower();
+
+    /**
+     * Follower status.
+     */
+    public enum Status {
+        IDLE,
+        FOLLOWING,
+        ARRIVED,
+        STUCK
+    }
+
+    private List<BlockPos> path = List.of();
+    private Function<BlockPos, CompletableFuture<PathResult>> continuation;
+    private CompletableFuture<PathResult> nextStretch;
+    private int index;
+    private boolean sprint;
+    private Status status = Status.IDLE;
+    private double bestDistance;
+    private int ticksWithoutProgress;
+
+    private PathFollower() {
+    }
+
+    /**
+     * Gets the singleton instance of PathFollower.
+     *
+     * @return the singleton instance
+     */
+    public static PathFollower getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts following a path, replacing any path currently followed.
+     *
+     * @param path standing positions to walk through
+     * @param sprint whether to sprint
+     */
+    public void follow(List<BlockPos> path, boolean sprint) {
+        this.path = List.copyOf(path);
+        this.continuation = null;
+        this.nextStretch = null;
+        this.index = 0;
+        this.sprint = sprint;
+        this.status = path.isEmpty() ? Status.ARRIVED : Status.FOLLOWING;
+        resetProgress();
+    }
+
+    /**
+     * Starts following a route whose later part is refined on the way.
+     *
+     * While the route has waypoints left, {@code continuation} is asked for
+     * the next stretch from the end of the current one a few nodes before the
+     * player gets there, so planning overlaps with walking. If the player
+     * arrives before the plan is ready, it waits in place.
+     *
+     * @param route the first stretch of the route
+     * @param sprint whether to sprint
+     * @param continuation plans the next stretch from a position
+     */
+    public void follow(PathResult route, boolean sprint,
+                       Function<BlockPos, CompletableFuture<PathResult>> continuation) {
+        follow(route.nodes(), sprint);
+        this.continuation = route.hasContinuation() ? continuation : null;
+    }
+
+    /**
+     * Stops following the current path.
+     */
+    public void stop() {
+        if (status == Status.FOLLOWING) {
+            status = Status.IDLE;
+        }
+        path = List.of();
+        continuation = null;
+        nextStretch = null;
+    }
+
+    /**
+     * Checks whether a path is being followed.
+     *
+     * @return true while following
+     */
+    public boolean isActive() {
+        return status == Status.FOLLOWING;
+    }
+
+    /**
+     * Gets the follower status.
+     *
+     * @return the current status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Advances the player along the path. Called once per client tick.
+     *
+     * @param player the local player
+     */
+    public void tick(LocalPlayer player) {
+        AgentInput input = AgentInput.install(player);
+        if (status != Status.FOLLOWING) {
+            if (input.isOverriding()) {
+                input.release();
+            }
+            return;
+        }
+
+        if (continuation != null && nextStretch == null && index >= path.size() - PREFETCH_NODES) {
+            nextStretch = continuation.apply(path.get(path.size() - 1));
+        }
+        if (index >= path.size() && !continueRoute(input)) {
+            return;
+        }
+
+        BlockPos node = path.get(index);
+        double dx = node.getX() + 0.5 - player.getX();
+        double dz = node.getZ() + 0.5 - player.getZ();
+        double distance = Math.sqrt(dx * dx + dz * dz);
+
+        // Nodes above the player are only reached once the jump has landed on them
+        if (distance < NODE_REACHED_DISTANCE && player.getY() > node.getY() - 0.5) {
+            index++;
+            resetProgress();
+            if (index >= path.size() && !continueRoute(input)) {
+                return;
+            }
+            node = path.get(index);
+            dx = node.getX() + 0.5 - player.getX();
+            dz = node.getZ() + 0.5 - player.getZ();
+            distance = Math.sqrt(dx * dx + dz * dz);
+        }
+
+        if (distance < bestDistance - MIN_PROGRESS) {
+            bestDistance = distance;
+            ticksWithoutProgress = 0;
+        } else if (++ticksWithoutProgress > STUCK_TIMEOUT_TICKS) {
+            status = Status.STUCK;
+            input.release();
+            return;
+        }
+
+        float yaw = (float) (Math.atan2(dz, dx) * SuperAIConstants.RAD_TO_DEG) - 90.0f;
+        player.setYRot(yaw);
+        player.setYHeadRot(yaw);
+
+        boolean jump = player.onGround() && (node.getY() > player.getY() + 0.5 || player.horizontalCollision);
+        // Ease off on the last node so momentum does not carry the player past it
+        float forward = index == path.size() - 1 ? (float) Math.min(1.0, distance * 2.0) : 1.0f;
+        input.set(forward, 0.0f, jump, false, sprint);
+    }
+
+    /**
+     * Switches to the next stretch of the route once it has been planned.
+     *
+     * @return true if there is a new stretch to follow
+     */
+    private boolean continueRoute(AgentInput input) {
+        if (continuation == null) {
+            status = Status.ARRIVED;
+            input.release();
+            return false;
+        }
+        if (nextStretch == null) {
+            nextStretch = continuation.apply(path.get(path.size() - 1));
+        }
+        if (!nextStretch.isDone()) {
+            // Hold still rather than hand movement back while planning finishes
+            input.set(0.0f, 0.0f, false, false, false);
+            return false;
+        }
+
+        PathResult next = nextStretch.isCompletedExceptionally() ? null : nextStretch.join();
+        nextStretch = null;
+        if (next == null || next.isEmpty()) {
+            status = Status.STUCK;
+            input.release();
+            return false;
+        }
+        path = next.nodes();
+        continuation = next.hasContinuation() ? continuation : null;
+        index = 0;
+        resetProgress();
+        return true;
+    }
+
+    private void resetProgress() {
+        bestDistance = Double.MAX_VALUE;
+        ticksWithoutProgress = 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.supermc.ai.player.pathfinding;
+
+import net.minecraft.core.BlockPos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a path search.
+ *
+ * @param nodes the standing positions from start to end, empty if no path was found
+ * @param waypoints coarse positions still to visit after {@code nodes}, ending at the goal;
+ *                  empty unless only the first part of a long route was refined
+ * @param complete true if the route reaches the goal; otherwise it ends at the closest reachable position
+ * @param cost movement cost of {@code nodes}
+ * @param expandedNodes number of nodes expanded by the search
+ * @param elapsedNanos time spent searching
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record PathResult(List<BlockPos> nodes, List<BlockPos> waypoints, boolean complete, float cost,
+                         int expandedNodes, long elapsedNanos) {
+
+    /**
+     * Creates an empty result for searches that could not start.
+     *
+     * @param elapsedNanos time spent before giving up
+     * @return an empty, incomplete result
+     */
+    public static PathResult empty(long elapsedNanos) {
+        return new PathResult(List.of(), List.of(), false, 0.0f, 0, elapsedNanos);
+    }
+
+    /**
+     * Checks whether the result contains any nodes.
+     *
+     * @return true if the path is empty
+     */
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    /**
+     * Checks whether the route continues past the refined nodes.
+     *
+     * @return true if waypoints remain after the last node
+     */
+    public boolean hasContinuation() {
+        return !waypoints.isEmpty();
+    }
+
+    /**
+     * Gets the refined nodes followed by the remaining waypoints.
+     *
+     * @return every known position of the route
+     */
+    public List<BlockPos> fullRoute() {
+        if (waypoints.isEmpty()) {
+            return nodes;
+        }
+        List<BlockPos> route = new ArrayList<>(nodes.size() + waypoints.size());
+        route.addAll(nodes);
+        route.addAll(waypoints);
+        return route;
+    }
+}
@@ -0,0 +1,355 @@
+package com.supermc.ai.player.pathfinding;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+
+/**
+ * Abstract graph of entrances between chunk columns, used by
+ * {@link HierarchicalPathfinder}.
+ *
+ * Every chunk column is a cluster. Along each border between two columns,
+ * contiguous runs of positions where a player can cross are grouped into an
+ * entrance, represented by one node on each side. Nodes in the same cluster
+ * are connected by edges weighted with their block-level movement cost.
+ *
+ * Borders and intra-cluster edges are built lazily the first time a search
+ * reaches them. Invalidating a cluster drops its four borders and disconnects
+ * its neighbours, so only the area around a change is rebuilt.
+ *
+ * Not thread-safe.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class PortalGraph {
+
+    /** Node expansion limit for connecting the entrances of one cluster */
+    private static final int INTRA_MAX_NODES = 8192;
+
+    private static final int[] NO_EDGES = new int[0];
+    private static final float[] NO_COSTS = new float[0];
+
+    /**
+     * Entrance node on one side of a border.
+     */
+    static final class Node {
+        final int id;
+        final long pos;
+        final long cluster;
+        int partner = -1;
+        int[] edges = NO_EDGES;
+        float[] costs = NO_COSTS;
+
+        private Node(int id, long pos, long cluster) {
+            this.id = id;
+            this.pos = pos;
+            this.cluster = cluster;
+        }
+    }
+
+    private static final class Cluster {
+        final IntArrayList nodes = new IntArrayList();
+        boolean connected;
+    }
+
+    private final Int2ObjectOpenHashMap<Node> nodes = new Int2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<Cluster> clusters = new Long2ObjectOpenHashMap<>();
+    /** Borders with the column to the east (+X), keyed by the western column */
+    private final Long2ObjectOpenHashMap<int[]> eastBorders = new Long2ObjectOpenHashMap<>();
+    /** Borders with the column to the south (+Z), keyed by the northern column */
+    private final Long2ObjectOpenHashMap<int[]> southBorders = new Long2ObjectOpenHashMap<>();
+    private final AStarPathfinder local = new AStarPathfinder();
+
+    private WalkabilityView view;
+    private int minY;
+    private int maxY;
+    private int nextNodeId;
+
+    /**
+     * Prepares the graph for a query.
+     *
+     * @param view walkability source for lazily built clusters
+     * @param minY lowest block Y of the level
+     * @param maxY highest block Y of the level
+     */
+    void begin(WalkabilityView view, int minY, int maxY) {
+        this.view = view;
+        this.minY = minY;
+        this.maxY = maxY;
+    }
+
+    /**
+     * Releases the walkability source after a query.
+     */
+    void end() {
+        view = null;
+    }
+
+    /**
+     * Removes all clusters, borders and nodes.
+     */
+    void clear() {
+        nodes.clear();
+        clusters.clear();
+        eastBorders.clear();
+        southBorders.clear();
+    }
+
+    /**
+     * Drops a cluster's borders and disconnects its neighbours.
+     *
+     * @param clusterKey packed chunk position of the cluster
+     */
+    void invalidate(long clusterKey) {
+        int x = ChunkPos.getX(clusterKey);
+        int z = ChunkPos.getZ(clusterKey);
+        removeBorder(eastBorders, clusterKey);
+        removeBorder(southBorders, clusterKey);
+        removeBorder(eastBorders, ChunkPos.asLong(x - 1, z));
+        removeBorder(southBorders, ChunkPos.asLong(x, z - 1));
+
+        clusters.remove(clusterKey);
+        disconnect(ChunkPos.asLong(x + 1, z));
+        disconnect(ChunkPos.asLong(x - 1, z));
+        disconnect(ChunkPos.asLong(x, z + 1));
+        disconnect(ChunkPos.asLong(x, z - 1));
+    }
+
+    /**
+     * Gets an entrance node.
+     *
+     * @param id the node id
+     * @return the node, or null if it has been removed
+     */
+    Node node(int id) {
+        return nodes.get(id);
+    }
+
+    /**
+     * Builds a cluster's borders and intra-cluster edges if needed, and
+     * returns its entrance nodes.
+     *
+     * @param clusterKey packed chunk position of the cluster
+     * @return ids of the entrance nodes inside the cluster
+     */
+    IntArrayList connect(long clusterKey) {
+        Cluster cluster = cluster(clusterKey);
+        if (cluster.connected) {
+            return cluster.nodes;
+        }
+
+        int x = ChunkPos.getX(clusterKey);
+        int z = ChunkPos.getZ(clusterKey);
+        ensureBorder(eastBorders, clusterKey, true);
+        ensureBorder(southBorders, clusterKey, false);
+        ensureBorder(eastBorders, ChunkPos.asLong(x - 1, z), true);
+        ensureBorder(southBorders, ChunkPos.asLong(x, z - 1), false);
+
+        int count = cluster.nodes.size();
+        long[] targets = new long[count];
+        for (int i = 0; i < count; i++) {
+            targets[i] = nodes.get(cluster.nodes.getInt(i)).pos;
+        }
+
+        BoundingBox column = columnBounds(clusterKey);
+        for (int i = 0; i < count; i++) {
+            Node node = nodes.get(cluster.nodes.getInt(i));
+            float[] costs = local.costsTo(view, BlockPos.of(node.pos), targets, INTRA_MAX_NODES, column);
+
+            IntArrayList edges = new IntArrayList(count);
+            for (int j = 0; j < count; j++) {
+                if (j != i && costs[j] != Float.POSITIVE_INFINITY) {
+                    edges.add(j);
+                }
+            }
+            node.edges = new int[edges.size()];
+            node.costs = new float[edges.size()];
+            for (int k = 0; k < edges.size(); k++) {
+                int j = edges.getInt(k);
+                node.edges[k] = cluster.nodes.getInt(j);
+                node.costs[k] = costs[j];
+            }
+        }
+
+        cluster.connected = true;
+        return cluster.nodes;
+    }
+
+    /**
+     * Gets the block bounds of a cluster.
+     *
+     * @param clusterKey packed chunk position of the cluster
+     * @return the column's bounding box
+     */
+    BoundingBox columnBounds(long clusterKey) {
+        int blockX = ChunkPos.getX(clusterKey) << 4;
+        int blockZ = ChunkPos.getZ(clusterKey) << 4;
+        return new BoundingBox(blockX, minY, blockZ, blockX + 15, maxY, blockZ + 15);
+    }
+
+    /**
+     * Gets the number of entrance nodes in the graph.
+     *
+     * @return the node count
+     */
+    int size() {
+        return nodes.size();
+    }
+
+    private Cluster cluster(long clusterKey) {
+        Cluster cluster = clusters.get(clusterKey);
+        if (cluster == null) {
+            cluster = new Cluster();
+            clusters.put(clusterKey, cluster);
+        }
+        return cluster;
+    }
+
+    private void disconnect(long clusterKey) {
+        Cluster cluster = clusters.get(clusterKey);
+        if (cluster != null) {
+            cluster.connected = false;
+        }
+    }
+
+    private void removeBorder(Long2ObjectOpenHashMap<int[]> borders, long ownerKey) {
+        int[] ids = borders.remove(ownerKey);
+        if (ids == null) {
+            return;
+        }
+        for (int id : ids) {
+            Node node = nodes.remove(id);
+            if (node != null) {
+                Cluster cluster = clusters.get(node.cluster);
+                if (cluster != null) {
+                    cluster.nodes.rem(id);
+                }
+            }
+        }
+    }
+
+    private void ensureBorder(Long2ObjectOpenHashMap<int[]> borders, long ownerKey, boolean east) {
+        if (borders.containsKey(ownerKey)) {
+            return;
+        }
+
+        int chunkX = ChunkPos.getX(ownerKey);
+        int chunkZ = ChunkPos.getZ(ownerKey);
+        long neighbourKey = east ? ChunkPos.asLong(chunkX + 1, chunkZ) : ChunkPos.asLong(chunkX, chunkZ + 1);
+        int baseX = chunkX << 4;
+        int baseZ = chunkZ << 4;
+
+        // Collect every crossing as (position along the border, Y on each side)
+        IntArrayList along = new IntArrayList();
+        IntArrayList fromY = new IntArrayList();
+        IntArrayList toY = new IntArrayList();
+        Int2IntOpenHashMap index = new Int2IntOpenHashMap();
+        index.defaultReturnValue(-1);
+        int height = maxY - minY + 1;
+
+        for (int t = 0; t < 16; t++) {
+            int ax = east ? baseX + 15 : baseX + t;
+            int az = east ? baseZ + t : baseZ + 15;
+            int bx = east ? ax + 1 : ax;
+            int bz = east ? az : az + 1;
+            for (int y = minY; y <= maxY; y++) {
+                if (!view.canStandAt(ax, y, az)) {
+                    continue;
+                }
+                int otherY = crossingY(ax, az, bx, bz, y);
+                if (otherY != Integer.MIN_VALUE) {
+                    index.put(t * height + (y - minY), along.size());
+                    along.add(t);
+                    fromY.add(y);
+                    toY.add(otherY);
+                }
+            }
+        }
+
+        // Group crossings into entrances: neighbours along the border within one block of height
+        int count = along.size();
+        int[] parent = new int[count];
+        for (int i = 0; i < count; i++) {
+            parent[i] = i;
+            int t = along.getInt(i);
+            if (t == 0) {
+                continue;
+            }
+            for (int dy = -1; dy <= 1; dy++) {
+                int y = fromY.getInt(i) + dy;
+                if (y < minY || y > maxY) {
+                    continue;
+                }
+                int previous = index.get((t - 1) * height + (y - minY));
+                if (previous >= 0) {
+                    parent[find(parent, i)] = find(parent, previous);
+                }
+            }
+        }
+
+        Int2ObjectOpenHashMap<IntArrayList> entrances = new Int2ObjectOpenHashMap<>();
+        for (int i = 0; i < count; i++) {
+            entrances.computeIfAbsent(find(parent, i), root -> new IntArrayList()).add(i);
+        }
+
+        Cluster owner = cluster(ownerKey);
+        Cluster neighbour = cluster(neighbourKey);
+        int[] ids = new int[entrances.size() * 2];
+        int next = 0;
+        for (IntArrayList members : entrances.values()) {
+            // Crossings are collected in border order, so the middle member is central
+            int i = members.getInt(members.size() / 2);
+            int t = along.getInt(i);
+            int ax = east ? baseX + 15 : baseX + t;
+            int az = east ? baseZ + t : baseZ + 15;
+
+            Node a = addNode(BlockPos.asLong(ax, fromY.getInt(i), az), ownerKey, owner);
+            Node b = addNode(BlockPos.asLong(east ? ax + 1 : ax, toY.getInt(i), east ? az : az + 1),
+                    neighbourKey, neighbour);
+            a.partner = b.id;
+            b.partner = a.id;
+            ids[next++] = a.id;
+            ids[next++] = b.id;
+        }
+        borders.put(ownerKey, ids);
+    }
+
+    /**
+     * Finds where a player standing at {@code (ax, y, az)} lands when stepping
+     * across the border, accepting only moves that are possible both ways.
+     */
+    private int crossingY(int ax, int az, int bx, int bz, int y) {
+        if (view.canStandAt(bx, y, bz)) {
+            return y;
+        }
+        // Stepping up or down one block needs head room above the lower side
+        if (view.canStandAt(bx, y + 1, bz) && view.isPassable(ax, y + 2, az)) {
+            return y + 1;
+        }
+        if (view.canStandAt(bx, y - 1, bz) && view.isPassable(bx, y + 1, bz)) {
+            return y - 1;
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    private Node addNode(long pos, long clusterKey, Cluster cluster) {
+        Node node = new Node(nextNodeId++, pos, clusterKey);
+        nodes.put(node.id, node);
+        cluster.nodes.add(node.id);
+        return node;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+}
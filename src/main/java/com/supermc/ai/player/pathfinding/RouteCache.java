@@ -0,0 +1,219 @@
+package com.supermc.ai.player.pathfinding;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.config.SuperAIConfig;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * LRU cache of planned routes, keyed by the 4x4x4 cells of their start and goal.
+ *
+ * Each route is indexed by the sections its nodes pass through. When the
+ * navigation grid reports a change in one of those sections, the route is
+ * not dropped but marked suspect for that section; the next lookup re-checks
+ * only the nodes inside suspect sections and discards the route if any of
+ * them is no longer standable. Routes also expire after the configured cache
+ * TTL.
+ *
+ * Thread-safe.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class RouteCache {
+
+    /** Cell size is 1 << CELL_SHIFT blocks along each axis */
+    private static final int CELL_SHIFT = 2;
+
+    private final Map<RouteKey, CachedRoute> routes = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<RouteKey, CachedRoute> eldest) {
+            if (size() > SuperAIConstants.ROUTE_CACHE_MAX_ENTRIES) {
+                unindex(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+    private final Long2ObjectOpenHashMap<List<CachedRoute>> routesBySection = new Long2ObjectOpenHashMap<>();
+    private final LongSupplier ttlNanos;
+    private long hits;
+    private long misses;
+
+    private record RouteKey(long startCell, long goalCell) {
+        static RouteKey of(BlockPos start, BlockPos goal) {
+            return new RouteKey(cell(start), cell(goal));
+        }
+
+        private static long cell(BlockPos pos) {
+            return BlockPos.asLong(pos.getX() >> CELL_SHIFT, pos.getY() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT);
+        }
+    }
+
+    private static final class CachedRoute {
+        final RouteKey key;
+        final PathResult result;
+        final long[] sections;
+        final LongOpenHashSet suspectSections = new LongOpenHashSet();
+        final long createdAt = System.nanoTime();
+
+        private CachedRoute(RouteKey key, PathResult result, long[] sections) {
+            this.key = key;
+            this.result = result;
+            this.sections = sections;
+        }
+    }
+
+    /**
+     * Creates a cache whose routes expire after the configured cache TTL.
+     */
+    RouteCache() {
+        this(() -> TimeUnit.SECONDS.toNanos(SuperAIConfig.PERF_CACHE_TTL_SECONDS.get()));
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param ttlNanos supplies how long routes stay valid, read on each lookup
+     */
+    RouteCache(LongSupplier ttlNanos) {
+        this.ttlNanos = ttlNanos;
+    }
+
+    /**
+     * Looks up a still-valid route between the cells of two positions.
+     *
+     * The returned route starts and ends near, not necessarily at, the given
+     * positions.
+     *
+     * @param start the start position
+     * @param goal the goal position
+     * @param view walkability used to re-check suspect sections
+     * @return the cached route, or null on a miss
+     */
+    synchronized PathResult get(BlockPos start, BlockPos goal, WalkabilityView view) {
+        RouteKey key = RouteKey.of(start, goal);
+        CachedRoute route = routes.get(key);
+        if (route == null) {
+            misses++;
+            return null;
+        }
+
+        if (System.nanoTime() - route.createdAt > ttlNanos.getAsLong() || !revalidate(route, view)) {
+            remove(route);
+            misses++;
+            return null;
+        }
+        hits++;
+        return route.result;
+    }
+
+    /**
+     * Stores a complete route.
+     *
+     * @param start the position the route was planned from
+     * @param goal the position the route was planned to
+     * @param result the planned route
+     */
+    synchronized void put(BlockPos start, BlockPos goal, PathResult result) {
+        if (!result.complete() || result.isEmpty()) {
+            return;
+        }
+
+        LongOpenHashSet sections = new LongOpenHashSet();
+        for (BlockPos node : result.nodes()) {
+            // A node depends on its floor below and head room above, which may sit in other sections
+            sections.add(SectionPos.asLong(node.below()));
+            sections.add(SectionPos.asLong(node));
+            sections.add(SectionPos.asLong(node.above()));
+        }
+
+        RouteKey key = RouteKey.of(start, goal);
+        CachedRoute previous = routes.get(key);
+        if (previous != null) {
+            remove(previous);
+        }
+
+        CachedRoute route = new CachedRoute(key, result, sections.toLongArray());
+        routes.put(key, route);
+        for (long section : route.sections) {
+            routesBySection.computeIfAbsent(section, s -> new ArrayList<>(2)).add(route);
+        }
+    }
+
+    /**
+     * Marks routes through a section as needing re-validation.
+     *
+     * @param sectionKey packed section position whose walkability changed
+     */
+    synchronized void sectionChanged(long sectionKey) {
+        List<CachedRoute> affected = routesBySection.get(sectionKey);
+        if (affected != null) {
+            for (CachedRoute route : affected) {
+                route.suspectSections.add(sectionKey);
+            }
+        }
+    }
+
+    /**
+     * Removes all routes.
+     */
+    synchronized void clear() {
+        routes.clear();
+        routesBySection.clear();
+    }
+
+    /**
+     * Gets the hit ratio since creation.
+     *
+     * @return hits divided by lookups, or 0 before the first lookup
+     */
+    synchronized double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    private boolean revalidate(CachedRoute route, WalkabilityView view) {
+        if (route.suspectSections.isEmpty()) {
+            return true;
+        }
+        for (BlockPos node : route.result.nodes()) {
+            if (route.suspectSections.contains(SectionPos.asLong(node.below()))
+                    || route.suspectSections.contains(SectionPos.asLong(node))
+                    || route.suspectSections.contains(SectionPos.asLong(node.above()))) {
+                if (!view.canStandAt(node.getX(), node.getY(), node.getZ())) {
+                    return false;
+                }
+            }
+        }
+        route.suspectSections.clear();
+        return true;
+    }
+
+    private void remove(CachedRoute route) {
+        routes.remove(route.key);
+        unindex(route);
+    }
+
+    private void unindex(CachedRoute route) {
+        for (long section : route.sections) {
+            List<CachedRoute> indexed = routesBySection.get(section);
+            if (indexed != null) {
+                indexed.remove(route);
+                if (indexed.isEmpty()) {
+                    routesBySection.remove(section);
+                }
+            }
+        }
+    }
+}
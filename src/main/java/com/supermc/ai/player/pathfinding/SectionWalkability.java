@@ -0,0 +1,123 @@
+package com.supermc.ai.player.pathfinding;
+
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.PalettedContainer;
+
+import java.util.Arrays;
+
+/**
+ * Walkability bitsets for one 16x16x16 chunk section.
+ *
+ * Each flag is stored as a 4096-bit set indexed by {@code (y << 8) | (z << 4) | x},
+ * which keeps a section at 1.5 KiB and makes lookups a shift and a mask.
+ * Instances are immutable once built and safe to share between threads.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SectionWalkability {
+
+    /** Number of 64-bit words per bitset */
+    private static final int WORDS = 4096 / 64;
+
+    /** Section containing only air */
+    public static final SectionWalkability EMPTY = new SectionWalkability(filled(), new long[WORDS], new long[WORDS]);
+
+    /** Section whose contents are not loaded; nothing is walkable */
+    public static final SectionWalkability UNKNOWN =
+            new SectionWalkability(new long[WORDS], new long[WORDS], new long[WORDS]);
+
+    private final long[] passable;
+    private final long[] floor;
+    private final long[] slow;
+
+    private SectionWalkability(long[] passable, long[] floor, long[] slow) {
+        this.passable = passable;
+        this.floor = floor;
+        this.slow = slow;
+    }
+
+    /**
+     * Builds walkability bitsets from a snapshot of a section's block states.
+     *
+     * Reads only the given container, so it can run on any thread as long as
+     * the container is a private copy.
+     *
+     * @param states the section's block states
+     * @return the section walkability
+     */
+    public static SectionWalkability build(PalettedContainer<BlockState> states) {
+        return build((x, y, z) -> BlockWalkability.flags(states.get(x, y, z)));
+    }
+
+    /**
+     * Builds walkability bitsets from classified blocks.
+     *
+     * @param blocks the flags of each block, by section-local coordinates
+     * @return the section walkability
+     */
+    static SectionWalkability build(WalkabilityView blocks) {
+        long[] passable = new long[WORDS];
+        long[] floor = new long[WORDS];
+        long[] slow = new long[WORDS];
+        for (int index = 0; index < 4096; index++) {
+            int flags = blocks.flags(index & 15, index >>> 8, (index >>> 4) & 15);
+            int word = index >>> 6;
+            long bit = 1L << (index & 63);
+            if ((flags & BlockWalkability.PASSABLE) != 0) {
+                passable[word] |= bit;
+            }
+            if ((flags & BlockWalkability.FLOOR) != 0) {
+                floor[word] |= bit;
+            }
+            if ((flags & BlockWalkability.SLOW) != 0) {
+                slow[word] |= bit;
+            }
+        }
+        return new SectionWalkability(passable, floor, slow);
+    }
+
+    /**
+     * Gets the walkability flags of a block inside this section.
+     *
+     * @param localX section-local X (0-15)
+     * @param localY section-local Y (0-15)
+     * @param localZ section-local Z (0-15)
+     * @return a combination of {@link BlockWalkability} flags
+     */
+    public int flags(int localX, int localY, int localZ) {
+        int index = (localY << 8) | (localZ << 4) | localX;
+        int word = index >>> 6;
+        long bit = 1L << (index & 63);
+        int flags = 0;
+        if ((passable[word] & bit) != 0) {
+            flags |= BlockWalkability.PASSABLE;
+        }
+        if ((floor[word] & bit) != 0) {
+            flags |= BlockWalkability.FLOOR;
+        }
+        if ((slow[word] & bit) != 0) {
+            flags |= BlockWalkability.SLOW;
+        }
+        return flags;
+    }
+
+    /**
+     * Checks whether two sections have identical walkability.
+     *
+     * @param other the section to compare with
+     * @return true if every flag of every block matches
+     */
+    public boolean sameAs(SectionWalkability other) {
+        return this == other || (Arrays.equals(passable, other.passable)
+                && Arrays.equals(floor, other.floor)
+                && Arrays.equals(slow, other.slow));
+    }
+
+    private static long[] filled() {
+        long[] words = new long[WORDS];
+        Arrays.fill(words, -1L);
+        return words;
+    }
+}
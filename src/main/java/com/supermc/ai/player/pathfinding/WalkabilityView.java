@@ -0,0 +1,42 @@
+package com.supermc.ai.player.pathfinding;
+
+/**
+ * Read-only view of per-block walkability used by the pathfinders.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface WalkabilityView {
+
+    /**
+     * Gets the walkability flags of a block.
+     *
+     * @param x block X coordinate
+     * @param y block Y coordinate
+     * @param z block Z coordinate
+     * @return a combination of {@link BlockWalkability} flags; 0 for unknown blocks
+     */
+    int flags(int x, int y, int z);
+
+    /**
+     * Checks whether the player's body can occupy a block.
+     */
+    default boolean isPassable(int x, int y, int z) {
+        return (flags(x, y, z) & BlockWalkability.PASSABLE) != 0;
+    }
+
+    /**
+     * Checks whether the player can stand on top of a block.
+     */
+    default boolean isFloor(int x, int y, int z) {
+        return (flags(x, y, z) & BlockWalkability.FLOOR) != 0;
+    }
+
+    /**
+     * Checks whether the player can stand with their feet in a block.
+     */
+    default boolean canStandAt(int x, int y, int z) {
+        return isPassable(x, y, z) && isPassable(x, y + 1, z) && isFloor(x, y - 1, z);
+    }
+}
@@ -0,0 +1,190 @@
+package com.supermc.ai.player.simulation;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Vec3i;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Immutable copy of the block collision shapes in a box around a position.
+ *
+ * Captured once on the client thread, after which any number of simulations
+ * may read it concurrently from worker threads without touching the level.
+ * Blocks share one {@link Cell} per block state and shape, so the copy costs
+ * one reference per block. Blocks in unloaded chunks are treated as solid.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class CollisionSnapshot {
+
+    /**
+     * Collision boxes of one block in block-local coordinates, and the
+     * friction it applies when stood on.
+     */
+    private record Cell(VoxelShape shape, AABB[] boxes, float friction) {
+    }
+
+    private static final Cell UNLOADED = new Cell(null, new AABB[]{new AABB(0.0, 0.0, 0.0, 1.0, 1.0, 1.0)}, 0.6f);
+
+    private static final Cell FULL_BLOCK = new Cell(null, UNLOADED.boxes(), 0.6f);
+
+    private static final Cell AIR = new Cell(null, new AABB[0], 0.6f);
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final Cell[] cells;
+
+    private CollisionSnapshot(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ, Cell[] cells) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.cells = cells;
+    }
+
+    /**
+     * Copies the collision shapes around a position. Must be called on the
+     * thread that owns the level.
+     *
+     * @param level the level to copy from
+     * @param center the block at the center of the snapshot
+     * @param radius horizontal radius in blocks
+     * @param below blocks copied below the center
+     * @param above blocks copied above the center
+     * @return the snapshot
+     */
+    public static CollisionSnapshot capture(Level level, BlockPos center, int radius, int below, int above) {
+        int minX = center.getX() - radius;
+        int minY = Math.max(level.getMinY(), center.getY() - below);
+        int minZ = center.getZ() - radius;
+        int sizeX = radius * 2 + 1;
+        int sizeY = Math.max(1, Math.min(level.getMaxY(), center.getY() + above) - minY + 1);
+        int sizeZ = radius * 2 + 1;
+
+        Cell[] cells = new Cell[sizeX * sizeY * sizeZ];
+        Map<BlockState, Cell> palette = new IdentityHashMap<>();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int x = 0; x < sizeX; x++) {
+            for (int z = 0; z < sizeZ; z++) {
+                boolean loaded = level.hasChunk((minX + x) >> 4, (minZ + z) >> 4);
+                for (int y = 0; y < sizeY; y++) {
+                    int index = (y * sizeZ + z) * sizeX + x;
+                    if (!loaded) {
+                        cells[index] = UNLOADED;
+                        continue;
+                    }
+                    pos.set(minX + x, minY + y, minZ + z);
+                    BlockState state = level.getBlockState(pos);
+                    VoxelShape shape = state.getCollisionShape(level, pos);
+                    Cell cell = palette.get(state);
+                    if (cell == null || cell.shape() != shape) {
+                        // A few blocks vary their shape by position; those just miss the palette
+                        cell = new Cell(shape, shape.toAabbs().toArray(new AABB[0]), state.getBlock().getFriction());
+                        palette.put(state, cell);
+                    }
+                    cells[index] = cell;
+                }
+            }
+        }
+        return new CollisionSnapshot(minX, minY, minZ, sizeX, sizeY, sizeZ, cells);
+    }
+
+    /**
+     * Builds a snapshot of full blocks with the default friction and air,
+     * without a level.
+     *
+     * @param min the lowest corner of the region
+     * @param size the region size in blocks
+     * @param solid which positions hold a full block
+     * @return the snapshot
+     */
+    static CollisionSnapshot ofFullBlocks(BlockPos min, Vec3i size, Predicate<BlockPos> solid) {
+        Cell[] cells = new Cell[size.getX() * size.getY() * size.getZ()];
+        for (int y = 0; y < size.getY(); y++) {
+            for (int z = 0; z < size.getZ(); z++) {
+                for (int x = 0; x < size.getX(); x++) {
+                    boolean full = solid.test(min.offset(x, y, z));
+                    cells[(y * size.getZ() + z) * size.getX() + x] = full ? FULL_BLOCK : AIR;
+                }
+            }
+        }
+        return new CollisionSnapshot(min.getX(), min.getY(), min.getZ(), size.getX(), size.getY(), size.getZ(),
+                cells);
+    }
+
+    /**
+     * Checks whether a box lies entirely within the copied region.
+     *
+     * @param box the box in world coordinates
+     * @return true if every block the box touches was copied
+     */
+    public boolean contains(AABB box) {
+        return Mth.floor(box.minX) >= minX && Mth.floor(box.maxX) < minX + sizeX
+                && Mth.floor(box.minY) >= minY && Mth.floor(box.maxY) < minY + sizeY
+                && Mth.floor(box.minZ) >= minZ && Mth.floor(box.maxZ) < minZ + sizeZ;
+    }
+
+    /**
+     * Adds the collision boxes that intersect an area, in world coordinates.
+     * Blocks outside the copied region contribute nothing.
+     *
+     * @param area the area in world coordinates
+     * @param out the list to add to
+     */
+    public void collectBoxes(AABB area, List<AABB> out) {
+        int fromX = Math.max(minX, Mth.floor(area.minX) - 1);
+        int fromY = Math.max(minY, Mth.floor(area.minY) - 1);
+        int fromZ = Math.max(minZ, Mth.floor(area.minZ) - 1);
+        int toX = Math.min(minX + sizeX - 1, Mth.floor(area.maxX) + 1);
+        int toY = Math.min(minY + sizeY - 1, Mth.floor(area.maxY) + 1);
+        int toZ = Math.min(minZ + sizeZ - 1, Mth.floor(area.maxZ) + 1);
+
+        for (int y = fromY; y <= toY; y++) {
+            for (int z = fromZ; z <= toZ; z++) {
+                for (int x = fromX; x <= toX; x++) {
+                    Cell cell = cells[((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX)];
+                    for (AABB box : cell.boxes()) {
+                        AABB moved = box.move(x, y, z);
+                        if (moved.intersects(area)) {
+                            out.add(moved);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the friction of the block at a position.
+     *
+     * @param x block x
+     * @param y block y
+     * @param z block z
+     * @return the block friction, the default 0.6 outside the copied region
+     */
+    public float friction(int x, int y, int z) {
+        int dx = x - minX;
+        int dy = y - minY;
+        int dz = z - minZ;
+        if (dx < 0 || dy < 0 || dz < 0 || dx >= sizeX || dy >= sizeY || dz >= sizeZ) {
+            return 0.6f;
+        }
+        return cells[(dy * sizeZ + dz) * sizeX + dx].friction();
+    }
+}
@@ -0,0 +1,275 @@
+package com.supermc.ai.player.simulation;
+
+import com.supermc.ai.player.controller.HeldInput;
+import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Predicts player movement for a sequence of inputs without executing it.
+ *
+ * Replays the vanilla walking physics tick by tick: input acceleration
+ * scaled by the friction of the block below, jumping and the sprint-jump
+ * boost, gravity and drag, and collision against the block shapes of a
+ * {@link CollisionSnapshot} including stepping up ledges. Fluids, climbing,
+ * sneaking edge protection, entity collisions and bouncy blocks are not
+ * modeled, so predictions are exact on plain terrain and approximate
+ * elsewhere.
+ *
+ * Simulations only read their snapshot and can run concurrently on any
+ * thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class MovementSimulator {
+
+    /** Distance below which a movement counts as no movement */
+    private static final double EPSILON = 1.0E-7;
+
+    /** Velocity components below this are zeroed at the start of a tick */
+    private static final double MIN_VELOCITY = 0.003;
+
+    /** Factor applied to movement input every tick */
+    private static final float INPUT_FACTOR = 0.98f;
+
+    /** Vertical drag per tick */
+    private static final double VERTICAL_DRAG = 0.98;
+
+    /** Horizontal drag per tick in the air, also multiplied with block friction on the ground */
+    private static final double HORIZONTAL_DRAG = 0.91;
+
+    /** Ground acceleration constant, divided by the cubed block friction */
+    private static final double GROUND_ACCELERATION = 0.21600002;
+
+    private static final double AIR_ACCELERATION = 0.02;
+
+    private static final double SPRINT_AIR_ACCELERATION = 0.026;
+
+    /** Horizontal boost of a sprinting jump */
+    private static final double SPRINT_JUMP_BOOST = 0.2;
+
+    private MovementSimulator() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Simulates one input sequence.
+     *
+     * @param snapshot the collision shapes around the start position
+     * @param start the state to start from
+     * @param inputs the input held on each tick; attack and use are ignored
+     * @param yaws the facing on each tick, in degrees
+     * @return the predicted trajectory
+     */
+    public static Trajectory simulate(CollisionSnapshot snapshot, MovementStart start, HeldInput[] inputs,
+                                      float[] yaws) {
+        double halfWidth = start.width() / 2.0;
+        double height = start.height();
+        double stepHeight = start.stepHeight();
+
+        double x = start.position().x;
+        double y = start.position().y;
+        double z = start.position().z;
+        double vx = start.velocity().x;
+        double vy = start.velocity().y;
+        double vz = start.velocity().z;
+        boolean onGround = start.onGround();
+        boolean horizontalCollision = false;
+        boolean truncated = false;
+
+        List<Vec3> positions = new ArrayList<>(inputs.length);
+        List<AABB> obstacles = new ArrayList<>();
+        for (int tick = 0; tick < inputs.length; tick++) {
+            HeldInput input = inputs[tick];
+            float radians = yaws[tick] * Mth.DEG_TO_RAD;
+            float sin = Mth.sin(radians);
+            float cos = Mth.cos(radians);
+
+            if (Math.abs(vx) < MIN_VELOCITY) {
+                vx = 0.0;
+            }
+            if (Math.abs(vy) < MIN_VELOCITY) {
+                vy = 0.0;
+            }
+            if (Math.abs(vz) < MIN_VELOCITY) {
+                vz = 0.0;
+            }
+
+            double forward = input.forward() * INPUT_FACTOR;
+            double strafe = input.strafe() * INPUT_FACTOR;
+            if (input.sneak()) {
+                forward *= start.sneakingSpeed();
+                strafe *= start.sneakingSpeed();
+            }
+            boolean sprinting = input.sprint() && input.forward() > 0.0f && !input.sneak();
+
+            if (input.jump() && onGround) {
+                vy = start.jumpStrength();
+                if (sprinting) {
+                    vx -= sin * SPRINT_JUMP_BOOST;
+                    vz += cos * SPRINT_JUMP_BOOST;
+                }
+            }
+
+            // Acceleration and drag from the ground state before the move, as LivingEntity#travel does it
+            boolean wasOnGround = onGround;
+            double friction = wasOnGround
+                    ? snapshot.friction(Mth.floor(x), Mth.floor(y - 0.5000001), Mth.floor(z))
+                    : 1.0;
+            double drag = friction * HORIZONTAL_DRAG;
+            double acceleration;
+            if (wasOnGround) {
+                double speed = start.movementSpeed() * (sprinting ? MovementStart.SPRINT_MULTIPLIER : 1.0);
+                acceleration = speed * (GROUND_ACCELERATION / (friction * friction * friction));
+            } else {
+                acceleration = sprinting ? SPRINT_AIR_ACCELERATION : AIR_ACCELERATION;
+            }
+            double lengthSquared = strafe * strafe + forward * forward;
+            if (lengthSquared >= EPSILON) {
+                double scale = (lengthSquared > 1.0 ? 1.0 / Math.sqrt(lengthSquared) : 1.0) * acceleration;
+                double relativeX = strafe * scale;
+                double relativeZ = forward * scale;
+                vx += relativeX * cos - relativeZ * sin;
+                vz += relativeZ * cos + relativeX * sin;
+            }
+
+            AABB box = new AABB(x - halfWidth, y, z - halfWidth, x + halfWidth, y + height, z + halfWidth);
+            AABB reach = box.expandTowards(vx, vy, vz).expandTowards(0.0, stepHeight, 0.0);
+            if (!snapshot.contains(reach)) {
+                truncated = true;
+                break;
+            }
+            obstacles.clear();
+            snapshot.collectBoxes(reach.inflate(EPSILON), obstacles);
+
+            Vec3 movement = new Vec3(vx, vy, vz);
+            Vec3 moved = collide(box, movement, obstacles, wasOnGround, stepHeight);
+            boolean hitX = !Mth.equal(movement.x, moved.x);
+            boolean hitY = movement.y != moved.y;
+            boolean hitZ = !Mth.equal(movement.z, moved.z);
+            x += moved.x;
+            y += moved.y;
+            z += moved.z;
+
+            onGround = hitY && movement.y < 0.0;
+            horizontalCollision = hitX || hitZ;
+            if (hitX) {
+                vx = 0.0;
+            }
+            if (hitY) {
+                vy = 0.0;
+            }
+            if (hitZ) {
+                vz = 0.0;
+            }
+
+            vy = (vy - start.gravity()) * VERTICAL_DRAG;
+            vx *= drag;
+            vz *= drag;
+            positions.add(new Vec3(x, y, z));
+        }
+        return new Trajectory(positions, onGround, horizontalCollision, truncated);
+    }
+
+    /**
+     * Moves a box as far as the obstacles allow, stepping up low ledges.
+     */
+    private static Vec3 collide(AABB box, Vec3 movement, List<AABB> obstacles, boolean onGround, double stepHeight) {
+        Vec3 moved = collideAxes(box, movement, obstacles);
+        boolean blockedHorizontally = moved.x != movement.x || moved.z != movement.z;
+        boolean landed = moved.y != movement.y && movement.y < 0.0;
+        if (stepHeight <= 0.0 || !(onGround || landed) || !blockedHorizontally) {
+            return moved;
+        }
+
+        Vec3 horizontal = new Vec3(movement.x, 0.0, movement.z);
+        Vec3 stepped = collideAxes(box, new Vec3(movement.x, stepHeight, movement.z), obstacles);
+        Vec3 up = collideAxes(box.expandTowards(movement.x, 0.0, movement.z), new Vec3(0.0, stepHeight, 0.0),
+                obstacles);
+        if (up.y < stepHeight) {
+            Vec3 across = collideAxes(box.move(up), horizontal, obstacles).add(up);
+            if (across.horizontalDistanceSqr() > stepped.horizontalDistanceSqr()) {
+                stepped = across;
+            }
+        }
+        if (stepped.horizontalDistanceSqr() <= moved.horizontalDistanceSqr()) {
+            return moved;
+        }
+        return stepped.add(collideAxes(box.move(stepped), new Vec3(0.0, movement.y - stepped.y, 0.0), obstacles));
+    }
+
+    /**
+     * Clips a movement axis by axis: vertical first, then the larger
+     * horizontal component before the smaller one, matching vanilla.
+     */
+    private static Vec3 collideAxes(AABB box, Vec3 movement, List<AABB> obstacles) {
+        double dx = movement.x;
+        double dy = movement.y;
+        double dz = movement.z;
+
+        if (dy != 0.0) {
+            dy = clip(Direction.Axis.Y, box, obstacles, dy);
+            if (dy != 0.0) {
+                box = box.move(0.0, dy, 0.0);
+            }
+        }
+        boolean zFirst = Math.abs(dx) < Math.abs(dz);
+        if (zFirst && dz != 0.0) {
+            dz = clip(Direction.Axis.Z, box, obstacles, dz);
+            if (dz != 0.0) {
+                box = box.move(0.0, 0.0, dz);
+            }
+        }
+        if (dx != 0.0) {
+            dx = clip(Direction.Axis.X, box, obstacles, dx);
+            if (!zFirst && dx != 0.0) {
+                box = box.move(dx, 0.0, 0.0);
+            }
+        }
+        if (!zFirst && dz != 0.0) {
+            dz = clip(Direction.Axis.Z, box, obstacles, dz);
+        }
+        return new Vec3(dx, dy, dz);
+    }
+
+    /**
+     * Shortens a movement along one axis so the box stops at the first
+     * obstacle in its way.
+     */
+    private static double clip(Direction.Axis axis, AABB box, List<AABB> obstacles, double delta) {
+        for (AABB obstacle : obstacles) {
+            if (Math.abs(delta) < EPSILON) {
+                return 0.0;
+            }
+            if (!overlapsAcross(axis, box, obstacle)) {
+                continue;
+            }
+            if (delta > 0.0 && obstacle.min(axis) >= box.max(axis) - EPSILON) {
+                delta = Math.min(delta, obstacle.min(axis) - box.max(axis));
+            } else if (delta < 0.0 && obstacle.max(axis) <= box.min(axis) + EPSILON) {
+                delta = Math.max(delta, obstacle.max(axis) - box.min(axis));
+            }
+        }
+        return Math.abs(delta) < EPSILON ? 0.0 : delta;
+    }
+
+    /**
+     * Checks whether two boxes overlap on the two axes other than the
+     * movement axis.
+     */
+    private static boolean overlapsAcross(Direction.Axis axis, AABB box, AABB obstacle) {
+        for (Direction.Axis other : Direction.Axis.VALUES) {
+            if (other != axis && (obstacle.max(other) <= box.min(other) + EPSILON
+                    || obstacle.min(other) >= box.max(other) - EPSILON)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,55 @@
+package com.supermc.ai.player.simulation;
+
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Physical state and movement attributes a simulation starts from.
+ *
+ * @param position feet position
+ * @param velocity velocity in blocks per tick
+ * @param yaw facing in degrees
+ * @param onGround whether the player stands on a block
+ * @param movementSpeed walking speed attribute, without the sprint bonus
+ * @param sneakingSpeed input factor applied while sneaking
+ * @param jumpStrength vertical velocity of a jump
+ * @param gravity downward acceleration per tick
+ * @param stepHeight highest ledge walked up without jumping
+ * @param width bounding box width
+ * @param height bounding box height
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record MovementStart(Vec3 position, Vec3 velocity, float yaw, boolean onGround, double movementSpeed,
+                            double sneakingSpeed, double jumpStrength, double gravity, double stepHeight,
+                            float width, float height) {
+
+    /** Speed multiplier of the vanilla sprint modifier */
+    static final double SPRINT_MULTIPLIER = 1.3;
+
+    /**
+     * Captures the current state of a player. Must be called on the client
+     * thread.
+     *
+     * @param player the player
+     * @return the start state
+     */
+    public static MovementStart of(Player player) {
+        double speed = player.getAttributeValue(Attributes.MOVEMENT_SPEED);
+        if (player.isSprinting()) {
+            // The sprint bonus is an attribute modifier; the simulator applies it per tick itself
+            speed /= SPRINT_MULTIPLIER;
+        }
+        return new MovementStart(player.position(), player.getDeltaMovement(), player.getYRot(), player.onGround(),
+                speed,
+                player.getAttributeValue(Attributes.SNEAKING_SPEED),
+                player.getAttributeValue(Attributes.JUMP_STRENGTH),
+                player.getAttributeValue(Attributes.GRAVITY),
+                player.getAttributeValue(Attributes.STEP_HEIGHT),
+                player.getBbWidth(),
+                player.getBbHeight());
+    }
+}
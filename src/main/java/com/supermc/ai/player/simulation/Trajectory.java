@@ -0,0 +1,29 @@
+package com.supermc.ai.player.simulation;
+
+import net.minecraft.world.phys.Vec3;
+
+import java.util.List;
+
+/**
+ * Predicted movement of one simulated input sequence.
+ *
+ * @param positions feet position after each simulated tick
+ * @param onGround whether the player stands on a block after the last tick
+ * @param horizontalCollision whether a wall blocked horizontal movement on the last tick
+ * @param truncated true if the player left the collision snapshot and the simulation stopped early
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record Trajectory(List<Vec3> positions, boolean onGround, boolean horizontalCollision, boolean truncated) {
+
+    /**
+     * Gets the number of ticks simulated.
+     *
+     * @return the tick count
+     */
+    public int ticks() {
+        return positions.size();
+    }
+}
@@ -0,0 +1,96 @@
+package com.supermc.ai.player.state;
+
+import com.supermc.ai.grpc.proto.PlayerState;
+
+import javax.annotation.Nullable;
+
+/**
+ * Field-by-field difference between two full player states.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class PlayerStateDelta {
+
+    private PlayerStateDelta() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Builds a delta holding the fields of {@code current} that differ from
+     * {@code previous}. Inventory, tick and keyframe flag are left to the caller.
+     *
+     * @param previous the state the receiver already has
+     * @param current the new full state
+     * @return a builder with the changed fields, or null if nothing changed
+     */
+    @Nullable
+    static PlayerState.Builder diff(PlayerState previous, PlayerState current) {
+        PlayerState.Builder delta = PlayerState.newBuilder();
+        boolean changed = false;
+
+        if (!previous.getPlayerName().equals(current.getPlayerName())) {
+            delta.setPlayerName(current.getPlayerName());
+            changed = true;
+        }
+        if (!previous.getPosition().equals(current.getPosition())) {
+            delta.setPosition(current.getPosition());
+            changed = true;
+        }
+        if (!previous.getRotation().equals(current.getRotation())) {
+            delta.setRotation(current.getRotation());
+            changed = true;
+        }
+        if (Double.compare(previous.getHealth(), current.getHealth()) != 0) {
+            delta.setHealth(current.getHealth());
+            changed = true;
+        }
+        if (Double.compare(previous.getMaxHealth(), current.getMaxHealth()) != 0) {
+            delta.setMaxHealth(current.getMaxHealth());
+            changed = true;
+        }
+        if (Double.compare(previous.getFoodLevel(), current.getFoodLevel()) != 0) {
+            delta.setFoodLevel(current.getFoodLevel());
+            changed = true;
+        }
+        if (Double.compare(previous.getSaturation(), current.getSaturation()) != 0) {
+            delta.setSaturation(current.getSaturation());
+            changed = true;
+        }
+        if (previous.getExperienceLevel() != current.getExperienceLevel()) {
+            delta.setExperienceLevel(current.getExperienceLevel());
+            changed = true;
+        }
+        if (Float.compare(previous.getExperienceProgress(), current.getExperienceProgress()) != 0) {
+            delta.setExperienceProgress(current.getExperienceProgress());
+            changed = true;
+        }
+        if (previous.getIsSneaking() != current.getIsSneaking()) {
+            delta.setIsSneaking(current.getIsSneaking());
+            changed = true;
+        }
+        if (previous.getIsSprinting() != current.getIsSprinting()) {
+            delta.setIsSprinting(current.getIsSprinting());
+            changed = true;
+        }
+        if (previous.getIsOnGround() != current.getIsOnGround()) {
+            delta.setIsOnGround(current.getIsOnGround());
+            changed = true;
+        }
+        if (previous.getIsFlying() != current.getIsFlying()) {
+            delta.setIsFlying(current.getIsFlying());
+            changed = true;
+        }
+        if (!previous.getHeldItem().equals(current.getHeldItem())) {
+            delta.setHeldItem(current.getHeldItem());
+            changed = true;
+        }
+        if (previous.getSelectedSlot() != current.getSelectedSlot()) {
+            delta.setSelectedSlot(current.getSelectedSlot());
+            changed = true;
+        }
+
+        return changed ? delta : null;
+    }
+}
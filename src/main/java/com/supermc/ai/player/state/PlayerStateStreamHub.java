@@ -0,0 +1,213 @@
+package com.supermc.ai.player.state;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.grpc.proto.ItemInfo;
+import com.supermc.ai.grpc.proto.PlayerState;
+import com.supermc.ai.grpc.util.FlowControlledStream;
+import com.supermc.ai.grpc.util.ProtoConverter;
+import com.supermc.ai.grpc.util.SerializedMessage;
+import com.supermc.ai.player.inventory.InventoryTracker;
+import com.mojang.logging.LogUtils;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import net.minecraft.world.entity.player.Player;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Fans the local player's state out to every {@code StreamPlayerState}
+ * subscriber from a single client tick hook.
+ *
+ * The full state is computed at most once per tick, and only when some
+ * subscriber is due. Subscribers that asked for delta encoding receive a full
+ * keyframe first and then only the fields that changed since their previous
+ * message, with a new keyframe every {@code keyframe_interval_ticks}. Ticks on
+ * which nothing changed send nothing. The inventory is only converted when
+ * {@link InventoryTracker} reports a new version, and deltas only carry it
+ * when it changed. Keyframes are the same for every subscriber, so a
+ * keyframe is built and serialized once per tick and its bytes are shared.
+ *
+ * A subscriber whose consumer is behind is skipped under the conflating
+ * policy, so its next message is built from the newest state against its
+ * last sent baseline. Under the other policies a dropped message makes the
+ * next message a keyframe.
+ *
+ * Subscriptions may be added from any thread; {@link #tick(Player)} must be
+ * called on the client thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PlayerStateStreamHub {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final PlayerStateStreamHub INSTANCE = new PlayerStateStreamHub();
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private PlayerStateStreamHub() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     *
+     * @return the hub instance
+     */
+    public static PlayerStateStreamHub getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Adds a subscriber. The subscription ends when the client cancels the call.
+     *
+     * @param stream the response stream
+     * @param intervalMs minimum time between messages
+     * @param delta whether to send only changed fields between keyframes
+     * @param keyframeIntervalTicks ticks between keyframes in delta mode, 0 for the default
+     */
+    public void subscribe(FlowControlledStream<PlayerState> stream, int intervalMs, boolean delta,
+                          int keyframeIntervalTicks) {
+        int intervalTicks = Math.max(1, intervalMs / SuperAIConstants.MS_PER_TICK);
+        int keyframeTicks = keyframeIntervalTicks > 0
+                ? keyframeIntervalTicks
+                : SuperAIConstants.DEFAULT_STATE_KEYFRAME_INTERVAL_TICKS;
+
+        Subscription subscription = new Subscription(stream, intervalTicks, delta, keyframeTicks);
+        stream.setOnCancelHandler(() -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        LOGGER.debug("Player state subscriber added (every {} ticks, delta={})", intervalTicks, delta);
+    }
+
+    /**
+     * Ends every subscription with {@code UNAVAILABLE}, e.g. when the player
+     * leaves the world.
+     */
+    public void closeAll() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        StatusRuntimeException error = Status.UNAVAILABLE
+                .withDescription("Player not available")
+                .asRuntimeException();
+        for (Subscription subscription : subscriptions) {
+            subscriptions.remove(subscription);
+            subscription.stream.fail(error);
+        }
+    }
+
+    /**
+     * Sends the current state to every subscriber that is due. Called once per
+     * client tick after the player has moved.
+     *
+     * @param player the local player
+     */
+    public void tick(Player player) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+
+        long tick = player.level().getGameTime();
+        InventoryTracker inventory = InventoryTracker.getInstance();
+        long version = inventory.getVersion();
+        PlayerState current = null;
+        PlayerState keyframe = null;
+        SerializedMessage sharedKeyframe = null;
+
+        for (Subscription subscription : subscriptions) {
+            if (subscription.stream.isClosed()) {
+                subscriptions.remove(subscription);
+                continue;
+            }
+            if (tick < subscription.nextTick || subscription.stream.isBehind()) {
+                continue;
+            }
+            subscription.nextTick = tick + subscription.intervalTicks;
+
+            if (current == null) {
+                current = ProtoConverter.toPlayerStateBuilder(player).setInventoryVersion(version).build();
+            }
+            PlayerState message;
+            if (isKeyframeDue(subscription, tick)) {
+                if (keyframe == null) {
+                    keyframe = current.toBuilder().addAllInventory(inventory.getItems()).build();
+                }
+                message = keyframe;
+                subscription.lastKeyframeTick = tick;
+                subscription.baseline = current;
+                subscription.inventoryVersion = version;
+            } else {
+                message = nextDelta(subscription, current, inventory.getItems(), tick, version);
+                if (message == null) {
+                    continue;
+                }
+            }
+
+            boolean sent;
+            if (message == keyframe && subscriptions.size() > 1) {
+                // Every subscriber due for a keyframe this tick is sent the same bytes
+                if (sharedKeyframe == null) {
+                    sharedKeyframe = SerializedMessage.of(keyframe);
+                }
+                sent = subscription.stream.sendSerialized(sharedKeyframe);
+            } else {
+                sent = subscription.stream.send(message);
+            }
+            if (!sent) {
+                LOGGER.debug("Dropping player state subscriber");
+                subscriptions.remove(subscription);
+            } else if (subscription.stream.takeDropped()) {
+                // The consumer missed a delta, so resynchronise it with a keyframe
+                subscription.baseline = null;
+            }
+        }
+    }
+
+    private static boolean isKeyframeDue(Subscription subscription, long tick) {
+        return !subscription.delta
+                || subscription.baseline == null
+                || tick - subscription.lastKeyframeTick >= subscription.keyframeIntervalTicks;
+    }
+
+    private PlayerState nextDelta(Subscription subscription, PlayerState current, List<ItemInfo> inventory,
+                                  long tick, long version) {
+        boolean inventoryChanged = subscription.inventoryVersion != version;
+        PlayerState.Builder builder = PlayerStateDelta.diff(subscription.baseline, current);
+        if (builder == null && !inventoryChanged) {
+            return null;
+        }
+        if (builder == null) {
+            builder = PlayerState.newBuilder();
+        }
+        if (inventoryChanged) {
+            builder.addAllInventory(inventory);
+        }
+        builder.setTick(tick).setIsKeyframe(false).setInventoryVersion(version);
+
+        subscription.baseline = current;
+        subscription.inventoryVersion = version;
+        return builder.build();
+    }
+
+    private static final class Subscription {
+        final FlowControlledStream<PlayerState> stream;
+        final int intervalTicks;
+        final boolean delta;
+        final int keyframeIntervalTicks;
+
+        long nextTick = Long.MIN_VALUE;
+        long lastKeyframeTick;
+        long inventoryVersion = -1;
+        PlayerState baseline;
+
+        Subscription(FlowControlledStream<PlayerState> stream, int intervalTicks, boolean delta,
+                     int keyframeIntervalTicks) {
+            this.stream = stream;
+            this.intervalTicks = intervalTicks;
+            this.delta = delta;
+            this.keyframeIntervalTicks = keyframeIntervalTicks;
+        }
+    }
+}
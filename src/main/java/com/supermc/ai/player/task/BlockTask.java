@@ -0,0 +1,184 @@
+package com.supermc.ai.player.task;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.client.multiplayer.MultiPlayerGameMode;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A task that works through a planned list of blocks, one block at a time.
+ *
+ * The {@link TaskManager} brings the player within reach of the current
+ * block and calls {@link #work} once per tick until {@link #isDone} reports
+ * the block finished. Subclasses decide what finished means and what one
+ * tick of work is.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class BlockTask {
+
+    /** How often a block may be moved to the end of the plan */
+    private static final int MAX_DEFERRALS = 3;
+
+    /**
+     * Outcome of one tick of work on a block.
+     */
+    public enum Result {
+        /** Keep working on the block */
+        WORKING,
+        /** Give up on the block */
+        SKIP,
+        /** Retry the block after the rest of the plan */
+        DEFER
+    }
+
+    private final List<BlockPos> targets;
+    private final Object2IntOpenHashMap<BlockPos> deferrals = new Object2IntOpenHashMap<>();
+    private final int total;
+    private int index;
+    private int completed;
+    private int skipped;
+    private int ticksOnTarget;
+    private String message = "";
+
+    protected BlockTask(List<BlockPos> targets) {
+        this.targets = new ArrayList<>(targets);
+        this.total = targets.size();
+    }
+
+    /**
+     * Gets a short name for log messages.
+     *
+     * @return the task kind
+     */
+    public abstract String name();
+
+    /**
+     * Checks whether a block is finished, e.g. broken or placed.
+     *
+     * @param level the client level
+     * @param pos the block
+     * @return true if nothing is left to do at the block
+     */
+    protected abstract boolean isDone(Level level, BlockPos pos);
+
+    /**
+     * Performs one tick of work on a block within reach. The player already
+     * looks at the block. On {@link Result#SKIP} or {@link Result#DEFER},
+     * {@link #fail(String)} should record why.
+     *
+     * @param player the local player
+     * @param gameMode the client game mode
+     * @param pos the block
+     * @return how to continue
+     */
+    protected abstract Result work(LocalPlayer player, MultiPlayerGameMode gameMode, BlockPos pos);
+
+    /**
+     * Releases anything held for the current block, e.g. a block being
+     * broken. Called whenever the task moves off a block or ends.
+     *
+     * @param player the local player
+     * @param gameMode the client game mode
+     */
+    protected void release(LocalPlayer player, MultiPlayerGameMode gameMode) {
+    }
+
+    /**
+     * Records why the current block failed.
+     *
+     * @param reason the reason
+     */
+    protected final void fail(String reason) {
+        this.message = reason;
+    }
+
+    /**
+     * Gets the face of a block that points most directly at a position.
+     *
+     * @param pos the block
+     * @param from the position it is seen from
+     * @return the facing side
+     */
+    protected static Direction faceToward(BlockPos pos, Vec3 from) {
+        double dx = from.x - (pos.getX() + 0.5);
+        double dy = from.y - (pos.getY() + 0.5);
+        double dz = from.z - (pos.getZ() + 0.5);
+        double ax = Math.abs(dx);
+        double ay = Math.abs(dy);
+        double az = Math.abs(dz);
+        if (ay >= ax && ay >= az) {
+            return dy > 0.0 ? Direction.UP : Direction.DOWN;
+        }
+        if (ax >= az) {
+            return dx > 0.0 ? Direction.EAST : Direction.WEST;
+        }
+        return dz > 0.0 ? Direction.SOUTH : Direction.NORTH;
+    }
+
+    @Nullable
+    BlockPos current() {
+        return index < targets.size() ? targets.get(index) : null;
+    }
+
+    void complete() {
+        completed++;
+        next();
+    }
+
+    void skip() {
+        skipped++;
+        next();
+    }
+
+    /**
+     * Moves the current block to the end of the plan.
+     *
+     * @return false if it was deferred too often and was skipped instead
+     */
+    boolean defer() {
+        BlockPos pos = targets.get(index);
+        if (deferrals.addTo(pos, 1) >= MAX_DEFERRALS) {
+            skip();
+            return false;
+        }
+        targets.add(pos);
+        index++;
+        ticksOnTarget = 0;
+        return true;
+    }
+
+    int tickTarget() {
+        return ++ticksOnTarget;
+    }
+
+    int total() {
+        return total;
+    }
+
+    int completed() {
+        return completed;
+    }
+
+    int skipped() {
+        return skipped;
+    }
+
+    String message() {
+        return message;
+    }
+
+    private void next() {
+        index++;
+        ticksOnTarget = 0;
+    }
+}
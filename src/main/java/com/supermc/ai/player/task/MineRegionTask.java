@@ -0,0 +1,132 @@
+package com.supermc.ai.player.task;
+
+import net.minecraft.client.multiplayer.MultiPlayerGameMode;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Breaks every block in a region.
+ *
+ * Blocks are planned top layer first so nothing is left hanging over the
+ * player, and each layer is walked in a serpentine so consecutive blocks are
+ * neighbours. Air, fluids and unbreakable blocks are left out of the plan.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class MineRegionTask extends BlockTask {
+
+    @Nullable
+    private final Set<Block> filter;
+    private final boolean selectBestTool;
+    @Nullable
+    private BlockPos toolChosenFor;
+
+    private MineRegionTask(List<BlockPos> targets, @Nullable Set<Block> filter, boolean selectBestTool) {
+        super(targets);
+        this.filter = filter;
+        this.selectBestTool = selectBestTool;
+    }
+
+    /**
+     * Plans a mining task from the current blocks of a region. Must be called
+     * on the client thread.
+     *
+     * @param level the client level
+     * @param from one corner of the region
+     * @param to the opposite corner
+     * @param filter blocks to break, null for every block
+     * @param selectBestTool whether to switch to the fastest hotbar tool per block
+     * @return the planned task
+     */
+    public static MineRegionTask plan(Level level, BlockPos from, BlockPos to, @Nullable Set<Block> filter,
+                                      boolean selectBestTool) {
+        int minX = Math.min(from.getX(), to.getX());
+        int maxX = Math.max(from.getX(), to.getX());
+        int minZ = Math.min(from.getZ(), to.getZ());
+        int maxZ = Math.max(from.getZ(), to.getZ());
+
+        List<BlockPos> targets = new ArrayList<>();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int y = Math.max(from.getY(), to.getY()); y >= Math.min(from.getY(), to.getY()); y--) {
+            for (int x = minX; x <= maxX; x++) {
+                boolean reverse = ((x - minX) & 1) == 1;
+                for (int i = 0; i <= maxZ - minZ; i++) {
+                    pos.set(x, y, reverse ? maxZ - i : minZ + i);
+                    BlockState state = level.getBlockState(pos);
+                    if (isMineable(state, filter) && state.getDestroySpeed(level, pos) >= 0.0f) {
+                        targets.add(pos.immutable());
+                    }
+                }
+            }
+        }
+        return new MineRegionTask(targets, filter, selectBestTool);
+    }
+
+    @Override
+    public String name() {
+        return "mine";
+    }
+
+    @Override
+    protected boolean isDone(Level level, BlockPos pos) {
+        return !isMineable(level.getBlockState(pos), filter);
+    }
+
+    @Override
+    protected Result work(LocalPlayer player, MultiPlayerGameMode gameMode, BlockPos pos) {
+        BlockState state = player.level().getBlockState(pos);
+        if (state.getDestroySpeed(player.level(), pos) < 0.0f) {
+            fail("Block is unbreakable: " + state.getBlock().getName().getString());
+            return Result.SKIP;
+        }
+
+        if (selectBestTool && !pos.equals(toolChosenFor)) {
+            selectTool(player.getInventory(), state);
+            toolChosenFor = pos;
+        }
+        // Starts breaking on the first call and advances the progress on each later one
+        gameMode.continueDestroyBlock(pos, faceToward(pos, player.getEyePosition()));
+        player.swing(InteractionHand.MAIN_HAND);
+        return Result.WORKING;
+    }
+
+    @Override
+    protected void release(LocalPlayer player, MultiPlayerGameMode gameMode) {
+        if (gameMode.isDestroying()) {
+            gameMode.stopDestroyBlock();
+        }
+    }
+
+    private static boolean isMineable(BlockState state, @Nullable Set<Block> filter) {
+        return !state.isAir() && !state.liquid() && (filter == null || filter.contains(state.getBlock()));
+    }
+
+    /**
+     * Selects the hotbar slot that breaks a block fastest, keeping the held
+     * item on ties.
+     */
+    private static void selectTool(Inventory inventory, BlockState state) {
+        int best = inventory.getSelectedSlot();
+        float bestSpeed = inventory.getItem(best).getDestroySpeed(state);
+        for (int slot = 0; slot < Inventory.getSelectionSize(); slot++) {
+            float speed = inventory.getItem(slot).getDestroySpeed(state);
+            if (speed > bestSpeed) {
+                best = slot;
+                bestSpeed = speed;
+            }
+        }
+        inventory.setSelectedSlot(best);
+    }
+}
@@ -0,0 +1,216 @@
+package com.supermc.ai.player.task;
+
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.SuperAIExceptions;
+import net.minecraft.client.multiplayer.MultiPlayerGameMode;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.inventory.ClickType;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.Vec3;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Places a structure block by block.
+ *
+ * Blocks are planned bottom layer first so every block has something below
+ * or beside it to be placed against. A block without any support yet, or
+ * one the player stands in, is retried after the rest of the plan. Items
+ * are taken from the hotbar, or swapped into the selected slot from the
+ * main inventory.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PlaceStructureTask extends BlockTask {
+
+    private final Map<BlockPos, BlockState> blocks;
+
+    private PlaceStructureTask(List<BlockPos> targets, Map<BlockPos, BlockState> blocks) {
+        super(targets);
+        this.blocks = blocks;
+    }
+
+    /**
+     * Plans a building task.
+     *
+     * @param blocks the block to place at each world position
+     * @return the planned task
+     */
+    public static PlaceStructureTask plan(Map<BlockPos, BlockState> blocks) {
+        List<BlockPos> targets = new ArrayList<>(blocks.keySet());
+        targets.sort(Comparator.comparingInt(BlockPos::getY)
+                .thenComparingInt(BlockPos::getX)
+                .thenComparingInt(pos -> (pos.getX() & 1) == 0 ? pos.getZ() : -pos.getZ()));
+        return new PlaceStructureTask(targets, Map.copyOf(blocks));
+    }
+
+    /**
+     * Reads the blocks of a structure block file (.nbt). Air and structure
+     * voids are left out. Only the first palette is used.
+     *
+     * @param data the gzipped file contents
+     * @param origin world position of the structure's origin
+     * @return the block to place at each world position
+     * @throws SuperAIExceptions.TaskException if the file cannot be read
+     */
+    public static Map<BlockPos, BlockState> readStructure(byte[] data, BlockPos origin)
+            throws SuperAIExceptions.TaskException {
+        CompoundTag root;
+        try {
+            root = NbtIo.readCompressed(new ByteArrayInputStream(data),
+                    NbtAccounter.create(SuperAIConstants.MAX_STRUCTURE_NBT_BYTES * 16L));
+        } catch (IOException | RuntimeException e) {
+            throw new SuperAIExceptions.TaskException("Invalid structure file: " + e.getMessage());
+        }
+
+        ListTag paletteTag = root.getListOrEmpty("palette");
+        BlockState[] palette = new BlockState[paletteTag.size()];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = NbtUtils.readBlockState(BuiltInRegistries.BLOCK, paletteTag.getCompoundOrEmpty(i));
+        }
+
+        ListTag blockTags = root.getListOrEmpty("blocks");
+        Map<BlockPos, BlockState> blocks = new LinkedHashMap<>();
+        for (int i = 0; i < blockTags.size(); i++) {
+            CompoundTag block = blockTags.getCompoundOrEmpty(i);
+            int state = block.getIntOr("state", -1);
+            ListTag pos = block.getListOrEmpty("pos");
+            if (state < 0 || state >= palette.length || pos.size() != 3) {
+                throw new SuperAIExceptions.TaskException("Invalid structure file: malformed block entry " + i);
+            }
+            BlockState blockState = palette[state];
+            if (blockState.isAir() || blockState.is(Blocks.STRUCTURE_VOID)) {
+                continue;
+            }
+            if (blocks.size() >= SuperAIConstants.MAX_TASK_BLOCKS) {
+                throw new SuperAIExceptions.TaskException(
+                        "Structure has more than " + SuperAIConstants.MAX_TASK_BLOCKS + " blocks");
+            }
+            blocks.put(origin.offset(pos.getIntOr(0, 0), pos.getIntOr(1, 0), pos.getIntOr(2, 0)), blockState);
+        }
+        return blocks;
+    }
+
+    @Override
+    public String name() {
+        return "place";
+    }
+
+    @Override
+    protected boolean isDone(Level level, BlockPos pos) {
+        return level.getBlockState(pos).is(blocks.get(pos).getBlock());
+    }
+
+    @Override
+    protected Result work(LocalPlayer player, MultiPlayerGameMode gameMode, BlockPos pos) {
+        Level level = player.level();
+        BlockState current = level.getBlockState(pos);
+        if (!current.canBeReplaced()) {
+            fail("Position is occupied by " + current.getBlock().getName().getString());
+            return Result.SKIP;
+        }
+        if (player.getBoundingBox().intersects(new AABB(pos))) {
+            fail("Player is in the way");
+            return Result.DEFER;
+        }
+
+        BlockState target = blocks.get(pos);
+        Item item = target.getBlock().asItem();
+        if (item == Items.AIR) {
+            fail("Block has no item: " + target.getBlock().getName().getString());
+            return Result.SKIP;
+        }
+        if (!player.getMainHandItem().is(item)) {
+            if (!selectItem(player, gameMode, item)) {
+                fail("No " + target.getBlock().getName().getString() + " in inventory");
+                return Result.SKIP;
+            }
+            // Place on the next tick, once the server knows the new selection
+            return Result.WORKING;
+        }
+
+        BlockHitResult support = findSupport(level, pos, player.getEyePosition());
+        if (support == null) {
+            fail("Nothing to place against");
+            return Result.DEFER;
+        }
+        gameMode.useItemOn(player, InteractionHand.MAIN_HAND, support);
+        player.swing(InteractionHand.MAIN_HAND);
+        return Result.WORKING;
+    }
+
+    /**
+     * Moves an item into the player's hand: selects it if it is in the
+     * hotbar, otherwise swaps it into the selected slot.
+     *
+     * @return false if the player has none
+     */
+    private static boolean selectItem(LocalPlayer player, MultiPlayerGameMode gameMode, Item item) {
+        Inventory inventory = player.getInventory();
+        for (int slot = 0; slot < Inventory.getSelectionSize(); slot++) {
+            if (inventory.getItem(slot).is(item)) {
+                inventory.setSelectedSlot(slot);
+                return true;
+            }
+        }
+        for (int slot = Inventory.getSelectionSize(); slot < Inventory.INVENTORY_SIZE; slot++) {
+            if (inventory.getItem(slot).is(item)) {
+                // Main inventory slots have the same index in the player's inventory menu
+                gameMode.handleInventoryMouseClick(player.inventoryMenu.containerId, slot,
+                        inventory.getSelectedSlot(), ClickType.SWAP, player);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the closest solid neighbour face within reach to place a block
+     * against. Blocks with a menu are avoided so placing never opens one.
+     */
+    @Nullable
+    private static BlockHitResult findSupport(Level level, BlockPos pos, Vec3 eye) {
+        double reachSquared = SuperAIConstants.MAX_REACH_DISTANCE * SuperAIConstants.MAX_REACH_DISTANCE;
+        BlockHitResult best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (Direction direction : Direction.values()) {
+            BlockPos neighbor = pos.relative(direction);
+            BlockState state = level.getBlockState(neighbor);
+            if (state.canBeReplaced() || state.getMenuProvider(level, neighbor) != null) {
+                continue;
+            }
+            Vec3 hit = Vec3.atCenterOf(pos).relative(direction, 0.5);
+            double distance = hit.distanceToSqr(eye);
+            if (distance <= reachSquared && distance < bestDistance) {
+                best = new BlockHitResult(hit, direction.getOpposite(), neighbor, false);
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+}
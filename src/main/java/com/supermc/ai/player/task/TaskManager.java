@@ -0,0 +1,280 @@
+package com.supermc.ai.player.task;
+
+import com.supermc.ai.common.MainThreadQueue;
+import com.supermc.ai.common.SuperAIConstants;
+import com.supermc.ai.common.TaskPriority;
+import com.supermc.ai.config.SuperAIConfig;
+import com.supermc.ai.grpc.proto.TaskProgress;
+import com.supermc.ai.grpc.proto.TaskState;
+import com.supermc.ai.grpc.util.FlowControlledStream;
+import com.supermc.ai.grpc.util.ProtoConverter;
+import com.supermc.ai.player.controller.InputController;
+import com.supermc.ai.player.pathfinding.HierarchicalPathfinder;
+import com.supermc.ai.player.pathfinding.PathFollower;
+import com.mojang.logging.LogUtils;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.MultiPlayerGameMode;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.commands.arguments.EntityAnchorArgument;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.Vec3;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs one block task at a time on the local player, a step per client tick.
+ *
+ * Each tick the current block of the running task is checked: finished
+ * blocks are passed over, blocks out of reach are walked to with the
+ * pathfinder, and blocks within reach get one tick of work with the player
+ * looking at them. A block that takes longer than
+ * {@link #BLOCK_TIMEOUT_TICKS} is skipped. Progress is streamed to the
+ * caller that started the task whenever a block is finished or skipped.
+ *
+ * Starting a task cancels the running one. All methods must be called on the
+ * client thread.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TaskManager {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** Ticks spent on one block, walking included, before it is skipped (20 seconds) */
+    private static final int BLOCK_TIMEOUT_TICKS = 400;
+
+    /** Finished blocks passed over per tick before the next tick continues */
+    private static final int MAX_FINISHED_PER_TICK = 16;
+
+    private static final TaskManager INSTANCE = new TaskManager();
+
+    private static final class Running {
+        final String id;
+        final BlockTask task;
+        final FlowControlledStream<TaskProgress> stream;
+        boolean planning;
+
+        Running(String id, BlockTask task, FlowControlledStream<TaskProgress> stream) {
+            this.id = id;
+            this.task = task;
+            this.stream = stream;
+        }
+    }
+
+    private final AtomicLong nextId = new AtomicLong(1);
+    @Nullable
+    private Running active;
+
+    private TaskManager() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     *
+     * @return the manager instance
+     */
+    public static TaskManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts a task, cancelling the running one.
+     *
+     * @param task the planned task
+     * @param stream the progress stream; the task is cancelled when the client cancels it
+     * @param player the local player
+     * @return the task id
+     */
+    public String start(BlockTask task, FlowControlledStream<TaskProgress> stream, LocalPlayer player) {
+        if (active != null) {
+            finish(player, TaskState.TASK_CANCELLED, "Replaced by a new task");
+        }
+        // The task drives movement itself
+        InputController.getInstance().release();
+
+        String id = task.name() + "-" + nextId.getAndIncrement();
+        active = new Running(id, task, stream);
+        LOGGER.debug("Started task {} with {} blocks", id, task.total());
+        publish(active, TaskState.TASK_RUNNING, player.level().getGameTime(), "");
+        return id;
+    }
+
+    /**
+     * Cancels the running task.
+     *
+     * @param id the task id, empty for whichever task is running
+     * @param player the local player
+     * @return true if a task was cancelled
+     */
+    public boolean cancel(String id, LocalPlayer player) {
+        if (active == null || (!id.isEmpty() && !id.equals(active.id))) {
+            return false;
+        }
+        finish(player, TaskState.TASK_CANCELLED, "Cancelled by request");
+        return true;
+    }
+
+    /**
+     * Ends the running task, e.g. when the player leaves the world.
+     */
+    public void stopAll() {
+        Running running = active;
+        if (running == null) {
+            return;
+        }
+        active = null;
+        PathFollower.getInstance().stop();
+        publish(running, TaskState.TASK_CANCELLED, 0, "Player not available");
+        complete(running);
+    }
+
+    /**
+     * Advances the running task by one tick. Called once per client tick
+     * before the path follower moves the player.
+     *
+     * @param player the local player
+     */
+    public void tick(LocalPlayer player) {
+        Running running = active;
+        if (running == null) {
+            return;
+        }
+        if (running.stream.isClosed()) {
+            finish(player, TaskState.TASK_CANCELLED, "Cancelled by client");
+            return;
+        }
+        MultiPlayerGameMode gameMode = Minecraft.getInstance().gameMode;
+        if (gameMode == null) {
+            return;
+        }
+
+        BlockTask task = running.task;
+        long tick = player.level().getGameTime();
+        BlockPos pos = task.current();
+        for (int passed = 0; pos != null && task.isDone(player.level(), pos); passed++) {
+            if (passed == MAX_FINISHED_PER_TICK) {
+                return;
+            }
+            task.release(player, gameMode);
+            task.complete();
+            publish(running, TaskState.TASK_RUNNING, tick, "");
+            pos = task.current();
+        }
+        if (pos == null) {
+            finish(player, TaskState.TASK_COMPLETED, "");
+            return;
+        }
+
+        if (task.tickTarget() > BLOCK_TIMEOUT_TICKS) {
+            task.fail("Timed out");
+            skip(running, player, gameMode, tick);
+            return;
+        }
+
+        Vec3 center = Vec3.atCenterOf(pos);
+        double reach = SuperAIConstants.MAX_REACH_DISTANCE;
+        if (player.getEyePosition().distanceToSqr(center) > reach * reach) {
+            approach(running, player, pos);
+            return;
+        }
+        PathFollower.getInstance().stop();
+
+        player.lookAt(EntityAnchorArgument.Anchor.EYES, center);
+        switch (task.work(player, gameMode, pos)) {
+            case SKIP -> skip(running, player, gameMode, tick);
+            case DEFER -> {
+                task.release(player, gameMode);
+                if (!task.defer()) {
+                    publish(running, TaskState.TASK_RUNNING, tick, task.message());
+                }
+            }
+            case WORKING -> {
+            }
+        }
+    }
+
+    /**
+     * Walks towards a block out of reach, planning a path unless one is
+     * being followed or planned.
+     */
+    private void approach(Running running, LocalPlayer player, BlockPos pos) {
+        PathFollower follower = PathFollower.getInstance();
+        if (running.planning || follower.isActive()) {
+            return;
+        }
+        if (!SuperAIConfig.PLAYER_ENABLE_PATHFINDING.get()) {
+            follower.follow(List.of(pos), false);
+            return;
+        }
+
+        // Plans to the block itself; an incomplete route ends at the closest reachable position
+        running.planning = true;
+        HierarchicalPathfinder pathfinder = HierarchicalPathfinder.getInstance();
+        // Detached so the planning flag is always cleared, whichever context completes the future
+        pathfinder.findPathAsync(player.blockPosition(), pos).whenComplete((result, error) ->
+                MainThreadQueue.CLIENT.executeDetached(TaskPriority.CONTROL, () -> {
+                    running.planning = false;
+                    if (active != running) {
+                        return;
+                    }
+                    if (error != null) {
+                        LOGGER.debug("Failed to plan path for task {}", running.id, error);
+                        return;
+                    }
+                    if (!result.isEmpty()) {
+                        follower.follow(result, false, from -> pathfinder.findPathAsync(from, pos));
+                    }
+                }));
+    }
+
+    private void skip(Running running, LocalPlayer player, MultiPlayerGameMode gameMode, long tick) {
+        running.task.release(player, gameMode);
+        String reason = running.task.message();
+        running.task.skip();
+        publish(running, TaskState.TASK_RUNNING, tick, reason);
+    }
+
+    private void finish(LocalPlayer player, TaskState state, String message) {
+        Running running = active;
+        if (running == null) {
+            return;
+        }
+        active = null;
+        MultiPlayerGameMode gameMode = Minecraft.getInstance().gameMode;
+        if (gameMode != null) {
+            running.task.release(player, gameMode);
+        }
+        PathFollower.getInstance().stop();
+        publish(running, state, player.level().getGameTime(), message);
+        complete(running);
+        LOGGER.debug("Task {} ended: {} ({} of {} blocks done, {} skipped)", running.id, state,
+                running.task.completed(), running.task.total(), running.task.skipped());
+    }
+
+    private void publish(Running running, TaskState state, long tick, String message) {
+        if (running.stream.isClosed()) {
+            return;
+        }
+        TaskProgress.Builder progress = TaskProgress.newBuilder()
+                .setTaskId(running.id)
+                .setState(state)
+                .setTotalBlocks(running.task.total())
+                .setCompletedBlocks(running.task.completed())
+                .setSkippedBlocks(running.task.skipped())
+                .setTick(tick)
+                .setMessage(message);
+        BlockPos current = running.task.current();
+        if (current != null) {
+            progress.setCurrentBlock(ProtoConverter.toPosition(current));
+        }
+        running.stream.send(progress.build());
+    }
+
+    private void complete(Running running) {
+        running.stream.complete();
+    }
+}
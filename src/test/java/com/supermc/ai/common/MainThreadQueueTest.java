@@ -0,0 +1,209 @@
+package com.supermc.ai.common;
+
+import io.grpc.Context;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MainThreadQueue}.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class MainThreadQueueTest {
+
+    private static final long NO_BUDGET = Long.MAX_VALUE;
+
+    @Test
+    void runsTasksInSubmissionOrderWithinAClass() {
+        MainThreadQueue queue = new MainThreadQueue("test");
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int task = i;
+            queue.execute(TaskPriority.STATE, () -> order.add(task));
+        }
+
+        assertThat(queue.drain(100, NO_BUDGET)).isEqualTo(5);
+        assertThat(order).containsExactly(0, 1, 2, 3, 4);
+        assertThat(queue.depth()).isZero();
+    }
+
+    @Test
+    void drainsClassesInWeightedRounds() {
+        MainThreadQueue queue = new MainThreadQueue("test");
+        Map<TaskPriority, Integer> ran = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : TaskPriority.values()) {
+            for (int i = 0; i < 20; i++) {
+                queue.execute(priority, () -> ran.merge(priority, 1, Integer::sum));
+            }
+        }
+
+        int oneRound = 0;
+        for (TaskPriority priority : TaskPriority.values()) {
+            oneRound += priority.weight();
+        }
+        assertThat(queue.drain(oneRound, NO_BUDGET)).isEqualTo(oneRound);
+
+        for (TaskPriority priority : TaskPriority.values()) {
+            assertThat(ran.get(priority)).as(priority.name()).isEqualTo(priority.weight());
+            assertThat(queue.stats().depthByPriority().get(priority)).isEqualTo(20 - priority.weight());
+        }
+    }
+
+    @Test
+    void lowerClassesProgressWhileControlWorkIsQueued() {
+        MainThreadQueue queue = new MainThreadQueue("test");
+        List<TaskPriority> order = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            queue.execute(TaskPriority.CONTROL, () -> order.add(TaskPriority.CONTROL));
+        }
+        queue.execute(TaskPriority.ADMIN, () -> order.add(TaskPriority.ADMIN));
+
+        queue.drain(TaskPriority.CONTROL.weight() + 1, NO_BUDGET);
+
+        assertThat(order).endsWith(TaskPriority.ADMIN).hasSize(TaskPriority.CONTROL.weight() + 1);
+    }
+
+    @Test
+    void onlyControlWorkRunsOnceTheBudgetIsSpent() {
+        MainThreadQueue queue = new MainThreadQueue("test");
+        List<TaskPriority> ran = new ArrayList<>();
+        for (TaskPriority priority : TaskPriority.values()) {
+            for (int i = 0; i < 3; i++) {
+                queue.execute(priority, () -> ran.add(priority));
+            }
+        }
+
+        assertThat(queue.drain(100, 0)).isEqualTo(3);
+        assertThat(ran).containsOnly(TaskPriority.CONTROL);
+        assertThat(queue.depth()).isEqualTo(9);
+
+        assertThat(queue.drain(100, NO_BUDGET)).isEqualTo(9);
+        assertThat(queue.depth()).isZero();
+    }
+
+    @Test
+    void batchSizeLimitsOneDrain() {
+        MainThreadQueue queue = new MainThreadQueue("test");
+        for (int i = 0; i < 10; i++) {
+            queue.execute(TaskPriority.CONTROL, () -> {
+            });
+        }
+
+        assertThat(queue.drain(4, NO_BUDGET)).isEqualTo(4);
+        assertThat(queue.depth()).isEqualTo(6);
+        assertThat(queue.stats().lastDrained()).isEqualTo(4);
+    }
+
+    @Test
+    void unfinishedJobsResumeAfterOtherWork() {
+        MainThreadQueue queue = new MainThreadQueue("test");
+        List<String> order = new ArrayList<>();
+        int[] slices = {0};
+        queue.submit(TaskPriority.PERCEPTION, deadline -> {
+            order.add("job");
+            return ++slices[0] == 3;
+        });
+        queue.execute(TaskPriority.PERCEPTION, () -> order.add("task"));
+
+        assertThat(queue.drain(100, NO_BUDGET)).isEqualTo(4);
+
+        assertThat(order).containsExactly("job", "task", "job", "job");
+        assertThat(queue.depth()).isZero();
+    }
+
+    @Test
+    void failingTaskDoesNotStopTheDrain() {
+        MainThreadQueue queue = new MainThreadQueue("test");
+        List<String> ran = new ArrayList<>();
+        queue.execute(TaskPriority.CONTROL, () -> {
+            throw new IllegalStateException("test failure");
+        });
+        queue.execute(TaskPriority.CONTROL, () -> ran.add("next"));
+
+        assertThat(queue.drain(100, NO_BUDGET)).isEqualTo(2);
+        assertThat(ran).containsExactly("next");
+        assertThat(queue.depth()).isZero();
+    }
+
+    @Test
+    void dropsTasksOfCancelledCalls() {
+        MainThreadQueue queue = new MainThreadQueue("test");
+        List<String> ran = new ArrayList<>();
+        Context.CancellableContext call = Context.current().withCancellation();
+        call.run(() -> queue.execute(TaskPriority.STATE, () -> ran.add("task")));
+        queue.execute(TaskPriority.STATE, () -> ran.add("other"));
+
+        call.cancel(null);
+
+        assertThat(queue.drain(100, NO_BUDGET)).isEqualTo(1);
+        assertThat(ran).containsExactly("other");
+        assertThat(queue.stats().dropped()).isEqualTo(1);
+        assertThat(queue.depth()).isZero();
+    }
+
+    @Test
+    void stopsJobOfCallCancelledBetweenSlices() {
+        MainThreadQueue queue = new MainThreadQueue("test");
+        Context.CancellableContext call = Context.current().withCancellation();
+        int[] slices = {0};
+        call.run(() -> queue.submit(TaskPriority.PERCEPTION, deadline -> {
+            slices[0]++;
+            return false;
+        }));
+
+        queue.drain(1, NO_BUDGET);
+        call.cancel(null);
+        queue.drain(100, NO_BUDGET);
+
+        assertThat(slices[0]).isEqualTo(1);
+        assertThat(queue.depth()).isZero();
+    }
+
+    @Test
+    void runsTasksInTheirCallContext() {
+        MainThreadQueue queue = new MainThreadQueue("test");
+        Context.Key<String> agent = Context.key("agent");
+        List<String> seen = new ArrayList<>();
+        Context.current().withValue(agent, "agent-1").run(() ->
+                queue.execute(TaskPriority.CONTROL, () -> seen.add(agent.get())));
+
+        queue.drain(100, NO_BUDGET);
+
+        assertThat(seen).containsExactly("agent-1");
+        assertThat(agent.get()).isNull();
+    }
+
+    /**
+     * MoveToPosition on a route-cache hit: planning completes at once, so the
+     * follow-up task is submitted from inside the call's task, and answering
+     * the call then cancels its context before the follow-up runs.
+     */
+    @Test
+    void detachedFollowUpOutlivesTheAnsweredCall() {
+        MainThreadQueue queue = new MainThreadQueue("test");
+        List<String> ran = new ArrayList<>();
+        Context.CancellableContext call = Context.current().withCancellation();
+        call.run(() -> queue.execute(TaskPriority.CONTROL, () ->
+                CompletableFuture.completedFuture("route").whenComplete((route, error) -> {
+                    queue.executeDetached(TaskPriority.CONTROL, () -> ran.add("follow " + route));
+                    queue.execute(TaskPriority.CONTROL, () -> ran.add("bound to call"));
+                    // gRPC cancels the context once the call has been answered
+                    call.cancel(null);
+                })));
+
+        queue.drain(100, NO_BUDGET);
+        queue.drain(100, NO_BUDGET);
+
+        assertThat(ran).containsExactly("follow route");
+        assertThat(queue.depth()).isZero();
+    }
+}
@@ -0,0 +1,88 @@
+package com.supermc.ai.grpc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the GCRA buckets of {@link RateLimitingInterceptor}.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class RateLimitingInterceptorTest {
+
+    /** Nanoseconds per unit */
+    private static final long UNIT = 1_000;
+    private static final int BURST = 3;
+    private static final long START = 1_000_000;
+
+    private static AtomicLong emptyBucket() {
+        return new AtomicLong(Long.MIN_VALUE);
+    }
+
+    private static long acquire(AtomicLong bucket, long now, int units) {
+        return RateLimitingInterceptor.acquire(bucket, now, units * UNIT, Math.max(BURST, units) * UNIT);
+    }
+
+    @Test
+    void admitsABurstThenRejects() {
+        AtomicLong bucket = emptyBucket();
+
+        for (int i = 0; i < BURST; i++) {
+            assertThat(acquire(bucket, START, 1)).as("call %d", i).isZero();
+        }
+
+        assertThat(acquire(bucket, START, 1)).isEqualTo(UNIT);
+    }
+
+    @Test
+    void rejectionDoesNotTakeUnits() {
+        AtomicLong bucket = emptyBucket();
+        for (int i = 0; i < BURST; i++) {
+            acquire(bucket, START, 1);
+        }
+        long arrival = bucket.get();
+
+        acquire(bucket, START, 1);
+        acquire(bucket, START, 1);
+
+        assertThat(bucket.get()).isEqualTo(arrival);
+    }
+
+    @Test
+    void refillsOneUnitPerInterval() {
+        AtomicLong bucket = emptyBucket();
+        for (int i = 0; i < BURST; i++) {
+            acquire(bucket, START, 1);
+        }
+
+        assertThat(acquire(bucket, START + UNIT / 2, 1)).isEqualTo(UNIT / 2);
+        assertThat(acquire(bucket, START + UNIT, 1)).isZero();
+        assertThat(acquire(bucket, START + UNIT, 1)).isEqualTo(UNIT);
+    }
+
+    @Test
+    void idleBucketRefillsOnlyUpToTheBurst() {
+        AtomicLong bucket = emptyBucket();
+        acquire(bucket, START, 1);
+
+        long later = START + 100 * UNIT;
+        for (int i = 0; i < BURST; i++) {
+            assertThat(acquire(bucket, later, 1)).isZero();
+        }
+        assertThat(acquire(bucket, later, 1)).isPositive();
+    }
+
+    @Test
+    void costlyCallTakesSeveralUnits() {
+        AtomicLong bucket = emptyBucket();
+
+        assertThat(acquire(bucket, START, 2)).isZero();
+        assertThat(acquire(bucket, START, 2)).isEqualTo(UNIT);
+        assertThat(acquire(bucket, START, 1)).isZero();
+    }
+}
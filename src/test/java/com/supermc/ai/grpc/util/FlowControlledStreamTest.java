@@ -0,0 +1,201 @@
+package com.supermc.ai.grpc.util;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FlowControlledStream}.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class FlowControlledStreamTest {
+
+    private static final int CAPACITY = 2;
+
+    /** Response stream whose readiness the test controls */
+    private static final class FakeObserver extends ServerCallStreamObserver<String> {
+        final List<String> sent = new ArrayList<>();
+        Throwable error;
+        boolean completed;
+        boolean ready;
+        boolean cancelled;
+        Runnable onReady;
+        Runnable onCancel;
+
+        /** The transport became ready, as gRPC signals it */
+        void becomeReady() {
+            ready = true;
+            onReady.run();
+        }
+
+        /** The client cancelled the call */
+        void cancel() {
+            cancelled = true;
+            onCancel.run();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setOnCancelHandler(Runnable onCancelHandler) {
+            onCancel = onCancelHandler;
+        }
+
+        @Override
+        public void setCompression(String compression) {
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {
+            onReady = onReadyHandler;
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+        }
+
+        @Override
+        public void request(int count) {
+        }
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+        }
+
+        @Override
+        public void onNext(String value) {
+            sent.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onCompleted() {
+            completed = true;
+        }
+    }
+
+    @Test
+    void sendsDirectlyWhileReady() {
+        FakeObserver observer = new FakeObserver();
+        observer.ready = true;
+        FlowControlledStream<String> stream = new FlowControlledStream<>(observer, OverflowPolicy.CANCEL, CAPACITY);
+
+        assertThat(stream.send("a")).isTrue();
+
+        assertThat(observer.sent).containsExactly("a");
+    }
+
+    @Test
+    void queuesUntilTheConsumerIsReady() {
+        FakeObserver observer = new FakeObserver();
+        FlowControlledStream<String> stream = new FlowControlledStream<>(observer, OverflowPolicy.CANCEL, CAPACITY);
+
+        stream.send("a");
+        stream.send("b");
+        assertThat(observer.sent).isEmpty();
+
+        observer.becomeReady();
+
+        assertThat(observer.sent).containsExactly("a", "b");
+        assertThat(stream.takeDropped()).isFalse();
+    }
+
+    @Test
+    void conflateKeepsOnlyTheNewestMessage() {
+        FakeObserver observer = new FakeObserver();
+        FlowControlledStream<String> stream = new FlowControlledStream<>(observer, OverflowPolicy.CONFLATE, CAPACITY);
+        long dropped = FlowControlledStream.droppedMessages();
+
+        stream.send("a");
+        stream.send("b");
+        assertThat(stream.send("c")).isTrue();
+        observer.becomeReady();
+
+        assertThat(observer.sent).containsExactly("c");
+        assertThat(FlowControlledStream.droppedMessages() - dropped).isEqualTo(2);
+        assertThat(stream.takeDropped()).isTrue();
+        assertThat(stream.takeDropped()).isFalse();
+    }
+
+    @Test
+    void cancelEndsTheStreamInsteadOfDropping() {
+        FakeObserver observer = new FakeObserver();
+        FlowControlledStream<String> stream = new FlowControlledStream<>(observer, OverflowPolicy.CANCEL, CAPACITY);
+        long overflowed = FlowControlledStream.overflowedStreams();
+
+        stream.send("a");
+        stream.send("b");
+        assertThat(stream.send("c")).isFalse();
+
+        assertThat(Status.fromThrowable(observer.error).getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+        assertThat(FlowControlledStream.overflowedStreams() - overflowed).isEqualTo(1);
+        assertThat(stream.isClosed()).isTrue();
+        assertThat(stream.send("d")).isFalse();
+        observer.becomeReady();
+        assertThat(observer.sent).isEmpty();
+    }
+
+    @Test
+    void completesOnceTheQueueHasDrained() {
+        FakeObserver observer = new FakeObserver();
+        FlowControlledStream<String> stream = new FlowControlledStream<>(observer, OverflowPolicy.CANCEL, CAPACITY);
+
+        stream.send("a");
+        stream.complete();
+        assertThat(observer.completed).isFalse();
+        assertThat(stream.send("b")).isFalse();
+
+        observer.becomeReady();
+
+        assertThat(observer.sent).containsExactly("a");
+        assertThat(observer.completed).isTrue();
+    }
+
+    @Test
+    void onlyConflatingStreamsSkipUpdatesWhileBehind() {
+        FakeObserver conflated = new FakeObserver();
+        FakeObserver cancelled = new FakeObserver();
+
+        assertThat(new FlowControlledStream<>(conflated, OverflowPolicy.CONFLATE, CAPACITY).isBehind()).isTrue();
+        assertThat(new FlowControlledStream<>(cancelled, OverflowPolicy.CANCEL, CAPACITY).isBehind()).isFalse();
+
+        conflated.ready = true;
+        assertThat(new FlowControlledStream<>(conflated, OverflowPolicy.CONFLATE, CAPACITY).isBehind()).isFalse();
+    }
+
+    @Test
+    void clientCancelClosesTheStream() {
+        FakeObserver observer = new FakeObserver();
+        FlowControlledStream<String> stream = new FlowControlledStream<>(observer, OverflowPolicy.CANCEL, CAPACITY);
+        List<String> cancelled = new ArrayList<>();
+        stream.setOnCancelHandler(() -> cancelled.add("cancelled"));
+        stream.send("a");
+
+        observer.cancel();
+
+        assertThat(cancelled).containsExactly("cancelled");
+        assertThat(stream.isClosed()).isTrue();
+        assertThat(stream.send("b")).isFalse();
+        assertThat(observer.error).isNull();
+    }
+}
@@ -0,0 +1,122 @@
+package com.supermc.ai.player.pathfinding;
+
+import com.supermc.ai.common.SuperAIConstants;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for {@link AStarPathfinder} over stub walkability.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class AStarPathfinderTest {
+
+    /** Feet height of the player standing on the test floors */
+    private static final int FEET_Y = 64;
+
+    /**
+     * A floor at {@code FEET_Y - 1} over the given X range and Z in [-10, 10],
+     * with air everywhere else.
+     */
+    private static WalkabilityView floor(int minX, int maxX) {
+        return (x, y, z) -> {
+            if (y == FEET_Y - 1 && x >= minX && x <= maxX && Math.abs(z) <= 10) {
+                return BlockWalkability.FLOOR;
+            }
+            return BlockWalkability.PASSABLE;
+        };
+    }
+
+    /**
+     * Two floors separated by a gap of air too deep to drop into.
+     */
+    private static WalkabilityView islands() {
+        WalkabilityView left = floor(-10, 0);
+        WalkabilityView right = floor(5, 10);
+        return (x, y, z) -> x <= 0 ? left.flags(x, y, z) : right.flags(x, y, z);
+    }
+
+    @Test
+    void findsCheapestRouteAcrossOpenFloor() {
+        BlockPos start = new BlockPos(0, FEET_Y, 0);
+        BlockPos goal = new BlockPos(5, FEET_Y, 3);
+
+        PathResult result = new AStarPathfinder().findPath(floor(-10, 10), start, goal, 10_000, null);
+
+        assertThat(result.complete()).isTrue();
+        assertThat(result.nodes()).startsWith(start).endsWith(goal);
+        assertThat(result.cost()).isCloseTo((float) (3 * SuperAIConstants.SQRT_2 + 2), within(1e-3f));
+    }
+
+    @Test
+    void unreachableGoalEndsAtClosestPosition() {
+        BlockPos start = new BlockPos(-8, FEET_Y, 0);
+        BlockPos goal = new BlockPos(8, FEET_Y, 0);
+
+        PathResult result = new AStarPathfinder().findPath(islands(), start, goal, 10_000, null);
+
+        assertThat(result.complete()).isFalse();
+        assertThat(result.nodes()).startsWith(start).endsWith(new BlockPos(0, FEET_Y, 0));
+        // The whole island was searched before giving up
+        assertThat(result.expandedNodes()).isEqualTo(11 * 21);
+    }
+
+    @Test
+    void nodeLimitReturnsPartialRoute() {
+        BlockPos start = new BlockPos(-10, FEET_Y, 0);
+        BlockPos goal = new BlockPos(10, FEET_Y, 0);
+
+        PathResult result = new AStarPathfinder().findPath(floor(-10, 10), start, goal, 5, null);
+
+        assertThat(result.complete()).isFalse();
+        assertThat(result.expandedNodes()).isEqualTo(5);
+        assertThat(result.nodes()).startsWith(start);
+        BlockPos end = result.nodes().get(result.nodes().size() - 1);
+        assertThat(end.distManhattan(goal)).isLessThan(start.distManhattan(goal));
+    }
+
+    @Test
+    void startWithoutFloorGivesEmptyResult() {
+        BlockPos start = new BlockPos(3, FEET_Y, 0);
+        BlockPos goal = new BlockPos(8, FEET_Y, 0);
+
+        PathResult result = new AStarPathfinder().findPath(islands(), start, goal, 10_000, null);
+
+        assertThat(result.isEmpty()).isTrue();
+        assertThat(result.complete()).isFalse();
+    }
+
+    @Test
+    void instanceCanBeReused() {
+        AStarPathfinder pathfinder = new AStarPathfinder();
+        BlockPos start = new BlockPos(0, FEET_Y, 0);
+        BlockPos goal = new BlockPos(4, FEET_Y, 0);
+
+        pathfinder.findPath(islands(), new BlockPos(-8, FEET_Y, 0), new BlockPos(8, FEET_Y, 0), 10_000, null);
+        PathResult result = pathfinder.findPath(floor(-10, 10), start, goal, 10_000, null);
+
+        assertThat(result.complete()).isTrue();
+        assertThat(result.nodes()).hasSize(5).startsWith(start).endsWith(goal);
+    }
+
+    @Test
+    void costsToReachesEveryTargetInOneSearch() {
+        long[] targets = {
+                BlockPos.asLong(3, FEET_Y, 0),
+                BlockPos.asLong(0, FEET_Y, 4),
+                BlockPos.asLong(8, FEET_Y, 0)
+        };
+
+        float[] costs = new AStarPathfinder().costsTo(islands(), new BlockPos(0, FEET_Y, 0), targets, 10_000,
+                null);
+
+        assertThat(costs[0]).isEqualTo(Float.POSITIVE_INFINITY);
+        assertThat(costs[1]).isCloseTo(4.0f, within(1e-3f));
+        assertThat(costs[2]).isEqualTo(Float.POSITIVE_INFINITY);
+    }
+}
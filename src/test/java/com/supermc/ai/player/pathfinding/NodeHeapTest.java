@@ -0,0 +1,106 @@
+package com.supermc.ai.player.pathfinding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link NodeHeap}.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class NodeHeapTest {
+
+    @Test
+    void pollsNodesInKeyOrder() {
+        NodeHeap heap = new NodeHeap();
+        float[] keys = new float[2000];
+        Random random = new Random(42);
+        for (int node = 0; node < keys.length; node++) {
+            keys[node] = random.nextFloat() * 100.0f;
+            heap.insertOrDecrease(node, keys[node]);
+        }
+
+        List<Float> polled = new ArrayList<>();
+        while (!heap.isEmpty()) {
+            polled.add(keys[heap.poll()]);
+        }
+
+        assertThat(polled).hasSize(keys.length).isSorted();
+    }
+
+    @Test
+    void decreaseKeyMovesNodeForward() {
+        NodeHeap heap = new NodeHeap();
+        heap.insertOrDecrease(0, 5.0f);
+        heap.insertOrDecrease(1, 3.0f);
+        heap.insertOrDecrease(2, 4.0f);
+
+        heap.insertOrDecrease(0, 1.0f);
+
+        assertThat(heap.poll()).isEqualTo(0);
+        assertThat(heap.poll()).isEqualTo(1);
+        assertThat(heap.poll()).isEqualTo(2);
+    }
+
+    @Test
+    void higherKeyIsIgnored() {
+        NodeHeap heap = new NodeHeap();
+        heap.insertOrDecrease(0, 2.0f);
+        heap.insertOrDecrease(1, 3.0f);
+
+        heap.insertOrDecrease(0, 10.0f);
+
+        assertThat(heap.poll()).isEqualTo(0);
+    }
+
+    @Test
+    void tracksMembership() {
+        NodeHeap heap = new NodeHeap();
+        heap.insertOrDecrease(7, 1.0f);
+
+        assertThat(heap.contains(7)).isTrue();
+        assertThat(heap.contains(3)).isFalse();
+
+        heap.poll();
+
+        assertThat(heap.contains(7)).isFalse();
+        assertThat(heap.isEmpty()).isTrue();
+    }
+
+    @Test
+    void clearForgetsQueuedNodes() {
+        NodeHeap heap = new NodeHeap();
+        for (int node = 0; node < 10; node++) {
+            heap.insertOrDecrease(node, node);
+        }
+
+        heap.clear(10);
+
+        assertThat(heap.isEmpty()).isTrue();
+        for (int node = 0; node < 10; node++) {
+            assertThat(heap.contains(node)).isFalse();
+        }
+        heap.insertOrDecrease(4, 1.0f);
+        assertThat(heap.poll()).isEqualTo(4);
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        NodeHeap heap = new NodeHeap();
+        int nodes = 5000;
+        for (int node = nodes - 1; node >= 0; node--) {
+            heap.insertOrDecrease(node, node);
+        }
+
+        for (int node = 0; node < nodes; node++) {
+            assertThat(heap.poll()).isEqualTo(node);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.supermc.ai.player.pathfinding;
+
+import com.supermc.ai.common.SuperAIConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RouteCache}.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class RouteCacheTest {
+
+    private static final int FEET_Y = 64;
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    /** Floor everywhere below the feet height */
+    private static final WalkabilityView OPEN = (x, y, z) ->
+            y == FEET_Y - 1 ? BlockWalkability.FLOOR : BlockWalkability.PASSABLE;
+
+    /** Nowhere to stand */
+    private static final WalkabilityView BLOCKED = (x, y, z) -> BlockWalkability.PASSABLE;
+
+    private static final BlockPos START = new BlockPos(0, FEET_Y, 0);
+    private static final BlockPos GOAL = new BlockPos(20, FEET_Y, 0);
+
+    /** A straight route from START to GOAL through two sections along X */
+    private static PathResult straightRoute() {
+        List<BlockPos> nodes = new ArrayList<>();
+        for (int x = START.getX(); x <= GOAL.getX(); x++) {
+            nodes.add(new BlockPos(x, FEET_Y, 0));
+        }
+        return new PathResult(nodes, List.of(), true, nodes.size() - 1, nodes.size(), 0);
+    }
+
+    @Test
+    void returnsStoredRouteForNearbyPositions() {
+        RouteCache cache = new RouteCache(() -> NO_EXPIRY);
+        PathResult route = straightRoute();
+        cache.put(START, GOAL, route);
+
+        // Same 4x4x4 cells as the planned start and goal
+        assertThat(cache.get(START.offset(1, 0, 1), GOAL.offset(1, 0, 0), OPEN)).isSameAs(route);
+        assertThat(cache.get(START.offset(-1, 0, 0), GOAL, OPEN)).isNull();
+        assertThat(cache.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void keepsRouteWhoseChangedSectionIsStillWalkable() {
+        RouteCache cache = new RouteCache(() -> NO_EXPIRY);
+        PathResult route = straightRoute();
+        cache.put(START, GOAL, route);
+
+        cache.sectionChanged(SectionPos.asLong(START));
+
+        assertThat(cache.get(START, GOAL, OPEN)).isSameAs(route);
+        // Re-checked once; the section is no longer suspect
+        assertThat(cache.get(START, GOAL, BLOCKED)).isSameAs(route);
+    }
+
+    @Test
+    void dropsRouteBlockedInChangedSection() {
+        RouteCache cache = new RouteCache(() -> NO_EXPIRY);
+        cache.put(START, GOAL, straightRoute());
+
+        cache.sectionChanged(SectionPos.asLong(GOAL));
+
+        assertThat(cache.get(START, GOAL, BLOCKED)).isNull();
+        assertThat(cache.get(START, GOAL, OPEN)).isNull();
+    }
+
+    @Test
+    void changeInFloorSectionInvalidatesRoute() {
+        RouteCache cache = new RouteCache(() -> NO_EXPIRY);
+        cache.put(START, GOAL, straightRoute());
+
+        // The floor of the route lies in the section below its nodes
+        cache.sectionChanged(SectionPos.asLong(START.below()));
+
+        assertThat(cache.get(START, GOAL, BLOCKED)).isNull();
+    }
+
+    @Test
+    void ignoresChangesOutsideTheRoute() {
+        RouteCache cache = new RouteCache(() -> NO_EXPIRY);
+        PathResult route = straightRoute();
+        cache.put(START, GOAL, route);
+
+        cache.sectionChanged(SectionPos.asLong(new BlockPos(0, FEET_Y, 64)));
+
+        assertThat(cache.get(START, GOAL, BLOCKED)).isSameAs(route);
+    }
+
+    @Test
+    void expiresRoutesAfterTtl() {
+        RouteCache cache = new RouteCache(() -> -1L);
+        cache.put(START, GOAL, straightRoute());
+
+        assertThat(cache.get(START, GOAL, OPEN)).isNull();
+    }
+
+    @Test
+    void storesOnlyCompleteRoutes() {
+        RouteCache cache = new RouteCache(() -> NO_EXPIRY);
+        PathResult route = straightRoute();
+        cache.put(START, GOAL, new PathResult(route.nodes(), List.of(), false, route.cost(), 0, 0));
+
+        assertThat(cache.get(START, GOAL, OPEN)).isNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedRoute() {
+        RouteCache cache = new RouteCache(() -> NO_EXPIRY);
+        for (int i = 0; i <= SuperAIConstants.ROUTE_CACHE_MAX_ENTRIES; i++) {
+            BlockPos goal = new BlockPos(i * 4, FEET_Y, 100);
+            cache.put(START, goal, new PathResult(List.of(START, goal), List.of(), true, 1, 2, 0));
+        }
+
+        assertThat(cache.get(START, new BlockPos(0, FEET_Y, 100), OPEN)).isNull();
+        assertThat(cache.get(START, new BlockPos(4, FEET_Y, 100), OPEN)).isNotNull();
+    }
+}
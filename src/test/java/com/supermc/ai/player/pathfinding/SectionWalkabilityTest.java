@@ -0,0 +1,142 @@
+package com.supermc.ai.player.pathfinding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SectionWalkability}.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class SectionWalkabilityTest {
+
+    /** Flags of the block kinds used below, as {@link BlockWalkability} classifies them */
+    private static final int AIR = BlockWalkability.PASSABLE;
+    private static final int STONE = BlockWalkability.FLOOR;
+    private static final int WATER = BlockWalkability.PASSABLE | BlockWalkability.SLOW;
+    private static final int LAVA = 0;
+
+    /** Stone at the bottom layer of the section, air above */
+    private static final WalkabilityView STONE_FLOOR = (x, y, z) -> y == 0 ? STONE : AIR;
+
+    /** Looks up blocks of a single section at section-local coordinates; outside it nothing is walkable */
+    private static WalkabilityView view(SectionWalkability section) {
+        return (x, y, z) -> inSection(x, y, z) ? section.flags(x, y, z) : 0;
+    }
+
+    private static boolean inSection(int x, int y, int z) {
+        return (x | y | z) >= 0 && x < 16 && y < 16 && z < 16;
+    }
+
+    @Test
+    void emptySectionIsPassableEverywhere() {
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    assertThat(SectionWalkability.EMPTY.flags(x, y, z)).isEqualTo(BlockWalkability.PASSABLE);
+                }
+            }
+        }
+    }
+
+    @Test
+    void unknownSectionIsNotWalkable() {
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    assertThat(SectionWalkability.UNKNOWN.flags(x, y, z)).isZero();
+                }
+            }
+        }
+    }
+
+    @Test
+    void comparesByContent() {
+        assertThat(SectionWalkability.EMPTY.sameAs(SectionWalkability.EMPTY)).isTrue();
+        assertThat(SectionWalkability.UNKNOWN.sameAs(SectionWalkability.UNKNOWN)).isTrue();
+        assertThat(SectionWalkability.EMPTY.sameAs(SectionWalkability.UNKNOWN)).isFalse();
+        assertThat(SectionWalkability.build((x, y, z) -> AIR).sameAs(SectionWalkability.EMPTY)).isTrue();
+    }
+
+    @Test
+    void keepsTheFlagsOfEveryBlock() {
+        WalkabilityView blocks = (x, y, z) -> (x * 7 + y * 3 + z) & 7;
+
+        SectionWalkability section = SectionWalkability.build(blocks);
+
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    assertThat(section.flags(x, y, z)).as("%d %d %d", x, y, z).isEqualTo(blocks.flags(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Test
+    void playerStandsOnSolidFloor() {
+        WalkabilityView section = view(SectionWalkability.build(STONE_FLOOR));
+
+        assertThat(section.flags(0, 0, 0)).isEqualTo(STONE);
+        assertThat(section.flags(15, 1, 15)).isEqualTo(AIR);
+        assertThat(section.canStandAt(0, 1, 0)).isTrue();
+        assertThat(section.canStandAt(15, 1, 15)).isTrue();
+        assertThat(section.canStandAt(7, 2, 7)).isFalse();
+        assertThat(section.canStandAt(7, 0, 7)).isFalse();
+    }
+
+    @Test
+    void headHeightObstructionPreventsStanding() {
+        WalkabilityView blocks = (x, y, z) -> x == 5 && y == 2 && z == 5 ? STONE : STONE_FLOOR.flags(x, y, z);
+
+        WalkabilityView section = view(SectionWalkability.build(blocks));
+
+        assertThat(section.canStandAt(5, 1, 5)).isFalse();
+        assertThat(section.canStandAt(6, 1, 5)).isTrue();
+        // The obstruction is a floor of its own
+        assertThat(section.canStandAt(5, 3, 5)).isTrue();
+    }
+
+    @Test
+    void liquidsKeepTheirFlags() {
+        WalkabilityView blocks = (x, y, z) -> {
+            if (y == 1 && x == 10 && z == 10) {
+                return LAVA;
+            }
+            if (y == 1 && x < 8) {
+                return WATER;
+            }
+            return STONE_FLOOR.flags(x, y, z);
+        };
+
+        WalkabilityView section = view(SectionWalkability.build(blocks));
+
+        assertThat(section.flags(3, 1, 3)).isEqualTo(WATER);
+        assertThat(section.canStandAt(3, 1, 3)).isTrue();
+        assertThat(section.flags(10, 1, 10)).isEqualTo(LAVA);
+        assertThat(section.canStandAt(10, 1, 10)).isFalse();
+        // Water is no floor, so nothing stands on its surface
+        assertThat(section.canStandAt(3, 2, 3)).isFalse();
+    }
+
+    @Test
+    void playerStandsAcrossASectionBoundary() {
+        SectionWalkability lower = SectionWalkability.build((x, y, z) -> y == 15 ? STONE : AIR);
+        SectionWalkability upper = SectionWalkability.build((x, y, z) -> x == 4 && y == 1 && z == 4 ? STONE : AIR);
+        WalkabilityView column = (x, y, z) -> {
+            if (!inSection(x, y & 15, z) || y < 0 || y >= 32) {
+                return 0;
+            }
+            return (y < 16 ? lower : upper).flags(x, y & 15, z);
+        };
+
+        // Floor at the top of the lower section, feet and head in the upper one
+        assertThat(column.canStandAt(0, 16, 0)).isTrue();
+        assertThat(column.canStandAt(15, 16, 15)).isTrue();
+        assertThat(column.canStandAt(4, 16, 4)).isFalse();
+        assertThat(column.canStandAt(0, 15, 0)).isFalse();
+    }
+}
@@ -0,0 +1,76 @@
+package com.supermc.ai.player.simulation;
+
+import com.supermc.ai.player.controller.HeldInput;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Vec3i;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for {@link MovementSimulator} against vanilla player physics.
+ *
+ * @author SuperAI Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class MovementSimulatorTest {
+
+    private static final int FLOOR_Y = 63;
+
+    /** Stone floor under the start, air above it */
+    private static final CollisionSnapshot FLAT = CollisionSnapshot.ofFullBlocks(new BlockPos(-4, 60, -4),
+            new Vec3i(9, 12, 40), pos -> pos.getY() == FLOOR_Y);
+
+    /** A standing player with the default attributes, facing +Z */
+    private static final MovementStart STANDING = new MovementStart(new Vec3(0.5, FLOOR_Y + 1, 0.5), Vec3.ZERO,
+            0.0f, true, 0.1, 0.3, 0.42, 0.08, 0.6, 0.6f, 1.8f);
+
+    /**
+     * Blocks moved along Z on each tick of a sprint-jump from standing on
+     * normal blocks: the jump tick with the 0.2 boost, then airborne sprint
+     * acceleration after the ground drag of 0.6 * 0.91 on the jump tick.
+     */
+    private static final double[] SPRINT_JUMP_Z = {0.3274, 0.2042404, 0.2113388, 0.2177983, 0.2236764, 0.2290256};
+
+    /** Blocks risen on each tick of a jump */
+    private static final double[] JUMP_Y = {0.42, 0.3332, 0.248136, 0.1647733, 0.0830778, 0.0030163};
+
+    @Test
+    void sprintJumpMatchesVanillaVelocities() {
+        int ticks = SPRINT_JUMP_Z.length;
+        HeldInput[] inputs = new HeldInput[ticks];
+        Arrays.fill(inputs, new HeldInput(1.0f, 0.0f, false, false, true, false, false));
+        inputs[0] = new HeldInput(1.0f, 0.0f, true, false, true, false, false);
+        float[] yaws = new float[ticks];
+
+        Trajectory trajectory = MovementSimulator.simulate(FLAT, STANDING, inputs, yaws);
+
+        assertThat(trajectory.truncated()).isFalse();
+        List<Vec3> positions = trajectory.positions();
+        Vec3 previous = STANDING.position();
+        for (int tick = 0; tick < ticks; tick++) {
+            Vec3 moved = positions.get(tick).subtract(previous);
+            assertThat(moved.x).as("x on tick %d", tick).isCloseTo(0.0, within(1e-6));
+            assertThat(moved.y).as("y on tick %d", tick).isCloseTo(JUMP_Y[tick], within(1e-5));
+            assertThat(moved.z).as("z on tick %d", tick).isCloseTo(SPRINT_JUMP_Z[tick], within(1e-5));
+            previous = positions.get(tick);
+        }
+        assertThat(trajectory.onGround()).isFalse();
+    }
+
+    @Test
+    void standingStillStaysOnTheGround() {
+        HeldInput[] inputs = {HeldInput.NONE, HeldInput.NONE, HeldInput.NONE};
+
+        Trajectory trajectory = MovementSimulator.simulate(FLAT, STANDING, inputs, new float[inputs.length]);
+
+        assertThat(trajectory.positions()).containsOnly(STANDING.position());
+        assertThat(trajectory.onGround()).isTrue();
+    }
+}